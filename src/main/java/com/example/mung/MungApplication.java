@@ -3,9 +3,11 @@ package com.example.mung;
 import org.mybatis.spring.annotation.MapperScan;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @MapperScan("com.example.mung.mapper")
+@EnableScheduling
 public class MungApplication {
 
 	public static void main(String[] args) {
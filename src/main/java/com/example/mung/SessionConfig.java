@@ -0,0 +1,36 @@
+package com.example.mung;
+
+import com.example.mung.mapper.SessionMapper;
+import com.example.mung.session.JdbcSessionStore;
+import com.example.mung.session.MemorySessionStore;
+import com.example.mung.session.NearCacheSessionRepository;
+import com.example.mung.session.SessionStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.session.config.annotation.web.http.EnableSpringHttpSession;
+
+import java.time.Duration;
+
+//HttpSession 을 Tomcat 메모리 대신 SessionStore 에 저장 (서버를 여러 대 띄워도 sticky session 없이 로그인 유지)
+@Configuration
+@EnableSpringHttpSession
+public class SessionConfig {
+
+    // mung.session.store=jdbc (user_session 테이블) / memory (서버 한 대)
+    @Bean
+    public SessionStore sessionStore(SessionMapper sessionMapper, @Value("${mung.session.store:jdbc}") String type) {
+        if ("memory".equals(type)) {
+            return new MemorySessionStore();
+        }
+        return new JdbcSessionStore(sessionMapper);
+    }
+
+    @Bean
+    public NearCacheSessionRepository sessionRepository(SessionStore sessionStore,
+                                                        @Value("${server.servlet.session.timeout:30m}") Duration timeout,
+                                                        @Value("${mung.session.near-cache-ms:1000}") long cacheMillis,
+                                                        @Value("${mung.session.touch-seconds:60}") long touchSeconds) {
+        return new NearCacheSessionRepository(sessionStore, timeout, cacheMillis, touchSeconds * 1000);
+    }
+}
@@ -1,20 +1,37 @@
 package com.example.mung;
 
+import com.example.mung.storage.UploadStore;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.concurrent.TimeUnit;
+
 //웹 애플리케이션의 정적 리소스에 대한 경로 설정
 @Configuration
 //WebMvcConfigurer를 구현해서 MVC 설정 조정
 public class WebConfig implements WebMvcConfigurer {
 
+    private final UploadStore uploadStore;
+
+    public WebConfig(UploadStore uploadStore) {
+        this.uploadStore = uploadStore;
+    }
+
     @Override //addResourceHandlers = 정적 리소스 처리할 경로 등록
     //ResourceHandlerRegistry를 사용해서 리소스 경로와 실제 위치 매핑
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        // 폴더가 아직 없으면 toUri() 끝에 / 가 붙지 않는데, 리소스 위치는 / 로 끝나야 함
+        String location = uploadStore.getRoot().toUri().toString();
+        if (!location.endsWith("/")) {
+            location += "/";
+        }
         //addResourceHandler("/uploads/**")= /uploads/로 시작하는 모든 요청을 처리
-        registry.addResourceHandler("/uploads/**")
-                // 실제 파일이 저장된 경로 지정
-                .addResourceLocations("file:///C:/uploads/");
+        registry.addResourceHandler(UploadStore.URL_PREFIX + "**")
+                // 실제 파일이 저장된 경로 지정 (mung.upload.dir)
+                .addResourceLocations(location)
+                // 파일 이름이 내용 해시라서 내용이 바뀌지 않음 -> 오래 캐시
+                .setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable());
     }
 }
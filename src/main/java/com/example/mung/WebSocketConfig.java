@@ -0,0 +1,55 @@
+package com.example.mung;
+
+import com.example.mung.push.PostUpdates;
+import com.example.mung.push.SubscribeOnlyInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+//게시글 상세 화면 실시간 갱신용 STOMP 설정 (구독만 받음, 클라이언트의 SEND 는 SubscribeOnlyInterceptor 가 거절)
+@Configuration
+@EnableWebSocketMessageBroker
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    public static final String ENDPOINT = "/ws";
+
+    private final int sendTimeLimitMillis;
+    private final int sendBufferBytes;
+
+    public WebSocketConfig(@Value("${mung.push.send-time-limit-ms:5000}") int sendTimeLimitMillis,
+                           @Value("${mung.push.send-buffer-kb:256}") int sendBufferKb) {
+        this.sendTimeLimitMillis = sendTimeLimitMillis;
+        this.sendBufferBytes = sendBufferKb * 1024;
+    }
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        // 브라우저 기본 WebSocket 으로 접속 (SockJS 없음)
+        registry.addEndpoint(ENDPOINT);
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.enableSimpleBroker(PostUpdates.TOPIC_PREFIX);
+        registry.setApplicationDestinationPrefixes("/app");
+    }
+
+    // 접속/구독/해제만 허용 (SEND 로 /topic/posts/** 에 직접 뿌리는 것을 막음)
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(new SubscribeOnlyInterceptor());
+    }
+
+    // 느린 구독자 끊기: 한 세션에 보내는 데 시간 제한을 넘기거나 못 보낸 메시지가 버퍼 크기를 넘으면 그 세션을 닫음
+    // (다른 구독자에게 보내는 것은 기다리지 않음. 끊긴 화면은 post-live.js 가 다시 접속)
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registry) {
+        registry.setSendTimeLimit(sendTimeLimitMillis);
+        registry.setSendBufferSizeLimit(sendBufferBytes);
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.mung.auth;
+
+import com.example.mung.exception.PasswordHashingBusyException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 비밀번호 해시 (PBKDF2-HMAC-SHA256, 사용자마다 다른 salt)
+// 해시 한 번에 CPU 를 수백 ms 쓰므로 요청 스레드가 아니라 전용 스레드 몇 개에서만 계산한다
+// 대기열이 차 있으면 기다리지 않고 바로 PasswordHashingBusyException (로그인이 몰려도 다른 화면의 Tomcat 스레드는 남아 있도록)
+// 저장 형식: pbkdf2$반복횟수$salt(base64)$해시(base64). 반복 횟수가 같이 저장되므로 cost 를 올려도 기존 해시는 그대로 확인 가능
+@Component
+public class PasswordHasher {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHasher.class);
+    private static final String PREFIX = "pbkdf2$";
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final int SALT_BYTES = 16;
+    private static final int KEY_BITS = 256;
+
+    private final int iterations;
+    private final String dummyHash;
+    private final long waitMillis;
+    private final ThreadPoolExecutor executor;
+    private final SecureRandom random = new SecureRandom();
+
+    // 지표: 해시 횟수, 대기열에서 기다린 시간, 계산 시간, 거절 횟수
+    private final LongAdder hashed = new LongAdder();
+    private final LongAdder queuedNanos = new LongAdder();
+    private final LongAdder workNanos = new LongAdder();
+    private final AtomicLong maxWorkNanos = new AtomicLong();
+    private final LongAdder rejected = new LongAdder();
+
+    public PasswordHasher(@Value("${mung.password.iterations:600000}") int iterations,
+                          @Value("${mung.password.threads:2}") int threads,
+                          @Value("${mung.password.queue-size:32}") int queueSize,
+                          @Value("${mung.password.wait-ms:3000}") long waitMillis) {
+        this.iterations = iterations;
+        this.dummyHash = PREFIX + iterations + "$" + Base64.getEncoder().encodeToString(new byte[SALT_BYTES])
+                + "$" + Base64.getEncoder().encodeToString(new byte[KEY_BITS / 8]);
+        this.waitMillis = waitMillis;
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize), r -> {
+                    Thread t = new Thread(r, "password-hasher-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 새 비밀번호 저장용
+    public String hash(String raw) {
+        byte[] salt = new byte[SALT_BYTES];
+        random.nextBytes(salt);
+        byte[] key = run(() -> pbkdf2(raw, salt, iterations));
+        return PREFIX + iterations + "$" + Base64.getEncoder().encodeToString(salt) + "$" + Base64.getEncoder().encodeToString(key);
+    }
+
+    // stored 가 해시가 아니면 (아직 바꾸지 않은 예전 행) 평문으로 비교. 이 경우 needsRehash 가 true
+    public boolean matches(String raw, String stored) {
+        if (raw == null || stored == null) {
+            return false;
+        }
+        if (!isHash(stored)) {
+            return MessageDigest.isEqual(raw.getBytes(StandardCharsets.UTF_8), stored.getBytes(StandardCharsets.UTF_8));
+        }
+        Stored hash = parse(stored);
+        if (hash == null) {
+            logger.warn("형식이 맞지 않는 비밀번호 해시 - 로그인 실패로 처리");
+            return false;
+        }
+        byte[] actual = run(() -> pbkdf2(raw, hash.salt, hash.iterations));
+        return MessageDigest.isEqual(hash.key, actual);
+    }
+
+    // 없는 아이디로 로그인할 때도 지금 cost 로 한 번 계산해서 응답 시간으로 아이디 존재 여부를 알 수 없게 함
+    // (어떤 비밀번호와도 맞지 않는 고정 해시)
+    public void matchesDummy(String raw) {
+        matches(raw, dummyHash);
+    }
+
+    private static boolean isHash(String stored) {
+        return stored != null && stored.startsWith(PREFIX);
+    }
+
+    // 평문이거나 지금 설정보다 낮은 cost 로 만든 해시 -> 로그인 성공 시 다시 저장
+    // 형식이 깨진 해시는 matches 가 항상 false 라서 다시 저장할 일이 없음
+    public boolean needsRehash(String stored) {
+        if (!isHash(stored)) {
+            return true;
+        }
+        Stored hash = parse(stored);
+        return hash != null && hash.iterations < iterations;
+    }
+
+    // pbkdf2$반복횟수$salt$해시 를 나눔. 형식이 맞지 않으면 (잘린 값, 숫자/base64 가 아닌 값) null
+    private static Stored parse(String stored) {
+        String[] parts = stored.split("\\$");
+        if (parts.length != 4) {
+            return null;
+        }
+        try {
+            int storedIterations = Integer.parseInt(parts[1]);
+            byte[] salt = Base64.getDecoder().decode(parts[2]);
+            byte[] key = Base64.getDecoder().decode(parts[3]);
+            if (storedIterations <= 0 || salt.length == 0 || key.length == 0) {
+                return null;
+            }
+            return new Stored(storedIterations, salt, key);
+        } catch (IllegalArgumentException e) { // NumberFormatException 포함
+            return null;
+        }
+    }
+
+    private record Stored(int iterations, byte[] salt, byte[] key) {
+    }
+
+    private byte[] run(Task task) {
+        long submitted = System.nanoTime();
+        Future<byte[]> future;
+        try {
+            future = executor.submit(() -> {
+                long start = System.nanoTime();
+                queuedNanos.add(start - submitted);
+                byte[] result = task.call();
+                long took = System.nanoTime() - start;
+                workNanos.add(took);
+                maxWorkNanos.accumulateAndGet(took, Math::max);
+                hashed.increment();
+                return result;
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingBusyException("비밀번호 확인 대기열이 가득 찼습니다.", e);
+        }
+        try {
+            return future.get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new PasswordHashingBusyException("비밀번호 확인이 지연되고 있습니다.", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException("비밀번호 확인이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("비밀번호 해시 실패", e.getCause());
+        }
+    }
+
+    private static byte[] pbkdf2(String raw, byte[] salt, int iterations) throws GeneralSecurityException {
+        PBEKeySpec spec = new PBEKeySpec(raw.toCharArray(), salt, iterations, KEY_BITS);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } finally {
+            spec.clearPassword();
+        }
+    }
+
+    // 주기마다 지표를 로그로 남기고 0 부터 다시 셈 (해시가 없었으면 남기지 않음)
+    @Scheduled(fixedDelayString = "${mung.password.stats-log-ms:300000}", initialDelayString = "${mung.password.stats-log-ms:300000}")
+    public void logStats() {
+        long count = hashed.sumThenReset();
+        long queued = queuedNanos.sumThenReset();
+        long work = workNanos.sumThenReset();
+        long max = maxWorkNanos.getAndSet(0);
+        long rejects = rejected.sumThenReset();
+        if (count == 0 && rejects == 0) {
+            return;
+        }
+        logger.info("비밀번호 해시 - {}회, 평균 대기 {}ms, 평균 계산 {}ms, 최대 계산 {}ms, 거절 {}회, 대기열 {}",
+                count, count == 0 ? 0 : queued / count / 1_000_000, count == 0 ? 0 : work / count / 1_000_000,
+                max / 1_000_000, rejects, executor.getQueue().size());
+    }
+
+    long hashedCount() {
+        return hashed.sum();
+    }
+
+    long rejectedCount() {
+        return rejected.sum();
+    }
+
+    private interface Task {
+        byte[] call() throws Exception;
+    }
+}
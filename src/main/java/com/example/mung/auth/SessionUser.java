@@ -0,0 +1,76 @@
+package com.example.mung.auth;
+
+import com.example.mung.domain.UserVO;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+// 세션에 넣는 로그인 사용자 (세션 속성 이름은 예전 그대로 "userInfo")
+// 로그인 확인, 작성자 비교, 메뉴 표시에 쓰는 값만 들고 바뀌지 않음
+// 비밀번호, 반려견 정보, 사업자 정보 등 전체 프로필은 필요한 화면에서 UserService.readProfile 로 읽음
+@Getter
+@ToString
+public final class SessionUser implements Serializable {
+
+    public static final String ATTRIBUTE = "userInfo";
+
+    // 권한 비트 (roles 컬럼의 "USER,HOST" 같은 문자열 대신)
+    public static final int ROLE_USER = 1;
+    public static final int ROLE_HOST = 2;
+    public static final int ROLE_ADMIN = 4;
+    private static final String[] ROLE_NAMES = {"USER", "HOST", "ADMIN"};
+
+    private final int user_id;
+    private final String user_loginId;
+    private final String nickname;
+    private final int roleBits;
+
+    public SessionUser(int user_id, String user_loginId, String nickname, int roleBits) {
+        this.user_id = user_id;
+        this.user_loginId = user_loginId;
+        this.nickname = nickname;
+        this.roleBits = roleBits;
+    }
+
+    public static SessionUser of(UserVO user) {
+        return new SessionUser(user.getUser_id(), user.getUser_loginId(), user.getNickname(), roleBits(user.getRole()));
+    }
+
+    // "USER,HOST" -> ROLE_USER | ROLE_HOST (모르는 권한은 무시)
+    public static int roleBits(String role) {
+        int bits = 0;
+        if (role == null) {
+            return bits;
+        }
+        for (String r : role.split(",")) {
+            for (int i = 0; i < ROLE_NAMES.length; i++) {
+                if (ROLE_NAMES[i].equals(r.strip())) {
+                    bits |= 1 << i;
+                }
+            }
+        }
+        return bits;
+    }
+
+    // 화면에서 쓰던 userInfo.roles.contains('HOST') 가 그대로 동작하도록
+    public List<String> getRoles() {
+        List<String> roles = new ArrayList<>();
+        for (int i = 0; i < ROLE_NAMES.length; i++) {
+            if ((roleBits & (1 << i)) != 0) {
+                roles.add(ROLE_NAMES[i]);
+            }
+        }
+        return roles;
+    }
+
+    public String getRole() {
+        return String.join(",", getRoles());
+    }
+
+    public boolean hasRole(String role) {
+        return (roleBits & roleBits(role)) != 0;
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.mung.cache;
+
+import com.example.mung.domain.AccomDTO;
+import com.example.mung.domain.AccomDetail;
+import com.example.mung.domain.RoomDTO;
+import com.example.mung.mapper.AccomMapper;
+import com.example.mung.mapper.RoomMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 숙소 상세 페이지 데이터 캐시
+// 숙소+호스트 / 리뷰 / 객실 세 쿼리를 동시에 보내서 한 번에 묶고, accom_id 별로 캐시한다
+// 숙소/객실/리뷰가 바뀌면 해당 숙소만 지우고, 다른 경로로 바뀐 DB 값은 ttl 이 지나면 다시 읽는다
+@Component
+public class AccomDetailCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccomDetailCache.class);
+
+    private final AccomMapper accomMapper;
+    private final RoomMapper roomMapper;
+    private final int maxSize;
+    private final long ttlMillis;
+    private final ExecutorService executor;
+
+    // accom_id -> 로딩 중이거나 로딩된 값. 같은 숙소를 동시에 요청해도 DB 는 한 번만 읽음
+    // 오래 안 쓰인 순서로 maxSize 를 넘으면 제거 (lock 은 map 자체, 안에서 DB 조회는 하지 않음)
+    private final Map<Integer, Entry> entries;
+
+    public AccomDetailCache(AccomMapper accomMapper, RoomMapper roomMapper,
+                            @Value("${mung.accom.detail-cache-size:1000}") int maxSize,
+                            @Value("${mung.accom.detail-cache-ttl-seconds:300}") long ttlSeconds,
+                            @Value("${mung.accom.detail-loader-threads:4}") int threads) {
+        this.accomMapper = accomMapper;
+        this.roomMapper = roomMapper;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Entry> eldest) {
+                return size() > AccomDetailCache.this.maxSize;
+            }
+        };
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "accom-detail-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 없는 숙소면 null
+    public AccomDetail get(int accom_id) {
+        Entry entry;
+        boolean owner = false;
+        synchronized (entries) {
+            entry = entries.get(accom_id);
+            if (entry == null || entry.isExpired(ttlMillis)) {
+                entry = new Entry();
+                entries.put(accom_id, entry);
+                owner = true;
+            }
+        }
+        if (owner) {
+            load(accom_id, entry);
+        }
+        try {
+            return entry.future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    // 숙소 수정/삭제, 리뷰 등록/삭제, 객실 등록 시
+    public void invalidate(int accom_id) {
+        synchronized (entries) {
+            entries.remove(accom_id);
+        }
+    }
+
+    // 객실 수정/삭제 시 (요청에 accom_id 가 없을 수 있어서 캐시된 숙소 중 그 객실을 가진 숙소를 찾아 지움)
+    public void invalidateRoom(int room_id) {
+        synchronized (entries) {
+            Iterator<Entry> it = entries.values().iterator();
+            while (it.hasNext()) {
+                Entry entry = it.next();
+                // 로딩 중인 값은 수정 전 객실을 읽었을 수 있으므로 같이 지움
+                if (!entry.future.isDone() || entry.hasRoom(room_id)) {
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void load(int accom_id, Entry entry) {
+        CompletableFuture<AccomDTO> accom = CompletableFuture.supplyAsync(() -> accomMapper.getOneByUser(accom_id), executor);
+        CompletableFuture<List<AccomDTO>> reviews = CompletableFuture.supplyAsync(() -> accomMapper.getOneByReview(accom_id), executor);
+        CompletableFuture<List<RoomDTO>> rooms = CompletableFuture.supplyAsync(() -> roomMapper.getListByAccom_id(accom_id), executor);
+        CompletableFuture.allOf(accom, reviews, rooms).whenComplete((v, e) -> {
+            if (e != null) {
+                // 실패한 값은 캐시에 남기지 않음 (기다리던 요청에는 예외 전달)
+                logger.warn("숙소 상세 조회 실패 - accom_id={}", accom_id, e);
+                synchronized (entries) {
+                    entries.remove(accom_id, entry);
+                }
+                entry.future.completeExceptionally(e);
+                return;
+            }
+            entry.future.complete(assemble(accom.join(), reviews.join(), rooms.join()));
+        });
+    }
+
+    private static AccomDetail assemble(AccomDTO accom, List<AccomDTO> reviews, List<RoomDTO> rooms) {
+        if (accom == null) {
+            return null;
+        }
+        // 이미지/편의시설 목록은 DTO 에서 이미 나눠진 불변 리스트
+        List<String> roomImages = null;
+        if (!rooms.isEmpty() && !rooms.get(0).getRoomImagesUrl().isEmpty()) {
+            roomImages = rooms.get(0).getRoomImagesUrl();
+        }
+        return new AccomDetail(accom, List.copyOf(reviews), List.copyOf(rooms),
+                accom.getAccomImagesUrl(), accom.getAccomAmenities(), roomImages);
+    }
+
+    private static final class Entry {
+        final CompletableFuture<AccomDetail> future = new CompletableFuture<>();
+        final long createdAt = System.currentTimeMillis();
+
+        boolean isExpired(long ttlMillis) {
+            return future.isDone() && System.currentTimeMillis() - createdAt > ttlMillis;
+        }
+
+        boolean hasRoom(int room_id) {
+            AccomDetail detail = future.getNow(null);
+            if (detail == null) {
+                return false;
+            }
+            for (RoomDTO room : detail.getRooms()) {
+                if (room.getRoom_id() == room_id) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
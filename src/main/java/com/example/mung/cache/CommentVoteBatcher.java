@@ -0,0 +1,237 @@
+package com.example.mung.cache;
+
+import com.example.mung.domain.CommentDTO;
+import com.example.mung.domain.Comment_likeDTO;
+import com.example.mung.domain.VoteResult;
+import com.example.mung.mapper.Comment_likeMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// 좋아요/싫어요 묶음 처리 (mung.comment.vote-batch-enabled=true 일 때만)
+// 요청 스레드는 투표를 큐에 넣고 기다리고, 전용 스레드 하나가 window 동안 모인 투표를 한 트랜잭션에서
+// 댓글 카운터 조회 -> 현재 투표 조회 (둘 다 FOR UPDATE) -> 여러 행 upsert -> 댓글별 카운터 증감 -> 추천순 점수, 쿼리 다섯 번으로 처리한다
+// 같은 사람이 같은 댓글에 연달아 누른 건 마지막 투표만 저장 (앞의 요청도 같은 카운터 값을 돌려받음)
+@Component
+public class CommentVoteBatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(CommentVoteBatcher.class);
+    private static final VoteResult NOT_FOUND = new VoteResult(false, 0, 0); // 없는 댓글
+
+    private final Comment_likeMapper commentLikeMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final long windowNanos;
+    private final int maxBatch;
+
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    private volatile boolean running;
+    private Thread worker;
+
+    public CommentVoteBatcher(Comment_likeMapper commentLikeMapper, TransactionTemplate transactionTemplate,
+                              @Value("${mung.comment.vote-batch-enabled:false}") boolean enabled,
+                              @Value("${mung.comment.vote-batch-window-ms:20}") long windowMillis,
+                              @Value("${mung.comment.vote-batch-size:200}") int maxBatch) {
+        this.commentLikeMapper = commentLikeMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+        this.maxBatch = maxBatch;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::run, "comment-vote-batcher");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    // 종료 시 큐에 남은 투표까지 처리
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (worker == null) {
+            return;
+        }
+        running = false;
+        worker.interrupt();
+        worker.join();
+        List<Pending> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        if (!rest.isEmpty()) {
+            process(rest);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 투표가 저장될 때까지 기다림 (최대 window + 쿼리 시간)
+    public VoteResult vote(Comment_likeDTO vote) {
+        Pending p = new Pending(vote);
+        queue.add(p);
+        try {
+            return p.future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    private void run() {
+        while (running) {
+            List<Pending> batch = new ArrayList<>();
+            try {
+                Pending first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < maxBatch) {
+                    long left = deadline - System.nanoTime();
+                    Pending next = left > 0 ? queue.poll(left, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                queue.addAll(batch); // shutdown 에서 나머지와 같이 처리
+                return;
+            }
+            process(batch);
+        }
+    }
+
+    void process(List<Pending> batch) {
+        List<Comment_likeDTO> votes = new ArrayList<>();
+        for (Pending p : batch) {
+            votes.add(p.vote);
+        }
+        try {
+            Map<String, VoteResult> results = transactionTemplate.execute(status -> write(votes));
+            // 같은 (댓글, 사용자) 의 마지막 요청만 changed, 앞의 요청은 카운터 값만
+            Set<String> reported = new LinkedHashSet<>();
+            for (int i = batch.size() - 1; i >= 0; i--) {
+                Pending p = batch.get(i);
+                VoteResult r = results.getOrDefault(key(p.vote), NOT_FOUND);
+                p.future.complete(reported.add(key(p.vote)) ? r
+                        : new VoteResult(false, r.getLikeCount(), r.getDislikeCount()));
+            }
+        } catch (RuntimeException e) {
+            logger.warn("좋아요/싫어요 묶음 저장 실패 - {}건", batch.size(), e);
+            for (Pending p : batch) {
+                p.future.completeExceptionally(e);
+            }
+        }
+    }
+
+    // 트랜잭션 안에서 호출. (comment_id:user_id) -> 결과 (없는 댓글에 대한 투표는 결과에 없음)
+    // 댓글 행 lock 을 먼저 잡아서 (applyVoteToCounts 와 같은 순서) 카운터를 읽은 값 + 증감으로 계산할 수 있음
+    Map<String, VoteResult> write(List<Comment_likeDTO> votes) {
+        Set<Integer> commentIds = new LinkedHashSet<>();
+        for (Comment_likeDTO v : votes) {
+            commentIds.add(v.getComment_id());
+        }
+        Map<Integer, Comment_likeDTO> counts = new LinkedHashMap<>(); // comment_id -> 카운터 (여기에 증감을 더해 감)
+        for (Comment_likeDTO c : commentLikeMapper.getCountsForUpdate(commentIds)) {
+            counts.put(c.getComment_id(), c);
+        }
+        // 같은 키는 마지막 투표만 (지워진 댓글은 건너뜀)
+        Map<String, Comment_likeDTO> last = new LinkedHashMap<>();
+        for (Comment_likeDTO v : votes) {
+            if (counts.containsKey(v.getComment_id())) {
+                last.remove(key(v));
+                last.put(key(v), v);
+            }
+        }
+        if (last.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, Comment_likeDTO.Type> before = new LinkedHashMap<>();
+        for (Comment_likeDTO v : commentLikeMapper.findVotesForUpdate(last.values())) {
+            before.put(key(v), v.getType());
+        }
+
+        List<Comment_likeDTO> changed = new ArrayList<>();
+        Map<Integer, Comment_likeDTO> deltas = new LinkedHashMap<>(); // comment_id -> 증감 (likeCount, dislikeCount 에)
+        for (Map.Entry<String, Comment_likeDTO> e : last.entrySet()) {
+            Comment_likeDTO v = e.getValue();
+            Comment_likeDTO.Type old = before.get(e.getKey());
+            if (old == v.getType()) {
+                continue;
+            }
+            changed.add(v);
+            Comment_likeDTO d = deltas.computeIfAbsent(v.getComment_id(), id -> {
+                Comment_likeDTO n = new Comment_likeDTO();
+                n.setComment_id(id);
+                return n;
+            });
+            add(d, v.getType(), 1);
+            add(counts.get(v.getComment_id()), v.getType(), 1);
+            if (old != null) {
+                add(d, old, -1);
+                add(counts.get(v.getComment_id()), old, -1);
+            }
+        }
+        if (!changed.isEmpty()) {
+            commentLikeMapper.upsertVotes(changed);
+            commentLikeMapper.addCounts(deltas.values());
+            Map<Integer, Double> scores = new LinkedHashMap<>();
+            for (Integer comment_id : deltas.keySet()) {
+                Comment_likeDTO c = counts.get(comment_id);
+                scores.put(comment_id, CommentDTO.wilsonScore(c.getLikeCount(), c.getDislikeCount()));
+            }
+            commentLikeMapper.updateBestScores(scores);
+        }
+
+        Map<String, VoteResult> results = new LinkedHashMap<>();
+        for (Map.Entry<String, Comment_likeDTO> e : last.entrySet()) {
+            Comment_likeDTO c = counts.get(e.getValue().getComment_id());
+            boolean wasChanged = before.get(e.getKey()) != e.getValue().getType();
+            results.put(e.getKey(), new VoteResult(wasChanged, c.getLikeCount(), c.getDislikeCount()));
+        }
+        return results;
+    }
+
+    private static void add(Comment_likeDTO delta, Comment_likeDTO.Type type, int n) {
+        if (type == Comment_likeDTO.Type.LIKE) {
+            delta.setLikeCount(delta.getLikeCount() + n);
+        } else {
+            delta.setDislikeCount(delta.getDislikeCount() + n);
+        }
+    }
+
+    private static String key(Comment_likeDTO v) {
+        return v.getComment_id() + ":" + v.getUser_id();
+    }
+
+    static final class Pending {
+        final Comment_likeDTO vote;
+        final CompletableFuture<VoteResult> future = new CompletableFuture<>();
+
+        Pending(Comment_likeDTO vote) {
+            this.vote = vote;
+        }
+    }
+}
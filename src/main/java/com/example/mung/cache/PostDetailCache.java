@@ -0,0 +1,174 @@
+package com.example.mung.cache;
+
+import com.example.mung.domain.CommentCursor;
+import com.example.mung.domain.CommentDTO;
+import com.example.mung.domain.CommentPage;
+import com.example.mung.domain.PostDTO;
+import com.example.mung.mapper.CommentMapper;
+import com.example.mung.mapper.PostMapper;
+import com.example.mung.service.TransactionHooks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 게시글 상세 (게시글 + 최신 댓글 첫 페이지 + 댓글 수) 캐시
+// post_id 마다 버전 번호를 두고, 글 수정 / 댓글 작성·수정·삭제 / 좋아요·싫어요 때 버전을 올린다
+// 캐시된 값은 읽을 때의 버전과 같을 때만 사용 -> 버전을 올리기 전에 시작된 로딩 결과가 다시 캐시되어도 쓰이지 않음
+// 같은 글을 동시에 처음 요청하면 한 요청만 DB 를 읽고 나머지는 그 결과를 기다림
+// 트랜잭션 안에서 호출된 bump / remove 는 커밋된 뒤에 반영 (커밋 전에 올리면 다른 요청이 바뀌기 전 행을 새 버전으로 캐시할 수 있음)
+@Component
+public class PostDetailCache {
+
+    private final PostMapper postMapper;
+    private final CommentMapper commentMapper;
+    private final int maxSize;
+    private final long ttlMillis;
+    private final int commentPageSize;
+
+    // post_id -> 버전 (한 번도 안 올렸으면 0). 글 삭제 시 제거
+    private final Map<Integer, Long> versions = new ConcurrentHashMap<>();
+    // post_id -> 로딩 중이거나 로딩된 값. 오래 안 쓰인 순서로 maxSize 를 넘으면 제거 (lock 은 map 자체)
+    private final Map<Integer, Entry> entries;
+
+    public PostDetailCache(PostMapper postMapper, CommentMapper commentMapper,
+                           @Value("${mung.post.detail-cache-size:1000}") int maxSize,
+                           @Value("${mung.post.detail-cache-ttl-seconds:300}") long ttlSeconds,
+                           @Value("${mung.comment.page-size:20}") int commentPageSize) {
+        this.postMapper = postMapper;
+        this.commentMapper = commentMapper;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.commentPageSize = commentPageSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Entry> eldest) {
+                return size() > PostDetailCache.this.maxSize;
+            }
+        };
+    }
+
+    // 없는 글이면 null. 돌려준 객체는 다른 요청과 같이 쓰므로 수정하지 말 것 (PostDTO.copy 사용)
+    public PostDTO get(int post_id) {
+        long version = version(post_id);
+        Entry entry;
+        boolean owner = false;
+        synchronized (entries) {
+            entry = entries.get(post_id);
+            if (entry == null || entry.version != version || entry.isExpired(ttlMillis)) {
+                entry = new Entry(version);
+                entries.put(post_id, entry);
+                owner = true;
+            }
+        }
+        if (owner) {
+            load(post_id, entry);
+        }
+        try {
+            return entry.future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    // 글 작성/수정, 댓글 작성/수정/삭제 시
+    public void bump(int post_id) {
+        TransactionHooks.afterCommit(() -> versions.merge(post_id, 1L, Long::sum));
+    }
+
+    // 좋아요/싫어요 시 (요청에 post_id 가 없어서 캐시된 글 중 그 댓글이 있는 글을 찾아 버전을 올림)
+    // 캐시된 첫 페이지에 없는 댓글이면 화면에 보이는 값이 없으므로 그대로 둠
+    public void bumpForComment(int comment_id) {
+        TransactionHooks.afterCommit(() -> bumpLoadedForComment(comment_id));
+    }
+
+    private void bumpLoadedForComment(int comment_id) {
+        List<Integer> posts = new ArrayList<>();
+        synchronized (entries) {
+            for (Map.Entry<Integer, Entry> e : entries.entrySet()) {
+                // 로딩 중인 값은 바뀌기 전 댓글을 읽었을 수 있으므로 같이 올림
+                if (!e.getValue().future.isDone() || e.getValue().hasComment(comment_id)) {
+                    posts.add(e.getKey());
+                }
+            }
+        }
+        for (Integer post_id : posts) {
+            versions.merge(post_id, 1L, Long::sum);
+        }
+    }
+
+    // 글 삭제 시
+    public void remove(int post_id) {
+        TransactionHooks.afterCommit(() -> {
+            synchronized (entries) {
+                entries.remove(post_id);
+            }
+            versions.remove(post_id);
+        });
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    long version(int post_id) {
+        return versions.getOrDefault(post_id, 0L);
+    }
+
+    private void load(int post_id, Entry entry) {
+        try {
+            PostDTO post = postMapper.getOneById(post_id);
+            if (post != null) {
+                // 댓글이 많아도 첫 페이지만 (keyset 으로 size + 1 개)
+                CommentPage page = CommentPage.of(CommentCursor.NEWEST,
+                        commentMapper.getCommentPage(post_id, false, null, commentPageSize + 1),
+                        commentPageSize, commentMapper.countByPostId(post_id));
+                post.setComments(page.getItems());
+                post.setComment_count(page.getTotal());
+                post.setCommentCursor(page.getNextCursor());
+            }
+            entry.future.complete(post);
+        } catch (RuntimeException e) {
+            // 실패한 값은 캐시에 남기지 않음 (기다리던 요청에는 예외 전달)
+            synchronized (entries) {
+                entries.remove(post_id, entry);
+            }
+            entry.future.completeExceptionally(e);
+        }
+    }
+
+    private static final class Entry {
+        final CompletableFuture<PostDTO> future = new CompletableFuture<>();
+        final long version;
+        final long createdAt = System.currentTimeMillis();
+
+        Entry(long version) {
+            this.version = version;
+        }
+
+        boolean isExpired(long ttlMillis) {
+            return future.isDone() && System.currentTimeMillis() - createdAt > ttlMillis;
+        }
+
+        boolean hasComment(int comment_id) {
+            PostDTO post = future.getNow(null);
+            if (post == null || post.getComments() == null) {
+                return false;
+            }
+            for (CommentDTO c : post.getComments()) {
+                if (c.getComment_id() == comment_id) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
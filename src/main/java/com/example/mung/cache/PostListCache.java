@@ -0,0 +1,180 @@
+package com.example.mung.cache;
+
+import com.example.mung.domain.PostCursor;
+import com.example.mung.domain.PostDTO;
+import com.example.mung.domain.PostPage;
+import com.example.mung.domain.PostSummary;
+import com.example.mung.mapper.PostMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 게시판 카테고리별 최신 글 목록 + 글 수
+// 카테고리(와 전체)마다 최신 limit 개의 요약과 글 수를 메모리에 두고, 앞쪽 페이지는 DB 없이 바로 돌려준다
+// 목록은 항상 "그 카테고리의 최신 n 개" 를 유지 (n <= limit). 그 뒤 페이지는 null 을 돌려주고 호출한 쪽이 keyset 쿼리로 조회
+// 조회수/댓글 수는 ttl 마다 다시 읽어서 맞춤
+@Component
+public class PostListCache {
+
+    private static final String ALL = "*";
+    // 최신순: created_at 내림차순, 같으면 post_id 내림차순 (PostMapper.getSummaryPage 와 같은 순서)
+    private static final Comparator<PostSummary> NEWEST_FIRST =
+            Comparator.comparing(PostSummary::getCreated_at, Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparing(PostSummary::getPost_id, Comparator.reverseOrder());
+
+    private final PostMapper postMapper;
+    private final int limit;
+    private final long ttlMillis;
+
+    // 키는 카테고리 이름 + "*". 만든 뒤로 추가/삭제 없음
+    private final Map<String, Bucket> buckets = new HashMap<>();
+
+    public PostListCache(PostMapper postMapper,
+                         @Value("${mung.post.list-cache-size:100}") int limit,
+                         @Value("${mung.post.list-cache-ttl-seconds:60}") long ttlSeconds) {
+        this.postMapper = postMapper;
+        this.limit = limit;
+        this.ttlMillis = ttlSeconds * 1000;
+        buckets.put(ALL, new Bucket(null));
+        for (PostDTO.Category c : PostDTO.Category.values()) {
+            buckets.put(c.name(), new Bucket(c.name()));
+        }
+    }
+
+    // 캐시로 답할 수 있으면 한 페이지, 캐시 범위를 벗어나면 null. category 가 null 이면 전체
+    public PostPage page(String category, String cursor, int size) {
+        Bucket b = bucket(category);
+        if (b == null) {
+            return null;
+        }
+        synchronized (b) {
+            ensureFresh(b);
+            PostCursor c = PostCursor.parse(cursor);
+            int from = c == null ? 0 : indexAfter(b.items, c);
+            int to = from + size;
+            boolean complete = b.items.size() >= b.count; // 이 카테고리 글이 전부 들어 있음
+            if (to < b.items.size()) {
+                List<PostSummary> items = new ArrayList<>(b.items.subList(from, to));
+                return new PostPage(items, PostCursor.of(items.get(items.size() - 1)).toString(), b.count);
+            }
+            if (complete) {
+                List<PostSummary> items = new ArrayList<>(b.items.subList(Math.min(from, b.items.size()), b.items.size()));
+                return new PostPage(items, null, b.count);
+            }
+            return null;
+        }
+    }
+
+    // 캐시하지 않는 카테고리(잘못된 값)면 -1
+    public int count(String category) {
+        Bucket b = bucket(category);
+        if (b == null) {
+            return -1;
+        }
+        synchronized (b) {
+            ensureFresh(b);
+            return b.count;
+        }
+    }
+
+    // 글 작성 후 호출
+    public void added(PostSummary post) {
+        add(buckets.get(ALL), post);
+        if (post.getCategory() != null) {
+            add(buckets.get(post.getCategory().name()), post);
+        }
+    }
+
+    // 글 삭제 후 호출
+    public void removed(int post_id, PostDTO.Category category) {
+        remove(buckets.get(ALL), post_id);
+        if (category != null) {
+            remove(buckets.get(category.name()), post_id);
+        }
+    }
+
+    // 글 수정 후 호출. 카테고리가 바뀌었을 수 있어서 전부 다시 읽게 함 (수정은 드묾)
+    public void invalidateAll() {
+        for (Bucket b : buckets.values()) {
+            synchronized (b) {
+                b.loadedAt = 0;
+            }
+        }
+    }
+
+    private Bucket bucket(String category) {
+        return buckets.get(category == null ? ALL : category);
+    }
+
+    private void add(Bucket b, PostSummary post) {
+        synchronized (b) {
+            if (b.loadedAt == 0) {
+                return; // 다음 조회 때 새로 읽음
+            }
+            boolean complete = b.items.size() >= b.count;
+            b.count++;
+            int i = 0;
+            while (i < b.items.size() && NEWEST_FIRST.compare(b.items.get(i), post) < 0) {
+                i++;
+            }
+            // 맨 뒤보다 오래된 글은 목록이 전체를 담고 있을 때만 붙일 수 있음 (아니면 사이에 빠진 글이 있음)
+            if (i < b.items.size() || complete) {
+                b.items.add(i, post);
+                if (b.items.size() > limit) {
+                    b.items.remove(b.items.size() - 1);
+                }
+            }
+        }
+    }
+
+    private void remove(Bucket b, int post_id) {
+        synchronized (b) {
+            if (b.loadedAt == 0) {
+                return;
+            }
+            b.count = Math.max(0, b.count - 1);
+            b.items.removeIf(p -> p.getPost_id() == post_id);
+        }
+    }
+
+    // 만료됐거나, 삭제로 줄어서 최신 limit 개를 다 못 채우면 다시 읽음. b 의 lock 을 잡고 호출
+    private void ensureFresh(Bucket b) {
+        long now = System.currentTimeMillis();
+        if (b.loadedAt != 0 && now - b.loadedAt < ttlMillis && b.items.size() >= Math.min(b.count, limit)) {
+            return;
+        }
+        b.items = new ArrayList<>(postMapper.getSummaryPage(b.category, null, limit));
+        b.count = postMapper.countPosts(b.category);
+        b.loadedAt = now;
+    }
+
+    // 커서 글 바로 다음 위치 (목록 안에 없으면 목록 크기)
+    private static int indexAfter(List<PostSummary> items, PostCursor c) {
+        int i = 0;
+        while (i < items.size() && !isAfter(items.get(i), c)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isAfter(PostSummary p, PostCursor c) {
+        int cmp = p.getCreated_at().compareTo(c.getCreated_at());
+        return cmp < 0 || (cmp == 0 && p.getPost_id() < c.getPost_id());
+    }
+
+    private static final class Bucket {
+        private final String category; // null = 전체
+        private List<PostSummary> items = new ArrayList<>();
+        private int count;
+        private long loadedAt; // 0 = 아직 안 읽음 / 무효
+
+        Bucket(String category) {
+            this.category = category;
+        }
+    }
+}
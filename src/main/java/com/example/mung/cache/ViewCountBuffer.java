@@ -0,0 +1,139 @@
+package com.example.mung.cache;
+
+import com.example.mung.mapper.PostMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 게시글 조회수 write-behind 버퍼
+// 조회할 때마다 UPDATE 하면 인기글 한 행에 lock 이 몰리므로, 메모리에서 세고 주기적으로 묶어서 반영한다
+// 서버가 갑자기 죽으면 마지막 flush 이후의 조회수는 잃어버림 (정상 종료 시에는 @PreDestroy 에서 반영)
+// 같은 사람의 중복 조회 기록도 여기(서버별 메모리)에 둠. 세션에 두면 조회할 때마다 세션 행을 쓰게 되어 버퍼링한 의미가 없음
+@Component
+public class ViewCountBuffer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ViewCountBuffer.class);
+    private static final int BATCH_SIZE = 500; // UPDATE 한 번에 넣을 게시글 수
+
+    private final PostMapper postMapper;
+    private final long dedupWindowMillis;
+    private final int dedupSize;
+
+    // post_id -> 아직 DB 에 반영하지 않은 조회수
+    // 더하기와 (flush 후) 0 이 된 항목 지우기를 같은 bin lock 안에서 해서 지우는 사이에 더해진 조회수를 잃지 않음
+    // 반영한 항목은 지우므로 크기는 flush 주기 안에 조회된 게시글 수 이하
+    private final Map<Integer, LongAdder> pending = new ConcurrentHashMap<>();
+
+    // "보는 사람(세션 id 또는 IP):post_id" -> 마지막으로 센 시각. 넣은 순서 = 시간 순서, dedupSize 를 넘으면 오래된 것부터 버림
+    private final LinkedHashMap<String, Long> viewed;
+
+    public ViewCountBuffer(PostMapper postMapper,
+                           @Value("${mung.post.view-dedup-minutes:30}") long dedupMinutes,
+                           @Value("${mung.post.view-dedup-size:100000}") int dedupSize) {
+        this.postMapper = postMapper;
+        this.dedupWindowMillis = dedupMinutes * 60 * 1000;
+        this.dedupSize = dedupSize;
+        this.viewed = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > ViewCountBuffer.this.dedupSize;
+            }
+        };
+    }
+
+    public void increment(int post_id) {
+        pending.compute(post_id, (k, adder) -> {
+            LongAdder a = adder == null ? new LongAdder() : adder;
+            a.increment();
+            return a;
+        });
+    }
+
+    // 화면에 보여줄 때 DB 값에 더할 조회수
+    public long pending(int post_id) {
+        LongAdder adder = pending.get(post_id);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    // 게시글 삭제 시 호출
+    public void remove(int post_id) {
+        pending.remove(post_id);
+    }
+
+    // 같은 사람(viewer)이 window 안에 다시 본 글은 세지 않음
+    // 기록이 dedupSize 를 넘으면 오래된 것부터 잊으므로 그만큼은 다시 셀 수 있음 (서버가 여러 대면 서버마다 따로 셈)
+    public boolean firstView(String viewer, int post_id, long now) {
+        String key = viewer + ":" + post_id;
+        synchronized (viewed) {
+            Iterator<Long> it = viewed.values().iterator();
+            while (it.hasNext() && now - it.next() >= dedupWindowMillis) {
+                it.remove();
+            }
+            Long last = viewed.get(key);
+            if (last != null && now - last < dedupWindowMillis) {
+                return false;
+            }
+            viewed.remove(key);
+            viewed.put(key, now);
+            return true;
+        }
+    }
+
+    // 쌓인 조회수를 post_id 별로 묶어서 반영
+    // 반영한 만큼만 빼므로 flush 도중에 들어온 조회수는 다음 flush 로 넘어감. 실패하면 그대로 남아서 다시 시도
+    @Scheduled(fixedDelayString = "${mung.post.view-flush-ms:5000}")
+    public synchronized void flush() {
+        Map<Integer, Long> batch = new LinkedHashMap<>();
+        for (Map.Entry<Integer, LongAdder> e : pending.entrySet()) {
+            long n = e.getValue().sum();
+            if (n > 0) {
+                batch.put(e.getKey(), n);
+            }
+            if (batch.size() == BATCH_SIZE) {
+                write(batch);
+                batch = new LinkedHashMap<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+        // 반영이 끝나 0 인 항목은 지움 (없는 글 id 가 계속 쌓이지 않도록)
+        for (Integer post_id : List.copyOf(pending.keySet())) {
+            pending.computeIfPresent(post_id, (k, adder) -> adder.sum() == 0 ? null : adder);
+        }
+    }
+
+    int size() {
+        return pending.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void write(Map<Integer, Long> batch) {
+        try {
+            postMapper.addViewCounts(batch);
+        } catch (RuntimeException e) {
+            logger.warn("조회수 반영 실패 - 게시글 {}개, 다음 주기에 다시 시도", batch.size(), e);
+            return;
+        }
+        for (Map.Entry<Integer, Long> e : batch.entrySet()) {
+            LongAdder adder = pending.get(e.getKey());
+            if (adder != null) {
+                adder.add(-e.getValue());
+            }
+        }
+    }
+}
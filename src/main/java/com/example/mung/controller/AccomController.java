@@ -1,14 +1,17 @@
 package com.example.mung.controller;
 
+import com.example.mung.auth.SessionUser;
 import com.example.mung.domain.AccomDTO;
+import com.example.mung.domain.AccomDetail;
+import com.example.mung.domain.AccomFilter;
+import com.example.mung.domain.AccomPage;
 import com.example.mung.domain.AccomVO;
-import com.example.mung.domain.RoomDTO;
-import com.example.mung.domain.UserVO;
+import com.example.mung.domain.CommaList;
 import com.example.mung.service.AccomService;
-import com.example.mung.service.RoomService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 
@@ -30,17 +33,18 @@ public class AccomController {
     private AccomService service;
 
 
-    @Autowired
-    private RoomService rService;
+    private static final int MAIN_TOP_N = 6; // 메인페이지에 보여줄 숙소 수
 
+    @Value("${mung.accom.page-size:12}")
+    private int pageSize; // 검색 페이지 한 번에 보여줄 숙소 수
 
     @GetMapping("/mainPage") // 메인페이지 이동
     public String go(Model model, HttpSession session){
-        List<AccomDTO>list = service.readByRating();
+        List<AccomDTO>list = service.readTopRated(MAIN_TOP_N);
 
-        UserVO check = null;
-        if (session.getAttribute("userInfo")!=null){
-            check=(UserVO) session.getAttribute("userInfo");
+        SessionUser check = null;
+        if (session.getAttribute(SessionUser.ATTRIBUTE)!=null){
+            check=(SessionUser) session.getAttribute(SessionUser.ATTRIBUTE);
         }
         System.out.println(check != null ? check.getRole() : null);
         System.out.println(list);
@@ -57,7 +61,7 @@ public class AccomController {
     @GetMapping("/accom_register") //숙소 등록 페이지 이동
     public String goReg (HttpSession session){
         String result ;
-        UserVO check= (UserVO) session.getAttribute("userInfo");
+        SessionUser check= (SessionUser) session.getAttribute(SessionUser.ATTRIBUTE);
         if (check==null){
             System.out.println("로그인해야합니다");
             return "redirect:/login";
@@ -77,7 +81,7 @@ public String accom_registration(HttpServletRequest req, HttpSession session ){
             그냥 AccomVO객체에 담아도 될 것 같다고 생각함
             유저아이디도 받아와야하나 ?? */
 
-    UserVO check= (UserVO) session.getAttribute("userInfo");
+    SessionUser check= (SessionUser) session.getAttribute(SessionUser.ATTRIBUTE);
     System.out.println(check.getUser_id()+"사용자의 숙소등록");
     vo.setUser_id(check.getUser_id());
     vo.setAccom_name(req.getParameter("accom_name"));
@@ -86,7 +90,7 @@ public String accom_registration(HttpServletRequest req, HttpSession session ){
     vo.setAccom_caution(req.getParameter("accom_caution"));
     vo.setAccom_description(req.getParameter("accom_description"));
     vo.setAccom_images_url(req.getParameter("accom_images_url"));
-    vo.setAccom_amenities(req.getParameter("accom_amenities"));
+    vo.setAccom_amenities(joinAmenities(req)); // 체크박스 여러 개
     System.out.println(vo);
     service.register(vo);
 
@@ -122,7 +126,7 @@ public String accom_update( HttpServletRequest req){
     vo.setAccom_caution(req.getParameter("accom_caution"));
     vo.setAccom_description(req.getParameter("accom_description"));
     vo.setAccom_images_url(req.getParameter("accom_images_url"));
-    vo.setAccom_amenities(req.getParameter("accom_amenities"));
+    vo.setAccom_amenities(joinAmenities(req));
     service.modify(vo);
     return "redirect:/myPage "; // 마이페이지의 숙소리스트로 돌아갈거임
 }
@@ -160,20 +164,25 @@ public String accom_list(Model model, HttpServletRequest req) {
     }else {
         System.out.println("기본값 2 를 적용하여 출력합니다");
     }
-  // 위치 체크
-    if(location == null || location.isEmpty()){
-        list = service.readByRating();
-        //위치를 지정하지 않았다면 전체 숙소를 출력
-    }else{
-        list = service.readByLocation(location,capacity);
-        // list 에 service의 getListByLocation(위치에 따른 숙소 조회) 한 것을 넣어줌
-    }
+    // 추가 필터 (반려견 크기, 가격대, 편의시설 여러 개)
+    AccomFilter filter = new AccomFilter();
+    filter.setPet_kind(req.getParameter("pet_kind"));
+    filter.setPrice_band(req.getParameter("price_band"));
+    String[] amenities = req.getParameterValues("amenity");
+    filter.setAmenities(amenities == null ? List.of() : Arrays.asList(amenities));
+  // 위치를 지정하지 않았다면 전체 숙소, 지정했다면 해당 지역 숙소를 별점 순으로 한 페이지씩 출력
+  // 숙박 기간 내내 빈 객실이 있는 숙소만 남기고, 다음 페이지는 cursor 로 이어서 가져옴
+    AccomPage page = service.search(location, capacity, filter, rv_start, rv_end, req.getParameter("cursor"), pageSize);
+    list = page.getItems();
     DateTimeFormatter dtf = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     model.addAttribute("accom_location",location);
     model.addAttribute("st_date",rv_start.format(dtf));
     model.addAttribute("lt_date",rv_end.format(dtf));
     model.addAttribute("capacity",capacity);
     model.addAttribute("accomList",list);
+    model.addAttribute("nextCursor",page.getNextCursor());
+    model.addAttribute("filter",filter);
+    model.addAttribute("facets",page.getFacets()); // 필터 값별 숙소 수
     // list에 전체 숙소의 값 or 해당 지역의 숙소의 값이 있기때문에
     // 이걸 model에 담아 뷰에서 사용할 수 있게 함
     System.out.println(location);
@@ -187,21 +196,15 @@ public String accom_list(Model model, HttpServletRequest req) {
     @GetMapping("/accom/{accom_id}/byAccomId")
     public String accom_getOne(@PathVariable("accom_id") int accom_id, Model model) {
         System.out.println(accom_id+"진입 성공~");
-        AccomDTO dtoU = service.readByUser(accom_id);
-        List<AccomDTO> dtoR = service.readByReview(accom_id);
-        List<RoomDTO> rmDto = rService.readByAccom_id(accom_id);
-        RoomDTO rmDtoUrl = rService.readUrl(accom_id);
-        System.out.println("User와 쪼인 C:"+ dtoU);
-        System.out.println("Review와 쪼인 C :"+ dtoR);
-        System.out.println("room 정보 C: "+rmDto);
-        System.out.println("room url정보 C : "+rmDtoUrl);
-        if(dtoU !=null && dtoR !=null){
-                model.addAttribute("imgUrl", dtoU.getAccomImagesUrl());
-                model.addAttribute("amenity", dtoU.getAccomAmenities());
-                model.addAttribute("accR", dtoR);
-                model.addAttribute("accU", dtoU);
-                model.addAttribute("roomInfo",rmDto);
-                model.addAttribute("roomUrl",rmDtoUrl.getRoomImagesUrl());
+        // 숙소+호스트 / 리뷰 / 객실을 한 번에 (동시에 조회해서 숙소별로 캐시된 값)
+        AccomDetail detail = service.readDetail(accom_id);
+        if(detail !=null){
+                model.addAttribute("imgUrl", detail.getImageUrls());
+                model.addAttribute("amenity", detail.getAmenities());
+                model.addAttribute("accR", detail.getReviews());
+                model.addAttribute("accU", detail.getAccom());
+                model.addAttribute("roomInfo",detail.getRooms());
+                model.addAttribute("roomUrl",detail.getRoomImageUrls());
             }else {
                 return "/error/404";
             }
@@ -215,7 +218,9 @@ public String  accom_delete(@RequestParam int accom_id){
     return "redirect:다시리스트페이지로";
 }
 
-
-
-
+    // 편의시설 체크박스는 같은 이름으로 여러 값이 넘어오므로 모두 모아서 쉼표로 저장
+    private static String joinAmenities(HttpServletRequest req) {
+        String[] values = req.getParameterValues("accom_amenities");
+        return values == null ? null : CommaList.join(Arrays.asList(values));
+    }
 }
@@ -1,10 +1,12 @@
 package com.example.mung.controller;
 
+import com.example.mung.auth.SessionUser;
 import com.example.mung.domain.CommentDTO;
-import com.example.mung.domain.UserVO;
+import com.example.mung.domain.CommentPage;
 import com.example.mung.service.CommentService;
 import jakarta.servlet.http.HttpSession;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -19,10 +21,12 @@ public class CommentController {
 
     private static final Logger logger = LoggerFactory.getLogger(CommentController.class);
     private final CommentService commentService;
+    private final int pageSize; // 댓글 한 번에 보여줄 수
 
     @Autowired
-    public CommentController(CommentService commentService) {
+    public CommentController(CommentService commentService, @Value("${mung.comment.page-size:20}") int pageSize) {
         this.commentService = commentService;
+        this.pageSize = pageSize;
     }
 
     // 특정 게시물의 댓글 리스트 조회
@@ -33,10 +37,19 @@ public class CommentController {
         return "comments/post"; // 댓글 목록을 표시하는 템플릿
     }
 
+    // 댓글 더 보기 (게시글 상세에서 cursor 로 다음 페이지를 이어서 가져옴, sort: new 또는 best)
+    @GetMapping("/post/{post_id}/comments/more")
+    @ResponseBody
+    public CommentPage moreComments(@PathVariable int post_id,
+                                    @RequestParam(value = "sort", required = false) String sort,
+                                    @RequestParam(value = "cursor", required = false) String cursor) {
+        return commentService.readPage(post_id, sort, cursor, pageSize);
+    }
+
     // 댓글 추가
     @PostMapping("/post/{post_id}/comments/add")
     public String addComment(@PathVariable int post_id, @ModelAttribute CommentDTO commentDTO, HttpSession session, RedirectAttributes redirectAttributes) {
-        UserVO userInfo = (UserVO) session.getAttribute("userInfo");
+        SessionUser userInfo = (SessionUser) session.getAttribute(SessionUser.ATTRIBUTE);
         if (userInfo == null) {
             redirectAttributes.addFlashAttribute("message", "로그인 후에 댓글을 작성할 수 있습니다.");
             return "redirect:/login";
@@ -45,6 +58,7 @@ public class CommentController {
         // 댓글 작성자 정보 추가
         commentDTO.setUser_id(userInfo.getUser_id());
         commentDTO.setPost_id(post_id);
+        commentDTO.setNickname(userInfo.getNickname()); // 실시간 갱신에 같이 보냄
 
         try {
             // 댓글 저장 처리
@@ -1,7 +1,7 @@
 package com.example.mung.controller;
 
+import com.example.mung.auth.SessionUser;
 import com.example.mung.domain.Comment_likeDTO;
-import com.example.mung.domain.UserVO;
 import com.example.mung.service.Comment_likeService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -25,7 +25,7 @@ public class Comment_likeController {
     // 좋아요/싫어요 처리
     @PostMapping("/{type}/{comment_id}")
     public ResponseEntity<?> likeOrDislike(@PathVariable String type, @PathVariable int comment_id, HttpSession session) {
-        UserVO userInfo = (UserVO) session.getAttribute("userInfo");
+        SessionUser userInfo = (SessionUser) session.getAttribute(SessionUser.ATTRIBUTE);
         if (userInfo == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인 후 사용할 수 있습니다.");
         }
@@ -0,0 +1,123 @@
+package com.example.mung.controller;
+
+import com.example.mung.storage.ByteRange;
+import com.example.mung.storage.FileStore;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Locale;
+import java.util.Map;
+
+@Controller
+public class FileController {
+
+    public static final String URL_PREFIX = "/files/";
+
+    // 브라우저에서 바로 보여줄 형식. 나머지는 다운로드로 (업로드된 html 등이 우리 도메인에서 실행되지 않도록)
+    private static final Map<String, String> INLINE_TYPES = Map.of(
+            "jpg", "image/jpeg", "jpeg", "image/jpeg", "jfif", "image/jpeg",
+            "png", "image/png", "gif", "image/gif", "webp", "image/webp",
+            "pdf", "application/pdf");
+
+    @Autowired
+    private FileStore fileStore;
+
+    // 첨부파일 다운로드. key 가 바뀌지 않으므로 오래 캐시하고, Range 요청(이어받기, 부분 요청)도 처리
+    @GetMapping(URL_PREFIX + "{shard}/{name:.+}")
+    public void download(@PathVariable("shard") String shard, @PathVariable("name") String name,
+                         HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        String key = shard + "/" + name;
+        String etag = "\"" + name + "\"";
+        try (SeekableByteChannel ch = fileStore.open(key)) {
+            if (ch == null) {
+                resp.sendError(HttpServletResponse.SC_NOT_FOUND);
+                return;
+            }
+            // 삭제된 파일에 304 를 주면 브라우저가 지워진 캐시를 계속 보여주므로 있는지 먼저 확인
+            if (etag.equals(req.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+                resp.setHeader(HttpHeaders.ETAG, etag);
+                resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+            long size = ch.size();
+            ByteRange range;
+            try {
+                range = ByteRange.parse(req.getHeader(HttpHeaders.RANGE), size);
+            } catch (IllegalArgumentException e) {
+                resp.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                resp.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            long start = range == null ? 0 : range.getStart();
+            long length = range == null ? size : range.length();
+
+            String type = INLINE_TYPES.get(extensionOf(name));
+            resp.setContentType(type != null ? type : "application/octet-stream");
+            if (type == null) {
+                resp.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment");
+            }
+            resp.setHeader("X-Content-Type-Options", "nosniff");
+            resp.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+            resp.setHeader(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000, immutable");
+            resp.setHeader(HttpHeaders.ETAG, etag);
+            if (range != null) {
+                resp.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                resp.setHeader(HttpHeaders.CONTENT_RANGE, range.contentRange(size));
+            }
+            resp.setContentLengthLong(length);
+            send(ch, start, length, Channels.newChannel(resp.getOutputStream()));
+        }
+    }
+
+    // 파일 내용을 힙에 올리지 않고 바로 응답으로 보냄
+    private static void send(SeekableByteChannel ch, long start, long length, WritableByteChannel out) throws IOException {
+        if (ch instanceof FileChannel) {
+            FileChannel fc = (FileChannel) ch;
+            long pos = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long n = fc.transferTo(pos, remaining, out);
+                if (n <= 0) {
+                    break;
+                }
+                pos += n;
+                remaining -= n;
+            }
+            return;
+        }
+        ch.position(start);
+        ByteBuffer buf = ByteBuffer.allocate(64 * 1024);
+        long remaining = length;
+        while (remaining > 0) {
+            buf.clear();
+            if (remaining < buf.capacity()) {
+                buf.limit((int) remaining);
+            }
+            int n = ch.read(buf);
+            if (n < 0) {
+                break;
+            }
+            buf.flip();
+            while (buf.hasRemaining()) {
+                out.write(buf);
+            }
+            remaining -= n;
+        }
+    }
+
+    private static String extensionOf(String name) {
+        int dot = name.lastIndexOf('.');
+        return dot < 0 ? "" : name.substring(dot + 1).toLowerCase(Locale.ROOT);
+    }
+}
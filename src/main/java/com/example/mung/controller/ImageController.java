@@ -0,0 +1,47 @@
+package com.example.mung.controller;
+
+import com.example.mung.image.ImageDerivatives;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+@Controller
+public class ImageController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageController.class);
+
+    @Autowired
+    private ImageDerivatives imageDerivatives;
+
+    @GetMapping("/img/{variant}/{source}/{fileName:.+}") // 크기별 이미지 사본 (없으면 처음 요청 시 원본 키로 찾아서 생성)
+    public ResponseEntity<Resource> image(@PathVariable("variant") String variant, @PathVariable("source") String source,
+                                          @PathVariable("fileName") String fileName) {
+        Path file;
+        try {
+            file = imageDerivatives.resolve(variant, source, fileName);
+        } catch (IOException e) {
+            logger.warn("이미지 사본 생성 실패 {}/{}/{}", variant, source, fileName, e);
+            return ResponseEntity.internalServerError().build();
+        }
+        if (file == null) {
+            return ResponseEntity.notFound().build();
+        }
+        // 파일 이름이 내용 해시라서 내용이 바뀌지 않음 -> 1년 캐시
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                .contentType(fileName.endsWith(".png") ? MediaType.IMAGE_PNG : MediaType.IMAGE_JPEG)
+                .body(new FileSystemResource(file));
+    }
+}
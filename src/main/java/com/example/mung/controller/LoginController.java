@@ -1,10 +1,10 @@
 
 package com.example.mung.controller;
 
+import com.example.mung.auth.SessionUser;
 import com.example.mung.domain.LoginDTO;
 import com.example.mung.domain.UserDTO;
 import com.example.mung.domain.UserVO;
-import com.example.mung.domain.transfer.PetInfo;
 import com.example.mung.domain.transfer.Role;
 import com.example.mung.service.LoginService;
 import com.example.mung.service.UserService;
@@ -22,6 +22,7 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 
 import java.time.LocalDate;
@@ -42,49 +43,40 @@ public class LoginController {
     @Autowired
     private LoginService loginService;
 
-    //로그인 페이지로 이동하면서 idList 긁어오기
+    //로그인 페이지로 이동 (아이디 중복확인은 /idCheck 로 따로 물어봄)
     @GetMapping("/login")
     public String loginView(Model model, HttpSession session) {
-        if (session.getAttribute("userInfo") != null) {
-            System.out.println("세션에 담긴 값입니다." + session.getAttribute("userInfo"));
+        if (session.getAttribute(SessionUser.ATTRIBUTE) != null) {
+            System.out.println("세션에 담긴 값입니다." + session.getAttribute(SessionUser.ATTRIBUTE));
             System.out.println("이미 로그인 되어있습니다.");
             return "redirect:/mainPage";  // 메인 페이지로 리다이렉트
         }
-        model.addAttribute("idList", loginService.idList());
         System.out.println("로그인 화면 출력");
         return "/login";
     }
 
 
+    //아이디 중복확인 (회원가입 폼의 중복확인 버튼)
+    @GetMapping("/idCheck")
+    @ResponseBody
+    public Map<String, Boolean> idCheck(@RequestParam("user_loginId") String user_loginId) {
+        return Map.of("exists", loginService.idCheck(user_loginId));
+    }
+
+
     //로그인 성공시 session에 로그인 정보 담기
     @PostMapping("/login")
     public String join(HttpSession session, LoginDTO dto) {
         UserVO user = loginService.loginSuccess(dto);
-        System.out.println(user.getPet_info());
-        System.out.println(user.getPet_infoToString());
-        System.out.println("user값:" + user);
-
-        HashMap<String, String> list = user.getPet_infoList();
-        PetInfo petInfo = new PetInfo(list.get("이름"), list.get("종"), list.get("나이"), list.get("무게"));
-        user.setPet_inform(petInfo);
-
-        // roles를 List로 변환하여 UserVO에 설정
-        if (user.getRole() != null && !user.getRole().isEmpty()) {
-            user.setRoles(Arrays.asList(user.getRole().split(","))); // 역할을 List로 변환
-        }
-        System.out.println("user값:" + user);
-        System.out.println("dto값:" + dto);
-
-        if (user != null) {
-            session.setAttribute("userInfo", user);  // 세션에 사용자 정보 저장
-            System.out.println("세션에 담긴 값입니다." + user);
-            System.out.println("값" + user.getRole());
-            System.out.println(session.getAttribute("userInfo"));
-            return "redirect:/mainPage";  // 메인 페이지로 리다이렉트
-        } else {
+        if (user == null) {
             System.out.println("로그인 실패");
-            return "/login";  // 로그인 실패 시 로그인 페이지로 리다이렉트
+            return "/login";  // 아이디가 없거나 비밀번호가 다름
         }
+        // 세션에는 로그인 확인에 필요한 값만 (비밀번호, 반려견 정보 등 전체 프로필은 필요한 화면에서 따로 읽음)
+        SessionUser sessionUser = SessionUser.of(user);
+        session.setAttribute(SessionUser.ATTRIBUTE, sessionUser);  // 세션에 사용자 정보 저장
+        System.out.println("세션에 담긴 값입니다." + sessionUser);
+        return "redirect:/mainPage";  // 메인 페이지로 리다이렉트
     }
 
 
@@ -247,6 +239,9 @@ public class LoginController {
         System.out.println(vo);
 
         boolean result = userService.register(vo);
+        if (result) {
+            loginService.addLoginId(vo.getUser_loginId());
+        }
 
         System.out.println(result);
 
@@ -290,6 +285,9 @@ public class LoginController {
         System.out.println(vo);
 
         boolean result = userService.register_b(vo);
+        if (result) {
+            loginService.addLoginId(vo.getUser_loginId());
+        }
 
         System.out.println(result);
 
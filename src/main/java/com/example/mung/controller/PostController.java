@@ -1,44 +1,74 @@
 package com.example.mung.controller;
 
+import com.example.mung.auth.SessionUser;
+import com.example.mung.cache.ViewCountBuffer;
+import com.example.mung.domain.CommentCursor;
+import com.example.mung.domain.CommentDTO;
+import com.example.mung.domain.CommentPage;
 import com.example.mung.domain.PostDTO;
-import com.example.mung.domain.UserVO;
+import com.example.mung.domain.PostPage;
+import com.example.mung.domain.PostSummary;
+import com.example.mung.service.CommentService;
 import com.example.mung.service.PostService;
+import com.example.mung.storage.UploadStore;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.io.InputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Base64;
 import java.util.List;
-import java.util.UUID;
 
 @Controller
 public class PostController {
 
+    private static final Logger logger = LoggerFactory.getLogger(PostController.class);
+
+    private static final String SORT_HOT = "hot"; // 인기순 정렬 파라미터 값
+    private static final int TRENDING_WIDGET_SIZE = 5; // 목록 옆 인기글 위젯 글 수
+
     private final PostService postService;
+    private final CommentService commentService;
+    private final UploadStore uploadStore;
+    private final ViewCountBuffer viewCountBuffer;
+    private final int pageSize; // 게시판 목록 한 번에 보여줄 글 수
+    private final int commentPageSize; // 게시글 상세에서 한 번에 보여줄 댓글 수
 
 
-    public PostController(PostService postService) {
+    public PostController(PostService postService, CommentService commentService, UploadStore uploadStore,
+                          ViewCountBuffer viewCountBuffer,
+                          @Value("${mung.post.page-size:10}") int pageSize,
+                          @Value("${mung.comment.page-size:20}") int commentPageSize) {
         this.postService = postService;
+        this.commentService = commentService;
+        this.uploadStore = uploadStore;
+        this.viewCountBuffer = viewCountBuffer;
+        this.pageSize = pageSize;
+        this.commentPageSize = commentPageSize;
     }
 
-    private UserVO getLoginUser(HttpSession session) {
-        return (UserVO) session.getAttribute("userInfo");
+    private SessionUser getLoginUser(HttpSession session) {
+        return (SessionUser) session.getAttribute(SessionUser.ATTRIBUTE);
     }
 
-    // 게시판 메인
+    // 게시판 메인 (최신순 또는 sort=hot 이면 인기순, 다음 페이지는 cursor 로 이어서 가져옴)
     @GetMapping("/postMain")
-    public String postMain(HttpSession session, Model model) {
-        UserVO userInfo = getLoginUser(session);
-        List<PostDTO> posts = postService.findAll();
-        model.addAttribute("posts", posts);
+    public String postMain(@RequestParam(value = "cursor", required = false) String cursor,
+                           @RequestParam(value = "sort", required = false) String sort,
+                           HttpSession session, Model model) {
+        SessionUser userInfo = getLoginUser(session);
+        addList(model, null, sort, cursor, "/postMain");
         if (userInfo != null) {
             model.addAttribute("userInfo", userInfo);  // 로그인된 사용자 정보 추가
         }
@@ -47,34 +77,74 @@ public class PostController {
 
     // 카테고리별 게시글 조회
     @GetMapping("/posts/category/{category}")
-    public String getPostsByCategory(@PathVariable("category") String category, Model model) {
-        List<PostDTO> posts = postService.getPostsByCategory(category);
-        model.addAttribute("posts", posts);
+    public String getPostsByCategory(@PathVariable("category") String category,
+                                     @RequestParam(value = "cursor", required = false) String cursor,
+                                     @RequestParam(value = "sort", required = false) String sort,
+                                     HttpSession session, Model model) {
+        addList(model, category, sort, cursor, "/posts/category/" + category);
+        SessionUser userInfo = getLoginUser(session);
+        if (userInfo != null) {
+            model.addAttribute("userInfo", userInfo);
+        }
         return "postMain";
     }
 
+    // 중복 조회를 가를 기준. 세션이 있으면 세션, 없으면 IP (조회만 하는 손님에게 세션을 만들지 않음)
+    private static String viewer(HttpServletRequest req) {
+        HttpSession session = req.getSession(false);
+        return session != null ? "s:" + session.getId() : "ip:" + req.getRemoteAddr();
+    }
+
+    // 목록 + 인기글 위젯. 정렬 링크용으로 sortUrl(정렬 없는 주소)도 넘김
+    private void addList(Model model, String category, String sort, String cursor, String baseUrl) {
+        boolean hot = SORT_HOT.equals(sort);
+        PostPage page = hot ? postService.trending(category, cursor, pageSize)
+                : postService.listPosts(category, cursor, pageSize);
+        addPage(model, page, hot ? baseUrl + "?sort=" + SORT_HOT : baseUrl);
+        model.addAttribute("sort", hot ? SORT_HOT : "new");
+        model.addAttribute("sortUrl", baseUrl);
+        model.addAttribute("trending", postService.trending(category, null, TRENDING_WIDGET_SIZE).getItems());
+    }
+
+    private static void addComments(Model model, String sort, List<CommentDTO> comments, String nextCursor, int total) {
+        model.addAttribute("comments", comments);
+        model.addAttribute("commentSort", sort);
+        model.addAttribute("commentCursor", nextCursor);
+        model.addAttribute("commentCount", total);
+    }
+
+    private static void addPage(Model model, PostPage page, String listUrl) {
+        model.addAttribute("posts", page.getItems());
+        model.addAttribute("nextCursor", page.getNextCursor());
+        model.addAttribute("totalCount", page.getTotal());
+        model.addAttribute("listUrl", listUrl);
+    }
+
     // 검색 기능
     @GetMapping("/posts/search")
     public String searchPosts(@RequestParam("keyword") String keyword,
-                              @RequestParam("type") String type, Model model) {
-        List<PostDTO> posts;
-        if (type.equals("title")) {
-            posts = postService.searchByTitle(keyword);
-        } else if (type.equals("content")) {
-            posts = postService.searchByContent(keyword);
+                              @RequestParam("type") String type,
+                              @RequestParam(value = "cursor", required = false) String cursor, Model model) {
+        if (type.equals("title") || type.equals("content") || type.equals("all")) {
+            // 제목/내용은 검색 색인에서 관련도순으로
+            String listUrl = "/posts/search?type=" + type + "&keyword=" + URLEncoder.encode(keyword, StandardCharsets.UTF_8);
+            addPage(model, postService.search(keyword, type, cursor, pageSize), listUrl);
         } else if (type.equals("nickname")) {
-            posts = postService.searchByNickname(keyword);
+            List<PostDTO> posts = postService.searchByNickname(keyword);
+            // 목록 화면은 요약만 사용 (본문 전체를 화면에 넘기지 않음)
+            model.addAttribute("posts", posts.stream().map(PostSummary::of).toList());
         } else {
-            posts = new ArrayList<>();
+            model.addAttribute("posts", new ArrayList<PostSummary>());
         }
-        model.addAttribute("posts", posts);
+        model.addAttribute("keyword", keyword);
+        model.addAttribute("type", type);
         return "postMain";
     }
 
     // 게시글 작성 페이지로 이동 (GET 요청 처리)
     @GetMapping("/new")
     public String postWritePage(HttpSession session, Model model) {
-        UserVO userInfo = getLoginUser(session);
+        SessionUser userInfo = getLoginUser(session);
         if (userInfo == null) {
             return "redirect:/login";
         }
@@ -82,7 +152,7 @@ public class PostController {
         return "postWrite";
     }
 
-    // db에 이미지파일의 실제 데이터가 저장되지 않고 이미지 경로만 저장.
+    // db에 파일의 실제 데이터가 저장되지 않고 저장소 key 만 저장.
     // 게시글 작성 처리 (POST 요청 처리)
     @PostMapping("/new")
     public String createPost(@ModelAttribute @Valid PostDTO postDTO,
@@ -92,66 +162,68 @@ public class PostController {
         if (bindingResult.hasErrors()) {
             return "postWrite";
         }
-        UserVO userInfo = getLoginUser(session);
+        SessionUser userInfo = getLoginUser(session);
         if (userInfo == null) {
             return "redirect:/login";
         }
         postDTO.setUser_id(userInfo.getUser_id());
         postDTO.setNickname(userInfo.getNickname());
-        if (file != null && !file.isEmpty()) {
-            postDTO.setFiles(file.getBytes());
-            String originalFilename = file.getOriginalFilename();
-            String fileType = originalFilename != null ? originalFilename.substring(originalFilename.lastIndexOf(".") + 1) : "jpeg";
-            postDTO.setFileType(fileType);
-        }
-        if (postService.createPost(postDTO)) {
+        if (postService.createPost(postDTO, file)) {
             return "redirect:/postMain";
         }
         return "postWrite";
     }
 
+    // 본문 이미지 업로드. 같은 이미지는 한 번만 저장되고 같은 주소를 돌려줌
     @PostMapping("/uploadImage")
     @ResponseBody
     public String uploadImage(@RequestParam("file") MultipartFile file) {
         if (file.isEmpty()) {
             return null;
         }
-        try {
-            String fileName = UUID.randomUUID().toString() + "_" + file.getOriginalFilename();
-            String uploadDir = "C:/uploads/";
-            Path filePath = Paths.get(uploadDir + fileName);
-            Files.createDirectories(filePath.getParent()); // 디렉토리가 없으면 생성
-            file.transferTo(filePath.toFile()); // 파일 저장
-            return "/uploads/" + fileName; // 저장된 파일 경로 반환
+        try (InputStream in = file.getInputStream()) {
+            return uploadStore.put(in); // 저장된 파일 경로 반환
+        } catch (IllegalArgumentException e) {
+            return null; // 이미지가 아닌 파일
         } catch (IOException e) {
-            e.printStackTrace();
+            logger.error("이미지 업로드 실패: {}", file.getOriginalFilename(), e);
             return null;
         }
     }
 
+    // 댓글은 첫 페이지만 (csort=best 면 추천순), 나머지는 "댓글 더 보기" 로 /post/{post_id}/comments/more 에서
     @GetMapping("/post/{post_id}")
-    public String getPostDetail(@PathVariable int post_id, Model model) {
-        // 게시글 조회수 증가
-        postService.increaseViewCount(post_id); // 조회수 증가 호출
-
+    public String getPostDetail(@PathVariable int post_id,
+                                @RequestParam(value = "csort", required = false) String csort,
+                                HttpServletRequest req, Model model) {
         PostDTO post = postService.readById(post_id);
         if (post == null) {
             return "error/404";
         }
+        // 게시글 조회수 증가 (있는 글만. 같은 사람이 잠깐 사이에 다시 본 건 세지 않음)
+        if (viewCountBuffer.firstView(viewer(req), post_id, System.currentTimeMillis())) {
+            postService.increaseViewCount(post_id); // 조회수 증가 호출
+        }
 
-        if (post.getFiles() != null) {
-            String mimeType = "image/" + (post.getFileType() != null ? post.getFileType() : "jpeg");
-            String base64Image = "data:" + mimeType + ";base64," + Base64.getEncoder().encodeToString(post.getFiles());
-            model.addAttribute("base64Image", base64Image);
+        // 첨부파일은 페이지에 넣지 않고 주소만 넘김 (브라우저가 따로 받아서 캐시)
+        if (post.getFile_key() != null) {
+            model.addAttribute("fileUrl", FileController.URL_PREFIX + post.getFile_key());
         }
         model.addAttribute("post", post);
+        if (CommentCursor.BEST.equals(csort)) {
+            CommentPage comments = commentService.readPage(post_id, CommentCursor.BEST, null, commentPageSize);
+            addComments(model, comments.getSort(), comments.getItems(), comments.getNextCursor(), comments.getTotal());
+        } else {
+            // 최신순 첫 페이지는 게시글과 같이 캐시되어 있음
+            addComments(model, CommentCursor.NEWEST, post.getComments(), post.getCommentCursor(), post.getComment_count());
+        }
         return "postDetail";
     }
 
     // 게시글 수정 페이지
     @GetMapping("/update/{post_id}")
     public String updatePostPage(@PathVariable int post_id, HttpSession session, Model model) {
-        UserVO userInfo = getLoginUser(session);
+        SessionUser userInfo = getLoginUser(session);
         if (userInfo == null) {
             return "redirect:/login";
         }
@@ -164,10 +236,39 @@ public class PostController {
         return "postUpdate";
     }
 
+    // 게시글 수정 처리. 첨부파일은 새 파일을 올리면 교체, deleteFile 을 체크하면 삭제, 둘 다 아니면 그대로
+    @PostMapping("/update/{post_id}")
+    public String updatePost(@PathVariable int post_id, @ModelAttribute @Valid PostDTO postDTO,
+                             BindingResult bindingResult,
+                             @RequestParam(value = "file", required = false) MultipartFile file,
+                             @RequestParam(value = "deleteFile", defaultValue = "false") boolean deleteFile,
+                             HttpSession session, Model model) throws IOException {
+        SessionUser userInfo = getLoginUser(session);
+        if (userInfo == null) {
+            return "redirect:/login";
+        }
+        PostDTO post = postService.readById(post_id);
+        if (post == null) {
+            return "error/404";
+        }
+        if (!post.getNickname().equals(userInfo.getNickname())) {
+            return "redirect:/post/" + post_id;
+        }
+        if (bindingResult.hasErrors()) {
+            model.addAttribute("post", post);
+            return "postUpdate";
+        }
+        postDTO.setPost_id(post_id);
+        postDTO.setUser_id(post.getUser_id());
+        postDTO.setUpdated_at(LocalDateTime.now());
+        postService.modify(postDTO, file, deleteFile);
+        return "redirect:/post/" + post_id;
+    }
+
     // 게시글 삭제 처리
     @PostMapping("/delete/{post_id}")
     public String deletePost(@PathVariable int post_id, HttpSession session) {
-        UserVO userInfo = getLoginUser(session);
+        SessionUser userInfo = getLoginUser(session);
         if (userInfo == null) {
             return "redirect:/login";
         }
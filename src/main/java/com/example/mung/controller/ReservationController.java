@@ -0,0 +1,55 @@
+package com.example.mung.controller;
+
+import com.example.mung.auth.SessionUser;
+import com.example.mung.domain.ReservationVO;
+import com.example.mung.service.ReservationService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+
+import java.time.LocalDate;
+
+@Controller
+public class ReservationController {
+
+    @Autowired
+    private ReservationService service;
+
+    @PostMapping("/reservation") // 객실 예약
+    public String reserve(HttpServletRequest req, HttpSession session, RedirectAttributes redirectAttributes) {
+        SessionUser check = (SessionUser) session.getAttribute(SessionUser.ATTRIBUTE);
+        if (check == null) {
+            return "redirect:/login";
+        }
+        ReservationVO vo = new ReservationVO();
+        vo.setUser_id(check.getUser_id());
+        vo.setRoom_id(Integer.parseInt(req.getParameter("room_id")));
+        vo.setRv_start_date(LocalDate.parse(req.getParameter("rv_start_date")));
+        vo.setRv_end_date(LocalDate.parse(req.getParameter("rv_end_date")));
+        try {
+            service.register(vo);
+            redirectAttributes.addFlashAttribute("message", "예약이 완료되었습니다.");
+        } catch (IllegalArgumentException e) {
+            redirectAttributes.addFlashAttribute("message", e.getMessage());
+        }
+        // accom_id 는 서비스가 객실에서 채움 (없는 객실이면 0)
+        return vo.getAccom_id() > 0 ? "redirect:/accom/" + vo.getAccom_id() + "/byAccomId" : "redirect:/mainPage";
+    }
+
+    @PostMapping("/reservation_cancel") // 예약 취소
+    public String cancel(@RequestParam int rv_id, HttpSession session) {
+        SessionUser check = (SessionUser) session.getAttribute(SessionUser.ATTRIBUTE);
+        if (check == null) {
+            return "redirect:/login";
+        }
+        ReservationVO vo = service.readOne(rv_id);
+        if (vo != null && vo.getUser_id() == check.getUser_id()) {
+            service.cancel(rv_id);
+        }
+        return "redirect:/myPage";
+    }
+}
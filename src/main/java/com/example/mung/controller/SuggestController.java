@@ -0,0 +1,50 @@
+package com.example.mung.controller;
+
+import com.example.mung.domain.Suggestion;
+import com.example.mung.index.SuggestIndex;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 검색창 자동완성. 메모리 색인만 사용 (DB 조회 없음)
+@RestController
+@RequestMapping("/suggest")
+public class SuggestController {
+
+    private static final int MAX_LIMIT = 10;
+
+    private final SuggestIndex suggestIndex;
+
+    public SuggestController(SuggestIndex suggestIndex) {
+        this.suggestIndex = suggestIndex;
+    }
+
+    // 게시판 검색창: 게시글 제목
+    @GetMapping("/posts")
+    public ResponseEntity<List<Suggestion>> posts(@RequestParam("q") String q,
+                                                  @RequestParam(value = "limit", defaultValue = "8") int limit) {
+        return cached(suggestIndex.suggestPosts(q, clamp(limit)));
+    }
+
+    // 숙소 검색창: 숙소 이름 + 지역
+    @GetMapping("/accoms")
+    public ResponseEntity<List<Suggestion>> accoms(@RequestParam("q") String q,
+                                                   @RequestParam(value = "limit", defaultValue = "8") int limit) {
+        return cached(suggestIndex.suggestAccoms(q, clamp(limit)));
+    }
+
+    // 같은 접두사를 다시 치는 경우가 많아서 브라우저에 잠깐 캐시
+    private static ResponseEntity<List<Suggestion>> cached(List<Suggestion> body) {
+        return ResponseEntity.ok().cacheControl(CacheControl.maxAge(60, TimeUnit.SECONDS)).body(body);
+    }
+
+    private static int clamp(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+}
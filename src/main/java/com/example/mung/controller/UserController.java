@@ -1,13 +1,15 @@
 package com.example.mung.controller;
 
+import com.example.mung.auth.SessionUser;
 import com.example.mung.domain.UserVO;
 import com.example.mung.domain.transfer.PetInfo;
+import com.example.mung.service.PetService;
 import com.example.mung.service.UserService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 
@@ -17,9 +19,12 @@ public class UserController {
     @Autowired
     private UserService service;
 
+    @Autowired
+    private PetService petService;
+
     @GetMapping("/myPage")
     public String goMyPage(HttpSession session) {
-        if (session.getAttribute("userInfo") == null) {
+        if (session.getAttribute(SessionUser.ATTRIBUTE) == null) {
             return "/mainPage";
         } else {
 
@@ -28,32 +33,56 @@ public class UserController {
         }
     }
 
+    //세션에는 SessionUser 만 있으므로 전체 프로필은 여기서 읽어서 profile 로 넘김
     @GetMapping("/userInformation")
-    public String goUserInformation(HttpSession session) {
+    public String goUserInformation(HttpSession session, Model model) {
 
-        if (session.getAttribute("userInfo") == null) {
+        SessionUser info = (SessionUser) session.getAttribute(SessionUser.ATTRIBUTE);
+        if (info == null) {
             return "/mainPage";
-        } else {
-            System.out.println("userInformation 이동");
-            return "/userInformation";
         }
+        UserVO profile = service.readProfile(info.getUser_id());
+        if (profile == null) {
+            session.invalidate(); // 탈퇴한 회원
+            return "/mainPage";
+        }
+        model.addAttribute("profile", profile);
+        System.out.println("userInformation 이동");
+        return "/userInformation";
 
     }
 
-    @Transactional
+    //반려견 추가/수정 (pet_id 가 없으면 추가). 여러 마리면 화면에서 한 마리씩 저장
     @PostMapping("/updateUser")
     public String updateUser(HttpServletRequest request, HttpSession session) {
 
-        UserVO info = (UserVO) session.getAttribute("userInfo");
-        UserVO vo = new UserVO();
-        vo.setPet_inform(new PetInfo(request.getParameter("name"), request.getParameter("type"), request.getParameter("age"), request.getParameter("weight")));
-        vo.setUser_id(info.getUser_id());
-        System.out.println(vo);
-        boolean result = service.modify_pet(vo);
+        SessionUser info = (SessionUser) session.getAttribute(SessionUser.ATTRIBUTE);
+        if (info == null) {
+            return "redirect:/login";
+        }
+        PetInfo pet = new PetInfo(request.getParameter("name"), request.getParameter("type"), request.getParameter("age"), request.getParameter("weight"));
+        boolean result = petService.save(info.getUser_id(), parseId(request.getParameter("pet_id")), pet);
         System.out.println(result);
-        info.setPet_info(vo.getPet_info());
-        session.setAttribute("userInfo",info);
-        return "redirect:/myPage";
+        return "redirect:/userInformation";
+    }
+
+    @PostMapping("/deletePet")
+    public String deletePet(HttpServletRequest request, HttpSession session) {
+
+        SessionUser info = (SessionUser) session.getAttribute(SessionUser.ATTRIBUTE);
+        if (info == null) {
+            return "redirect:/login";
+        }
+        petService.remove(info.getUser_id(), parseId(request.getParameter("pet_id")));
+        return "redirect:/userInformation";
+    }
+
+    private static int parseId(String value) {
+        try {
+            return value == null || value.isBlank() ? 0 : Integer.parseInt(value.strip());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
     }
 
 }
@@ -4,13 +4,11 @@ package com.example.mung.domain;
 
 import lombok.*;
 
-import java.util.Arrays;
 import java.util.List;
 
 @Getter
 @Setter
 @ToString
-@AllArgsConstructor
 @NoArgsConstructor
 public class AccomDTO {
     private int accom_id;
@@ -33,17 +31,62 @@ public class AccomDTO {
     private String nickname;
     private String Comment;
 
-    public List<String> getAccomImagesUrl(){
-        List ur = Arrays.asList(getAccom_images_url().split(","));
-        System.out.println("숙소 이미지 출력 : "+ ur);
-        return ur;
+    // accom_images_url / accom_amenities 를 나눈 결과. 행을 읽을 때(setter) 한 번만 만들고 화면에서는 그대로 씀
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private List<String> accomImages;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private List<String> accomAmenities;
+
+    // 컬럼 값만 받음 (나눈 리스트는 setter 가 만듦. @AllArgsConstructor 는 위 두 필드까지 인자로 받게 되어 직접 둠)
+    public AccomDTO(int accom_id, int user_id, String accom_name, String accom_location, String accom_phone,
+                    String accom_caution, String accom_description, String accom_images_url, String accom_amenities,
+                    int rating, String pet_kind, int room_price, int capacity_standard, int capacity_max,
+                    String business_number, String business_sns_url, String nickname, String Comment) {
+        this.accom_id = accom_id;
+        this.user_id = user_id;
+        this.accom_name = accom_name;
+        this.accom_location = accom_location;
+        this.accom_phone = accom_phone;
+        this.accom_caution = accom_caution;
+        this.accom_description = accom_description;
+        setAccom_images_url(accom_images_url);
+        setAccom_amenities(accom_amenities);
+        this.rating = rating;
+        this.pet_kind = pet_kind;
+        this.room_price = room_price;
+        this.capacity_standard = capacity_standard;
+        this.capacity_max = capacity_max;
+        this.business_number = business_number;
+        this.business_sns_url = business_sns_url;
+        this.nickname = nickname;
+        this.Comment = Comment;
     }
-    public List<String> getAccomAmenities(){
-        List amen = Arrays.asList(getAccom_amenities().split(","));
-        System.out.println("숙소 편의시설 출력 : "+ amen);
-        return amen;
+
+    public void setAccom_images_url(String accom_images_url) {
+        this.accom_images_url = accom_images_url;
+        this.accomImages = CommaList.split(accom_images_url);
     }
 
+    public void setAccom_amenities(String accom_amenities) {
+        this.accom_amenities = accom_amenities;
+        this.accomAmenities = CommaList.split(accom_amenities);
+    }
 
+    public List<String> getAccomImagesUrl(){
+        if (accomImages == null) { // setter 를 거치지 않은 경우 (값 없음)
+            accomImages = CommaList.split(accom_images_url);
+        }
+        return accomImages;
+    }
+    public List<String> getAccomAmenities(){
+        if (accomAmenities == null) {
+            setAccom_amenities(accom_amenities);
+        }
+        return accomAmenities;
+    }
 
 }
@@ -0,0 +1,21 @@
+package com.example.mung.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+// 숙소 상세 페이지에 필요한 데이터 묶음 (숙소+호스트, 리뷰, 객실)
+// 캐시에 그대로 들어가므로 만든 뒤에는 바꾸지 않는다
+@Getter
+@ToString
+@AllArgsConstructor
+public class AccomDetail {
+    private final AccomDTO accom;          // 숙소 + 호스트(사업자번호, SNS, 닉네임)
+    private final List<AccomDTO> reviews;
+    private final List<RoomDTO> rooms;
+    private final List<String> imageUrls;  // 숙소 이미지
+    private final List<String> amenities;  // 편의시설
+    private final List<String> roomImageUrls; // 대표 객실 이미지 (객실이 없으면 null)
+}
@@ -0,0 +1,17 @@
+package com.example.mung.domain;
+
+import lombok.*;
+
+import java.util.List;
+
+// 숙소 검색 화면의 추가 필터 (선택하지 않은 값은 null)
+@Getter
+@Setter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+public class AccomFilter {
+    private String pet_kind;         // 소형견 / 중형견 / 대형견
+    private String price_band;       // FacetIndex 의 가격대 이름 (~50000, 50000~100000 ...)
+    private List<String> amenities;  // 모두 갖춘 숙소만
+}
@@ -0,0 +1,23 @@
+package com.example.mung.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.Map;
+
+// 숙소 목록 한 페이지 + 다음 페이지를 가리키는 커서 (마지막 페이지면 null)
+// facets: 현재 검색 조건에서 필터 값별 숙소 수 (필터 이름 -> 값 -> 숙소 수)
+@Getter
+@ToString
+@AllArgsConstructor
+public class AccomPage {
+    private final List<AccomDTO> items;
+    private final String nextCursor;
+    private final Map<String, Map<String, Integer>> facets;
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
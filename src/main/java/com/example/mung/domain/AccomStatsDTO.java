@@ -0,0 +1,17 @@
+package com.example.mung.domain;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@ToString
+public class AccomStatsDTO {
+    private int accom_id;
+    private int review_count;              // 리뷰 수
+    private long rating_sum;               // 별점 합계
+    private LocalDateTime last_review_at;  // 마지막 리뷰 작성 시각
+}
@@ -0,0 +1,41 @@
+package com.example.mung.domain;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// DB 에 쉼표로 이어 붙여 저장하는 값 (이미지 url, 편의시설) 변환
+public final class CommaList {
+
+    private CommaList() {
+    }
+
+    // "a.jpg, b.jpg,," -> [a.jpg, b.jpg] (불변 리스트, 빈 값 제거)
+    public static List<String> split(String joined) {
+        if (joined == null || joined.isEmpty()) {
+            return List.of();
+        }
+        List<String> result = new ArrayList<>();
+        for (String s : joined.split(",")) {
+            String v = s.trim();
+            if (!v.isEmpty()) {
+                result.add(v);
+            }
+        }
+        return List.copyOf(result);
+    }
+
+    // 체크박스처럼 여러 값으로 넘어온 것을 저장용 문자열로
+    public static String join(Collection<String> values) {
+        if (values == null) {
+            return null;
+        }
+        List<String> result = new ArrayList<>();
+        for (String s : values) {
+            if (s != null && !s.trim().isEmpty()) {
+                result.add(s.trim());
+            }
+        }
+        return String.join(",", result);
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.mung.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 댓글 목록 커서 = 마지막으로 보여준 댓글
+// 최신순은 comment_id 만 ("123"), 추천순은 (best_score, comment_id) ("0.4523_123")
+@Getter
+@AllArgsConstructor
+public class CommentCursor {
+
+    public static final String NEWEST = "new";
+    public static final String BEST = "best";
+
+    private final boolean best;
+    private final double score;
+    private final int comment_id;
+
+    public static CommentCursor of(String sort, CommentDTO comment) {
+        return new CommentCursor(BEST.equals(sort), comment.getBest_score(), comment.getComment_id());
+    }
+
+    // 없거나 정렬과 맞지 않는 커서면 null (= 첫 페이지)
+    public static CommentCursor parse(String sort, String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            if (!BEST.equals(sort)) {
+                return new CommentCursor(false, 0, Integer.parseInt(cursor));
+            }
+            int sep = cursor.lastIndexOf('_');
+            if (sep < 0) {
+                return null;
+            }
+            return new CommentCursor(true, Double.parseDouble(cursor.substring(0, sep)), Integer.parseInt(cursor.substring(sep + 1)));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // 모르는 값은 최신순
+    public static String sort(String sort) {
+        return BEST.equals(sort) ? BEST : NEWEST;
+    }
+
+    @Override
+    public String toString() {
+        return best ? score + "_" + comment_id : String.valueOf(comment_id);
+    }
+}
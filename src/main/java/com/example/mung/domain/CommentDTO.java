@@ -18,4 +18,18 @@ public class CommentDTO {
     private String nickname;
     private int likeCount; // 좋아요 수
     private int dislikeCount; // 싫어요 수
+    private double best_score; // 추천순 정렬 점수 (wilsonScore, 투표가 바뀔 때 저장)
+
+    // 95% 신뢰수준 Wilson 하한: 좋아요 비율을 투표 수가 적을수록 보수적으로 낮춰 잡은 값 (0 ~ 1)
+    // 좋아요 1 / 싫어요 0 인 댓글이 좋아요 90 / 싫어요 10 인 댓글보다 위로 가지 않음
+    public static double wilsonScore(int likes, int dislikes) {
+        int n = likes + dislikes;
+        if (n <= 0) {
+            return 0;
+        }
+        double z = 1.96;
+        double p = (double) likes / n;
+        double z2 = z * z;
+        return (p + z2 / (2 * n) - z * Math.sqrt((p * (1 - p) + z2 / (4 * n)) / n)) / (1 + z2 / n);
+    }
 }
@@ -0,0 +1,28 @@
+package com.example.mung.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+// 댓글 한 페이지 + 다음 페이지 커서 (마지막 페이지면 null). total: 게시글의 전체 댓글 수
+@Getter
+@ToString
+@AllArgsConstructor
+public class CommentPage {
+    private final String sort;
+    private final List<CommentDTO> items;
+    private final String nextCursor;
+    private final int total;
+
+    // size + 1 개를 읽은 결과로 한 페이지를 만듦 (남는 한 개로 다음 페이지가 있는지 판단)
+    public static CommentPage of(String sort, List<CommentDTO> rows, int size, int total) {
+        String next = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            next = CommentCursor.of(sort, rows.get(size - 1)).toString();
+        }
+        return new CommentPage(sort, List.copyOf(rows), next, total);
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.mung.domain;
+
+import com.example.mung.domain.transfer.PetInfo;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.json.JSONObject;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 반려견 한 마리 (pet 테이블 한 행). 화면 입력/옛 JSON 은 만들 때 한 번만 해석하고 이후로는 바뀌지 않음
+// 크기(size)는 몸무게로 정해지고 객실 pet_kind 와 같은 이름을 씀 (소형견 / 중형견 / 대형견)
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class Pet {
+
+    private static final Pattern NUMBER = Pattern.compile("\\d+(\\.\\d+)?");
+
+    public enum Size {
+        SMALL("소형견"),   // 10kg 미만
+        MEDIUM("중형견"),  // 25kg 미만
+        LARGE("대형견");
+
+        private final String label;
+
+        Size(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        // 몸무게를 모르면 null
+        public static Size of(Double weight) {
+            if (weight == null) {
+                return null;
+            }
+            return weight < 10 ? SMALL : weight < 25 ? MEDIUM : LARGE;
+        }
+    }
+
+    private final int pet_id;
+    private final int user_id;
+    private final String name;
+    private final String type;    // 견종
+    private final Integer age;    // 살, 모르면 null
+    private final Double weight;  // kg, 모르면 null
+    private final Size size;
+
+    // MyBatis (PetMapper @ConstructorArgs) 용
+    public Pet(int pet_id, int user_id, String name, String type, Integer age, Double weight, Size size) {
+        this.pet_id = pet_id;
+        this.user_id = user_id;
+        this.name = name;
+        this.type = type;
+        this.age = age;
+        this.weight = weight;
+        this.size = size;
+    }
+
+    // 화면 입력 ("3살", "4.5kg" 같은 값도 숫자만 읽음). 이름이 없으면 null
+    public static Pet of(int pet_id, int user_id, PetInfo info) {
+        if (info == null || blank(info.getName())) {
+            return null;
+        }
+        Double weight = number(info.getWeight());
+        return new Pet(pet_id, user_id, info.getName().strip(), blank(info.getType()) ? null : info.getType().strip(),
+                age(number(info.getAge())), weight, Size.of(weight));
+    }
+
+    // user.pet_info 에 JSON 으로 저장하던 예전 형식 ({"이름","종","나이","무게"}). 옮길 때 한 번만 사용
+    public static Pet fromLegacyJson(int user_id, String json) {
+        if (blank(json)) {
+            return null;
+        }
+        try {
+            JSONObject jo = new JSONObject(json);
+            return of(0, user_id, new PetInfo(jo.optString("이름"), jo.optString("종"), jo.optString("나이"), jo.optString("무게")));
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    public String getSizeLabel() {
+        return size == null ? null : size.getLabel();
+    }
+
+    private static Double number(String text) {
+        if (text == null) {
+            return null;
+        }
+        Matcher m = NUMBER.matcher(text);
+        return m.find() ? Double.valueOf(m.group()) : null;
+    }
+
+    private static Integer age(Double value) {
+        return value == null ? null : (int) Math.floor(value);
+    }
+
+    private static boolean blank(String s) {
+        return s == null || s.isBlank();
+    }
+}
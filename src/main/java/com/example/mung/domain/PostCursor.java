@@ -0,0 +1,41 @@
+package com.example.mung.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+// 게시글 목록 커서 = 마지막으로 보여준 글의 (created_at, post_id). 문자열은 "2024-10-01T12:30_15"
+@Getter
+@AllArgsConstructor
+public class PostCursor {
+
+    private final LocalDateTime created_at;
+    private final int post_id;
+
+    public static PostCursor of(PostSummary post) {
+        return new PostCursor(post.getCreated_at(), post.getPost_id());
+    }
+
+    // 없거나 잘못된 커서면 null (= 첫 페이지)
+    public static PostCursor parse(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        int sep = cursor.lastIndexOf('_');
+        if (sep < 0) {
+            return null;
+        }
+        try {
+            return new PostCursor(LocalDateTime.parse(cursor.substring(0, sep)), Integer.parseInt(cursor.substring(sep + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return created_at + "_" + post_id;
+    }
+}
@@ -32,9 +32,30 @@ public class PostDTO {
     @Size(min = 4, max = 4, message = "비밀번호는 4자리여야 합니다.")
     @Pattern(regexp = "\\d{4}", message = "비밀번호는 숫자 4자리여야 합니다.")
     private String password;
-    private byte[] files; // 파일 데이터를 담을 필드
-    private String fileType;
-    private List<CommentDTO> comments;
+    private String file_key; // 첨부파일 저장소 key (파일 내용은 DB 가 아닌 FileStore 에 저장)
+    private List<CommentDTO> comments; // 최신 댓글 첫 페이지 (나머지는 commentCursor 로 이어서 조회)
+    private int comment_count;
+    private String commentCursor; // 댓글 다음 페이지 커서 (없으면 null)
+
+    // 캐시된 게시글을 요청마다 고쳐 쓸 때 (조회수 등) 사용하는 얕은 복사. 댓글 목록은 공유
+    public PostDTO copy() {
+        PostDTO p = new PostDTO();
+        p.post_id = post_id;
+        p.user_id = user_id;
+        p.nickname = nickname;
+        p.title = title;
+        p.content = content;
+        p.view_count = view_count;
+        p.category = category;
+        p.created_at = created_at;
+        p.updated_at = updated_at;
+        p.password = password;
+        p.file_key = file_key;
+        p.comments = comments;
+        p.comment_count = comment_count;
+        p.commentCursor = commentCursor;
+        return p;
+    }
 
     public enum Category {
         rec, general, travel
@@ -0,0 +1,19 @@
+package com.example.mung.domain;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+// 인기글 점수 계산용 게시글 반응 수 (조회수, 댓글 수, 댓글 좋아요 수)
+@Getter
+@Setter
+@ToString
+public class PostEngagement {
+    private int post_id;
+    private LocalDateTime created_at;
+    private int view_count;
+    private int comment_count;
+    private int like_count;
+}
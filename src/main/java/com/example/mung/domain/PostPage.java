@@ -0,0 +1,22 @@
+package com.example.mung.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+// 게시글 목록 한 페이지 + 다음 페이지를 가리키는 커서 (마지막 페이지면 null)
+// total: 카테고리 전체 글 수 (캐시된 값)
+@Getter
+@ToString
+@AllArgsConstructor
+public class PostPage {
+    private final List<PostSummary> items;
+    private final String nextCursor;
+    private final int total;
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
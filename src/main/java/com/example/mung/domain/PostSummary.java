@@ -0,0 +1,63 @@
+package com.example.mung.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.util.regex.Pattern;
+
+// 게시판 목록용 게시글 요약 (본문 전체 대신 앞부분 snippet 만 가짐)
+@Getter
+@Setter
+@ToString
+public class PostSummary {
+
+    public static final int SNIPPET_LENGTH = 100;
+    private static final Pattern TAG = Pattern.compile("<[^>]*(>|$)"); // 잘려서 닫히지 않은 태그 포함
+    private static final Pattern SPACE = Pattern.compile("(&nbsp;|\\s)+");
+
+    private int post_id;
+    private int user_id;
+    private String nickname;
+    private String title;
+    @Setter(AccessLevel.NONE)
+    private String snippet;
+    private PostDTO.Category category;
+    private LocalDateTime created_at;
+    private int view_count;
+    private int comment_count;
+
+    // DB 에서는 본문 앞부분만 가져오고, 여기서 태그(본문 이미지 등)를 지우고 길이를 맞춤
+    public void setSnippet(String content) {
+        this.snippet = snippet(content);
+    }
+
+    // 검색 결과처럼 게시글 전체를 가져온 경우 (댓글 수는 모름)
+    public static PostSummary of(PostDTO post) {
+        PostSummary s = new PostSummary();
+        s.setPost_id(post.getPost_id());
+        s.setUser_id(post.getUser_id());
+        s.setNickname(post.getNickname());
+        s.setTitle(post.getTitle());
+        s.setSnippet(post.getContent());
+        s.setCategory(post.getCategory());
+        s.setCreated_at(post.getCreated_at());
+        s.setView_count(post.getView_count());
+        return s;
+    }
+
+    public static String snippet(String content) {
+        String text = plainText(content);
+        return text.length() <= SNIPPET_LENGTH ? text : text.substring(0, SNIPPET_LENGTH) + "…";
+    }
+
+    // 본문 html 에서 태그를 지운 글자만 (검색 색인에도 사용)
+    public static String plainText(String content) {
+        if (content == null) {
+            return "";
+        }
+        return SPACE.matcher(TAG.matcher(content).replaceAll(" ")).replaceAll(" ").trim();
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.mung.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+// 게시글 상세 화면에 보내는 실시간 갱신 한 건 (짧은 시간 동안의 변경을 모은 것)
+// comments: 새 댓글 (오래된 것부터), votes: 좋아요/싫어요 수가 바뀐 댓글의 최신 값 (likeCount, dislikeCount 만 사용)
+// more: 새 댓글이 너무 많아서 일부만 보냄 (화면은 새로고침 안내)
+@Getter
+@ToString
+@AllArgsConstructor
+public class PostUpdate {
+    private final int post_id;
+    private final List<CommentDTO> comments;
+    private final List<CommentDTO> votes;
+    private final boolean more;
+}
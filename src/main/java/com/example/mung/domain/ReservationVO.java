@@ -0,0 +1,19 @@
+package com.example.mung.domain;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+
+@Setter
+@Getter
+@ToString
+public class ReservationVO {
+    private int rv_id;
+    private int user_id;
+    private int accom_id;
+    private int room_id;
+    private LocalDate rv_start_date; // 체크인 날짜
+    private LocalDate rv_end_date;   // 체크아웃 날짜 (이 날 밤은 숙박하지 않음)
+}
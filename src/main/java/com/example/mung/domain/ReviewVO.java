@@ -5,7 +5,6 @@ import lombok.Setter;
 import lombok.ToString;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.List;
 
 @Setter
@@ -37,9 +36,7 @@ public class ReviewVO {
         this.accom_name = accom_name;
         this.accom_images_url = accom_images_url;
 
-        // 쉼표로 구분된 accom_images_url을 분리하여 리스트로 저장
-        if (accom_images_url != null && !accom_images_url.isEmpty()) {
-            this.accom_images = Arrays.asList(accom_images_url.split(","));
-        }
+        // 쉼표로 구분된 accom_images_url을 분리하여 리스트로 저장 (불변, 없으면 빈 리스트)
+        this.accom_images = CommaList.split(accom_images_url);
     }
 }
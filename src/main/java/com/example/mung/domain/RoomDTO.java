@@ -2,7 +2,6 @@ package com.example.mung.domain;
 
 import lombok.*;
 
-import java.util.Arrays;
 import java.util.List;
 
 @Getter
@@ -24,8 +23,22 @@ public class RoomDTO {
     private int capacity_max;
 
 
+    // room_images_url 을 나눈 결과 (setter 에서 한 번만 만듦)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private List<String> roomImages;
+
+    public void setRoom_images_url(String room_images_url) {
+        this.room_images_url = room_images_url;
+        this.roomImages = CommaList.split(room_images_url);
+    }
+
     public List<String> getRoomImagesUrl() {
-        return Arrays.asList(getRoom_images_url().split(","));
+        if (roomImages == null) { // 생성자로 만든 경우
+            roomImages = CommaList.split(room_images_url);
+        }
+        return roomImages;
     }
 
 }
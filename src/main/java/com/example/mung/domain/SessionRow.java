@@ -0,0 +1,19 @@
+package com.example.mung.domain;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+// user_session 테이블 한 행 (시각은 epoch ms, attributes 는 SessionCodec 으로 인코딩한 바이트)
+@Getter
+@Setter
+@ToString(exclude = "attributes")
+public class SessionRow {
+    private String session_id;
+    private long creation_time;
+    private long last_access_time;
+    private int max_inactive_interval; // 초
+    private long expiry_time; // last_access_time + max_inactive_interval, 만료 정리용 (index)
+    private byte[] attributes;
+    private long version; // 속성을 바꿀 때마다 +1 (같은 버전일 때만 UPDATE)
+}
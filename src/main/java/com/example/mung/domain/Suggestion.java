@@ -0,0 +1,21 @@
+package com.example.mung.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+// 검색창 자동완성 항목
+// type: post(게시글 제목), accom(숙소 이름), region(지역). id 는 게시글/숙소 id (지역은 0)
+@Getter
+@ToString
+@AllArgsConstructor
+public class Suggestion {
+    public static final String POST = "post";
+    public static final String ACCOM = "accom";
+    public static final String REGION = "region";
+
+    private final String text;
+    private final String type;
+    private final int id;
+    private final long popularity; // 클수록 먼저 (조회수, 리뷰 수 등)
+}
@@ -1,14 +1,11 @@
 package com.example.mung.domain;
 
-import com.example.mung.domain.transfer.PetInfo;
 import com.example.mung.domain.transfer.Role;
 import lombok.*;
-import org.json.JSONObject;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 
 @Data
@@ -28,13 +25,14 @@ public class UserVO {
     private String role; //USER, HOST, ADMIN
 
     private String profile_image_url;
-    private String pet_info; //JSON
+    private String pet_info; //예전 JSON (pet 테이블로 옮긴 뒤 비워짐)
     private LocalDateTime created_at;
     private LocalDateTime updated_at;
     private String business_number;
     private String business_sns_url;
     private String user_loginId;
     private List<String> roles; // ROLE을 List로 변경
+    private List<Pet> pets; // pet 테이블 (readProfile 에서 한 번 읽음)
 
     // 일반 회원가입
     public UserVO(String user_name, String user_email, String password, String user_phone, LocalDateTime user_birth, int user_gender, String nickname, String user_loginId) {
@@ -92,18 +90,6 @@ public class UserVO {
         this.user_gender = genderNum;
     }
 
-    public void setPet_inform(PetInfo petInfo) {
-        if (petInfo == null) return; // null 체크 추가
-        JSONObject jsonObject = new JSONObject();
-        jsonObject.put("이름", petInfo.getName());
-        jsonObject.put("종", petInfo.getType());
-        jsonObject.put("나이", petInfo.getAge());
-        jsonObject.put("무게", petInfo.getWeight());
-
-        System.out.println("펫정보 입력 완료!!!");
-        this.pet_info = jsonObject.toString();
-    }
-
     // 배열로 넘어오는 role값을 (,) 콤마 기준으로 String으로 변환하여 보내기
     public void setRole(Role role) {
         if (role == null || role.getRole_arr() == null) {
@@ -126,37 +112,4 @@ public class UserVO {
         if (this.roles == null) return false;
         return this.roles.contains(roleToCheck); // List의 contains 메서드 사용
     }
-
-    //하.. 반려견 정보 출력하는 메서드
-    public String getPet_infoToString() {
-        if (this.pet_info == null) {
-            return "반려동물 정보가 없습니다.";
-        }
-
-        JSONObject jo = new JSONObject(pet_info);
-        System.out.println("펫 정보 문자열 변환 출력");
-        String name = jo.optString("이름", "정보 없음");
-        String type = jo.optString("종", "정보 없음");
-        String age = jo.optString("나이", "정보 없음");
-        String weight = jo.optString("무게", "정보 없음");
-
-        return String.format("이름: %s, 종: %s, 나이: %s, 무게: %s", name, type, age, weight);
-    }
-
-    //후아..반려견 정보를 Map으로 담아서 View에 던지기 좋게 만들기
-    public HashMap<String, String> getPet_infoList() {
-        if (pet_info == null) {
-            return new HashMap<>();
-        }
-        JSONObject json = new JSONObject(pet_info);
-        System.out.println("펫 정보 리스트 변환 출력");
-        HashMap<String, String> list = new HashMap<>();
-        list.put("이름", json.optString("이름"));
-        list.put("종", json.optString("종"));
-        list.put("나이", json.optString("나이"));
-        list.put("무게", json.optString("무게"));
-
-        return list;
-
-    }
 }
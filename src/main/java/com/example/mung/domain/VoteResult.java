@@ -0,0 +1,15 @@
+package com.example.mung.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+// 좋아요/싫어요 한 번의 결과: 투표가 바뀌었는지 + 저장 후 댓글의 좋아요/싫어요 수
+@Getter
+@ToString
+@AllArgsConstructor
+public class VoteResult {
+    private final boolean changed;
+    private final int likeCount;
+    private final int dislikeCount;
+}
@@ -28,6 +28,14 @@ public class GlobalExceptionHandler {
         return "error/405"; // 405 에러 페이지로 이동
     }
 
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public String handle503(Model model, HttpServletRequest httr) {
+        model.addAttribute("errorMessage", "요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        model.addAttribute("referer",httr.getHeader("referer"));
+        return "error/500"; // 500 에러 페이지에 안내만 바꿔서 보여줌
+    }
+
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     @ExceptionHandler(Exception.class)
     public String handle500(Model model, HttpServletRequest httr) {
@@ -0,0 +1,12 @@
+package com.example.mung.exception;
+
+// 비밀번호 해시 작업이 밀려서 바로 거절한 경우 (잠시 후 다시 시도하면 됨)
+public class PasswordHashingBusyException extends RuntimeException {
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+
+    public PasswordHashingBusyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.mung.image;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+// static 이미지의 크기별 사본(썸네일/카드/원본급)을 처음 요청될 때 만들어서 디스크에 보관
+// 파일 이름은 원본 내용의 해시라서 원본이 바뀌면 주소도 바뀜 -> 브라우저가 1년 동안 캐시해도 됨
+// 주소에 원본 경로(base64url)도 넣어서 재기동 후나 다른 서버에서도 원본을 찾을 수 있음: /img/card/{원본 경로}/{해시}.jpg
+// 사본을 만들 때 원본 내용의 해시가 주소의 해시와 같은지 확인 (원본이 바뀌었거나 지어낸 주소면 404)
+// 템플릿에서는 th:src="${@imageDerivatives.url(경로, 'card')}" 처럼 사용
+@Component
+public class ImageDerivatives {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageDerivatives.class);
+
+    public static final String URL_PREFIX = "/img/";
+    private static final Pattern FILE_NAME = Pattern.compile("[0-9a-f]{16}\\.(jpg|png)");
+    private static final Pattern SOURCE_KEY = Pattern.compile("[A-Za-z0-9_-]{1,400}");
+    private static final Optional<String> NOT_AN_IMAGE = Optional.empty();
+
+    private final Path dir;
+    private final SourceReader sources;
+
+    // 원본 경로 -> "원본키/해시.확장자" (줄일 수 없는 경로면 empty)
+    private final Map<String, Optional<String>> nameBySource = new ConcurrentHashMap<>();
+    // 같은 사본을 동시에 만들지 않도록 파일별 lock
+    private final Map<Path, Object> locks = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ImageDerivatives(@Value("${mung.image.derivative-dir:${java.io.tmpdir}/mung-images}") String dir) {
+        this(Paths.get(dir), ImageDerivatives::readClasspath);
+    }
+
+    ImageDerivatives(Path dir, SourceReader sources) {
+        this.dir = dir;
+        this.sources = sources;
+    }
+
+    // 템플릿용: 원본 경로 -> 크기별 사본 주소. 외부 url 이나 읽을 수 없는 이미지는 원본 주소 그대로
+    public String url(String src, String variant) {
+        ImageVariant v = ImageVariant.parse(variant);
+        if (v == null || src == null || src.isBlank()) {
+            return src;
+        }
+        String path = localPath(src);
+        if (path == null) {
+            return src;
+        }
+        Optional<String> name = nameBySource.computeIfAbsent(path, this::fingerprint);
+        return name.map(n -> URL_PREFIX + v.path() + "/" + n).orElse(src);
+    }
+
+    // 컨트롤러용: 사본 파일 (없으면 원본 키로 원본을 찾아 만들어서). 모르는 이름 / 원본과 해시가 다르면 null
+    public Path resolve(String variant, String sourceKey, String fileName) throws IOException {
+        ImageVariant v = ImageVariant.parse(variant);
+        if (v == null || fileName == null || !FILE_NAME.matcher(fileName).matches()
+                || sourceKey == null || !SOURCE_KEY.matcher(sourceKey).matches()) {
+            return null;
+        }
+        Path target = dir.resolve(v.path()).resolve(fileName);
+        if (Files.exists(target)) {
+            return target;
+        }
+        String source = decodeKey(sourceKey);
+        String format = fileName.endsWith(".png") ? "png" : "jpg";
+        if (source == null || !format.equals(extension(source))) {
+            return null;
+        }
+        Object lock = locks.computeIfAbsent(target, k -> new Object());
+        synchronized (lock) {
+            try {
+                if (!Files.exists(target)) {
+                    byte[] original = sources.read(source);
+                    if (original == null || !fileName.startsWith(hash(original) + ".")) {
+                        return null;
+                    }
+                    generate(source, original, v, format, target);
+                }
+            } finally {
+                locks.remove(target);
+            }
+        }
+        return target;
+    }
+
+    private void generate(String source, byte[] original, ImageVariant v, String format, Path target) throws IOException {
+        long start = System.currentTimeMillis();
+        byte[] resized = ImageResizer.resize(original, v.getMaxWidth(), format);
+        Files.createDirectories(target.getParent());
+        // 임시 파일에 다 쓴 뒤 이름을 바꿔서, 다른 요청이 반쯤 쓰인 파일을 읽지 않도록 함
+        Path tmp = Files.createTempFile(target.getParent(), "tmp-", ".part");
+        try {
+            Files.write(tmp, resized);
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        logger.info("이미지 사본 생성 {} ({}) {}KB -> {}KB, {}ms", source, v.path(),
+                original.length / 1024, resized.length / 1024, System.currentTimeMillis() - start);
+    }
+
+    // 원본을 한 번 읽어 내용 해시로 파일 이름을 정함
+    private Optional<String> fingerprint(String path) {
+        String ext = extension(path);
+        if (ext == null) {
+            return NOT_AN_IMAGE;
+        }
+        try {
+            byte[] bytes = sources.read(path);
+            if (bytes == null) {
+                return NOT_AN_IMAGE;
+            }
+            return Optional.of(encodeKey(path) + "/" + hash(bytes) + "." + ext);
+        } catch (IOException e) {
+            logger.warn("이미지 원본을 읽을 수 없음: {}", path, e);
+            return NOT_AN_IMAGE;
+        }
+    }
+
+    private static String hash(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes)).substring(0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String encodeKey(String path) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(path.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 주소의 원본 키 -> static 아래 경로 (url 에서 만든 것과 같은 규칙으로 다시 검사)
+    private static String decodeKey(String key) {
+        try {
+            String path = new String(Base64.getUrlDecoder().decode(key), StandardCharsets.UTF_8);
+            return path.equals(localPath(path)) ? path : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // static 아래 경로만 처리 ("/images/a.jpg", "images/a.jpg"). 외부 url, 상위 경로 이동은 제외
+    private static String localPath(String src) {
+        String path = src.trim();
+        if (path.contains("://") || path.startsWith("//") || path.contains("..")) {
+            return null;
+        }
+        int q = path.indexOf('?');
+        if (q >= 0) {
+            path = path.substring(0, q);
+        }
+        return path.startsWith("/") ? path : "/" + path;
+    }
+
+    // 사본 형식: png 는 투명도 때문에 png 유지, 나머지 사진은 jpg
+    private static String extension(String path) {
+        String lower = path.toLowerCase(Locale.ROOT);
+        if (lower.endsWith(".png")) {
+            return "png";
+        }
+        if (lower.endsWith(".jpg") || lower.endsWith(".jpeg") || lower.endsWith(".jfif")) {
+            return "jpg";
+        }
+        return null;
+    }
+
+    private static byte[] readClasspath(String path) throws IOException {
+        try (InputStream in = ImageDerivatives.class.getClassLoader().getResourceAsStream("static" + path)) {
+            return in == null ? null : in.readAllBytes();
+        }
+    }
+
+    // 원본 읽기 (기본은 classpath:static, 테스트에서는 임시 폴더)
+    interface SourceReader {
+        byte[] read(String path) throws IOException;
+    }
+}
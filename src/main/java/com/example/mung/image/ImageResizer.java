@@ -0,0 +1,80 @@
+package com.example.mung.image;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+// JDK ImageIO 만으로 이미지 줄이기
+// 한 번에 크게 줄이면 계단 현상이 생겨서 절반씩 나눠 줄이고 마지막에 목표 크기로 맞춘다
+public final class ImageResizer {
+
+    private static final float JPEG_QUALITY = 0.8f;
+
+    private ImageResizer() {
+    }
+
+    // 원본 가로가 maxWidth 이하면 원본 바이트 그대로, 아니면 줄여서 format(jpg/png)으로 인코딩
+    public static byte[] resize(byte[] source, int maxWidth, String format) throws IOException {
+        BufferedImage src = ImageIO.read(new ByteArrayInputStream(source));
+        if (src == null) {
+            throw new IOException("읽을 수 없는 이미지 형식");
+        }
+        if (src.getWidth() <= maxWidth) {
+            return source;
+        }
+        int width = maxWidth;
+        int height = Math.max(1, (int) Math.round((double) src.getHeight() * maxWidth / src.getWidth()));
+        return encode(scale(src, width, height, "png".equals(format)), format);
+    }
+
+    static BufferedImage scale(BufferedImage src, int width, int height, boolean alpha) {
+        int type = alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage current = src;
+        int w = src.getWidth();
+        int h = src.getHeight();
+        do {
+            w = Math.max(width, w / 2);
+            h = Math.max(height, h / 2);
+            BufferedImage next = new BufferedImage(w, h, type);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(current, 0, 0, w, h, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (w != width || h != height);
+        return current;
+    }
+
+    private static byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (!"jpg".equals(format)) {
+            ImageIO.write(image, format, out);
+            return out.toByteArray();
+        }
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpg");
+        ImageWriter writer = writers.next();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.setOutput(ios);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
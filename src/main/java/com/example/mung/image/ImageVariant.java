@@ -0,0 +1,37 @@
+package com.example.mung.image;
+
+import java.util.Locale;
+
+// 화면에서 쓰는 이미지 크기 (가로 최대 px). 원본이 더 작으면 키우지 않음
+public enum ImageVariant {
+    THUMB(160),   // 로고, 작은 썸네일
+    CARD(480),    // 목록/메인 카드
+    FULL(1280);   // 상세 페이지
+
+    private final int maxWidth;
+
+    ImageVariant(int maxWidth) {
+        this.maxWidth = maxWidth;
+    }
+
+    public int getMaxWidth() {
+        return maxWidth;
+    }
+
+    public String path() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    // "card", "CARD" -> CARD (모르는 값이면 null)
+    public static ImageVariant parse(String name) {
+        if (name == null) {
+            return null;
+        }
+        for (ImageVariant v : values()) {
+            if (v.name().equalsIgnoreCase(name)) {
+                return v;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.mung.index;
+
+import com.example.mung.domain.AccomDTO;
+
+import java.time.LocalDateTime;
+
+// 숙소 한 곳의 통계 스냅샷 (불변). 값이 바뀌면 새 객체로 교체한다
+public final class AccomStats {
+
+    private final int accom_id;
+    private final String accom_name;
+    private final String accom_location;
+    private final String accom_images_url;
+    private final int min_price;          // 가장 싼 객실 가격 (객실이 없으면 0)
+    private final String pet_kind;        // 가장 싼 객실의 반려견 크기
+    private final int review_count;
+    private final long rating_sum;
+    private final LocalDateTime last_review_at;
+    private final double score;           // 베이지안 평균 별점 (정렬 기준)
+
+    AccomStats(int accom_id, String accom_name, String accom_location, String accom_images_url,
+               int min_price, String pet_kind, int review_count, long rating_sum,
+               LocalDateTime last_review_at, double score) {
+        this.accom_id = accom_id;
+        this.accom_name = accom_name;
+        this.accom_location = accom_location;
+        this.accom_images_url = accom_images_url;
+        this.min_price = min_price;
+        this.pet_kind = pet_kind;
+        this.review_count = review_count;
+        this.rating_sum = rating_sum;
+        this.last_review_at = last_review_at;
+        this.score = score;
+    }
+
+    public int getAccom_id() { return accom_id; }
+    public String getAccom_name() { return accom_name; }
+    public String getAccom_location() { return accom_location; }
+    public String getAccom_images_url() { return accom_images_url; }
+    public int getMin_price() { return min_price; }
+    public String getPet_kind() { return pet_kind; }
+    public int getReview_count() { return review_count; }
+    public long getRating_sum() { return rating_sum; }
+    public LocalDateTime getLast_review_at() { return last_review_at; }
+    public double getScore() { return score; }
+
+    // 단순 평균 별점 (화면 표시용)
+    public double getAverage() {
+        return review_count == 0 ? 0 : (double) rating_sum / review_count;
+    }
+
+    // 목록 화면(accomList, mainPage)에서 쓰는 카드 형태로 변환
+    public AccomDTO toDTO() {
+        AccomDTO dto = new AccomDTO();
+        dto.setAccom_id(accom_id);
+        dto.setAccom_name(accom_name);
+        dto.setAccom_location(accom_location);
+        dto.setAccom_images_url(accom_images_url);
+        dto.setRoom_price(min_price);
+        dto.setPet_kind(pet_kind);
+        dto.setRating((int) Math.round(getAverage()));
+        return dto;
+    }
+
+    @Override
+    public String toString() {
+        return "AccomStats(accom_id=" + accom_id + ", review_count=" + review_count
+                + ", score=" + score + ", min_price=" + min_price + ")";
+    }
+}
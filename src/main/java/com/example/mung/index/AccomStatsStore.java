@@ -0,0 +1,350 @@
+package com.example.mung.index;
+
+import com.example.mung.domain.AccomDTO;
+import com.example.mung.domain.AccomStatsDTO;
+import com.example.mung.domain.AccomVO;
+import com.example.mung.domain.RoomDTO;
+import com.example.mung.mapper.AccomMapper;
+import com.example.mung.mapper.ReviewMapper;
+import com.example.mung.mapper.RoomMapper;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+// 숙소별 리뷰 수 / 베이지안 평균 별점 / 최저가 / 마지막 리뷰 시각을 메모리에 유지
+// 리뷰, 객실, 숙소가 바뀔 때마다 해당 숙소만 갱신하고 별점 순위는 정렬된 집합에서 바로 꺼낸다
+// rebuild 가 DB 를 읽는 동안 들어온 변경은 기록해 두었다가 새 맵으로 바꾼 뒤 다시 적용 (바꿀 때 사라지지 않도록)
+@Component
+public class AccomStatsStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccomStatsStore.class);
+
+    // 점수 높은 순, 같으면 accom_id 오름차순
+    public static final Comparator<AccomStats> RANKING =
+            Comparator.comparingDouble(AccomStats::getScore).reversed().thenComparingInt(AccomStats::getAccom_id);
+
+    private final AccomMapper accomMapper;
+    private final RoomMapper roomMapper;
+    private final ReviewMapper reviewMapper;
+    private final double priorWeight; // 베이지안 평균에서 전체 평균을 몇 개의 리뷰만큼 반영할지
+
+    private final Object lock = new Object();
+    private volatile double priorMean = 3.0;
+    private volatile Map<Integer, AccomStats> stats = new ConcurrentHashMap<>();
+    private volatile ConcurrentSkipListSet<AccomStats> ranking = new ConcurrentSkipListSet<>(RANKING);
+    // 아래 두 맵은 lock 으로 보호 (최저가 재계산용)
+    private Map<Integer, Map<Integer, RoomPrice>> roomsByAccom = new HashMap<>();
+    private Map<Integer, Integer> accomOfRoom = new HashMap<>();
+    // rebuild 중에만 null 이 아님. DB 를 읽기 시작한 뒤 들어온 변경 (lock 으로 보호)
+    private List<Runnable> journal;
+
+    public AccomStatsStore(AccomMapper accomMapper, RoomMapper roomMapper, ReviewMapper reviewMapper,
+                           @Value("${mung.stats.prior-weight:5}") double priorWeight) {
+        this.accomMapper = accomMapper;
+        this.roomMapper = roomMapper;
+        this.reviewMapper = reviewMapper;
+        this.priorWeight = priorWeight;
+    }
+
+    // 기동 시 + 매일 새벽에 DB 기준으로 다시 계산 (전체 평균도 이때 갱신)
+    @PostConstruct
+    @Scheduled(cron = "${mung.stats.rebuild-cron:0 10 4 * * *}")
+    public synchronized void rebuild() {
+        synchronized (lock) {
+            journal = new ArrayList<>();
+        }
+        try {
+            load();
+        } finally {
+            synchronized (lock) {
+                journal = null;
+            }
+        }
+    }
+
+    private void load() {
+        Map<Integer, AccomStatsDTO> reviews = new HashMap<>();
+        long totalSum = 0;
+        long totalCount = 0;
+        for (AccomStatsDTO dto : reviewMapper.getStatsByAccom()) {
+            reviews.put(dto.getAccom_id(), dto);
+            totalSum += dto.getRating_sum();
+            totalCount += dto.getReview_count();
+        }
+        List<RoomDTO> rooms = roomMapper.getList();
+        List<AccomDTO> accoms = accomMapper.getList();
+
+        synchronized (lock) {
+            priorMean = totalCount == 0 ? 3.0 : (double) totalSum / totalCount;
+            Map<Integer, Map<Integer, RoomPrice>> newRooms = new HashMap<>();
+            Map<Integer, Integer> newAccomOfRoom = new HashMap<>();
+            for (RoomDTO room : rooms) {
+                newRooms.computeIfAbsent(room.getAccom_id(), k -> new HashMap<>())
+                        .put(room.getRoom_id(), new RoomPrice(room.getRoom_price(), room.getPet_kind()));
+                newAccomOfRoom.put(room.getRoom_id(), room.getAccom_id());
+            }
+            Map<Integer, AccomStats> newStats = new ConcurrentHashMap<>();
+            ConcurrentSkipListSet<AccomStats> newRanking = new ConcurrentSkipListSet<>(RANKING);
+            for (AccomDTO a : accoms) {
+                AccomStatsDTO r = reviews.get(a.getAccom_id());
+                RoomPrice cheapest = cheapest(newRooms.get(a.getAccom_id()));
+                int count = r == null ? 0 : r.getReview_count();
+                long sum = r == null ? 0 : r.getRating_sum();
+                AccomStats s = new AccomStats(a.getAccom_id(), a.getAccom_name(), a.getAccom_location(), a.getAccom_images_url(),
+                        cheapest == null ? 0 : cheapest.price, cheapest == null ? null : cheapest.pet_kind,
+                        count, sum, r == null ? null : r.getLast_review_at(), score(count, sum));
+                newStats.put(s.getAccom_id(), s);
+                newRanking.add(s);
+            }
+            roomsByAccom = newRooms;
+            accomOfRoom = newAccomOfRoom;
+            stats = newStats;
+            ranking = newRanking;
+            // 읽는 동안 들어온 변경을 새 맵에 다시 적용
+            // (커밋 직후 콜백 전에 읽기가 시작된 리뷰는 두 번 세어질 수 있지만 다음 rebuild 때 맞춰짐)
+            for (Runnable change : journal) {
+                change.run();
+            }
+        }
+        logger.info("숙소 통계 적재 완료 - 숙소 {}개, 리뷰 {}건, 전체 평균 {}", accoms.size(), totalCount, priorMean);
+    }
+
+    // 숙소 등록/수정 (이름, 위치, 이미지만 갱신)
+    public void putAccom(AccomVO vo) {
+        apply(() -> putAccomLocked(vo));
+    }
+
+    private void putAccomLocked(AccomVO vo) {
+        AccomStats old = stats.get(vo.getAccom_id());
+        RoomPrice cheapest = cheapest(roomsByAccom.get(vo.getAccom_id()));
+        AccomStats s = old == null
+                ? new AccomStats(vo.getAccom_id(), vo.getAccom_name(), vo.getAccom_location(), vo.getAccom_images_url(),
+                        cheapest == null ? 0 : cheapest.price, cheapest == null ? null : cheapest.pet_kind,
+                        0, 0, null, score(0, 0))
+                : new AccomStats(vo.getAccom_id(), vo.getAccom_name(), vo.getAccom_location(), vo.getAccom_images_url(),
+                        old.getMin_price(), old.getPet_kind(), old.getReview_count(), old.getRating_sum(),
+                        old.getLast_review_at(), old.getScore());
+        replace(old, s);
+    }
+
+    public void removeAccom(int accom_id) {
+        apply(() -> removeAccomLocked(accom_id));
+    }
+
+    private void removeAccomLocked(int accom_id) {
+        AccomStats old = stats.remove(accom_id);
+        if (old != null) {
+            ranking.remove(old);
+        }
+        Map<Integer, RoomPrice> rooms = roomsByAccom.remove(accom_id);
+        if (rooms != null) {
+            rooms.keySet().forEach(accomOfRoom::remove);
+        }
+    }
+
+    // 객실 등록/수정. 수정 요청에 accom_id 가 없으면 기존 숙소를 유지
+    public void putRoom(int room_id, int accom_id, int room_price, String pet_kind) {
+        apply(() -> putRoomLocked(room_id, accom_id, room_price, pet_kind));
+    }
+
+    private void putRoomLocked(int room_id, int accom_id, int room_price, String pet_kind) {
+        Integer prevAccom = accomOfRoom.get(room_id);
+        int accom = accom_id > 0 ? accom_id : (prevAccom == null ? 0 : prevAccom);
+        if (accom == 0) {
+            return;
+        }
+        if (prevAccom != null && prevAccom != accom) {
+            removeRoomLocked(room_id);
+        }
+        roomsByAccom.computeIfAbsent(accom, k -> new HashMap<>()).put(room_id, new RoomPrice(room_price, pet_kind));
+        accomOfRoom.put(room_id, accom);
+        refreshPrice(accom);
+    }
+
+    public void removeRoom(int room_id) {
+        apply(() -> removeRoomLocked(room_id));
+    }
+
+    // 리뷰 등록 시 해당 숙소만 다시 계산
+    public void addReview(int accom_id, int rating, LocalDateTime created_at) {
+        apply(() -> addReviewLocked(accom_id, rating, created_at));
+    }
+
+    private void addReviewLocked(int accom_id, int rating, LocalDateTime created_at) {
+        AccomStats old = stats.get(accom_id);
+        if (old == null) {
+            return;
+        }
+        int count = old.getReview_count() + 1;
+        long sum = old.getRating_sum() + rating;
+        LocalDateTime last = old.getLast_review_at();
+        if (created_at != null && (last == null || created_at.isAfter(last))) {
+            last = created_at;
+        }
+        replace(old, withReviews(old, count, sum, last));
+    }
+
+    // 리뷰 삭제 (마지막 리뷰 시각은 다음 재적재 때 보정됨)
+    public void removeReview(int accom_id, int rating) {
+        apply(() -> removeReviewLocked(accom_id, rating));
+    }
+
+    private void removeReviewLocked(int accom_id, int rating) {
+        AccomStats old = stats.get(accom_id);
+        if (old == null || old.getReview_count() == 0) {
+            return;
+        }
+        replace(old, withReviews(old, old.getReview_count() - 1, old.getRating_sum() - rating, old.getLast_review_at()));
+    }
+
+    // lock 안에서 바로 적용하고, rebuild 중이면 새 맵에 다시 적용하도록 기록
+    private void apply(Runnable change) {
+        synchronized (lock) {
+            change.run();
+            if (journal != null) {
+                journal.add(change);
+            }
+        }
+    }
+
+    public AccomStats get(int accom_id) {
+        return stats.get(accom_id);
+    }
+
+    // 별점 상위 n개. 정렬된 집합의 앞에서부터 n개만 읽으므로 O(n)
+    public List<AccomStats> top(int n) {
+        List<AccomStats> result = new ArrayList<>(Math.max(0, Math.min(n, stats.size())));
+        Iterator<AccomStats> it = ranking.iterator();
+        while (result.size() < n && it.hasNext()) {
+            result.add(it.next());
+        }
+        return result;
+    }
+
+    // 순위 전체를 앞에서부터 순회 (필터링하면서 필요한 만큼만 꺼낼 때 사용)
+    public Iterable<AccomStats> ranking() {
+        return ranking;
+    }
+
+    // 커서 바로 다음 순위부터 순회. 몇 번째 페이지든 시작 위치는 O(log n)으로 찾는다
+    public Iterable<AccomStats> rankingAfter(String cursor) {
+        AccomStats probe = decodeCursor(cursor);
+        return probe == null ? ranking : ranking.tailSet(probe, false);
+    }
+
+    // 후보 숙소가 정해져 있을 때 (검색어 등): 후보만 정렬해서 커서 다음부터 반환. 전체 순위를 훑지 않음
+    public List<AccomStats> rankingAfter(String cursor, Collection<Integer> accom_ids) {
+        AccomStats probe = decodeCursor(cursor);
+        List<AccomStats> result = new ArrayList<>(accom_ids.size());
+        for (Integer id : accom_ids) {
+            AccomStats s = stats.get(id);
+            if (s != null && (probe == null || RANKING.compare(s, probe) > 0)) {
+                result.add(s);
+            }
+        }
+        result.sort(RANKING);
+        return result;
+    }
+
+    // 커서 = "점수_accom_id" (정렬 키 그대로라서 그 사이에 점수가 바뀌어도 위치를 이어갈 수 있음)
+    public static String cursorOf(AccomStats s) {
+        return s.getScore() + "_" + s.getAccom_id();
+    }
+
+    private static AccomStats decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        int sep = cursor.lastIndexOf('_');
+        try {
+            double score = Double.parseDouble(cursor.substring(0, sep));
+            int accom_id = Integer.parseInt(cursor.substring(sep + 1));
+            return new AccomStats(accom_id, null, null, null, 0, null, 0, 0, null, score);
+        } catch (RuntimeException e) {
+            return null; // 잘못된 커서는 첫 페이지로
+        }
+    }
+
+    public int size() {
+        return stats.size();
+    }
+
+    // 베이지안 평균: 리뷰가 적은 숙소는 전체 평균 쪽으로 당겨진다
+    double score(int count, long sum) {
+        return (priorWeight * priorMean + sum) / (priorWeight + count);
+    }
+
+    private AccomStats withReviews(AccomStats old, int count, long sum, LocalDateTime last) {
+        return new AccomStats(old.getAccom_id(), old.getAccom_name(), old.getAccom_location(), old.getAccom_images_url(),
+                old.getMin_price(), old.getPet_kind(), count, sum, last, score(count, sum));
+    }
+
+    private void removeRoomLocked(int room_id) {
+        Integer accom = accomOfRoom.remove(room_id);
+        if (accom == null) {
+            return;
+        }
+        Map<Integer, RoomPrice> rooms = roomsByAccom.get(accom);
+        if (rooms != null) {
+            rooms.remove(room_id);
+        }
+        refreshPrice(accom);
+    }
+
+    private void refreshPrice(int accom_id) {
+        AccomStats old = stats.get(accom_id);
+        if (old == null) {
+            return;
+        }
+        RoomPrice cheapest = cheapest(roomsByAccom.get(accom_id));
+        // 가격은 정렬 기준이 아니므로 순위 집합은 그대로 두고 스냅샷만 교체해도 되지만 일관성을 위해 같이 교체
+        replace(old, new AccomStats(old.getAccom_id(), old.getAccom_name(), old.getAccom_location(), old.getAccom_images_url(),
+                cheapest == null ? 0 : cheapest.price, cheapest == null ? null : cheapest.pet_kind,
+                old.getReview_count(), old.getRating_sum(), old.getLast_review_at(), old.getScore()));
+    }
+
+    private void replace(AccomStats old, AccomStats s) {
+        if (old != null) {
+            ranking.remove(old);
+        }
+        stats.put(s.getAccom_id(), s);
+        ranking.add(s);
+    }
+
+    private static RoomPrice cheapest(Map<Integer, RoomPrice> rooms) {
+        if (rooms == null) {
+            return null;
+        }
+        RoomPrice min = null;
+        for (RoomPrice p : rooms.values()) {
+            if (min == null || p.price < min.price) {
+                min = p;
+            }
+        }
+        return min;
+    }
+
+    private static final class RoomPrice {
+        final int price;
+        final String pet_kind;
+
+        RoomPrice(int price, String pet_kind) {
+            this.price = price;
+            this.pet_kind = pet_kind;
+        }
+    }
+}
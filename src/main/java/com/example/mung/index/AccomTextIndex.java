@@ -0,0 +1,147 @@
+package com.example.mung.index;
+
+import com.example.mung.domain.AccomDTO;
+import com.example.mung.mapper.AccomMapper;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 숙소 이름 / 위치에 대한 n-gram 역색인
+// LIKE '%지역%' 풀스캔 대신 term 별 accom_id 집합의 교집합으로 후보를 바로 구한다
+@Component
+public class AccomTextIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccomTextIndex.class);
+    private static final char FIELD_SEP = '\u0000'; // 이름과 위치가 이어져서 잘못 매칭되지 않도록
+
+    private final AccomMapper accomMapper;
+
+    // term -> accom_id 집합
+    private volatile Map<String, Set<Integer>> postings = new ConcurrentHashMap<>();
+    // accom_id -> 정규화된 "이름\0위치" (후보 검증 및 수정 시 기존 term 제거용)
+    private volatile Map<Integer, String> docs = new ConcurrentHashMap<>();
+
+    public AccomTextIndex(AccomMapper accomMapper) {
+        this.accomMapper = accomMapper;
+    }
+
+    @PostConstruct
+    public void rebuild() {
+        Map<String, Set<Integer>> newPostings = new ConcurrentHashMap<>();
+        Map<Integer, String> newDocs = new ConcurrentHashMap<>();
+        List<AccomDTO> list = accomMapper.getList();
+        for (AccomDTO a : list) {
+            String doc = doc(a.getAccom_name(), a.getAccom_location());
+            newDocs.put(a.getAccom_id(), doc);
+            for (String term : NGramTokenizer.indexTerms(doc)) {
+                newPostings.computeIfAbsent(term, k -> ConcurrentHashMap.newKeySet()).add(a.getAccom_id());
+            }
+        }
+        synchronized (this) {
+            postings = newPostings;
+            docs = newDocs;
+        }
+        logger.info("숙소 검색 색인 완료 - 숙소 {}개, term {}개", newDocs.size(), newPostings.size());
+    }
+
+    // 숙소 등록/수정 시 호출
+    public synchronized void put(int accom_id, String accom_name, String accom_location) {
+        removeTerms(accom_id);
+        String doc = doc(accom_name, accom_location);
+        docs.put(accom_id, doc);
+        for (String term : NGramTokenizer.indexTerms(doc)) {
+            postings.computeIfAbsent(term, k -> ConcurrentHashMap.newKeySet()).add(accom_id);
+        }
+    }
+
+    public synchronized void remove(int accom_id) {
+        removeTerms(accom_id);
+        docs.remove(accom_id);
+    }
+
+    // 질의의 모든 단어가 이름 또는 위치에 들어있는 숙소 id 집합
+    public Set<Integer> search(String query) {
+        List<String> words = NGramTokenizer.words(NGramTokenizer.normalize(query));
+        if (words.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<Integer> result = null;
+        for (String word : words) {
+            Set<Integer> hits = searchWord(word, result);
+            if (hits.isEmpty()) {
+                return Collections.emptySet();
+            }
+            result = hits;
+        }
+        return result;
+    }
+
+    public int size() {
+        return docs.size();
+    }
+
+    // 단어 하나 검색. within 이 있으면 그 안에서만 찾음
+    private Set<Integer> searchWord(String word, Set<Integer> within) {
+        List<String> terms = NGramTokenizer.queryTerms(word);
+        Map<String, Set<Integer>> p = postings;
+        Set<Integer> smallest = within;
+        for (String term : terms) {
+            Set<Integer> ids = p.get(term);
+            if (ids == null) {
+                return Collections.emptySet();
+            }
+            if (smallest == null || ids.size() < smallest.size()) {
+                smallest = ids;
+            }
+        }
+        Set<Integer> hits = new HashSet<>();
+        Map<Integer, String> d = docs;
+        for (Integer id : smallest) {
+            if (within != null && !within.contains(id)) {
+                continue;
+            }
+            boolean all = true;
+            for (String term : terms) {
+                Set<Integer> ids = p.get(term);
+                if (ids == null || !ids.contains(id)) {
+                    all = false;
+                    break;
+                }
+            }
+            // 2-gram 이 모두 있어도 떨어져 있을 수 있으므로 실제 포함 여부 확인 (LIKE 와 같은 결과)
+            String doc = d.get(id);
+            if (all && doc != null && doc.contains(word)) {
+                hits.add(id);
+            }
+        }
+        return hits;
+    }
+
+    private void removeTerms(int accom_id) {
+        String old = docs.get(accom_id);
+        if (old == null) {
+            return;
+        }
+        for (String term : NGramTokenizer.indexTerms(old)) {
+            Set<Integer> ids = postings.get(term);
+            if (ids != null) {
+                ids.remove(accom_id);
+                if (ids.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private static String doc(String name, String location) {
+        return NGramTokenizer.normalize(name) + FIELD_SEP + NGramTokenizer.normalize(location);
+    }
+}
@@ -0,0 +1,398 @@
+package com.example.mung.index;
+
+import com.example.mung.domain.ReservationVO;
+import com.example.mung.domain.RoomDTO;
+import com.example.mung.mapper.ReservationMapper;
+import com.example.mung.mapper.RoomMapper;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+
+// 객실별 / 날짜(1박)별 남은 객실 수를 메모리에 들고 있는 인덱스
+// 검색할 때마다 RESERVATION 을 조인하지 않고 여기서 바로 가용 여부를 판단한다
+// 예약/취소/객실 변경은 read lock, rebuild 는 write lock 을 잡아서 DB 를 읽는 동안의 변경이 새 달력으로 바꿀 때 사라지지 않음
+// 예약은 hold (아직 커밋 전) -> confirm (커밋) / cancelHold (롤백). rebuild 는 커밋 전 hold 를 새 달력에 다시 반영
+@Component
+public class AvailabilityIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(AvailabilityIndex.class);
+
+    private final RoomMapper roomMapper;
+    private final ReservationMapper reservationMapper;
+
+    // room_id -> 객실 달력
+    private volatile Map<Integer, RoomSlot> rooms = new ConcurrentHashMap<>();
+    // accom_id -> 해당 숙소의 room_id 목록
+    private volatile Map<Integer, Set<Integer>> roomsByAccom = new ConcurrentHashMap<>();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // 커밋 전 예약 (DB 에서 읽은 값에 없을 수 있어서 rebuild 때 다시 반영)
+    private final Set<Hold> holds = ConcurrentHashMap.newKeySet();
+    // rebuild 할 때마다 +1 (취소 커밋 뒤 반영할 때 그 사이 rebuild 가 있었는지 확인)
+    private volatile long generation;
+
+    public AvailabilityIndex(RoomMapper roomMapper, ReservationMapper reservationMapper) {
+        this.roomMapper = roomMapper;
+        this.reservationMapper = reservationMapper;
+    }
+
+    // 기동 시 + 매일 새벽에 DB 기준으로 다시 적재 (지난 날짜 정리 및 어긋난 값 보정)
+    @PostConstruct
+    @Scheduled(cron = "${mung.availability.rebuild-cron:0 0 4 * * *}")
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            generation++;
+            load();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // write lock 안에서 호출
+    private void load() {
+        LocalDate today = LocalDate.now();
+        Map<Integer, RoomSlot> newRooms = new ConcurrentHashMap<>();
+        Map<Integer, Set<Integer>> newByAccom = new ConcurrentHashMap<>();
+
+        for (RoomDTO room : roomMapper.getList()) {
+            RoomSlot slot = new RoomSlot(room.getRoom_id());
+            slot.update(room.getAccom_id(), room.getRoom_amount(), room.getCapacity_standard(), room.getCapacity_max());
+            newRooms.put(room.getRoom_id(), slot);
+            newByAccom.computeIfAbsent(room.getAccom_id(), k -> ConcurrentHashMap.newKeySet()).add(room.getRoom_id());
+        }
+        int count = 0;
+        for (ReservationVO rv : reservationMapper.getListFrom(today)) {
+            RoomSlot slot = newRooms.get(rv.getRoom_id());
+            if (slot != null) {
+                slot.forceBook(Math.max(rv.getRv_start_date().toEpochDay(), today.toEpochDay()), rv.getRv_end_date().toEpochDay());
+                count++;
+            }
+        }
+        // 커밋 전 예약은 DB 에 없을 수 있으므로 다시 반영
+        // (DB 를 읽기 직전에 커밋된 것은 두 번 세어질 수 있지만 남은 객실이 적게 보일 뿐이고 다음 rebuild 때 맞춰짐)
+        for (Hold h : holds) {
+            RoomSlot slot = newRooms.get(h.room_id);
+            if (slot != null) {
+                slot.forceBook(h.from, h.to);
+            }
+        }
+        this.rooms = newRooms;
+        this.roomsByAccom = newByAccom;
+        logger.info("가용 객실 인덱스 적재 완료 - 객실 {}개, 예약 {}건", newRooms.size(), count);
+    }
+
+    // 객실 등록/수정 시 호출 (수량, 인원 정보만 갱신하고 예약 현황은 유지)
+    public void putRoom(RoomDTO room) {
+        putRoom(room.getRoom_id(), room.getAccom_id(), room.getRoom_amount(), room.getCapacity_standard(), room.getCapacity_max());
+    }
+
+    public void putRoom(int room_id, int accom_id, int room_amount, int capacity_standard, int capacity_max) {
+        lock.readLock().lock();
+        try {
+            putRoomLocked(room_id, accom_id, room_amount, capacity_standard, capacity_max);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void putRoomLocked(int room_id, int accom_id, int room_amount, int capacity_standard, int capacity_max) {
+        RoomSlot slot = rooms.computeIfAbsent(room_id, RoomSlot::new);
+        // 수정 요청에는 accom_id 가 빠져 있을 수 있어서 기존 값을 유지
+        int accom = accom_id > 0 ? accom_id : slot.accom_id;
+        if (slot.accom_id > 0 && slot.accom_id != accom) {
+            Set<Integer> old = roomsByAccom.get(slot.accom_id);
+            if (old != null) {
+                old.remove(room_id);
+            }
+        }
+        slot.update(accom, room_amount, capacity_standard, capacity_max);
+        roomsByAccom.computeIfAbsent(accom, k -> ConcurrentHashMap.newKeySet()).add(room_id);
+    }
+
+    public void removeRoom(int room_id) {
+        lock.readLock().lock();
+        try {
+            RoomSlot slot = rooms.remove(room_id);
+            if (slot != null) {
+                Set<Integer> ids = roomsByAccom.get(slot.accom_id);
+                if (ids != null) {
+                    ids.remove(room_id);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 숙소 삭제 시 딸린 객실도 같이 정리
+    public void removeAccom(int accom_id) {
+        lock.readLock().lock();
+        try {
+            Set<Integer> ids = roomsByAccom.remove(accom_id);
+            if (ids != null) {
+                ids.forEach(rooms::remove);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 남은 객실이 있을 때만 차감하고 true 반환 (동시에 들어온 예약끼리도 초과 예약되지 않음)
+    public boolean tryBook(int room_id, LocalDate rv_start, LocalDate rv_end) {
+        lock.readLock().lock();
+        try {
+            RoomSlot slot = slotOf(room_id);
+            return slot != null && slot.tryBook(firstNight(rv_start), lastNight(rv_start, rv_end));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void release(int room_id, LocalDate rv_start, LocalDate rv_end) {
+        lock.readLock().lock();
+        try {
+            releaseLocked(room_id, firstNight(rv_start), lastNight(rv_start, rv_end));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 예약 트랜잭션 안에서 객실을 잡아 둠. 남은 객실이 없으면 null
+    // 커밋되면 confirm, 롤백되면 cancelHold 를 꼭 호출해야 함
+    public Hold hold(int room_id, LocalDate rv_start, LocalDate rv_end) {
+        if (!rv_end.isAfter(rv_start)) {
+            throw new IllegalArgumentException("체크아웃 날짜는 체크인 날짜보다 뒤여야 합니다");
+        }
+        lock.readLock().lock();
+        try {
+            Hold h = new Hold(room_id, firstNight(rv_start), lastNight(rv_start, rv_end));
+            RoomSlot slot = slotOf(room_id);
+            if (slot == null || !slot.tryBook(h.from, h.to)) {
+                return null;
+            }
+            holds.add(h);
+            return h;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 커밋됨: 이제 DB 에 있으므로 rebuild 때 다시 반영할 필요 없음
+    public void confirm(Hold h) {
+        lock.readLock().lock();
+        try {
+            holds.remove(h);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 롤백됨 (또는 저장 실패): 잡았던 객실을 돌려놓음 (rebuild 가 있었어도 새 달력에 다시 반영돼 있음)
+    public void cancelHold(Hold h) {
+        lock.readLock().lock();
+        try {
+            if (holds.remove(h)) {
+                releaseLocked(h.room_id, h.from, h.to);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 취소 트랜잭션 안에서 (커밋 전) 읽어 두는 값
+    public long generation() {
+        return generation;
+    }
+
+    // 취소가 커밋된 뒤 호출. 그 사이 rebuild 가 있었으면 DB 를 읽은 시점이 커밋 전인지 후인지 알 수 없으므로
+    // 돌려놓지 않음 (남은 객실이 적게 보일 뿐, 두 번 돌려놓아 초과 예약되는 것보다 안전. 다음 rebuild 때 맞춰짐)
+    public void releaseCommitted(long generation, int room_id, LocalDate rv_start, LocalDate rv_end) {
+        lock.readLock().lock();
+        try {
+            if (this.generation == generation) {
+                releaseLocked(room_id, firstNight(rv_start), lastNight(rv_start, rv_end));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void releaseLocked(int room_id, long from, long to) {
+        RoomSlot slot = rooms.get(room_id);
+        if (slot != null) {
+            slot.release(from, to);
+        }
+    }
+
+    // 숙박하는 모든 날짜에 남은 객실이 1개 이상인지
+    public boolean isAvailable(int room_id, LocalDate rv_start, LocalDate rv_end) {
+        RoomSlot slot = slotOf(room_id);
+        return slot != null && slot.isFree(firstNight(rv_start), lastNight(rv_start, rv_end));
+    }
+
+    // 인원 수가 맞으면서 숙박 기간 내내 비어있는 객실 목록
+    public List<Integer> availableRoomIds(int accom_id, int capacity, LocalDate rv_start, LocalDate rv_end) {
+        List<Integer> result = new ArrayList<>();
+        Set<Integer> ids = roomsByAccom.get(accom_id);
+        if (ids == null) {
+            return result;
+        }
+        long from = firstNight(rv_start);
+        long to = lastNight(rv_start, rv_end);
+        for (Integer id : ids) {
+            RoomSlot slot = rooms.get(id);
+            if (slot != null && slot.fits(capacity) && slot.isFree(from, to)) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    public boolean hasAvailableRoom(int accom_id, int capacity, LocalDate rv_start, LocalDate rv_end) {
+        return hasAvailableRoom(accom_id, capacity, rv_start, rv_end, room_id -> true);
+    }
+
+    // roomFilter 를 통과한 객실 중에서만 확인 (검색 필터의 반려견/가격 조건에 맞는 객실 등)
+    public boolean hasAvailableRoom(int accom_id, int capacity, LocalDate rv_start, LocalDate rv_end, IntPredicate roomFilter) {
+        Set<Integer> ids = roomsByAccom.get(accom_id);
+        if (ids == null) {
+            return false;
+        }
+        long from = firstNight(rv_start);
+        long to = lastNight(rv_start, rv_end);
+        for (Integer id : ids) {
+            if (!roomFilter.test(id)) {
+                continue;
+            }
+            RoomSlot slot = rooms.get(id);
+            if (slot != null && slot.fits(capacity) && slot.isFree(from, to)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 특정 날짜의 남은 객실 수
+    public int remaining(int room_id, LocalDate night) {
+        RoomSlot slot = rooms.get(room_id);
+        return slot == null ? 0 : slot.remaining(night.toEpochDay());
+    }
+
+    // 다른 경로로 추가된 객실은 처음 조회될 때 DB에서 한 번 읽어온다
+    private RoomSlot slotOf(int room_id) {
+        RoomSlot slot = rooms.get(room_id);
+        if (slot != null || roomMapper == null) {
+            return slot;
+        }
+        RoomDTO room = roomMapper.getOne(room_id);
+        if (room == null) {
+            return null;
+        }
+        LocalDate today = LocalDate.now();
+        RoomSlot loaded = new RoomSlot(room_id);
+        loaded.update(room.getAccom_id(), room.getRoom_amount(), room.getCapacity_standard(), room.getCapacity_max());
+        for (ReservationVO rv : reservationMapper.getListByRoom_id(room_id, today)) {
+            loaded.forceBook(Math.max(rv.getRv_start_date().toEpochDay(), today.toEpochDay()), rv.getRv_end_date().toEpochDay());
+        }
+        RoomSlot prev = rooms.putIfAbsent(room_id, loaded);
+        if (prev == null) {
+            roomsByAccom.computeIfAbsent(room.getAccom_id(), k -> ConcurrentHashMap.newKeySet()).add(room_id);
+            return loaded;
+        }
+        return prev;
+    }
+
+    private static long firstNight(LocalDate rv_start) {
+        return rv_start.toEpochDay();
+    }
+
+    // 체크아웃 날짜는 숙박일이 아님. 같은 날짜가 들어오면 (검색 조건) 1박으로 처리. 예약은 hold 에서 거름
+    private static long lastNight(LocalDate rv_start, LocalDate rv_end) {
+        long end = rv_end == null ? 0 : rv_end.toEpochDay();
+        return Math.max(end, rv_start.toEpochDay() + 1);
+    }
+
+    // 커밋 전 예약 하나 (같은 날짜의 예약이라도 요청마다 다른 객체)
+    public static final class Hold {
+        final int room_id;
+        final long from;
+        final long to;
+
+        Hold(int room_id, long from, long to) {
+            this.room_id = room_id;
+            this.from = from;
+            this.to = to;
+        }
+    }
+
+    // 객실 하나의 달력. 날짜(epochDay) -> 예약된 수
+    static final class RoomSlot {
+        final int room_id;
+        volatile int accom_id;
+        volatile int room_amount;
+        volatile int capacity_standard;
+        volatile int capacity_max;
+        private final Map<Long, Integer> booked = new HashMap<>();
+
+        RoomSlot(int room_id) {
+            this.room_id = room_id;
+        }
+
+        void update(int accom_id, int room_amount, int capacity_standard, int capacity_max) {
+            this.accom_id = accom_id;
+            this.room_amount = room_amount;
+            this.capacity_standard = capacity_standard;
+            this.capacity_max = capacity_max;
+        }
+
+        boolean fits(int capacity) {
+            return capacity_standard <= capacity && capacity <= capacity_max;
+        }
+
+        synchronized int remaining(long night) {
+            return Math.max(0, room_amount - booked.getOrDefault(night, 0));
+        }
+
+        synchronized boolean isFree(long from, long to) {
+            for (long night = from; night < to; night++) {
+                if (room_amount - booked.getOrDefault(night, 0) <= 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        synchronized boolean tryBook(long from, long to) {
+            if (!isFree(from, to)) {
+                return false;
+            }
+            forceBook(from, to);
+            return true;
+        }
+
+        synchronized void forceBook(long from, long to) {
+            for (long night = from; night < to; night++) {
+                booked.merge(night, 1, Integer::sum);
+            }
+        }
+
+        synchronized void release(long from, long to) {
+            for (long night = from; night < to; night++) {
+                booked.computeIfPresent(night, (k, v) -> v > 1 ? v - 1 : null);
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.mung.index;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 문자열 Bloom filter. 넣은 값은 항상 true, 넣지 않은 값은 대략 fpp 확률로만 true (잘못된 false 는 없음)
+// 비트 배열은 AtomicLongArray 라서 put / mightContain 을 lock 없이 여러 스레드에서 호출 가능
+// 해시는 64bit 해시 하나에서 두 값을 만들어 h1 + i * h2 로 k 개의 위치를 정함 (Kirsch-Mitzenmacher)
+final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private final long capacity;
+    private final AtomicLong inserted = new AtomicLong();
+
+    // capacity 개를 넣었을 때 오탐률이 fpp 가 되도록 비트 수 m = -n ln p / (ln 2)^2, 해시 수 k = m / n ln 2
+    BloomFilter(long capacity, double fpp) {
+        long n = Math.max(1, capacity);
+        long m = (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (m + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+        this.capacity = n;
+    }
+
+    void put(String value) {
+        long h1 = hash(value);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitCount);
+            long mask = 1L << index;
+            bits.getAndAccumulate((int) (index >>> 6), mask, (a, b) -> a | b);
+        }
+        inserted.incrementAndGet();
+    }
+
+    boolean mightContain(String value) {
+        long h1 = hash(value);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 넣은 횟수 (같은 값을 두 번 넣으면 두 번). capacity 를 넘으면 오탐률이 fpp 보다 커짐
+    long inserted() {
+        return inserted.get();
+    }
+
+    long capacity() {
+        return capacity;
+    }
+
+    long bitCount() {
+        return bitCount;
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    // UTF-8 바이트의 FNV-1a 를 한 번 더 섞음 (String.hashCode 는 32bit 라 비트 수가 많으면 위치가 고르게 퍼지지 않음)
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    // MurmurHash3 fmix64
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,341 @@
+package com.example.mung.index;
+
+import com.example.mung.domain.AccomDTO;
+import com.example.mung.domain.AccomFilter;
+import com.example.mung.domain.CommaList;
+import com.example.mung.domain.RoomDTO;
+import com.example.mung.mapper.AccomMapper;
+import com.example.mung.mapper.RoomMapper;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 검색 필터(반려견 크기, 가격대, 인원, 편의시설)용 비트셋 인덱스
+// 값마다 해당하는 객실(room_id) 또는 숙소(accom_id) 비트셋을 들고 있고, 필터는 비트셋 AND 로 처리한다
+// 객실 조건(반려견/가격/인원)은 같은 객실이 모두 만족해야 하므로 객실 비트셋끼리 먼저 AND 한 뒤 숙소로 올린다
+@Component
+public class FacetIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(FacetIndex.class);
+
+    public static final String PET_KIND = "pet_kind";
+    public static final String PRICE = "price";
+    public static final String AMENITY = "amenity";
+
+    private static final int MAX_CAPACITY = 30; // 인원 비트셋을 만들 최대 인원 (잘못 입력된 최대 인원 방어)
+
+    private final AccomMapper accomMapper;
+    private final RoomMapper roomMapper;
+    private final int[] priceBounds; // 가격대 경계 (오름차순)
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // 아래는 모두 lock 으로 보호
+    private final Map<Integer, RoomFacet> rooms = new HashMap<>();            // room_id -> 색인된 값 (삭제/수정용)
+    private final BitSet allRooms = new BitSet();
+    private final Map<String, BitSet> roomsByPet = new TreeMap<>();
+    private final Map<String, BitSet> roomsByPrice = new LinkedHashMap<>();
+    private final Map<Integer, BitSet> roomsByCapacity = new HashMap<>();
+    private final Map<Integer, Set<String>> amenitiesOf = new HashMap<>();     // accom_id -> 편의시설 (삭제/수정용)
+    private final BitSet allAccoms = new BitSet();
+    private final Map<String, BitSet> accomsByAmenity = new TreeMap<>();
+
+    public FacetIndex(AccomMapper accomMapper, RoomMapper roomMapper,
+                      @Value("${mung.facet.price-bands:50000,100000,200000}") int[] priceBounds) {
+        this.accomMapper = accomMapper;
+        this.roomMapper = roomMapper;
+        if (priceBounds.length == 0) {
+            throw new IllegalArgumentException("mung.facet.price-bands 가 비어 있음");
+        }
+        this.priceBounds = priceBounds.clone();
+        for (int band = 0; band <= priceBounds.length; band++) {
+            roomsByPrice.put(bandLabel(band), new BitSet());
+        }
+    }
+
+    @PostConstruct
+    public void rebuild() {
+        List<AccomDTO> accoms = accomMapper.getList();
+        List<RoomDTO> roomList = roomMapper.getList();
+        lock.writeLock().lock();
+        try {
+            rooms.clear();
+            allRooms.clear();
+            roomsByPet.clear();
+            roomsByPrice.values().forEach(BitSet::clear);
+            roomsByCapacity.clear();
+            amenitiesOf.clear();
+            allAccoms.clear();
+            accomsByAmenity.clear();
+            for (AccomDTO a : accoms) {
+                addAccom(a.getAccom_id(), a.getAccom_amenities());
+            }
+            for (RoomDTO r : roomList) {
+                addRoom(new RoomFacet(r.getRoom_id(), r.getAccom_id(), r.getPet_kind(), priceLabel(r.getRoom_price()),
+                        r.getCapacity_standard(), r.getCapacity_max()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("검색 필터 색인 완료 - 숙소 {}개, 객실 {}개", accoms.size(), roomList.size());
+    }
+
+    // 숙소 등록/수정 시 호출
+    public void putAccom(int accom_id, String accom_amenities) {
+        lock.writeLock().lock();
+        try {
+            removeAccomBits(accom_id);
+            addAccom(accom_id, accom_amenities);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 숙소 삭제 시 딸린 객실도 같이 정리
+    public void removeAccom(int accom_id) {
+        lock.writeLock().lock();
+        try {
+            removeAccomBits(accom_id);
+            rooms.values().removeIf(room -> {
+                if (room.accom_id == accom_id) {
+                    removeRoomBits(room);
+                    return true;
+                }
+                return false;
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 객실 등록/수정 시 호출. 수정 요청에는 accom_id 가 빠져 있을 수 있어서 기존 값을 유지
+    public void putRoom(int room_id, int accom_id, String pet_kind, int room_price, int capacity_standard, int capacity_max) {
+        lock.writeLock().lock();
+        try {
+            RoomFacet old = rooms.remove(room_id);
+            if (old != null) {
+                removeRoomBits(old);
+            }
+            int accom = accom_id > 0 ? accom_id : (old != null ? old.accom_id : 0);
+            addRoom(new RoomFacet(room_id, accom, pet_kind, priceLabel(room_price), capacity_standard, capacity_max));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeRoom(int room_id) {
+        lock.writeLock().lock();
+        try {
+            RoomFacet old = rooms.remove(room_id);
+            if (old != null) {
+                removeRoomBits(old);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // candidates: 검색어로 걸러진 숙소 (null 이면 전체), capacity: 인원 (0 이하면 조건 없음)
+    // 결과 숙소/객실과 함께, 현재 조건에서 각 필터 값을 골랐을 때의 숙소 수를 돌려준다
+    // (반려견/가격대는 자기 자신의 선택을 뺀 나머지 조건 기준, 편의시설은 현재 결과 기준)
+    public FacetResult filter(Set<Integer> candidates, int capacity, AccomFilter filter) {
+        String pet = filter == null ? null : blankToNull(filter.getPet_kind());
+        String price = filter == null ? null : blankToNull(filter.getPrice_band());
+        List<String> amenities = filter == null ? null : filter.getAmenities();
+
+        lock.readLock().lock();
+        try {
+            // 숙소 단위 조건: 검색어 후보 AND 선택한 편의시설 전부
+            BitSet accomBase = (BitSet) allAccoms.clone();
+            if (candidates != null) {
+                accomBase.and(toBits(candidates));
+            }
+            if (amenities != null) {
+                for (String amenity : amenities) {
+                    if (amenity == null || amenity.isBlank()) {
+                        continue;
+                    }
+                    accomBase.and(bitsOf(accomsByAmenity, amenity.trim()));
+                }
+            }
+            // 객실 단위 조건: 인원 AND 반려견 AND 가격대
+            BitSet roomBase = capacity > 0 ? (BitSet) bitsOf(roomsByCapacity, capacity).clone() : (BitSet) allRooms.clone();
+            BitSet roomsPetOnly = (BitSet) roomBase.clone();
+            BitSet roomsPriceOnly = (BitSet) roomBase.clone();
+            if (pet != null) {
+                roomsPetOnly.and(bitsOf(roomsByPet, pet));
+            }
+            if (price != null) {
+                roomsPriceOnly.and(bitsOf(roomsByPrice, price));
+            }
+            BitSet roomSel = (BitSet) roomsPetOnly.clone();
+            roomSel.and(roomsPriceOnly);
+
+            BitSet accomSel = accomsOf(roomSel);
+            accomSel.and(accomBase);
+
+            Map<String, Map<String, Integer>> counts = new LinkedHashMap<>();
+            counts.put(PET_KIND, countRooms(roomsByPet, roomsPriceOnly, accomBase));
+            counts.put(PRICE, countRooms(roomsByPrice, roomsPetOnly, accomBase));
+            Map<String, Integer> amenityCounts = new LinkedHashMap<>();
+            for (Map.Entry<String, BitSet> e : accomsByAmenity.entrySet()) {
+                BitSet b = (BitSet) accomSel.clone();
+                b.and(e.getValue());
+                amenityCounts.put(e.getKey(), b.cardinality());
+            }
+            counts.put(AMENITY, amenityCounts);
+            return new FacetResult(accomSel, roomSel, counts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 가격대 이름 (~50000, 50000~100000, ..., 200000~)
+    public String priceLabel(int room_price) {
+        int band = 0;
+        while (band < priceBounds.length && room_price >= priceBounds[band]) {
+            band++;
+        }
+        return bandLabel(band);
+    }
+
+    private String bandLabel(int band) {
+        if (band == 0) {
+            return "~" + priceBounds[0];
+        }
+        if (band == priceBounds.length) {
+            return priceBounds[band - 1] + "~";
+        }
+        return priceBounds[band - 1] + "~" + priceBounds[band];
+    }
+
+    // 값마다 (조건에 맞는 객실 AND 그 값의 객실) 을 숙소로 올려서 센다
+    private Map<String, Integer> countRooms(Map<String, BitSet> byValue, BitSet roomFilter, BitSet accomBase) {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        for (Map.Entry<String, BitSet> e : byValue.entrySet()) {
+            BitSet r = (BitSet) roomFilter.clone();
+            r.and(e.getValue());
+            BitSet a = accomsOf(r);
+            a.and(accomBase);
+            result.put(e.getKey(), a.cardinality());
+        }
+        return result;
+    }
+
+    private BitSet accomsOf(BitSet roomBits) {
+        BitSet result = new BitSet();
+        for (int id = roomBits.nextSetBit(0); id >= 0; id = roomBits.nextSetBit(id + 1)) {
+            RoomFacet room = rooms.get(id);
+            if (room != null) {
+                result.set(room.accom_id);
+            }
+        }
+        return result;
+    }
+
+    private void addAccom(int accom_id, String accom_amenities) {
+        Set<String> amenities = splitAmenities(accom_amenities);
+        amenitiesOf.put(accom_id, amenities);
+        allAccoms.set(accom_id);
+        for (String amenity : amenities) {
+            accomsByAmenity.computeIfAbsent(amenity, k -> new BitSet()).set(accom_id);
+        }
+    }
+
+    private void removeAccomBits(int accom_id) {
+        Set<String> old = amenitiesOf.remove(accom_id);
+        if (old != null) {
+            for (String amenity : old) {
+                clearBit(accomsByAmenity, amenity, accom_id);
+            }
+        }
+        allAccoms.clear(accom_id);
+    }
+
+    private void addRoom(RoomFacet room) {
+        rooms.put(room.room_id, room);
+        allRooms.set(room.room_id);
+        if (room.pet_kind != null) {
+            roomsByPet.computeIfAbsent(room.pet_kind, k -> new BitSet()).set(room.room_id);
+        }
+        roomsByPrice.get(room.price_band).set(room.room_id);
+        for (int n = Math.max(1, room.capacity_standard); n <= Math.min(room.capacity_max, MAX_CAPACITY); n++) {
+            roomsByCapacity.computeIfAbsent(n, k -> new BitSet()).set(room.room_id);
+        }
+    }
+
+    private void removeRoomBits(RoomFacet room) {
+        allRooms.clear(room.room_id);
+        if (room.pet_kind != null) {
+            clearBit(roomsByPet, room.pet_kind, room.room_id);
+        }
+        roomsByPrice.get(room.price_band).clear(room.room_id);
+        for (int n = Math.max(1, room.capacity_standard); n <= Math.min(room.capacity_max, MAX_CAPACITY); n++) {
+            clearBit(roomsByCapacity, n, room.room_id);
+        }
+    }
+
+    // 비트를 지우고 빈 값은 목록(집계 대상)에서도 뺀다
+    private static <K> void clearBit(Map<K, BitSet> byValue, K key, int id) {
+        BitSet bits = byValue.get(key);
+        if (bits != null) {
+            bits.clear(id);
+            if (bits.isEmpty()) {
+                byValue.remove(key);
+            }
+        }
+    }
+
+    private static <K> BitSet bitsOf(Map<K, BitSet> byValue, K key) {
+        BitSet bits = byValue.get(key);
+        return bits == null ? new BitSet() : bits;
+    }
+
+    private static BitSet toBits(Set<Integer> ids) {
+        BitSet bits = new BitSet();
+        for (Integer id : ids) {
+            bits.set(id);
+        }
+        return bits;
+    }
+
+    // "주차장,WI-FI, 스파" -> [주차장, WI-FI, 스파]
+    static Set<String> splitAmenities(String accom_amenities) {
+        return new LinkedHashSet<>(CommaList.split(accom_amenities));
+    }
+
+    private static String blankToNull(String s) {
+        return s == null || s.isBlank() ? null : s.trim();
+    }
+
+    // 색인된 객실 한 건
+    private static final class RoomFacet {
+        final int room_id;
+        final int accom_id;
+        final String pet_kind;
+        final String price_band;
+        final int capacity_standard;
+        final int capacity_max;
+
+        RoomFacet(int room_id, int accom_id, String pet_kind, String price_band, int capacity_standard, int capacity_max) {
+            this.room_id = room_id;
+            this.accom_id = accom_id;
+            this.pet_kind = pet_kind;
+            this.price_band = price_band;
+            this.capacity_standard = capacity_standard;
+            this.capacity_max = capacity_max;
+        }
+    }
+}
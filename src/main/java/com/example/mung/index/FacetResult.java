@@ -0,0 +1,46 @@
+package com.example.mung.index;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+// 필터 적용 결과: 조건에 맞는 숙소/객실 비트셋 + 필터 값별 숙소 수
+public final class FacetResult {
+
+    private final BitSet accoms;
+    private final BitSet rooms; // 객실 조건까지 맞는 객실 (가용 객실 확인 시 이 객실만 봄)
+    private final Map<String, Map<String, Integer>> counts;
+
+    FacetResult(BitSet accoms, BitSet rooms, Map<String, Map<String, Integer>> counts) {
+        this.accoms = accoms;
+        this.rooms = rooms;
+        this.counts = Collections.unmodifiableMap(counts);
+    }
+
+    public boolean containsAccom(int accom_id) {
+        return accom_id >= 0 && accoms.get(accom_id);
+    }
+
+    public boolean containsRoom(int room_id) {
+        return room_id >= 0 && rooms.get(room_id);
+    }
+
+    public int size() {
+        return accoms.cardinality();
+    }
+
+    public List<Integer> accomIds() {
+        List<Integer> ids = new ArrayList<>(accoms.cardinality());
+        for (int id = accoms.nextSetBit(0); id >= 0; id = accoms.nextSetBit(id + 1)) {
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    // 필터 이름(pet_kind, price, amenity) -> 값 -> 숙소 수
+    public Map<String, Map<String, Integer>> getCounts() {
+        return counts;
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.mung.index;
+
+import com.example.mung.mapper.LoginMapper;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// 로그인 아이디 중복 확인
+// 전체 아이디를 Bloom filter 에 넣어 두고, filter 가 없다고 하면 DB 를 보지 않고 바로 "사용 가능" (대부분의 새 아이디)
+// filter 가 있다고 하면 (실제로 있거나 오탐) DB 로 확인하고, 있는 아이디만 작은 LRU 캐시에 둠
+// 가입하면 바로 filter 에 추가. 탈퇴한 아이디는 filter 에서 뺄 수 없으므로 매일 새로 만들어서 교체 (그 사이에는 DB 확인으로 맞는 답)
+// 서버가 여러 대면 다른 서버의 가입은 이 filter 에 없으므로, filter 가 없다고 할 때는 max(user_id) 를 filter 에 담긴
+// 회원 번호(watermark) 와 비교해서 새 회원이 있으면 그만큼 먼저 읽어 넣은 뒤 답함 (PK 끝만 읽는 쿼리 한 번)
+// 이 비교는 checkMillis 에 한 번만 하고 (없는 아이디마다 DB 를 보지 않도록), 그 사이 다른 서버에서 가입한 아이디는
+// "사용 가능" 으로 답할 수 있음. 이 경우 실제 가입은 user_loginId 의 unique key 가 막음
+@Component
+public class LoginIdIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoginIdIndex.class);
+    private static final int PAGE = 5000; // 다시 만들 때 한 번에 읽을 아이디 수
+    // 따라잡을 때 watermark 보다 조금 앞부터 다시 읽음 (번호는 먼저 받고 늦게 커밋된 가입)
+    private static final long OVERLAP = 100;
+
+    private final LoginMapper loginMapper;
+    private final long expected;
+    private final double fpp;
+    private final int cacheSize;
+    private final long checkMillis;
+
+    private volatile BloomFilter filter;
+    private BloomFilter building; // 다시 만드는 중인 filter (lock 은 this). 그동안 가입한 아이디도 같이 넣음
+    // 이 번호까지의 회원 아이디는 모두 filter 에 있음 (lock 은 this)
+    private volatile long watermark;
+    // 마지막으로 max(user_id) 를 확인한 시각
+    private volatile long checkedAt;
+
+    // 소문자 아이디 -> DB 에 있음 (filter 가 있다고 한 것 중 실제로 있는 것만. 없다는 결과는 다른 서버의 가입으로 바뀔 수 있어서 두지 않음)
+    private final Map<String, Boolean> confirmed;
+
+    public LoginIdIndex(LoginMapper loginMapper,
+                        @Value("${mung.login.id-filter-expected:100000}") long expected,
+                        @Value("${mung.login.id-filter-fpp:0.01}") double fpp,
+                        @Value("${mung.login.id-cache-size:1000}") int cacheSize,
+                        @Value("${mung.login.id-watermark-check-ms:1000}") long checkMillis) {
+        this.loginMapper = loginMapper;
+        this.expected = expected;
+        this.fpp = fpp;
+        this.cacheSize = cacheSize;
+        this.checkMillis = checkMillis;
+        this.filter = new BloomFilter(expected, fpp);
+        this.confirmed = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > LoginIdIndex.this.cacheSize;
+            }
+        };
+    }
+
+    // 아이디 수의 두 배 (최소 expected) 로 크기를 잡아서 다음 재생성까지 가입이 늘어도 오탐률이 fpp 근처로 유지되게 함
+    @PostConstruct
+    @Scheduled(cron = "${mung.login.id-filter-rebuild-cron:0 20 4 * * *}")
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        BloomFilter next = new BloomFilter(Math.max(expected, 2L * loginMapper.countLoginIds()), fpp);
+        long upto = loginMapper.maxUserId(); // 읽기 전에 정함 (읽는 중에 가입한 아이디는 다음 따라잡기에서)
+        synchronized (this) {
+            building = next;
+        }
+        // 아이디 순서로 나눠 읽음 (한 번에 전체 목록을 메모리에 올리지 않음)
+        String after = "";
+        int total = 0;
+        List<String> page;
+        do {
+            page = loginMapper.getLoginIdsAfter(after, PAGE);
+            for (String id : page) {
+                next.put(key(id));
+                after = id;
+            }
+            total += page.size();
+        } while (page.size() == PAGE);
+        synchronized (this) {
+            filter = next;
+            building = null;
+            watermark = upto;
+        }
+        synchronized (confirmed) {
+            confirmed.clear(); // 탈퇴 등으로 바뀐 결과가 남지 않도록
+        }
+        logger.info("로그인 아이디 filter 생성 - 아이디 {}개, {}KB, 해시 {}개, {}ms", total, next.bitCount() / 8 / 1024,
+                next.hashCount(), System.currentTimeMillis() - start);
+    }
+
+    public boolean exists(String user_loginId) {
+        return exists(user_loginId, System.currentTimeMillis());
+    }
+
+    boolean exists(String user_loginId, long now) {
+        if (user_loginId == null || user_loginId.isBlank()) {
+            return false;
+        }
+        String key = key(user_loginId);
+        if (!filter.mightContain(key)) {
+            if (now - checkedAt < checkMillis) {
+                return false; // 최근에 확인함
+            }
+            checkedAt = now;
+            long max = loginMapper.maxUserId();
+            if (max <= watermark) {
+                return false; // 모든 서버의 가입이 filter 에 있음
+            }
+            catchUp(max);
+            if (!filter.mightContain(key)) {
+                return false;
+            }
+        }
+        synchronized (confirmed) {
+            if (confirmed.containsKey(key)) {
+                return true;
+            }
+        }
+        boolean found = loginMapper.loginByIdCheck(user_loginId.strip());
+        if (found) {
+            synchronized (confirmed) {
+                confirmed.put(key, true);
+            }
+        }
+        return found;
+    }
+
+    // watermark 이후 (다른 서버 포함) 가입한 아이디를 filter 에 넣고 watermark 를 올림
+    private synchronized void catchUp(long upto) {
+        if (upto <= watermark) {
+            return; // 다른 요청이 이미 따라잡음
+        }
+        List<String> ids = loginMapper.getLoginIdsBetween(Math.max(0, watermark - OVERLAP), upto);
+        for (String id : ids) {
+            filter.put(key(id));
+            if (building != null) {
+                building.put(key(id));
+            }
+        }
+        watermark = upto;
+        logger.debug("로그인 아이디 filter 따라잡기 - {}개, watermark {}", ids.size(), upto);
+    }
+
+    // 가입 직후 (이 서버의 가입은 다음 따라잡기를 기다리지 않고 바로 반영)
+    public void add(String user_loginId) {
+        if (user_loginId == null || user_loginId.isBlank()) {
+            return;
+        }
+        String key = key(user_loginId);
+        synchronized (this) {
+            filter.put(key);
+            if (building != null) {
+                building.put(key);
+            }
+        }
+        synchronized (confirmed) {
+            confirmed.remove(key);
+        }
+        if (filter.inserted() > filter.capacity()) {
+            logger.warn("로그인 아이디 filter 가 예상 크기({})를 넘음 - 다음 재생성까지 DB 확인이 늘어남", filter.capacity());
+        }
+    }
+
+    // MySQL 기본 collation 은 대소문자와 뒤쪽 공백을 구분하지 않으므로 filter 도 같은 기준으로 넣고 찾음
+    // (구분하는 쪽으로 두면 "Mung" 가입 후 "mung" 을 없다고 답하게 됨)
+    private static String key(String user_loginId) {
+        return user_loginId.strip().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.mung.index;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+// 한글 검색용 n-gram 토크나이저
+// 한글은 띄어쓰기/조사 때문에 형태소 단위로 맞추기 어려워서 음절 2-gram 으로 색인한다
+// ("강원도 속초시" -> 강원, 원도, 속초, 초시 + 1글자 검색용 강, 원, 도, 속, 초, 시)
+public final class NGramTokenizer {
+
+    private NGramTokenizer() {
+    }
+
+    // NFKC 정규화 + 소문자 (전각 문자, 호환 자모 등을 일반 형태로 맞춤)
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    // 글자/숫자가 아닌 문자(공백, 문장부호)를 기준으로 단어 분리. 입력은 normalize 된 문자열
+    public static List<String> words(String normalized) {
+        List<String> words = new ArrayList<>();
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < normalized.length(); ) {
+            int cp = normalized.codePointAt(i);
+            if (Character.isLetterOrDigit(cp)) {
+                sb.appendCodePoint(cp);
+            } else if (sb.length() > 0) {
+                words.add(sb.toString());
+                sb.setLength(0);
+            }
+            i += Character.charCount(cp);
+        }
+        if (sb.length() > 0) {
+            words.add(sb.toString());
+        }
+        return words;
+    }
+
+    // 색인용 term: 단어의 모든 1글자 + 2글자
+    public static Set<String> indexTerms(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String word : words(normalize(text))) {
+            int[] cps = word.codePoints().toArray();
+            for (int i = 0; i < cps.length; i++) {
+                terms.add(new String(cps, i, 1));
+                if (i + 1 < cps.length) {
+                    terms.add(new String(cps, i, 2));
+                }
+            }
+        }
+        return terms;
+    }
+
+    // 순위 계산용 term: indexTerms 와 같지만 중복을 남겨서 term 빈도를 셀 수 있게 함
+    public static List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : words(normalize(text))) {
+            int[] cps = word.codePoints().toArray();
+            for (int i = 0; i < cps.length; i++) {
+                tokens.add(new String(cps, i, 1));
+                if (i + 1 < cps.length) {
+                    tokens.add(new String(cps, i, 2));
+                }
+            }
+        }
+        return tokens;
+    }
+
+    // 질의 단어 하나를 검색할 때 교집합을 구할 term 목록 (1글자면 그대로, 아니면 2-gram 들)
+    public static List<String> queryTerms(String word) {
+        int[] cps = word.codePoints().toArray();
+        List<String> terms = new ArrayList<>();
+        if (cps.length == 1) {
+            terms.add(word);
+            return terms;
+        }
+        for (int i = 0; i + 1 < cps.length; i++) {
+            terms.add(new String(cps, i, 2));
+        }
+        return terms;
+    }
+}
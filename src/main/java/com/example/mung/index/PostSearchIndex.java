@@ -0,0 +1,263 @@
+package com.example.mung.index;
+
+import com.example.mung.domain.PostDTO;
+import com.example.mung.domain.PostSummary;
+import com.example.mung.mapper.PostMapper;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 게시글 제목/본문 전문 검색 색인 (BM25 순위)
+// 한글은 음절 1-gram + 2-gram 으로 색인하고 (NGramTokenizer), 필드별로 BM25 점수를 구해 가중치를 곱해 더한다
+// 질의의 모든 term 이 선택한 필드 중 어딘가에 있는 글만 결과에 넣는다 (LIKE 검색과 비슷한 결과, 순서만 다름)
+@Component
+public class PostSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostSearchIndex.class);
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    public enum Field {
+        TITLE(2.0), CONTENT(1.0); // 제목에서 찾은 쪽이 더 관련 있다고 봄
+
+        private final double weight;
+
+        Field(double weight) {
+            this.weight = weight;
+        }
+    }
+
+    private final PostMapper postMapper;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // 필드별 색인, lock 으로 보호
+    private final Map<Field, FieldIndex> fields = new HashMap<>();
+
+    public PostSearchIndex(PostMapper postMapper) {
+        this.postMapper = postMapper;
+        for (Field f : Field.values()) {
+            fields.put(f, new FieldIndex());
+        }
+    }
+
+    @PostConstruct
+    public void rebuild() {
+        List<PostDTO> posts = postMapper.getList();
+        lock.writeLock().lock();
+        try {
+            for (FieldIndex fi : fields.values()) {
+                fi.clear();
+            }
+            for (PostDTO post : posts) {
+                putLocked(post.getPost_id(), post.getTitle(), post.getContent());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("게시글 검색 색인 완료 - 게시글 {}개, term {}개", posts.size(), fields.get(Field.CONTENT).postings.size());
+    }
+
+    // 게시글 작성/수정 시 호출
+    public void put(int post_id, String title, String content) {
+        lock.writeLock().lock();
+        try {
+            putLocked(post_id, title, content);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int post_id) {
+        lock.writeLock().lock();
+        try {
+            for (FieldIndex fi : fields.values()) {
+                fi.remove(post_id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 점수 높은 순서의 post_id 전체 (페이징은 호출하는 쪽에서)
+    public List<Integer> search(String query, Set<Field> searchFields) {
+        List<String> terms = queryTerms(query);
+        if (terms.isEmpty() || searchFields.isEmpty()) {
+            return Collections.emptyList();
+        }
+        lock.readLock().lock();
+        try {
+            Set<Integer> candidates = candidates(terms, searchFields);
+            if (candidates.isEmpty()) {
+                return Collections.emptyList();
+            }
+            Map<Integer, Double> scores = new HashMap<>();
+            for (Field f : searchFields) {
+                fields.get(f).score(terms, candidates, f.weight, scores);
+            }
+            List<Integer> ranked = new ArrayList<>(candidates);
+            // 점수가 같으면 최신 글(큰 id) 먼저
+            ranked.sort((a, b) -> {
+                int c = Double.compare(scores.getOrDefault(b, 0.0), scores.getOrDefault(a, 0.0));
+                return c != 0 ? c : Integer.compare(b, a);
+            });
+            return ranked;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return fields.get(Field.TITLE).docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void putLocked(int post_id, String title, String content) {
+        fields.get(Field.TITLE).put(post_id, NGramTokenizer.tokens(title));
+        fields.get(Field.CONTENT).put(post_id, NGramTokenizer.tokens(PostSummary.plainText(content)));
+    }
+
+    // 모든 term 이 선택한 필드 중 하나에는 있는 글. 가장 적게 나오는 term 에서 시작해서 줄여 나감
+    private Set<Integer> candidates(List<String> terms, Set<Field> searchFields) {
+        Set<Integer> result = null;
+        List<String> byRarity = new ArrayList<>(terms);
+        byRarity.sort((a, b) -> Integer.compare(docFreq(a, searchFields), docFreq(b, searchFields)));
+        for (String term : byRarity) {
+            Set<Integer> next = new LinkedHashSet<>();
+            for (Field f : searchFields) {
+                Map<Integer, Integer> posting = fields.get(f).postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                if (result == null) {
+                    next.addAll(posting.keySet());
+                } else {
+                    for (Integer id : result) {
+                        if (posting.containsKey(id)) {
+                            next.add(id);
+                        }
+                    }
+                }
+            }
+            if (next.isEmpty()) {
+                return Collections.emptySet();
+            }
+            result = next;
+        }
+        return result;
+    }
+
+    private int docFreq(String term, Set<Field> searchFields) {
+        int df = 0;
+        for (Field f : searchFields) {
+            Map<Integer, Integer> posting = fields.get(f).postings.get(term);
+            df += posting == null ? 0 : posting.size();
+        }
+        return df;
+    }
+
+    // 질의 단어별 term (2글자 이상이면 2-gram, 1글자면 그대로). 같은 term 은 한 번만
+    private static List<String> queryTerms(String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String word : NGramTokenizer.words(NGramTokenizer.normalize(query))) {
+            terms.addAll(NGramTokenizer.queryTerms(word));
+        }
+        return new ArrayList<>(terms);
+    }
+
+    public static Set<Field> allFields() {
+        return EnumSet.allOf(Field.class);
+    }
+
+    // 필드 하나의 역색인: term -> (post_id -> 빈도)
+    private static final class FieldIndex {
+        private final Map<String, Map<Integer, Integer>> postings = new HashMap<>();
+        private final Map<Integer, Doc> docs = new HashMap<>(); // 삭제/수정 및 문서 길이용
+        private long totalLength;
+
+        void put(int post_id, List<String> tokens) {
+            remove(post_id);
+            Map<String, Integer> tf = new HashMap<>();
+            for (String t : tokens) {
+                tf.merge(t, 1, Integer::sum);
+            }
+            for (Map.Entry<String, Integer> e : tf.entrySet()) {
+                postings.computeIfAbsent(e.getKey(), k -> new HashMap<>()).put(post_id, e.getValue());
+            }
+            docs.put(post_id, new Doc(tf.keySet().toArray(new String[0]), tokens.size()));
+            totalLength += tokens.size();
+        }
+
+        void remove(int post_id) {
+            Doc old = docs.remove(post_id);
+            if (old == null) {
+                return;
+            }
+            totalLength -= old.length;
+            for (String t : old.terms) {
+                Map<Integer, Integer> posting = postings.get(t);
+                if (posting != null) {
+                    posting.remove(post_id);
+                    if (posting.isEmpty()) {
+                        postings.remove(t);
+                    }
+                }
+            }
+        }
+
+        void clear() {
+            postings.clear();
+            docs.clear();
+            totalLength = 0;
+        }
+
+        void score(List<String> terms, Set<Integer> candidates, double weight, Map<Integer, Double> scores) {
+            int n = docs.size();
+            if (n == 0) {
+                return;
+            }
+            double avgLength = Math.max(1.0, (double) totalLength / n);
+            for (String term : terms) {
+                Map<Integer, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (n - posting.size() + 0.5) / (posting.size() + 0.5));
+                for (Integer id : candidates) {
+                    Integer tf = posting.get(id);
+                    if (tf == null) {
+                        continue;
+                    }
+                    double norm = K1 * (1 - B + B * docs.get(id).length / avgLength);
+                    scores.merge(id, weight * idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+                }
+            }
+        }
+    }
+
+    private static final class Doc {
+        private final String[] terms;
+        private final int length;
+
+        Doc(String[] terms, int length) {
+            this.terms = terms;
+            this.length = length;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.mung.index;
+
+import com.example.mung.domain.PostSummary;
+import com.example.mung.domain.Suggestion;
+import com.example.mung.mapper.PostMapper;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 검색창 자동완성 (게시글 제목 / 숙소 이름 + 지역)
+// 입력할 때마다 오는 요청이 DB 에 가지 않도록, 메모리의 SuggestTrie 만 보고 답한다
+// trie 는 주기적으로 새로 만들어서 통째로 교체 (글/숙소가 추가돼도 refresh 주기 안에 반영)
+@Component
+public class SuggestIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(SuggestIndex.class);
+    private static final int TOP_K = 10; // 노드마다 들고 있을 추천 수 (응답 최대 개수)
+    private static final int REGION_WORDS = 2; // "강원도", "강원도 속초시" 까지
+
+    private final PostMapper postMapper;
+    private final AccomStatsStore accomStatsStore;
+    private final long budgetBytes; // post / accom trie 각각의 메모리 예산
+
+    private volatile SuggestTrie posts = SuggestTrie.EMPTY;
+    private volatile SuggestTrie accoms = SuggestTrie.EMPTY;
+
+    public SuggestIndex(PostMapper postMapper, AccomStatsStore accomStatsStore,
+                        @Value("${mung.suggest.memory-mb:16}") long memoryMb) {
+        this.postMapper = postMapper;
+        this.accomStatsStore = accomStatsStore;
+        this.budgetBytes = memoryMb * 1024 * 1024 / 2;
+    }
+
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${mung.suggest.refresh-ms:300000}", initialDelayString = "${mung.suggest.refresh-ms:300000}")
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        List<Suggestion> postItems = new ArrayList<>();
+        for (PostSummary p : postMapper.getTitles()) {
+            if (p.getTitle() != null) {
+                postItems.add(new Suggestion(p.getTitle(), Suggestion.POST, p.getPost_id(), p.getView_count()));
+            }
+        }
+        SuggestTrie newPosts = SuggestTrie.build(postItems, budgetBytes, TOP_K);
+
+        // 숙소 인기 = 리뷰 수, 지역 인기 = 그 지역 숙소들의 인기 합
+        List<Suggestion> accomItems = new ArrayList<>();
+        Map<String, Long> regions = new LinkedHashMap<>();
+        for (AccomStats s : accomStatsStore.ranking()) {
+            long popularity = s.getReview_count() + 1;
+            if (s.getAccom_name() != null) {
+                accomItems.add(new Suggestion(s.getAccom_name(), Suggestion.ACCOM, s.getAccom_id(), popularity));
+            }
+            for (String region : regions(s.getAccom_location())) {
+                regions.merge(region, popularity, Long::sum);
+            }
+        }
+        for (Map.Entry<String, Long> e : regions.entrySet()) {
+            accomItems.add(new Suggestion(e.getKey(), Suggestion.REGION, 0, e.getValue()));
+        }
+        SuggestTrie newAccoms = SuggestTrie.build(accomItems, budgetBytes, TOP_K);
+
+        posts = newPosts;
+        accoms = newAccoms;
+        logger.info("자동완성 색인 완료 - 게시글 {}/{}개 ({}KB), 숙소+지역 {}/{}개 ({}KB), {}ms",
+                newPosts.size(), postItems.size(), newPosts.estimatedBytes() / 1024,
+                newAccoms.size(), accomItems.size(), newAccoms.estimatedBytes() / 1024,
+                System.currentTimeMillis() - start);
+    }
+
+    public List<Suggestion> suggestPosts(String prefix, int limit) {
+        return posts.suggest(prefix, limit);
+    }
+
+    public List<Suggestion> suggestAccoms(String prefix, int limit) {
+        return accoms.suggest(prefix, limit);
+    }
+
+    // "강원도 속초시 조양동" -> ["강원도", "강원도 속초시"]
+    static List<String> regions(String location) {
+        List<String> result = new ArrayList<>();
+        if (location == null) {
+            return result;
+        }
+        String[] words = location.strip().split("\\s+");
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < Math.min(REGION_WORDS, words.length); i++) {
+            if (words[i].isEmpty()) {
+                break;
+            }
+            if (sb.length() > 0) {
+                sb.append(' ');
+            }
+            sb.append(words[i]);
+            result.add(sb.toString());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,210 @@
+package com.example.mung.index;
+
+import com.example.mung.domain.Suggestion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+// 자동완성용 접두사 트리 (만든 뒤에는 바꾸지 않음, 여러 스레드가 동시에 읽어도 됨)
+// 노드마다 그 아래에서 가장 인기 있는 항목 topK 개를 미리 들고 있어서, 조회는 접두사 길이만큼만 내려가면 끝난다
+// 항목을 인기순으로 넣기 때문에 노드에 먼저 들어온 topK 개가 곧 인기순 topK
+// 메모리 예산을 넘으면 그 뒤(덜 인기 있는) 항목은 넣지 않는다. 예산에는 노드뿐 아니라 항목 객체와 문자열도 셈
+public final class SuggestTrie {
+
+    // 노드 하나의 대략적인 크기 (객체 헤더 + 배열 헤더), 자식 하나당 char + 참조, 추천 항목 하나당 참조
+    static final int NODE_BYTES = 64;
+    static final int CHILD_BYTES = 6;
+    static final int ENTRY_BYTES = 4;
+    // 넣은 항목 하나가 따로 잡는 크기: Suggestion 객체 + 표시할 문자열 (String 객체 + 배열 헤더, 한글은 글자당 2byte)
+    static final int SUGGESTION_BYTES = 32;
+    static final int STRING_BYTES = 40;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    static final int MAX_WORD_STARTS = 3; // 몇 번째 단어부터 입력해도 찾을 수 있는지 ("속초" -> "강원도 속초시")
+
+    private final Node root;
+    private final int entries;
+    private final long estimatedBytes;
+
+    private SuggestTrie(Node root, int entries, long estimatedBytes) {
+        this.root = root;
+        this.entries = entries;
+        this.estimatedBytes = estimatedBytes;
+    }
+
+    public static final SuggestTrie EMPTY = build(Collections.emptyList(), 0, 1);
+
+    // 접두사로 시작하는 (또는 중간 단어가 접두사로 시작하는) 항목을 인기순으로 최대 limit 개
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        if (node == null) {
+            return Collections.emptyList();
+        }
+        return node.top.length <= limit ? Arrays.asList(node.top) : Arrays.asList(node.top).subList(0, limit);
+    }
+
+    public int size() {
+        return entries;
+    }
+
+    public long estimatedBytes() {
+        return estimatedBytes;
+    }
+
+    // items 는 순서 상관없음. 인기순으로 정렬해서 넣고, 예산(byte)을 넘기 전까지만 넣는다
+    public static SuggestTrie build(List<Suggestion> items, long budgetBytes, int topK) {
+        List<Suggestion> sorted = new ArrayList<>(items);
+        sorted.sort(Comparator.comparingLong(Suggestion::getPopularity).reversed()
+                .thenComparing(Suggestion::getText));
+        Builder builder = new Builder(topK);
+        int added = 0;
+        for (Suggestion s : sorted) {
+            if (!builder.add(s, budgetBytes)) {
+                break;
+            }
+            added++;
+        }
+        return new SuggestTrie(builder.root.freeze(), added, builder.bytes);
+    }
+
+    // 소문자 + 공백 하나로
+    private static String normalize(String text) {
+        return WHITESPACE.matcher(NGramTokenizer.normalize(text).strip()).replaceAll(" ");
+    }
+
+    // 만들 때만 쓰는 가변 노드
+    private static final class Builder {
+        private final int topK;
+        private final MutableNode root = new MutableNode();
+        private long bytes = NODE_BYTES;
+
+        Builder(int topK) {
+            this.topK = topK;
+        }
+
+        // 예산을 넘으면 넣지 않고 false (이미 넣은 항목은 그대로)
+        boolean add(Suggestion s, long budgetBytes) {
+            List<String> keys = keys(s.getText());
+            if (keys.isEmpty()) {
+                return true;
+            }
+            long cost = itemBytes(s);
+            for (String key : keys) {
+                cost += cost(key);
+            }
+            if (bytes + cost > budgetBytes) {
+                return false;
+            }
+            bytes += cost;
+            for (String key : keys) {
+                MutableNode node = root;
+                node.offer(s, topK);
+                for (int i = 0; i < key.length(); i++) {
+                    node = node.children.computeIfAbsent(key.charAt(i), c -> new MutableNode());
+                    node.offer(s, topK);
+                }
+            }
+            return true;
+        }
+
+        // 항목 자체 (노드들의 추천 목록은 같은 객체를 참조만 함)
+        private static long itemBytes(Suggestion s) {
+            return SUGGESTION_BYTES + STRING_BYTES + 2L * s.getText().length();
+        }
+
+        // 새로 생길 노드 + 추천 목록에 들어갈 자리 (이미 있는 노드는 topK 가 찼으면 비용 없음)
+        private long cost(String key) {
+            long cost = 0;
+            MutableNode node = root;
+            for (int i = 0; i < key.length(); i++) {
+                MutableNode next = node == null ? null : node.children.get(key.charAt(i));
+                if (next == null) {
+                    cost += NODE_BYTES + CHILD_BYTES + ENTRY_BYTES;
+                } else if (next.top.size() < topK) {
+                    cost += ENTRY_BYTES;
+                }
+                node = next;
+            }
+            return cost;
+        }
+
+        // 전체 문자열 + 2, 3번째 단어부터 시작하는 문자열
+        private static List<String> keys(String text) {
+            String normalized = normalize(text);
+            List<String> keys = new ArrayList<>();
+            if (normalized.isEmpty()) {
+                return keys;
+            }
+            keys.add(normalized);
+            int from = 0;
+            for (int n = 1; n < MAX_WORD_STARTS; n++) {
+                int space = normalized.indexOf(' ', from);
+                if (space < 0) {
+                    break;
+                }
+                String rest = normalized.substring(space + 1).strip();
+                if (!rest.isEmpty()) {
+                    keys.add(rest);
+                }
+                from = space + 1;
+            }
+            return keys;
+        }
+    }
+
+    private static final class MutableNode {
+        private final Map<Character, MutableNode> children = new HashMap<>();
+        private final List<Suggestion> top = new ArrayList<>();
+
+        void offer(Suggestion s, int topK) {
+            // 같은 항목이 여러 key 로 같은 노드를 지날 수 있음 ("서울 서울숲" 등)
+            if (top.size() < topK && !top.contains(s)) {
+                top.add(s);
+            }
+        }
+
+        Node freeze() {
+            char[] keys = new char[children.size()];
+            int i = 0;
+            for (Character c : children.keySet()) {
+                keys[i++] = c;
+            }
+            Arrays.sort(keys);
+            Node[] nodes = new Node[keys.length];
+            for (int j = 0; j < keys.length; j++) {
+                nodes[j] = children.get(keys[j]).freeze();
+            }
+            return new Node(keys, nodes, top.toArray(new Suggestion[0]));
+        }
+    }
+
+    // 읽기 전용 노드: 자식은 정렬된 char 배열에서 이진 탐색
+    private static final class Node {
+        private final char[] keys;
+        private final Node[] children;
+        private final Suggestion[] top;
+
+        Node(char[] keys, Node[] children, Suggestion[] top) {
+            this.keys = keys;
+            this.children = children;
+            this.top = top;
+        }
+
+        Node child(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            return i < 0 ? null : children[i];
+        }
+    }
+}
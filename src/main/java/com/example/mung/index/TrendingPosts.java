@@ -0,0 +1,277 @@
+package com.example.mung.index;
+
+import com.example.mung.domain.PostDTO;
+import com.example.mung.domain.PostEngagement;
+import com.example.mung.domain.PostSummary;
+import com.example.mung.mapper.PostMapper;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 인기글 순위 (조회 / 댓글 / 댓글 좋아요에 시간 감쇠를 적용한 점수)
+// 점수 = 반응마다 weight * 2^(-(지금 - 반응 시각) / 반감기) 의 합
+// 모든 글이 같은 비율로 줄어들기 때문에 고정된 기준 시각(origin)으로 log(weight) + (반응 시각 - origin) / tau 를 더해 두면
+// 순위는 그대로이고 반응이 없는 글을 주기마다 다시 계산할 필요가 없음 (log 로 두는 건 exp 가 넘치지 않도록)
+// 반응은 요청 스레드에서 pending 에 더하기만 하고, 주기 작업이 점수에 반영한 뒤 전체 / 카테고리별 상위 size 개의 요약을 통째로 교체
+// 카테고리별 순위는 전체 상위를 거르지 않고 따로 뽑음 (글이 적은 카테고리도 size 개까지 채워지도록)
+// 목록 / 위젯은 교체된 리스트를 그대로 읽음 (DB, 정렬 없음)
+@Component
+public class TrendingPosts {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrendingPosts.class);
+
+    static final double VIEW_WEIGHT = 1;
+    static final double COMMENT_WEIGHT = 5;
+    static final double LIKE_WEIGHT = 3;
+    // 지금 기준 점수가 이보다 작아진 글은 순위 후보에서 뺌 (메모리가 게시글 수만큼 늘지 않도록)
+    private static final double MIN_SCORE = 0.05;
+
+    private final PostMapper postMapper;
+    private final int size;
+    private final double tauMillis; // 반감기 / ln2
+    private final long windowMillis; // 시작할 때 이 기간 안에 작성된 글만 DB 에서 읽음
+    private final long origin = System.currentTimeMillis();
+
+    // post_id -> 아직 점수에 반영하지 않은 weight 합
+    private final Map<Integer, Double> pending = new ConcurrentHashMap<>();
+    // post_id -> log 점수. refresh / remove 에서만 (lock 은 this)
+    private final Map<Integer, Double> scores = new HashMap<>();
+    // post_id -> 카테고리. scores 에 있는 글만 (lock 은 this)
+    private final Map<Integer, PostDTO.Category> categories = new HashMap<>();
+
+    private volatile List<PostSummary> top = List.of();
+    private volatile Map<PostDTO.Category, List<PostSummary>> topByCategory = Map.of();
+
+    public TrendingPosts(PostMapper postMapper,
+                         @Value("${mung.post.trending-size:50}") int size,
+                         @Value("${mung.post.trending-half-life-hours:24}") double halfLifeHours,
+                         @Value("${mung.post.trending-window-days:14}") long windowDays) {
+        this.postMapper = postMapper;
+        this.size = size;
+        this.tauMillis = halfLifeHours * 60 * 60 * 1000 / Math.log(2);
+        this.windowMillis = windowDays * 24 * 60 * 60 * 1000;
+    }
+
+    // 최근 글의 누적 반응을 작성 시각에 한 번에 받은 것으로 보고 시작 점수를 정함
+    @PostConstruct
+    public synchronized void seed() {
+        long now = System.currentTimeMillis();
+        List<PostEngagement> rows = postMapper.getEngagementSince(toDateTime(now - windowMillis));
+        for (PostEngagement e : rows) {
+            double weight = e.getView_count() * VIEW_WEIGHT + e.getComment_count() * COMMENT_WEIGHT
+                    + e.getLike_count() * LIKE_WEIGHT;
+            if (weight > 0 && e.getCreated_at() != null) {
+                add(e.getPost_id(), weight, toMillis(e.getCreated_at()));
+            }
+        }
+        refresh(now);
+        logger.info("인기글 초기화 - 후보 {}개, 순위 {}개", scores.size(), top.size());
+    }
+
+    public void recordView(int post_id) {
+        pending.merge(post_id, VIEW_WEIGHT, Double::sum);
+    }
+
+    public void recordComment(int post_id) {
+        pending.merge(post_id, COMMENT_WEIGHT, Double::sum);
+    }
+
+    public void recordLike(int post_id) {
+        pending.merge(post_id, LIKE_WEIGHT, Double::sum);
+    }
+
+    // 점수 높은 순 (최대 size 개). 돌려준 리스트는 바꿀 수 없음
+    public List<PostSummary> top() {
+        return top;
+    }
+
+    // 카테고리 안에서 점수 높은 순 (최대 size 개). null 이면 전체, 없는 카테고리면 빈 리스트
+    public List<PostSummary> top(String category) {
+        if (category == null) {
+            return top;
+        }
+        for (Map.Entry<PostDTO.Category, List<PostSummary>> e : topByCategory.entrySet()) {
+            if (e.getKey().name().equals(category)) {
+                return e.getValue();
+            }
+        }
+        return List.of();
+    }
+
+    // 글 삭제 시. 다음 refresh 를 기다리지 않고 목록에서 바로 뺌
+    public synchronized void remove(int post_id) {
+        pending.remove(post_id);
+        scores.remove(post_id);
+        categories.remove(post_id);
+        top = without(top, post_id);
+        Map<PostDTO.Category, List<PostSummary>> byCategory = new HashMap<>(topByCategory);
+        byCategory.replaceAll((c, list) -> without(list, post_id));
+        topByCategory = Map.copyOf(byCategory);
+    }
+
+    @Scheduled(fixedDelayString = "${mung.post.trending-refresh-ms:60000}", initialDelayString = "${mung.post.trending-refresh-ms:60000}")
+    public void refresh() {
+        refresh(System.currentTimeMillis());
+    }
+
+    synchronized void refresh(long now) {
+        // 그동안 쌓인 반응은 지금 받은 것으로 반영 (차이는 refresh 주기 이하)
+        for (Integer post_id : pending.keySet()) {
+            Double weight = pending.remove(post_id);
+            if (weight != null) {
+                add(post_id, weight, now);
+            }
+        }
+
+        double cutoff = Math.log(MIN_SCORE) + (now - origin) / tauMillis;
+        Iterator<Map.Entry<Integer, Double>> it = scores.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Integer, Double> e = it.next();
+            if (e.getValue() < cutoff) {
+                it.remove();
+                categories.remove(e.getKey());
+            }
+        }
+        loadCategories();
+
+        // 전체 / 카테고리별로 각각 상위 size 개 (가장 낮은 점수를 버려서 size 개만 유지)
+        PriorityQueue<Map.Entry<Integer, Double>> all = new PriorityQueue<>(Map.Entry.comparingByValue());
+        Map<PostDTO.Category, PriorityQueue<Map.Entry<Integer, Double>>> heaps = new HashMap<>();
+        for (Map.Entry<Integer, Double> e : scores.entrySet()) {
+            offer(all, e);
+            PostDTO.Category category = categories.get(e.getKey());
+            if (category != null) {
+                offer(heaps.computeIfAbsent(category, c -> new PriorityQueue<>(Map.Entry.comparingByValue())), e);
+            }
+        }
+        List<Integer> ids = drain(all);
+        Set<Integer> wanted = new HashSet<>(ids);
+        Map<PostDTO.Category, List<Integer>> idsByCategory = new HashMap<>();
+        for (Map.Entry<PostDTO.Category, PriorityQueue<Map.Entry<Integer, Double>>> e : heaps.entrySet()) {
+            List<Integer> ranked = drain(e.getValue());
+            idsByCategory.put(e.getKey(), ranked);
+            wanted.addAll(ranked);
+        }
+        if (wanted.isEmpty()) {
+            top = List.of();
+            topByCategory = Map.of();
+            return;
+        }
+
+        Map<Integer, PostSummary> byId = new HashMap<>();
+        for (PostSummary s : postMapper.getSummariesByIds(new ArrayList<>(wanted))) {
+            byId.put(s.getPost_id(), s);
+        }
+        for (Integer id : wanted) {
+            if (!byId.containsKey(id)) { // 지워진 글
+                scores.remove(id);
+                categories.remove(id);
+            }
+        }
+        top = summaries(ids, byId, null);
+        Map<PostDTO.Category, List<PostSummary>> byCategory = new HashMap<>();
+        for (Map.Entry<PostDTO.Category, List<Integer>> e : idsByCategory.entrySet()) {
+            byCategory.put(e.getKey(), summaries(e.getValue(), byId, e.getKey()));
+        }
+        topByCategory = Map.copyOf(byCategory);
+    }
+
+    // 처음 점수가 생긴 글의 카테고리만 읽음 (한 번 읽으면 점수가 빠질 때까지 유지)
+    private void loadCategories() {
+        List<Integer> unknown = new ArrayList<>();
+        for (Integer post_id : scores.keySet()) {
+            if (!categories.containsKey(post_id)) {
+                unknown.add(post_id);
+            }
+        }
+        if (unknown.isEmpty()) {
+            return;
+        }
+        for (PostSummary s : postMapper.getCategoriesByIds(unknown)) {
+            if (s.getCategory() != null) {
+                categories.put(s.getPost_id(), s.getCategory());
+            }
+        }
+    }
+
+    private void offer(PriorityQueue<Map.Entry<Integer, Double>> heap, Map.Entry<Integer, Double> e) {
+        heap.add(e);
+        if (heap.size() > size) {
+            heap.poll();
+        }
+    }
+
+    // heap 에서 낮은 점수부터 꺼내므로 거꾸로 뒤집어서 높은 순
+    private static List<Integer> drain(PriorityQueue<Map.Entry<Integer, Double>> heap) {
+        List<Integer> ids = new ArrayList<>();
+        while (!heap.isEmpty()) {
+            ids.add(heap.poll().getKey());
+        }
+        Collections.reverse(ids);
+        return ids;
+    }
+
+    // 지워진 글은 빼고, 글을 수정해서 카테고리가 바뀐 경우 다음 계산 때 새 카테고리로 옮김
+    private List<PostSummary> summaries(List<Integer> ids, Map<Integer, PostSummary> byId, PostDTO.Category category) {
+        List<PostSummary> ranked = new ArrayList<>();
+        for (Integer id : ids) {
+            PostSummary s = byId.get(id);
+            if (s == null) {
+                continue;
+            }
+            if (s.getCategory() != null && s.getCategory() != categories.get(id)) {
+                categories.put(id, s.getCategory());
+            }
+            if (category == null || s.getCategory() == category) {
+                ranked.add(s);
+            }
+        }
+        return List.copyOf(ranked);
+    }
+
+    private static List<PostSummary> without(List<PostSummary> list, int post_id) {
+        List<PostSummary> kept = new ArrayList<>(list);
+        return kept.removeIf(p -> p.getPost_id() == post_id) ? List.copyOf(kept) : list;
+    }
+
+    // at 시각에 weight 만큼의 반응. log(e^a + e^b) 를 큰 쪽 기준으로 계산해서 넘치지 않게 함
+    private void add(int post_id, double weight, long at) {
+        double value = Math.log(weight) + (at - origin) / tauMillis;
+        scores.merge(post_id, value, (a, b) -> Math.max(a, b) + Math.log1p(Math.exp(-Math.abs(a - b))));
+    }
+
+    // 테스트용: 지금 기준 점수 (없으면 0)
+    synchronized double score(int post_id, long now) {
+        Double log = scores.get(post_id);
+        return log == null ? 0 : Math.exp(log - (now - origin) / tauMillis);
+    }
+
+    long origin() {
+        return origin;
+    }
+
+    private static LocalDateTime toDateTime(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
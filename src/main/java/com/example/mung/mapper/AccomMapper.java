@@ -15,26 +15,6 @@ public interface AccomMapper {
 
 
 
-    @Select("SELECT a.accom_id, a.accom_name, a.accom_location, a.accom_images_url, r.room_price, r.pet_kind, re.rating " +
-            "FROM ACCOMMODATION a JOIN ROOM r ON a.accom_id = r.accom_id " +
-            "LEFT JOIN REVIEW re ON a.user_id = re.user_id " +
-            "ORDER BY re.rating DESC")
-    List<AccomDTO> getListByRating();
-
-    // 메인페이지에 별점 높은 숙소들을 표시하기 위함
-    //public Page<AccomDTO> getListByRating();
-
-    @Select("SELECT a.accom_id, a.accom_name, a.accom_location, a.accom_images_url, re.rating, r.room_price, r.pet_kind " +
-            "FROM ACCOMMODATION a " +
-            "INNER JOIN ROOM r ON a.accom_id = r.accom_id " +
-            "LEFT JOIN REVIEW re ON a.user_id = re.user_id" +
-            " WHERE a.accom_location LIKE CONCAT('%', #{location}, '%') " +
-            "AND #{capacity} BETWEEN r.capacity_standard AND r.capacity_max;")
-    List<AccomDTO> getListByLocation(@Param("location") String location, @Param("capacity") int capacity);
-
-    //지역 기반으로 숙소 불러오기 (강원 지역, 경기지역) room tb 와 join 해서 인원수도 비교하여 숙소출력
-
-
     @Select("SELECT  accom_name, accom_location " +
             " FROM accommodation " +
             "WHERE user_id = #{user_id} AND accom_name = #{accom_name}")
@@ -67,6 +47,7 @@ public interface AccomMapper {
 
     @Insert("INSERT INTO ACCOMMODATION (user_id, accom_name, accom_location, accom_phone, accom_caution, accom_description, accom_images_url, accom_amenities)" +
             "VALUE(#{user_id},#{accom_name},#{accom_location},#{accom_phone},#{accom_caution},#{accom_description},#{accom_images_url},#{accom_amenities})")
+    @Options(useGeneratedKeys = true, keyProperty = "accom_id")
     boolean insert(AccomVO vo); //숙소 등록
 
     @Delete("DELETE FROM ACCOMMODATION WHERE accom_id = #{accom_id}")
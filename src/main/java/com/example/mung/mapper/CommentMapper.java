@@ -1,5 +1,6 @@
 package com.example.mung.mapper;
 
+import com.example.mung.domain.CommentCursor;
 import com.example.mung.domain.CommentDTO;
 import org.apache.ibatis.annotations.*;
 import java.util.List;
@@ -7,38 +8,62 @@ import java.util.List;
 @Mapper
 public interface CommentMapper {
 
-    // 모든 댓글 가져오기 (likeCount와 dislikeCount 포함)
+    // 모든 댓글 가져오기 (likeCount와 dislikeCount 는 comment 의 카운터 컬럼)
     @Select("SELECT c.comment_id, c.post_id, c.user_id, c.content, c.created_at, u.nickname, " +
-            "COALESCE(SUM(CASE WHEN cl.type = 'LIKE' THEN 1 ELSE 0 END), 0) AS likeCount, " +
-            "COALESCE(SUM(CASE WHEN cl.type = 'DISLIKE' THEN 1 ELSE 0 END), 0) AS dislikeCount " +
+            "c.like_count AS likeCount, c.dislike_count AS dislikeCount " +
             "FROM comment c " +
-            "JOIN `user` u ON c.user_id = u.user_id " +
-            "LEFT JOIN comment_like cl ON c.comment_id = cl.comment_id " +
-            "GROUP BY c.comment_id, c.post_id, c.user_id, c.content, c.created_at, u.nickname")
+            "JOIN `user` u ON c.user_id = u.user_id")
     List<CommentDTO> getAllComment();
 
     // 특정 유저가 작성한 댓글 목록 조회 (likeCount와 dislikeCount 포함)
     @Select("SELECT c.comment_id, c.post_id, c.user_id, c.content, c.created_at, u.nickname, " +
-            "COALESCE(SUM(CASE WHEN cl.type = 'LIKE' THEN 1 ELSE 0 END), 0) AS likeCount, " +
-            "COALESCE(SUM(CASE WHEN cl.type = 'DISLIKE' THEN 1 ELSE 0 END), 0) AS dislikeCount " +
+            "c.like_count AS likeCount, c.dislike_count AS dislikeCount " +
             "FROM comment c " +
             "JOIN `user` u ON c.user_id = u.user_id " +
-            "LEFT JOIN comment_like cl ON c.comment_id = cl.comment_id " +
-            "WHERE c.user_id = #{user_id} " +
-            "GROUP BY c.comment_id, c.post_id, c.user_id, c.content, c.created_at, u.nickname")
+            "WHERE c.user_id = #{user_id}")
     List<CommentDTO> getCommentByUserId(@Param("user_id") int user_id);
 
     // 특정 게시물에 달린 댓글 목록 조회 (likeCount와 dislikeCount 포함)
     @Select("SELECT c.comment_id, c.post_id, c.user_id, c.content, c.created_at, u.nickname, " +
-            "COALESCE(SUM(CASE WHEN cl.type = 'LIKE' THEN 1 ELSE 0 END), 0) AS likeCount, " +
-            "COALESCE(SUM(CASE WHEN cl.type = 'DISLIKE' THEN 1 ELSE 0 END), 0) AS dislikeCount " +
+            "c.like_count AS likeCount, c.dislike_count AS dislikeCount " +
             "FROM comment c " +
             "JOIN `user` u ON c.user_id = u.user_id " +
-            "LEFT JOIN comment_like cl ON c.comment_id = cl.comment_id " +
-            "WHERE c.post_id = #{post_id} " +
-            "GROUP BY c.comment_id, c.post_id, c.user_id, c.content, c.created_at, u.nickname")
+            "WHERE c.post_id = #{post_id}")
     List<CommentDTO> getCommentsByPostId(@Param("post_id") int post_id);
 
+    // 게시글 댓글 한 페이지 (keyset). 최신순은 (post_id, comment_id), 추천순은 (post_id, best_score, comment_id) 인덱스를 탐
+    @Select("<script>" +
+            "SELECT c.comment_id, c.post_id, c.user_id, c.content, c.created_at, u.nickname, " +
+            "c.like_count AS likeCount, c.dislike_count AS dislikeCount, c.best_score " +
+            "FROM comment c " +
+            "JOIN `user` u ON c.user_id = u.user_id " +
+            "WHERE c.post_id = #{post_id} " +
+            "<if test='cursor != null'>" +
+            "<choose>" +
+            "<when test='best'>AND (c.best_score &lt; #{cursor.score} " +
+            "OR (c.best_score = #{cursor.score} AND c.comment_id &lt; #{cursor.comment_id})) </when>" +
+            "<otherwise>AND c.comment_id &lt; #{cursor.comment_id} </otherwise>" +
+            "</choose>" +
+            "</if>" +
+            "<choose>" +
+            "<when test='best'>ORDER BY c.best_score DESC, c.comment_id DESC </when>" +
+            "<otherwise>ORDER BY c.comment_id DESC </otherwise>" +
+            "</choose>" +
+            "LIMIT #{size}" +
+            "</script>")
+    List<CommentDTO> getCommentPage(@Param("post_id") int post_id, @Param("best") boolean best,
+                                    @Param("cursor") CommentCursor cursor, @Param("size") int size);
+
+    // 게시글의 댓글 수
+    @Select("SELECT COUNT(*) FROM comment WHERE post_id = #{post_id}")
+    int countByPostId(@Param("post_id") int post_id);
+
+    // 추천순 점수 보정용: comment_id 가 [from, to] 인 댓글의 카운터와 저장된 점수를 lock 을 잡고 읽음
+    // (점수를 쓸 때까지 그 사이 투표가 카운터를 바꾸지 못하게)
+    @Select("SELECT comment_id, like_count AS likeCount, dislike_count AS dislikeCount, best_score " +
+            "FROM comment WHERE comment_id BETWEEN #{from} AND #{to} FOR UPDATE")
+    List<CommentDTO> getScoresInRangeForUpdate(@Param("from") int from, @Param("to") int to);
+
     // 댓글 삽입
     @Insert("INSERT INTO comment (post_id, content, user_id) VALUES (#{post_id}, #{content}, #{user_id})")
     @Options(useGeneratedKeys = true, keyProperty = "comment_id")
@@ -54,12 +79,13 @@ public interface CommentMapper {
 
     // 댓글 ID로 댓글 조회
     @Select("SELECT c.comment_id, c.post_id, c.user_id, c.content, c.created_at, u.nickname, " +
-            "COALESCE(SUM(CASE WHEN cl.type = 'LIKE' THEN 1 ELSE 0 END), 0) AS likeCount, " +
-            "COALESCE(SUM(CASE WHEN cl.type = 'DISLIKE' THEN 1 ELSE 0 END), 0) AS dislikeCount " +
+            "c.like_count AS likeCount, c.dislike_count AS dislikeCount " +
             "FROM comment c " +
             "JOIN `user` u ON c.user_id = u.user_id " +
-            "LEFT JOIN comment_like cl ON c.comment_id = cl.comment_id " +
-            "WHERE c.comment_id = #{comment_id} " +
-            "GROUP BY c.comment_id, c.post_id, c.user_id, c.content, c.created_at, u.nickname")
+            "WHERE c.comment_id = #{comment_id}")
     CommentDTO findById(@Param("comment_id") int comment_id);
+
+    // 댓글이 달린 게시글 id (없는 댓글이면 null)
+    @Select("SELECT post_id FROM comment WHERE comment_id = #{comment_id}")
+    Integer findPostId(@Param("comment_id") int comment_id);
 }
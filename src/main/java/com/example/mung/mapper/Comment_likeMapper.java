@@ -3,23 +3,91 @@ package com.example.mung.mapper;
 import com.example.mung.domain.Comment_likeDTO;
 import org.apache.ibatis.annotations.*;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 @Mapper
 public interface Comment_likeMapper {
 
-    // 좋아요/싫어요 추가
-    @Insert("INSERT INTO comment_like (comment_id, user_id, type) VALUES (#{comment_id}, #{user_id}, #{type})")
-    @Options(useGeneratedKeys = true, keyProperty = "like_id")
-    int insertLikeDislike(Comment_likeDTO commentLike);
+    // 투표 한 건을 카운터에 반영. 이전 투표(없으면 null)를 빼고 새 투표를 더함
+    // 같은 투표가 이미 있으면(또는 없는 댓글이면) 0 -> 호출한 쪽은 upsertVote 를 건너뜀
+    // comment 행 lock 을 먼저 잡기 때문에 같은 댓글의 투표는 여기서 줄을 서고, 조인한 comment_like 는 lock 을 잡은 뒤의 최신 값으로 읽힘
+    @Update("UPDATE comment c " +
+            "LEFT JOIN comment_like cl ON cl.comment_id = c.comment_id AND cl.user_id = #{user_id} " +
+            "SET c.like_count = c.like_count + IF(#{type} = 'LIKE', 1, 0) - IF(cl.type = 'LIKE', 1, 0), " +
+            "c.dislike_count = c.dislike_count + IF(#{type} = 'DISLIKE', 1, 0) - IF(cl.type = 'DISLIKE', 1, 0) " +
+            "WHERE c.comment_id = #{comment_id} AND NOT (cl.type <=> #{type})")
+    int applyVoteToCounts(Comment_likeDTO commentLike);
+
+    // (comment_id, user_id) unique key 기준으로 넣거나 바꿈
+    @Insert("INSERT INTO comment_like (comment_id, user_id, type) VALUES (#{comment_id}, #{user_id}, #{type}) " +
+            "ON DUPLICATE KEY UPDATE type = VALUES(type)")
+    int upsertVote(Comment_likeDTO commentLike);
+
+    // 묶음 처리용: 여러 (comment_id, user_id) 의 현재 투표를 lock 을 잡고 읽음
+    @Select("<script>" +
+            "SELECT comment_id, user_id, type FROM comment_like WHERE (comment_id, user_id) IN " +
+            "<foreach collection='votes' item='v' open='(' separator=',' close=')'>(#{v.comment_id}, #{v.user_id})</foreach>" +
+            " FOR UPDATE" +
+            "</script>")
+    List<Comment_likeDTO> findVotesForUpdate(@Param("votes") Collection<Comment_likeDTO> votes);
+
+    // 묶음 처리용: 여러 투표를 INSERT 한 번으로
+    @Insert("<script>" +
+            "INSERT INTO comment_like (comment_id, user_id, type) VALUES " +
+            "<foreach collection='votes' item='v' separator=','>(#{v.comment_id}, #{v.user_id}, #{v.type})</foreach>" +
+            " ON DUPLICATE KEY UPDATE type = VALUES(type)" +
+            "</script>")
+    int upsertVotes(@Param("votes") Collection<Comment_likeDTO> votes);
+
+    // 묶음 처리용: 댓글별 카운터 증감 (likeCount, dislikeCount 에 더할 값)
+    @Update("<script>" +
+            "UPDATE comment SET " +
+            "like_count = like_count + CASE comment_id " +
+            "<foreach collection='deltas' item='d'>WHEN #{d.comment_id} THEN #{d.likeCount} </foreach>" +
+            "END, dislike_count = dislike_count + CASE comment_id " +
+            "<foreach collection='deltas' item='d'>WHEN #{d.comment_id} THEN #{d.dislikeCount} </foreach>" +
+            "END WHERE comment_id IN " +
+            "<foreach collection='deltas' item='d' open='(' separator=',' close=')'>#{d.comment_id}</foreach>" +
+            "</script>")
+    int addCounts(@Param("deltas") Collection<Comment_likeDTO> deltas);
+
+    // 묶음 처리용: 여러 댓글의 카운터 값을 lock 을 잡고 읽음 (없는 댓글은 빠짐)
+    @Select("<script>" +
+            "SELECT comment_id, like_count AS likeCount, dislike_count AS dislikeCount FROM comment WHERE comment_id IN " +
+            "<foreach collection='ids' item='id' open='(' separator=',' close=')'>#{id}</foreach>" +
+            " FOR UPDATE" +
+            "</script>")
+    List<Comment_likeDTO> getCountsForUpdate(@Param("ids") Collection<Integer> ids);
+
+    // 추천순 점수 저장 (comment_id -> CommentDTO.wilsonScore)
+    @Update("<script>" +
+            "UPDATE comment SET best_score = CASE comment_id " +
+            "<foreach collection='scores' index='id' item='score'>WHEN #{id} THEN #{score} </foreach>" +
+            "END WHERE comment_id IN " +
+            "<foreach collection='scores' index='id' open='(' separator=',' close=')'>#{id}</foreach>" +
+            "</script>")
+    int updateBestScores(@Param("scores") Map<Integer, Double> scores);
+
+    // 카운터 값 (likeCount, dislikeCount 만 채움). 없는 댓글이면 null
+    @Select("SELECT comment_id, like_count AS likeCount, dislike_count AS dislikeCount FROM comment WHERE comment_id = #{comment_id}")
+    Comment_likeDTO getCounts(@Param("comment_id") int comment_id);
 
-    // 좋아요/싫어요 업데이트 (변경 시)
-    @Update("UPDATE comment_like SET type = #{type} WHERE comment_id = #{comment_id} AND user_id = #{user_id}")
-    int updateLikeDislike(Comment_likeDTO commentLike);
+    // 카운터 보정: comment_id 가 [from, to] 인 댓글의 카운터를 comment_like 기준으로 다시 맞춤. 어긋나 있던 댓글 수를 돌려줌
+    @Update("UPDATE comment c " +
+            "LEFT JOIN (SELECT comment_id, SUM(type = 'LIKE') AS likes, SUM(type = 'DISLIKE') AS dislikes " +
+            "FROM comment_like WHERE comment_id BETWEEN #{from} AND #{to} GROUP BY comment_id) v " +
+            "ON v.comment_id = c.comment_id " +
+            "SET c.like_count = COALESCE(v.likes, 0), c.dislike_count = COALESCE(v.dislikes, 0) " +
+            "WHERE c.comment_id BETWEEN #{from} AND #{to} " +
+            "AND (c.like_count <> COALESCE(v.likes, 0) OR c.dislike_count <> COALESCE(v.dislikes, 0))")
+    int reconcileCounts(@Param("from") int from, @Param("to") int to);
 
-    // 특정 사용자가 특정 댓글에 대한 좋아요/싫어요 상태 확인
-    @Select("SELECT * FROM comment_like WHERE comment_id = #{comment_id} AND user_id = #{user_id}")
-    Comment_likeDTO findByCommentIdAndUserId(@Param("comment_id") int comment_id, @Param("user_id") int user_id);
+    @Select("SELECT COALESCE(MAX(comment_id), 0) FROM comment")
+    int getMaxCommentId();
 
-    // 특정 댓글의 좋아요/싫어요 카운트
+    // 특정 댓글의 좋아요/싫어요 카운트 (comment_like 를 직접 셈, 화면에는 getCounts 사용)
     @Select("SELECT COUNT(*) FROM comment_like WHERE comment_id = #{comment_id} AND type = 'LIKE'")
     int getLikeCount(@Param("comment_id") int comment_id);
 
@@ -6,6 +6,7 @@ import com.example.mung.domain.UserDTO;
 import com.example.mung.domain.UserVO;
 import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Select;
 import org.apache.ibatis.annotations.Update;
 
@@ -21,14 +22,30 @@ public interface LoginMapper {
     //profile_image_url //pet_info //business_number //business_sns_url
 
 
-    //아이디 전체 출력하여 담기
-    @Select("select user_loginId from user")
-    List<String> idList();
+    //아이디 수 (중복확인 filter 크기)
+    @Select("select count(*) from user")
+    long countLoginIds();
 
-    //아이디 비밀번호로 정보 조회
-    @Select("select * from user where user_loginId =#{user_loginId} and password = #{password}")
+    //아이디 순서로 after 다음부터 limit 개 (중복확인 filter 를 나눠서 채움, user_loginId 의 unique index 사용)
+    @Select("select user_loginId from user where user_loginId > #{after} order by user_loginId limit #{limit}")
+    List<String> getLoginIdsAfter(@Param("after") String after, @Param("limit") int limit);
+
+    //가장 큰 회원 번호 (중복확인 filter 가 다른 서버의 가입까지 담고 있는지 확인, PK 끝만 읽음)
+    @Select("select coalesce(max(user_id), 0) from user")
+    long maxUserId();
+
+    //회원 번호 after 초과 upto 이하의 아이디 (다른 서버에서 가입한 아이디를 filter 에 추가)
+    @Select("select user_loginId from user where user_id > #{after} and user_id <= #{upto}")
+    List<String> getLoginIdsBetween(@Param("after") long after, @Param("upto") long upto);
+
+    //아이디로 정보 조회 (비밀번호는 저장된 해시와 서비스에서 비교)
+    @Select("select * from user where user_loginId =#{user_loginId}")
     UserVO loginActive(LoginDTO dto);
 
+    //로그인 성공 시 평문/낮은 cost 비밀번호를 새 해시로 교체 (그 사이 비밀번호가 바뀌었으면 건드리지 않음)
+    @Update("UPDATE user SET password = #{password} WHERE user_id = #{user_id} AND password = #{old}")
+    int updatePasswordHash(@Param("user_id") int user_id, @Param("password") String password, @Param("old") String old);
+
     // User 아이디 중복 조회할 때 사용할 메서드
     @Select("select count(*) from user where user_loginId = #{user_loginId}")
     boolean loginByIdCheck(String user_loginId);
@@ -53,7 +70,7 @@ public interface LoginMapper {
     String idCheckForModifyPassword(String id, String email, LocalDateTime birth);
 
     //비번 수정
-    @Update("UPDATE user SET password=${newPassword} WHERE user_loginId = #{id}")
+    @Update("UPDATE user SET password=#{newPassword} WHERE user_loginId = #{id}")
     int updatePassword(String id, String newPassword);
 
 
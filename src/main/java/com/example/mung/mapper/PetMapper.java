@@ -0,0 +1,46 @@
+package com.example.mung.mapper;
+
+import com.example.mung.domain.Pet;
+import org.apache.ibatis.annotations.Arg;
+import org.apache.ibatis.annotations.ConstructorArgs;
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+
+import java.util.List;
+
+// 회원별 반려견 (pet 테이블, user_id index / (size, type) index)
+// Pet 은 setter 가 없어서 생성자로 매핑
+@Mapper
+public interface PetMapper {
+
+    @ConstructorArgs({
+            @Arg(column = "pet_id", javaType = int.class),
+            @Arg(column = "user_id", javaType = int.class),
+            @Arg(column = "name", javaType = String.class),
+            @Arg(column = "type", javaType = String.class),
+            @Arg(column = "age", javaType = Integer.class),
+            @Arg(column = "weight", javaType = Double.class),
+            @Arg(column = "size", javaType = Pet.Size.class)
+    })
+    @Select("SELECT pet_id, user_id, name, type, age, weight, size FROM pet WHERE user_id = #{user_id} ORDER BY pet_id")
+    List<Pet> findByUserId(@Param("user_id") int user_id);
+
+    @Select("SELECT COUNT(*) FROM pet WHERE user_id = #{user_id}")
+    int countByUserId(@Param("user_id") int user_id);
+
+    @Insert("INSERT INTO pet (user_id, name, type, age, weight, size) " +
+            "VALUES (#{user_id}, #{name}, #{type}, #{age}, #{weight}, #{size})")
+    int insert(Pet pet);
+
+    // 다른 회원의 반려견은 고칠 수 없도록 user_id 까지 조건에
+    @Update("UPDATE pet SET name = #{name}, type = #{type}, age = #{age}, weight = #{weight}, size = #{size} " +
+            "WHERE pet_id = #{pet_id} AND user_id = #{user_id}")
+    int update(Pet pet);
+
+    @Delete("DELETE FROM pet WHERE pet_id = #{pet_id} AND user_id = #{user_id}")
+    int delete(@Param("pet_id") int pet_id, @Param("user_id") int user_id);
+}
@@ -1,13 +1,20 @@
 package com.example.mung.mapper;
 
+import com.example.mung.domain.PostCursor;
 import com.example.mung.domain.PostDTO;
+import com.example.mung.domain.PostEngagement;
+import com.example.mung.domain.PostSummary;
 import org.apache.ibatis.annotations.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Mapper
 public interface PostMapper {
 
+    int SNIPPET_SOURCE_LENGTH = 400; // 태그를 지우고 나서도 snippet 길이가 남도록 넉넉하게
+
     // 모든 게시글 조회 (nickname 포함)
     @Select("SELECT p.post_id, p.user_id, p.title, p.content, p.category, p.created_at, p.updated_at, p.view_count, u.nickname " +
             "FROM post p " +
@@ -22,6 +29,64 @@ public interface PostMapper {
             "LIMIT #{size} OFFSET #{offset}")
     List<PostDTO> getPagedPost(@Param("size") int size, @Param("offset") int offset);
 
+    // 게시판 목록용 요약 (본문은 앞부분만, 댓글 수 포함). 최신순 keyset 페이징
+    // cursor 가 있으면 그 글 다음부터. category 가 null 이면 전체
+    // (created_at, post_id) / (category, created_at, post_id) 인덱스를 타도록 정렬 조건과 같은 순서로 비교
+    @Select("<script>" +
+            "SELECT p.post_id, p.user_id, p.title, LEFT(p.content, " + SNIPPET_SOURCE_LENGTH + ") AS snippet, p.category, " +
+            "p.created_at, p.view_count, u.nickname, " +
+            "(SELECT COUNT(*) FROM comment c WHERE c.post_id = p.post_id) AS comment_count " +
+            "FROM post p " +
+            "JOIN user u ON p.user_id = u.user_id " +
+            "<where>" +
+            "<if test='category != null'>p.category = #{category}</if>" +
+            "<if test='cursor != null'>AND (p.created_at &lt; #{cursor.created_at} " +
+            "OR (p.created_at = #{cursor.created_at} AND p.post_id &lt; #{cursor.post_id}))</if>" +
+            "</where>" +
+            "ORDER BY p.created_at DESC, p.post_id DESC " +
+            "LIMIT #{size}" +
+            "</script>")
+    List<PostSummary> getSummaryPage(@Param("category") String category, @Param("cursor") PostCursor cursor,
+                                     @Param("size") int size);
+
+    // 검색 결과처럼 id 로 정해진 글들의 요약 (순서는 보장하지 않음)
+    @Select("<script>" +
+            "SELECT p.post_id, p.user_id, p.title, LEFT(p.content, " + SNIPPET_SOURCE_LENGTH + ") AS snippet, p.category, " +
+            "p.created_at, p.view_count, u.nickname, " +
+            "(SELECT COUNT(*) FROM comment c WHERE c.post_id = p.post_id) AS comment_count " +
+            "FROM post p " +
+            "JOIN user u ON p.user_id = u.user_id " +
+            "WHERE p.post_id IN " +
+            "<foreach collection='ids' item='id' open='(' separator=',' close=')'>#{id}</foreach>" +
+            "</script>")
+    List<PostSummary> getSummariesByIds(@Param("ids") List<Integer> ids);
+
+    // 인기글 카테고리별 순위용: id 로 정해진 글들의 카테고리만
+    @Select("<script>" +
+            "SELECT post_id, category FROM post WHERE post_id IN " +
+            "<foreach collection='ids' item='id' open='(' separator=',' close=')'>#{id}</foreach>" +
+            "</script>")
+    List<PostSummary> getCategoriesByIds(@Param("ids") List<Integer> ids);
+
+    // 자동완성용 제목과 조회수
+    @Select("SELECT post_id, title, view_count FROM post")
+    List<PostSummary> getTitles();
+
+    // 인기글 초기 점수용: since 이후 작성된 글의 조회수 / 댓글 수 / 댓글 좋아요 수
+    @Select("SELECT p.post_id, p.created_at, p.view_count, " +
+            "(SELECT COUNT(*) FROM comment c WHERE c.post_id = p.post_id) AS comment_count, " +
+            "(SELECT COALESCE(SUM(c.like_count), 0) FROM comment c WHERE c.post_id = p.post_id) AS like_count " +
+            "FROM post p " +
+            "WHERE p.created_at >= #{since}")
+    List<PostEngagement> getEngagementSince(@Param("since") LocalDateTime since);
+
+    // 게시글 수 (category 가 null 이면 전체)
+    @Select("<script>" +
+            "SELECT COUNT(*) FROM post" +
+            "<if test='category != null'> WHERE category = #{category}</if>" +
+            "</script>")
+    int countPosts(@Param("category") String category);
+
     // 카테고리별 게시글 조회 (nickname 포함)
     @Select("SELECT p.post_id, p.user_id, p.title, p.content, p.category, p.created_at, p.updated_at, p.view_count, u.nickname " +
             "FROM post p " +
@@ -29,18 +94,22 @@ public interface PostMapper {
             "WHERE p.category = #{category}")
     List<PostDTO> getPostByCategory(@Param("category") String category);
 
-    // 게시글 수정
+    // 게시글 수정 (첨부파일은 updateFileKey 로만 바꿈 -> file_key 를 읽지 않은 PostDTO 로 수정해도 첨부파일이 지워지지 않음)
     @Update("UPDATE post SET title = #{title}, content = #{content}, category = #{category}, " +
-            "updated_at = #{updated_at}, password = #{password}, files = #{files} WHERE post_id = #{post_id}")
+            "updated_at = #{updated_at}, password = #{password} WHERE post_id = #{post_id}")
     int update(PostDTO post);
 
+    // 첨부파일 교체/삭제 (file_key 가 null 이면 첨부파일 없음)
+    @Update("UPDATE post SET file_key = #{file_key} WHERE post_id = #{post_id}")
+    int updateFileKey(@Param("post_id") int post_id, @Param("file_key") String file_key);
+
     // 게시글 삭제
     @Delete("DELETE FROM post WHERE post_id = #{post_id}")
     int delete(@Param("post_id") int post_id);
 
-    // 게시글 등록 (첨부파일 경로 포함)
-    @Insert("INSERT INTO post (user_id, title, content, category, created_at, updated_at, password, view_count, files) " +
-            "VALUES (#{user_id}, #{title}, #{content}, #{category}, #{created_at}, #{updated_at}, #{password}, #{view_count}, #{files})")
+    // 게시글 등록 (첨부파일 key 포함)
+    @Insert("INSERT INTO post (user_id, title, content, category, created_at, updated_at, password, view_count, file_key) " +
+            "VALUES (#{user_id}, #{title}, #{content}, #{category}, #{created_at}, #{updated_at}, #{password}, #{view_count}, #{file_key})")
     @Options(useGeneratedKeys = true, keyProperty = "post_id")
     int insertPost(PostDTO post);
 
@@ -48,6 +117,15 @@ public interface PostMapper {
     @Update("UPDATE post SET view_count = view_count + 1 WHERE post_id = #{post_id}")
     int increaseViewCount(@Param("post_id") int post_id);
 
+    // 조회수 여러 건을 한 번에 반영 (post_id -> 더할 조회수)
+    @Update("<script>" +
+            "UPDATE post SET view_count = view_count + CASE post_id " +
+            "<foreach collection='counts' index='id' item='n'>WHEN #{id} THEN #{n} </foreach>" +
+            "END WHERE post_id IN " +
+            "<foreach collection='counts' index='id' open='(' separator=',' close=')'>#{id}</foreach>" +
+            "</script>")
+    int addViewCounts(@Param("counts") Map<Integer, Long> counts);
+
     // 게시글 검색 (타이틀로 검색)
     @Select("SELECT p.post_id, p.user_id, p.title, p.content, p.category, p.created_at, p.updated_at, p.view_count, u.nickname " +
             "FROM post p " +
@@ -73,8 +151,8 @@ public interface PostMapper {
     @Select("SELECT password FROM post WHERE post_id = #{post_id}")
     String findPasswordById(@Param("post_id") int post_id);
 
-    // 게시글 ID로 조회 (nickname 포함)
-    @Select("SELECT p.post_id, p.user_id, p.title, p.content, p.category, p.created_at, p.updated_at, p.view_count, u.nickname " +
+    // 게시글 ID로 조회 (nickname, 첨부파일 key 포함)
+    @Select("SELECT p.post_id, p.user_id, p.title, p.content, p.category, p.created_at, p.updated_at, p.view_count, p.file_key, u.nickname " +
             "FROM post p " +
             "JOIN user u ON p.user_id = u.user_id " +
             "WHERE p.post_id = #{post_id}")
@@ -0,0 +1,38 @@
+package com.example.mung.mapper;
+
+import com.example.mung.domain.ReservationVO;
+import org.apache.ibatis.annotations.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Mapper
+public interface ReservationMapper {
+
+    @Select("SELECT rv_id, user_id, accom_id, room_id, rv_start_date, rv_end_date " +
+            "FROM RESERVATION WHERE rv_end_date > #{from}")
+    List<ReservationVO> getListFrom(@Param("from") LocalDate from);
+    // 아직 체크아웃이 지나지 않은 예약만 불러옴 (가용 객실 인덱스 적재용)
+
+    @Select("SELECT rv_id, user_id, accom_id, room_id, rv_start_date, rv_end_date " +
+            "FROM RESERVATION WHERE room_id = #{room_id} AND rv_end_date > #{from}")
+    List<ReservationVO> getListByRoom_id(@Param("room_id") int room_id, @Param("from") LocalDate from);
+
+    @Select("SELECT rv_id, user_id, accom_id, room_id, rv_start_date, rv_end_date " +
+            "FROM RESERVATION WHERE room_id = #{room_id} AND rv_start_date < #{end} AND rv_end_date > #{start}")
+    List<ReservationVO> getOverlapping(@Param("room_id") int room_id, @Param("start") LocalDate start,
+                                       @Param("end") LocalDate end);
+    // 숙박 기간이 겹치는 예약 (객실 행을 잠근 뒤 남은 객실 확인용)
+
+    @Select("SELECT rv_id, user_id, accom_id, room_id, rv_start_date, rv_end_date " +
+            "FROM RESERVATION WHERE rv_id = #{rv_id}")
+    ReservationVO getOne(int rv_id);
+
+    @Insert("INSERT INTO RESERVATION (user_id, accom_id, room_id, rv_start_date, rv_end_date)" +
+            " VALUES (#{user_id}, #{accom_id}, #{room_id}, #{rv_start_date}, #{rv_end_date})")
+    @Options(useGeneratedKeys = true, keyProperty = "rv_id")
+    boolean insert(ReservationVO vo); // 예약 등록
+
+    @Delete("DELETE FROM RESERVATION WHERE rv_id = #{rv_id}")
+    boolean delete(int rv_id); // 예약 취소
+}
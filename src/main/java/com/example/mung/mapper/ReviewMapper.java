@@ -1,5 +1,6 @@
 package com.example.mung.mapper;
 
+import com.example.mung.domain.AccomStatsDTO;
 import com.example.mung.domain.ReviewDTO;
 import com.example.mung.domain.ReviewVO;
 import org.apache.ibatis.annotations.*;
@@ -19,6 +20,24 @@ public interface ReviewMapper {
             "JOIN ACCOMMODATION a ON res.accom_id = a.accom_id")
     List<ReviewVO> getAllReviews();
 
+    // 숙소별 리뷰 집계 (예약을 거쳐 숙소와 연결. 숙소 통계 적재용)
+    @Select("SELECT res.accom_id AS accom_id, COUNT(*) AS review_count, " +
+            "SUM(r.rating) AS rating_sum, MAX(r.created_at) AS last_review_at " +
+            "FROM REVIEW r JOIN RESERVATION res ON r.rv_id = res.rv_id " +
+            "GROUP BY res.accom_id")
+    List<AccomStatsDTO> getStatsByAccom();
+
+    @Select("SELECT review_id, user_id, rv_id, rating, comment, created_at FROM REVIEW WHERE review_id = #{review_id}")
+    ReviewDTO getOne(int review_id);
+
+    @Insert("INSERT INTO REVIEW (user_id, rv_id, rating, comment, created_at) " +
+            "VALUES (#{user_id}, #{rv_id}, #{rating}, #{comment}, #{created_at})")
+    @Options(useGeneratedKeys = true, keyProperty = "review_id")
+    boolean insert(ReviewDTO dto); // 리뷰 등록
+
+    @Delete("DELETE FROM REVIEW WHERE review_id = #{review_id}")
+    boolean delete(int review_id); // 리뷰 삭제
+
 }
 
 
@@ -27,7 +27,7 @@ public interface RoomMapper {
                 " FROM ROOM")
    List<RoomDTO>getList();
 
-    @Select("SELECT room_id, room_name, room_type, room_price," +
+    @Select("SELECT room_id, accom_id, room_name, room_type, room_price, room_images_url," +
          " room_info, room_amount, pet_kind, capacity_standard, capacity_max " +
          " FROM ROOM WHERE accom_id = #{accom_id}")
     List<RoomDTO>getListByAccom_id(int accom_id); // 숙소id로 해당 숙소의 객실 전부 출력
@@ -40,12 +40,17 @@ public interface RoomMapper {
             "FROM ROOM WHERE room_id = #{room_id}")
     RoomDTO getOne(int room_id);
 
+    // 예약 트랜잭션 안에서 객실 행을 잠금 (같은 객실의 예약은 서버가 여러 대여도 여기서 줄을 섬)
+    @Select("SELECT room_id, accom_id, room_amount FROM ROOM WHERE room_id = #{room_id} FOR UPDATE")
+    RoomDTO getOneForUpdate(int room_id);
+
     @Select("SELECT room_name, room_type, room_price, room_images_url, room_info, room_amount, pet_kind, capacity_standard, capacity_max" +
             " FROM ROOM WHERE pet_kind = #{pet_kind}")
     List<RoomDTO>getListByPet_kind(String pet_kind); //반려견의 크기(소,중,대)로 객실 추출
 
     @Insert("INSERT INTO ROOM (accom_id, room_name, room_type, room_price, room_images_url, room_info, room_amount, pet_kind, capacity_standard, capacity_max)" +
             " VALUES (#{accom_id}, #{room_name}, #{room_type}, #{room_price},#{room_images_url}, #{room_info}, #{room_amount}, #{pet_kind}, #{capacity_standard}, #{capacity_max});")
+    @Options(useGeneratedKeys = true, keyProperty = "room_id")
     boolean insert(RoomVO vo); //객실 추가
 
 
@@ -0,0 +1,46 @@
+package com.example.mung.mapper;
+
+import com.example.mung.domain.SessionRow;
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+
+// 세션 저장소 (JdbcSessionStore). 여러 서버가 같은 세션을 보도록 DB 에 둠
+@Mapper
+public interface SessionMapper {
+
+    @Select("SELECT session_id, creation_time, last_access_time, max_inactive_interval, expiry_time, attributes, version " +
+            "FROM user_session WHERE session_id = #{session_id}")
+    SessionRow findById(@Param("session_id") String session_id);
+
+    // 새 세션만 (있는 세션을 덮어쓰지 않음)
+    @Insert("INSERT INTO user_session (session_id, creation_time, last_access_time, max_inactive_interval, expiry_time, attributes, version) " +
+            "VALUES (#{session_id}, #{creation_time}, #{last_access_time}, #{max_inactive_interval}, #{expiry_time}, #{attributes}, #{version})")
+    int insert(SessionRow row);
+
+    // 읽었을 때의 version 과 같을 때만 (0건: 로그아웃으로 삭제됐거나 다른 요청이 먼저 바꿈)
+    @Update("UPDATE user_session SET last_access_time = #{row.last_access_time}, max_inactive_interval = #{row.max_inactive_interval}, " +
+            "expiry_time = #{row.expiry_time}, attributes = #{row.attributes}, version = #{row.version} " +
+            "WHERE session_id = #{row.session_id} AND version = #{expected}")
+    int update(@Param("row") SessionRow row, @Param("expected") long expected);
+
+    // 속성은 그대로, 마지막 접근 시각만
+    @Update("UPDATE user_session SET last_access_time = #{last_access_time}, expiry_time = #{expiry_time} " +
+            "WHERE session_id = #{session_id}")
+    int touch(@Param("session_id") String session_id, @Param("last_access_time") long last_access_time,
+              @Param("expiry_time") long expiry_time);
+
+    // 로그인 등에서 세션 ID 만 바꾼 경우
+    @Update("UPDATE user_session SET session_id = #{new_id} WHERE session_id = #{old_id}")
+    int changeId(@Param("old_id") String old_id, @Param("new_id") String new_id);
+
+    @Delete("DELETE FROM user_session WHERE session_id = #{session_id}")
+    int delete(@Param("session_id") String session_id);
+
+    // 한 번에 너무 많이 지우지 않도록 limit 씩 (expiry_time index 사용)
+    @Delete("DELETE FROM user_session WHERE expiry_time < #{now} LIMIT #{limit}")
+    int deleteExpired(@Param("now") long now, @Param("limit") int limit);
+}
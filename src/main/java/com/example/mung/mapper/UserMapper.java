@@ -18,6 +18,12 @@ public interface UserMapper {
     @Select("select * from user where user_id = #{id}")
     UserDTO getOne(int id);
 
+    // 전체 프로필 (비밀번호 제외)
+    @Select("select user_id, user_name, user_email, user_phone, user_birth, user_gender, nickname, role, " +
+            "profile_image_url, pet_info, created_at, updated_at, business_number, business_sns_url, user_loginId " +
+            "from user where user_id = #{user_id}")
+    UserVO getProfile(@Param("user_id") int user_id);
+
 
 
 
@@ -30,16 +36,21 @@ public interface UserMapper {
             "VALUES (#{user_name},#{user_email}, #{password}, #{user_phone}, #{user_birth}, #{user_gender}, #{nickname}, #{role}, #{user_loginId},#{business_number})")
     boolean insert_b(UserVO vo);
 
-    // User 수정
-    @Update("UPDATE user SET user_loginId=#{user_loginId},user_name = #{user_name}, user_email = #{user_email}, password = #{password}, " +
+    // User 수정 (비밀번호는 updatePassword 로만)
+    @Update("UPDATE user SET user_loginId=#{user_loginId},user_name = #{user_name}, user_email = #{user_email}, " +
             "user_phone = #{user_phone}, user_birth = #{user_birth}, user_gender = #{user_gender}, " +
             "nickname = #{nickname}, role = #{role}, " +
-            "profile_image_url = #{profile_image_url}, pet_info = #{pet_info} ,business_number=#{business_number},business_sns_url=#{business_sns_url} " +
+            "profile_image_url = #{profile_image_url}, business_number=#{business_number},business_sns_url=#{business_sns_url} " +
             "WHERE user_id = #{user_id}")
     boolean update(UserVO vo);
 
-    @Update("update user set pet_info = #{pet_info} where user_id = #{user_id}")
-    boolean updatePet_info(UserVO vo);
+    // 해시한 비밀번호만 변경
+    @Update("UPDATE user SET password = #{password} WHERE user_id = #{user_id}")
+    int updatePassword(@Param("user_id") int user_id, @Param("password") String password);
+
+    // 반려견은 pet 테이블로 옮김 (PetService). 읽은 값과 같을 때만 비움 (1: 이 요청이 옮김, 0: 이미 옮겨짐)
+    @Update("update user set pet_info = null where user_id = #{user_id} and pet_info = #{old}")
+    int clearPet_info(@Param("user_id") int user_id, @Param("old") String old);
 
     //한 컬럼만 변경 가능한지 체크한 메서드
     @Update("UPDATE user SET user_loginId=#{user_loginId}WHERE user_id = #{user_id}")
@@ -0,0 +1,94 @@
+package com.example.mung.push;
+
+import com.example.mung.domain.CommentDTO;
+import com.example.mung.domain.PostUpdate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 게시글별 STOMP 토픽(/topic/posts/{post_id})으로 새 댓글과 좋아요/싫어요 수를 보냄
+// 쓰기 요청은 이미 가진 값(저장한 댓글, 저장 후 카운터)을 여기에 넣기만 하고, 주기마다 게시글별로 모아서 메시지 한 건으로 보낸다
+// 메시지는 한 번 만들어서 구독자 전부에게 그대로 나감 (구독자 수만큼 DB 를 읽지 않음)
+@Component
+public class PostUpdates {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostUpdates.class);
+    public static final String TOPIC_PREFIX = "/topic/posts/";
+    static final int MAX_COMMENTS = 20; // 한 메시지에 담을 새 댓글 수
+
+    private final SimpMessageSendingOperations messaging;
+
+    // post_id -> 아직 안 보낸 변경. 더하기와 꺼내기는 compute / remove 로 키 단위 원자적
+    private final Map<Integer, Pending> pending = new ConcurrentHashMap<>();
+
+    public PostUpdates(SimpMessageSendingOperations messaging) {
+        this.messaging = messaging;
+    }
+
+    public static String topic(int post_id) {
+        return TOPIC_PREFIX + post_id;
+    }
+
+    // 댓글 저장 후 (nickname, created_at 이 채워진 댓글)
+    public void commentAdded(CommentDTO comment) {
+        pending.compute(comment.getPost_id(), (id, p) -> {
+            p = p == null ? new Pending() : p;
+            if (p.comments.size() < MAX_COMMENTS) {
+                p.comments.add(comment);
+            } else {
+                p.more = true;
+            }
+            return p;
+        });
+    }
+
+    // 좋아요/싫어요가 바뀐 뒤. 같은 댓글은 마지막 값만 보냄
+    public void votesChanged(int post_id, int comment_id, int likeCount, int dislikeCount) {
+        CommentDTO counts = new CommentDTO();
+        counts.setPost_id(post_id);
+        counts.setComment_id(comment_id);
+        counts.setLikeCount(likeCount);
+        counts.setDislikeCount(dislikeCount);
+        pending.compute(post_id, (id, p) -> {
+            p = p == null ? new Pending() : p;
+            p.votes.put(comment_id, counts);
+            return p;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${mung.push.coalesce-ms:500}")
+    public void flush() {
+        for (Integer post_id : pending.keySet()) {
+            Pending p = pending.remove(post_id);
+            if (p == null) {
+                continue;
+            }
+            PostUpdate update = new PostUpdate(post_id, List.copyOf(p.comments), new ArrayList<>(p.votes.values()), p.more);
+            try {
+                messaging.convertAndSend(topic(post_id), update);
+            } catch (RuntimeException e) {
+                // 실시간 갱신은 놓쳐도 새로고침하면 보이므로 다시 보내지 않음
+                logger.warn("게시글 실시간 갱신 전송 실패: {}", post_id, e);
+            }
+        }
+    }
+
+    int pendingPosts() {
+        return pending.size();
+    }
+
+    private static final class Pending {
+        final List<CommentDTO> comments = new ArrayList<>();
+        final Map<Integer, CommentDTO> votes = new LinkedHashMap<>();
+        boolean more;
+    }
+}
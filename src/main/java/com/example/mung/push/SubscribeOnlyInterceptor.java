@@ -0,0 +1,34 @@
+package com.example.mung.push;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+
+import java.util.Set;
+
+// 클라이언트 -> 서버 STOMP 프레임 검사 (WebSocketConfig 의 inbound 채널)
+// simple broker 는 SEND 로 받은 메시지를 그대로 구독자에게 뿌리므로, 클라이언트는 접속/구독만 할 수 있게 막음
+// (SEND 가 열려 있으면 로그인 없이도 가짜 댓글/추천 수를 그 글을 보는 모든 사람에게 보낼 수 있음)
+public class SubscribeOnlyInterceptor implements ChannelInterceptor {
+
+    private static final Set<SimpMessageType> ALLOWED = Set.of(SimpMessageType.CONNECT, SimpMessageType.SUBSCRIBE,
+            SimpMessageType.UNSUBSCRIBE, SimpMessageType.DISCONNECT, SimpMessageType.HEARTBEAT);
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+        if (type == null || !ALLOWED.contains(type)) {
+            throw new MessageDeliveryException(message, "클라이언트는 메시지를 보낼 수 없습니다: " + type);
+        }
+        if (type == SimpMessageType.SUBSCRIBE) {
+            String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+            if (destination == null || !destination.startsWith(PostUpdates.TOPIC_PREFIX)) {
+                throw new MessageDeliveryException(message, "구독할 수 없는 주소입니다: " + destination);
+            }
+        }
+        return message;
+    }
+}
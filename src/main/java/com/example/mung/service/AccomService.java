@@ -1,20 +1,27 @@
 package com.example.mung.service;
 
 import com.example.mung.domain.AccomDTO;
+import com.example.mung.domain.AccomDetail;
+import com.example.mung.domain.AccomFilter;
+import com.example.mung.domain.AccomPage;
 import com.example.mung.domain.AccomVO;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface AccomService {
     //AccomService는 DAO를 호출하는 역할
     // -> 인터페이스에서 정의된 메서드를실제로 구현
     List<AccomDTO>findAll();
-    List<AccomDTO>readByLocation(String location, int capacity);
 
     AccomDTO readByUser(int accom_id);
+    AccomDetail readDetail(int accom_id); // 상세 페이지용 숙소+호스트/리뷰/객실 묶음 (캐시)
     List<AccomDTO> readByReview(int accom_id);
 
     List<AccomDTO>readByRating();
+    // 검색 페이지: 별점 순으로 cursor 다음부터 size개 (필터에 맞고 숙박 기간 내내 빈 객실이 있는 숙소만)
+    AccomPage search(String location, int capacity, AccomFilter filter, LocalDate rv_start, LocalDate rv_end, String cursor, int size);
+    List<AccomDTO>readTopRated(int n); // 메인페이지용 별점 상위 n개
     AccomDTO readByAccomId(int accom_id);
     boolean  register(AccomVO vo);
     boolean modify(AccomVO vo);
@@ -1,13 +1,26 @@
 package com.example.mung.service;
 
+import com.example.mung.cache.AccomDetailCache;
 import com.example.mung.domain.AccomDTO;
+import com.example.mung.domain.AccomDetail;
+import com.example.mung.domain.AccomFilter;
+import com.example.mung.domain.AccomPage;
 import com.example.mung.domain.AccomVO;
+import com.example.mung.index.AccomStats;
+import com.example.mung.index.AccomStatsStore;
+import com.example.mung.index.AccomTextIndex;
+import com.example.mung.index.AvailabilityIndex;
+import com.example.mung.index.FacetIndex;
+import com.example.mung.index.FacetResult;
 import com.example.mung.mapper.AccomMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 // 스프링에서 빈으로 인식하기위한 어노테이션
 @Service
@@ -16,19 +29,28 @@ public class AccomServiceImpl implements AccomService {
     @Autowired
     private AccomMapper accomDAO;  //AccomMapper 받아서 accomDAO 객체 생성
 
-    @Override
+    @Autowired
+    private AvailabilityIndex availabilityIndex; // 객실별 날짜별 남은 객실 수
 
-    public List<AccomDTO> findAll() {
+    @Autowired
+    private AccomStatsStore accomStatsStore; // 숙소별 리뷰/최저가 통계와 별점 순위
 
-        return accomDAO.getList();
-    }
+    @Autowired
+    private AccomTextIndex accomTextIndex; // 숙소 이름/위치 n-gram 색인
+
+    @Autowired
+    private FacetIndex facetIndex; // 반려견/가격대/인원/편의시설 필터 비트셋
+
+    @Autowired
+    private AccomDetailCache accomDetailCache; // 상세 페이지 캐시
+
+    private static final int NARROW_RATIO = 8; // 필터 결과가 전체의 1/8 미만이면 결과만 따로 정렬
 
     @Override
 
-    public List<AccomDTO> readByLocation(String location, int guestCount) {  // 위치에 따른 숙소 출력
-        System.out.println(location + " 지역에 있는 숙소를 출력합니다");
-        return accomDAO.getListByLocation(location, guestCount);
+    public List<AccomDTO> findAll() {
 
+        return accomDAO.getList();
     }
 
     @Transactional
@@ -41,6 +63,11 @@ public class AccomServiceImpl implements AccomService {
         System.out.println("서비스단에서 출력:"+a);
         return a;
     }
+    @Override
+    public AccomDetail readDetail(int accom_id) {
+        return accomDetailCache.get(accom_id);
+    }
+
     @Transactional
     @Override
 
@@ -62,7 +89,57 @@ public class AccomServiceImpl implements AccomService {
     @Override
     public List<AccomDTO> readByRating() {
         System.out.println("별점 높은 숙소들이라구~");
-        return accomDAO.getListByRating();
+        // 3중 조인 + 전체 정렬 대신 메모리에 유지 중인 순위를 그대로 사용
+        return readTopRated(accomStatsStore.size());
+    }
+
+    @Override
+    public AccomPage search(String location, int capacity, AccomFilter filter, LocalDate rv_start, LocalDate rv_end, String cursor, int size) {
+        // 검색어가 있으면 n-gram 색인에서 이름/위치가 맞는 숙소 id 집합을 구함 (DB 조회 없음)
+        Set<Integer> candidates = null;
+        if (location != null && !location.isEmpty()) {
+            candidates = accomTextIndex.search(location);
+        }
+        // 인원/반려견/가격대/편의시설 조건은 비트셋 AND 로 한 번에 거르고 필터 값별 숙소 수도 같이 구함
+        FacetResult facets = facetIndex.filter(candidates, capacity, filter);
+        // 커서 위치부터 순위를 따라가며 조건에 맞는 숙소를 size+1개까지만 모음 (+1은 다음 페이지 존재 여부 확인용)
+        // 남은 숙소가 적으면 그 숙소들만 정렬해서 보고, 많으면 전체 순위를 커서 위치부터 따라가며 비트셋으로 거름
+        Iterable<AccomStats> ranked = facets.size() * NARROW_RATIO < accomStatsStore.size()
+                ? accomStatsStore.rankingAfter(cursor, facets.accomIds())
+                : accomStatsStore.rankingAfter(cursor);
+        List<AccomStats> hits = new ArrayList<>(size + 1);
+        for (AccomStats s : ranked) {
+            if (!facets.containsAccom(s.getAccom_id())) {
+                continue;
+            }
+            // 필터 조건에 맞는 객실 중에 빈 객실이 있어야 함
+            if (!availabilityIndex.hasAvailableRoom(s.getAccom_id(), capacity, rv_start, rv_end, facets::containsRoom)) {
+                continue;
+            }
+            hits.add(s);
+            if (hits.size() > size) {
+                break;
+            }
+        }
+        String next = null;
+        if (hits.size() > size) {
+            hits.remove(size);
+            next = AccomStatsStore.cursorOf(hits.get(size - 1));
+        }
+        List<AccomDTO> items = new ArrayList<>(hits.size());
+        for (AccomStats s : hits) {
+            items.add(s.toDTO());
+        }
+        return new AccomPage(items, next, facets.getCounts());
+    }
+
+    @Override
+    public List<AccomDTO> readTopRated(int n) {
+        List<AccomDTO> list = new ArrayList<>();
+        for (AccomStats s : accomStatsStore.top(n)) {
+            list.add(s.toDTO());
+        }
+        return list;
     }
 
     @Override
@@ -71,6 +148,7 @@ public class AccomServiceImpl implements AccomService {
         return accomDAO.getOneByAccom_id(accom_id);
     }
 
+    @Transactional
     @Override
     public boolean register(AccomVO vo) { //숙소 등록
         List<AccomVO> checkAccom = accomDAO.getoneByUserAndAccom_name(vo);
@@ -83,7 +161,11 @@ public class AccomServiceImpl implements AccomService {
             // 존재하는 숙소임을 확인!
         } else {
             System.out.println(" 숙소 등록 성공");
-            return accomDAO.insert(vo);
+            boolean result = accomDAO.insert(vo);
+            if (result) {
+                afterSave(vo);
+            }
+            return result;
             //그렇지 않다면 숙소를 삽입하고 객체반환;
         }
     }
@@ -94,15 +176,40 @@ public class AccomServiceImpl implements AccomService {
     public boolean modify(AccomVO vo) { //숙소 수정
 
         System.out.println("숙소 업데이트 성공");
-        return accomDAO.update(vo);
+        boolean result = accomDAO.update(vo);
+        if (result) {
+            afterSave(vo);
+        }
+        return result;
     }
 
+    // 색인/캐시는 커밋된 뒤에 바꿈 (커밋 전에 비우면 다른 요청이 바뀌기 전 행을 다시 캐시할 수 있음)
+    private void afterSave(AccomVO vo) {
+        TransactionHooks.afterCommit(() -> {
+            accomStatsStore.putAccom(vo);
+            accomTextIndex.put(vo.getAccom_id(), vo.getAccom_name(), vo.getAccom_location());
+            facetIndex.putAccom(vo.getAccom_id(), vo.getAccom_amenities());
+            accomDetailCache.invalidate(vo.getAccom_id());
+        });
+    }
+
+    @Transactional
     @Override
 
     public boolean remove(int accom_id) { //숙소 삭제
 
         System.out.println("숙소 삭제 성공 ");
-        return accomDAO.delete(accom_id);
+        boolean result = accomDAO.delete(accom_id);
+        if (result) {
+            TransactionHooks.afterCommit(() -> {
+                availabilityIndex.removeAccom(accom_id);
+                accomStatsStore.removeAccom(accom_id);
+                accomTextIndex.remove(accom_id);
+                facetIndex.removeAccom(accom_id);
+                accomDetailCache.invalidate(accom_id);
+            });
+        }
+        return result;
     }
 
 }
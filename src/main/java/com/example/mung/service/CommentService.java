@@ -1,12 +1,14 @@
 package com.example.mung.service;
 
 import com.example.mung.domain.CommentDTO;
+import com.example.mung.domain.CommentPage;
 import java.util.List;
 
 public interface CommentService {
     List<CommentDTO> findAll();
     List<CommentDTO> readByUserId(int user_id);
     List<CommentDTO> readByPostId(int post_id);
+    CommentPage readPage(int post_id, String sort, String cursor, int size); // 게시글 댓글 한 페이지 (sort: new, best)
     boolean register(CommentDTO comment);
     boolean modify(CommentDTO comment);
     boolean remove(int comment_id);
@@ -1,20 +1,33 @@
 package com.example.mung.service;
 
+import com.example.mung.cache.PostDetailCache;
+import com.example.mung.domain.CommentCursor;
 import com.example.mung.domain.CommentDTO;
+import com.example.mung.domain.CommentPage;
+import com.example.mung.index.TrendingPosts;
 import com.example.mung.mapper.CommentMapper;
+import com.example.mung.push.PostUpdates;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
 public class CommentServiceImpl implements CommentService {
 
     private final CommentMapper commentMapper;
+    private final PostDetailCache postDetailCache;
+    private final TrendingPosts trendingPosts;
+    private final PostUpdates postUpdates;
 
     @Autowired
-    public CommentServiceImpl(CommentMapper commentMapper) {
+    public CommentServiceImpl(CommentMapper commentMapper, PostDetailCache postDetailCache, TrendingPosts trendingPosts,
+                              PostUpdates postUpdates) {
         this.commentMapper = commentMapper;
+        this.postDetailCache = postDetailCache;
+        this.trendingPosts = trendingPosts;
+        this.postUpdates = postUpdates;
     }
 
     @Override
@@ -32,20 +45,49 @@ public class CommentServiceImpl implements CommentService {
         return commentMapper.getCommentsByPostId(post_id);
     }
 
+    // keyset 으로 size + 1 개를 읽어서 다음 페이지가 있는지 판단. 댓글 수는 첫 페이지에서만 셈 (이어 보기에는 필요 없음)
+    @Override
+    public CommentPage readPage(int post_id, String sort, String cursor, int size) {
+        String order = CommentCursor.sort(sort);
+        CommentCursor c = CommentCursor.parse(order, cursor);
+        List<CommentDTO> rows = commentMapper.getCommentPage(post_id, CommentCursor.BEST.equals(order), c, size + 1);
+        int total = c == null ? commentMapper.countByPostId(post_id) : -1;
+        return CommentPage.of(order, rows, size, total);
+    }
+
     @Override
     public boolean register(CommentDTO comment) {
-        return commentMapper.insertComment(comment) > 0;
+        boolean inserted = commentMapper.insertComment(comment) > 0;
+        if (inserted) {
+            postDetailCache.bump(comment.getPost_id()); // 게시글 상세의 댓글 목록 다시 읽기
+            trendingPosts.recordComment(comment.getPost_id());
+            // 보고 있는 화면에 바로 보냄. 작성 시각은 DB 기본값과 몇 ms 차이라 다시 읽지 않음 (nickname 은 컨트롤러가 채움)
+            if (comment.getCreated_at() == null) {
+                comment.setCreated_at(LocalDateTime.now());
+            }
+            postUpdates.commentAdded(comment);
+        }
+        return inserted;
     }
 
     @Override
     public boolean modify(CommentDTO comment) {
-        return commentMapper.updateComment(comment) > 0;
+        boolean updated = commentMapper.updateComment(comment) > 0;
+        if (updated) {
+            postDetailCache.bump(comment.getPost_id()); // 수정은 post_id 까지 맞아야 반영됨
+        }
+        return updated;
     }
 
     @Transactional
     @Override
     public boolean remove(int comment_id) {
-        return commentMapper.deleteComment(comment_id) > 0;
+        Integer post_id = commentMapper.findPostId(comment_id); // 캐시된 첫 페이지에 없는 댓글이어도 댓글 수가 바뀜
+        boolean deleted = commentMapper.deleteComment(comment_id) > 0;
+        if (deleted && post_id != null) {
+            postDetailCache.bump(post_id);
+        }
+        return deleted;
     }
 
     @Override
@@ -9,4 +9,7 @@ public interface Comment_likeService {
 
     // 댓글의 좋아요 및 싫어요 카운트 조회
     Map<String, Integer> getLikeAndDislikeCounts(int comment_id);
+
+    // comment 의 카운터를 comment_like 기준으로 다시 맞추고, 고친 댓글 수를 반환
+    int reconcileCounts();
 }
@@ -1,46 +1,143 @@
 package com.example.mung.service;
 
+import com.example.mung.cache.CommentVoteBatcher;
+import com.example.mung.cache.PostDetailCache;
+import com.example.mung.domain.CommentDTO;
 import com.example.mung.domain.Comment_likeDTO;
+import com.example.mung.domain.VoteResult;
+import com.example.mung.index.TrendingPosts;
+import com.example.mung.mapper.CommentMapper;
 import com.example.mung.mapper.Comment_likeMapper;
+import com.example.mung.push.PostUpdates;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.util.HashMap;
 import java.util.Map;
 
 @Service
 public class Comment_likeServiceImpl implements Comment_likeService {
 
+    private static final Logger logger = LoggerFactory.getLogger(Comment_likeServiceImpl.class);
+    private static final int RECONCILE_BATCH = 1000; // 카운터 보정 한 번에 볼 comment_id 범위
+
     private final Comment_likeMapper commentLikeMapper;
+    private final CommentMapper commentMapper;
+    private final PostDetailCache postDetailCache;
+    private final TrendingPosts trendingPosts;
+    private final CommentVoteBatcher voteBatcher;
+    private final TransactionTemplate transactionTemplate;
+    private final PostUpdates postUpdates;
 
     @Autowired
-    public Comment_likeServiceImpl(Comment_likeMapper commentLikeMapper) {
+    public Comment_likeServiceImpl(Comment_likeMapper commentLikeMapper, CommentMapper commentMapper,
+                                   PostDetailCache postDetailCache, TrendingPosts trendingPosts,
+                                   CommentVoteBatcher voteBatcher, TransactionTemplate transactionTemplate,
+                                   PostUpdates postUpdates) {
         this.commentLikeMapper = commentLikeMapper;
+        this.commentMapper = commentMapper;
+        this.postDetailCache = postDetailCache;
+        this.trendingPosts = trendingPosts;
+        this.voteBatcher = voteBatcher;
+        this.transactionTemplate = transactionTemplate;
+        this.postUpdates = postUpdates;
     }
 
+    // 투표 저장과 comment 의 카운터 증감을 한 트랜잭션에서 (같은 투표를 다시 누르면 아무것도 바뀌지 않음)
+    // 묶음 처리가 켜져 있으면 CommentVoteBatcher 가 모아서 저장 (기다리는 동안 DB 연결을 잡지 않도록 여기는 트랜잭션 밖)
     @Override
-    @Transactional
     public Map<String, Integer> likeOrDislike(Comment_likeDTO commentLikeDTO) {
-        Comment_likeDTO existing = commentLikeMapper.findByCommentIdAndUserId(commentLikeDTO.getComment_id(), commentLikeDTO.getUser_id());
+        VoteResult result = voteBatcher.isEnabled() ? voteBatcher.vote(commentLikeDTO)
+                : transactionTemplate.execute(status -> vote(commentLikeDTO));
 
-        if (existing != null) {
-            commentLikeMapper.updateLikeDislike(commentLikeDTO);
-        } else {
-            commentLikeMapper.insertLikeDislike(commentLikeDTO);
+        if (result.isChanged()) {
+            int comment_id = commentLikeDTO.getComment_id();
+            postDetailCache.bumpForComment(comment_id); // 게시글 상세의 좋아요/싫어요 수
+            Integer post_id = commentMapper.findPostId(comment_id);
+            if (post_id != null) {
+                // 보고 있는 화면에는 저장 후 카운터를 그대로 보냄
+                postUpdates.votesChanged(post_id, comment_id, result.getLikeCount(), result.getDislikeCount());
+                // 새로 누른 좋아요만 인기글 점수에 더함 (같은 사람이 싫어요 -> 좋아요로 바꾼 것도 포함)
+                if (commentLikeDTO.getType() == Comment_likeDTO.Type.LIKE) {
+                    trendingPosts.recordLike(post_id);
+                }
+            }
         }
 
-        return getLikeAndDislikeCounts(commentLikeDTO.getComment_id());
+        Map<String, Integer> response = new HashMap<>();
+        response.put("likeCount", result.getLikeCount());
+        response.put("dislikeCount", result.getDislikeCount());
+        return response;
+    }
+
+    // 카운터 반영(이전 투표와 비교) -> 바뀌었으면 upsert -> 카운터 조회 (-> 추천순 점수 저장). 미리 SELECT 하지 않음
+    // 카운터 UPDATE 가 댓글 행 lock 을 잡으므로 같은 사용자가 연달아 눌러도 두 번째는 0 이 되어 중복 반영되지 않음
+    private VoteResult vote(Comment_likeDTO commentLikeDTO) {
+        int comment_id = commentLikeDTO.getComment_id();
+        boolean changed = commentLikeMapper.applyVoteToCounts(commentLikeDTO) > 0;
+        if (changed) {
+            commentLikeMapper.upsertVote(commentLikeDTO);
+        }
+        Comment_likeDTO counts = commentLikeMapper.getCounts(comment_id);
+        if (counts == null) {
+            return new VoteResult(false, 0, 0);
+        }
+        if (changed) {
+            commentLikeMapper.updateBestScores(Map.of(comment_id,
+                    CommentDTO.wilsonScore(counts.getLikeCount(), counts.getDislikeCount())));
+        }
+        return new VoteResult(changed, counts.getLikeCount(), counts.getDislikeCount());
     }
 
     @Override
     public Map<String, Integer> getLikeAndDislikeCounts(int comment_id) {
-        int likeCount = commentLikeMapper.getLikeCount(comment_id);
-        int dislikeCount = commentLikeMapper.getDislikeCount(comment_id);
+        Comment_likeDTO counts = commentLikeMapper.getCounts(comment_id);
 
         Map<String, Integer> response = new HashMap<>();
-        response.put("likeCount", likeCount);
-        response.put("dislikeCount", dislikeCount);
+        response.put("likeCount", counts == null ? 0 : counts.getLikeCount());
+        response.put("dislikeCount", counts == null ? 0 : counts.getDislikeCount());
 
         return response;
     }
+
+    // 카운터가 comment_like 와 어긋난 댓글을 찾아 맞추고, 추천순 점수도 카운터 기준으로 다시 맞춤 (직접 DB 를 고친 경우, 컬럼을 처음 추가한 경우 등)
+    // comment_id 범위를 나눠서 범위마다 트랜잭션 하나로 돌기 때문에 한 번에 오래 lock 을 잡지 않음
+    // 카운터를 읽고 점수를 쓰는 사이에 투표가 끼어들면 옛 카운터로 계산한 점수가 남으므로, 범위의 행을 lock 을 잡고 읽음
+    @Override
+    @Scheduled(cron = "${mung.comment.count-reconcile-cron:0 30 4 * * *}")
+    public int reconcileCounts() {
+        int max = commentLikeMapper.getMaxCommentId();
+        int fixed = 0;
+        int rescored = 0;
+        for (int from = 1; from <= max; from += RECONCILE_BATCH) {
+            int[] result = reconcileRange(from, from + RECONCILE_BATCH - 1);
+            fixed += result[0];
+            rescored += result[1];
+        }
+        if (fixed > 0 || rescored > 0) {
+            logger.warn("댓글 좋아요/싫어요 카운터 보정 - 카운터 {}개, 추천순 점수 {}개", fixed, rescored);
+        }
+        return fixed;
+    }
+
+    // {카운터를 고친 댓글 수, 점수를 고친 댓글 수}
+    private int[] reconcileRange(int from, int to) {
+        return transactionTemplate.execute(status -> {
+            int fixed = commentLikeMapper.reconcileCounts(from, to);
+            Map<Integer, Double> scores = new HashMap<>();
+            for (CommentDTO c : commentMapper.getScoresInRangeForUpdate(from, to)) {
+                double score = CommentDTO.wilsonScore(c.getLikeCount(), c.getDislikeCount());
+                if (score != c.getBest_score()) {
+                    scores.put(c.getComment_id(), score);
+                }
+            }
+            if (!scores.isEmpty()) {
+                commentLikeMapper.updateBestScores(scores);
+            }
+            return new int[]{fixed, scores.size()};
+        });
+    }
 }
@@ -13,15 +13,15 @@ public interface LoginService {
     //아이디 비밀번호로 로그인 성공 하는지 여부
     UserVO loginSuccess(LoginDTO dto);
 
-    //아이디 중복체크용 메서드
+    //아이디 중복체크용 메서드 (대부분 DB 를 보지 않음)
     boolean idCheck(String user_loginId);
 
+    //가입한 아이디를 중복체크에 바로 반영
+    void addLoginId(String user_loginId);
+
     //해당 아이디 이름 출력
     String printName(String user_loginId);
 
-    //아이디 전체 출력 리스트
-    List<String> idList();
-
     String findId(String name, String email, LocalDateTime birth);
 
     String idCheckForModifyPassword(String id, String email, LocalDateTime birth);
@@ -4,7 +4,12 @@ package com.example.mung.service;
 import com.example.mung.domain.LoginDTO;
 import com.example.mung.domain.UserDTO;
 import com.example.mung.domain.UserVO;
+import com.example.mung.auth.PasswordHasher;
+import com.example.mung.exception.PasswordHashingBusyException;
+import com.example.mung.index.LoginIdIndex;
 import com.example.mung.mapper.LoginMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -14,28 +19,54 @@ import java.util.List;
 @Service
 public class LoginServiceImpl implements LoginService {
 
+    private static final Logger logger = LoggerFactory.getLogger(LoginServiceImpl.class);
+
     @Autowired
     private LoginMapper mapper;
 
+    @Autowired
+    private LoginIdIndex loginIdIndex;
+
+    @Autowired
+    private PasswordHasher passwordHasher;
+
     @Override
     public UserVO loginSuccess(LoginDTO dto){
-        return mapper.loginActive(dto);
+        UserVO user = mapper.loginActive(dto);
+        if (user == null) {
+            passwordHasher.matchesDummy(dto.getPassword()); // 있는 아이디와 같은 시간이 걸리도록
+            return null;
+        }
+        if (!passwordHasher.matches(dto.getPassword(), user.getPassword())) {
+            return null;
+        }
+        // 예전 평문 비밀번호 (또는 낮은 cost 해시) 는 맞게 입력한 지금 해시로 바꿔 저장
+        if (passwordHasher.needsRehash(user.getPassword())) {
+            try {
+                String hashed = passwordHasher.hash(dto.getPassword());
+                if (mapper.updatePasswordHash(user.getUser_id(), hashed, user.getPassword()) > 0) {
+                    user.setPassword(hashed);
+                }
+            } catch (PasswordHashingBusyException e) {
+                logger.info("비밀번호 해시 교체를 다음 로그인으로 미룸 - user_id {}", user.getUser_id());
+            }
+        }
+        return user;
     }
 
     @Override
     public boolean idCheck(String user_loginId){
-        return mapper.loginByIdCheck(user_loginId);
+        return loginIdIndex.exists(user_loginId);
     }
 
     @Override
-    public String printName(String user_loginId){
-        return mapper.nameCheck(user_loginId);
+    public void addLoginId(String user_loginId){
+        loginIdIndex.add(user_loginId);
     }
 
     @Override
-    public List<String> idList(){
-
-        return mapper.idList();
+    public String printName(String user_loginId){
+        return mapper.nameCheck(user_loginId);
     }
 
     @Override
@@ -51,7 +82,7 @@ public class LoginServiceImpl implements LoginService {
 
     @Override
     public int updatePassword(String id, String newPassword) {
-        return mapper.updatePassword(id,newPassword);
+        return mapper.updatePassword(id,passwordHasher.hash(newPassword));
     }
 
 //    public UserVO loginCheck(LoginDTO dto) {
@@ -0,0 +1,18 @@
+package com.example.mung.service;
+
+import com.example.mung.domain.Pet;
+import com.example.mung.domain.transfer.PetInfo;
+
+import java.util.List;
+
+public interface PetService {
+
+    //회원의 반려견 목록 (예전 user.pet_info JSON 이 남아 있으면 처음 한 번 pet 테이블로 옮김)
+    List<Pet> findByUser(int user_id, String legacy_pet_info);
+
+    //반려견 추가 (pet_id == 0) / 수정. 이름이 없거나 한도를 넘으면 false
+    boolean save(int user_id, int pet_id, PetInfo info);
+
+    //반려견 삭제
+    boolean remove(int user_id, int pet_id);
+}
@@ -0,0 +1,78 @@
+package com.example.mung.service;
+
+import com.example.mung.domain.Pet;
+import com.example.mung.domain.transfer.PetInfo;
+import com.example.mung.mapper.PetMapper;
+import com.example.mung.mapper.UserMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class PetServiceImpl implements PetService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PetServiceImpl.class);
+
+    private final PetMapper petMapper;
+    private final UserMapper userMapper;
+    private final int maxPerUser;
+    // 옮길 수 없다고 이미 로그를 남긴 회원 (프로필을 볼 때마다 남기지 않도록. 예전 값은 새로 생기지 않으므로 크기가 늘지 않음)
+    private final Set<Integer> unparseableLogged = ConcurrentHashMap.newKeySet();
+
+    public PetServiceImpl(PetMapper petMapper, UserMapper userMapper,
+                          @Value("${mung.pet.max-per-user:10}") int maxPerUser) {
+        this.petMapper = petMapper;
+        this.userMapper = userMapper;
+        this.maxPerUser = maxPerUser;
+    }
+
+    @Override
+    @Transactional
+    public List<Pet> findByUser(int user_id, String legacy_pet_info) {
+        List<Pet> pets = petMapper.findByUserId(user_id);
+        if (legacy_pet_info == null) {
+            return pets;
+        }
+        // 예전 JSON 은 여기서 한 번만 읽어서 옮김. 읽을 수 없는 값(깨진 JSON, 이름 없음)은 지우지 않고 그대로 둠
+        Pet legacy = Pet.fromLegacyJson(user_id, legacy_pet_info);
+        if (legacy == null) {
+            // 값에는 개인정보가 있을 수 있어서 길이만 남김
+            if (unparseableLogged.add(user_id)) {
+                logger.warn("반려견 정보를 옮길 수 없음 (user.pet_info 유지) - user_id={}, 길이={}", user_id, legacy_pet_info.length());
+            }
+            return pets;
+        }
+        // 읽은 값 그대로일 때만 비우고, 비운 요청만 추가 (동시에 처음 읽어도 한 번만 추가됨, 추가가 실패하면 같이 롤백)
+        if (userMapper.clearPet_info(user_id, legacy_pet_info) > 0) {
+            petMapper.insert(legacy);
+            logger.info("반려견 정보 이전 - user_id={}", user_id);
+        }
+        return petMapper.findByUserId(user_id);
+    }
+
+    @Override
+    public boolean save(int user_id, int pet_id, PetInfo info) {
+        Pet pet = Pet.of(pet_id, user_id, info);
+        if (pet == null) {
+            return false;
+        }
+        if (pet_id > 0) {
+            return petMapper.update(pet) > 0;
+        }
+        if (petMapper.countByUserId(user_id) >= maxPerUser) {
+            return false;
+        }
+        return petMapper.insert(pet) > 0;
+    }
+
+    @Override
+    public boolean remove(int user_id, int pet_id) {
+        return petMapper.delete(pet_id, user_id) > 0;
+    }
+}
@@ -1,8 +1,10 @@
 package com.example.mung.service;
 
 import com.example.mung.domain.PostDTO;
+import com.example.mung.domain.PostPage;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.util.List;
 
 public interface PostService {
@@ -11,13 +13,22 @@ public interface PostService {
 
     List<PostDTO> findAll(int page, int size); // 페이징 처리된 게시글 조회
 
+    PostPage listPosts(String category, String cursor, int size); // 목록용 요약, 커서 다음 size 개 (category null 이면 전체)
+
+    PostPage trending(String category, String cursor, int size); // 인기순 (조회/댓글/좋아요 + 시간 감쇠), category null 이면 전체
+
     boolean modify(PostDTO post); // 게시글 수정
 
+    boolean modify(PostDTO post, MultipartFile file, boolean deleteFile) throws IOException; // 게시글 수정 + 첨부파일 교체(file)/삭제(deleteFile)
+
     boolean increaseViewCount(int post_id); // 게시글 조회수 증가
 
     boolean remove(int post_id); // 게시글 삭제
     boolean createPost(PostDTO postDTO);
 
+    boolean createPost(PostDTO postDTO, MultipartFile file) throws IOException; // 첨부파일과 함께 게시글 작성
+
+    PostPage search(String keyword, String type, String cursor, int size); // 제목/내용 검색 (관련도순, type: title, content, all)
 
     List<PostDTO> searchByTitle(String keyword); // 제목으로 검색
 
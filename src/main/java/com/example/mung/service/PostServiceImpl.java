@@ -1,34 +1,56 @@
 package com.example.mung.service;
 
-import com.example.mung.domain.CommentDTO;
+import com.example.mung.cache.PostDetailCache;
+import com.example.mung.cache.PostListCache;
+import com.example.mung.cache.ViewCountBuffer;
+import com.example.mung.domain.PostCursor;
 import com.example.mung.domain.PostDTO;
+import com.example.mung.domain.PostPage;
+import com.example.mung.domain.PostSummary;
 import com.example.mung.exception.PostNotFoundException;
-import com.example.mung.mapper.CommentMapper;
+import com.example.mung.index.PostSearchIndex;
+import com.example.mung.index.TrendingPosts;
 import com.example.mung.mapper.PostMapper;
 import com.example.mung.service.PostService;
+import com.example.mung.storage.FileStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
-import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 public class PostServiceImpl implements PostService {
 
+    private static final Logger logger = LoggerFactory.getLogger(PostServiceImpl.class);
+
     private final PostMapper postMapper;
-    private final CommentMapper commentMapper;
-    private final String uploadDir = "/uploads/";
+    private final FileStore fileStore;
+    private final ViewCountBuffer viewCountBuffer;
+    private final PostSearchIndex searchIndex;
+    private final PostListCache listCache;
+    private final PostDetailCache detailCache;
+    private final TrendingPosts trendingPosts;
 
-    public PostServiceImpl(PostMapper postMapper, CommentMapper commentMapper) {
+    public PostServiceImpl(PostMapper postMapper, FileStore fileStore,
+                           ViewCountBuffer viewCountBuffer, PostSearchIndex searchIndex, PostListCache listCache,
+                           PostDetailCache detailCache, TrendingPosts trendingPosts) {
         this.postMapper = postMapper;
-        this.commentMapper = commentMapper;
+        this.fileStore = fileStore;
+        this.viewCountBuffer = viewCountBuffer;
+        this.searchIndex = searchIndex;
+        this.listCache = listCache;
+        this.detailCache = detailCache;
+        this.trendingPosts = trendingPosts;
     }
 
     @Override
@@ -42,6 +64,38 @@ public class PostServiceImpl implements PostService {
         return postMapper.getPagedPost(size, offset);
     }
 
+    // 앞쪽 페이지는 메모리 목록에서, 그 뒤는 keyset 쿼리로
+    // 쿼리는 한 개 더 가져와서 다음 페이지가 있는지 판단 (COUNT 나 OFFSET 없이)
+    @Override
+    public PostPage listPosts(String category, String cursor, int size) {
+        PostPage cached = listCache.page(category, cursor, size);
+        if (cached != null) {
+            return cached;
+        }
+        List<PostSummary> rows = postMapper.getSummaryPage(category, PostCursor.parse(cursor), size + 1);
+        String next = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            next = PostCursor.of(rows.get(size - 1)).toString();
+        }
+        return new PostPage(rows, next, count(category));
+    }
+
+    // 인기순은 주기적으로 계산해 둔 순위에서 자르기만 함. cursor = 다음 페이지 시작 위치
+    @Override
+    public PostPage trending(String category, String cursor, int size) {
+        List<PostSummary> ranked = trendingPosts.top(category);
+        int from = Math.min(parseOffset(cursor), ranked.size());
+        int to = Math.min(from + size, ranked.size());
+        String next = to < ranked.size() ? String.valueOf(to) : null;
+        return new PostPage(new ArrayList<>(ranked.subList(from, to)), next, ranked.size());
+    }
+
+    private int count(String category) {
+        int count = listCache.count(category);
+        return count >= 0 ? count : postMapper.countPosts(category);
+    }
+
     @Override
     public List<PostDTO> getPostsByCategory(String category) {
         return postMapper.getPostByCategory(category);
@@ -50,24 +104,167 @@ public class PostServiceImpl implements PostService {
     @Override
     @Transactional
     public boolean modify(PostDTO post) {
-        return postMapper.update(post) > 0;
+        boolean updated = postMapper.update(post) > 0;
+        if (updated) {
+            detailCache.bump(post.getPost_id());
+            // 커밋 전에 바꾸면 다른 요청이 바뀌기 전 목록을 다시 캐시하거나, 롤백된 제목/본문이 검색에 남음
+            TransactionHooks.afterCommit(() -> {
+                listCache.invalidateAll(); // 카테고리가 바뀌었을 수 있음
+                searchIndex.put(post.getPost_id(), post.getTitle(), post.getContent());
+            });
+        }
+        return updated;
+    }
+
+    // 새 파일은 저장소에 먼저 넣고 key 만 바꿈. 예전 파일은 커밋된 뒤에 지우고, 롤백되면 새 파일을 지움
+    @Override
+    @Transactional
+    public boolean modify(PostDTO post, MultipartFile file, boolean deleteFile) throws IOException {
+        PostDTO old = postMapper.getOneById(post.getPost_id());
+        if (old == null) {
+            return false;
+        }
+        String newKey = null;
+        if (file != null && !file.isEmpty()) {
+            try (InputStream in = file.getInputStream()) {
+                newKey = fileStore.put(in, extension(file.getOriginalFilename()));
+            }
+        }
+        boolean changeFile = newKey != null || deleteFile;
+        boolean saved = false;
+        try {
+            saved = modify(post) && (!changeFile || postMapper.updateFileKey(post.getPost_id(), newKey) > 0);
+        } finally {
+            if (!saved && newKey != null) {
+                deleteFile(newKey);
+            }
+        }
+        if (saved && changeFile) {
+            String oldKey = old.getFile_key();
+            String added = newKey;
+            TransactionHooks.afterCompletion(() -> {
+                if (oldKey != null) {
+                    deleteFile(oldKey);
+                }
+            }, () -> {
+                if (added != null) {
+                    deleteFile(added);
+                }
+            });
+        }
+        return saved;
     }
 
     @Override
     @Transactional
     public boolean createPost(PostDTO postDTO) {
-        return postMapper.insertPost(postDTO) > 0;
+        boolean created = postMapper.insertPost(postDTO) > 0;
+        if (created) {
+            detailCache.bump(postDTO.getPost_id());
+            PostSummary summary = PostSummary.of(postDTO);
+            TransactionHooks.afterCommit(() -> {
+                listCache.added(summary);
+                searchIndex.put(postDTO.getPost_id(), postDTO.getTitle(), postDTO.getContent());
+            });
+        }
+        return created;
+    }
+
+    // 첨부파일은 DB 에 넣지 않고 저장소에 먼저 저장한 뒤 key 만 게시글에 기록
+    @Override
+    @Transactional
+    public boolean createPost(PostDTO postDTO, MultipartFile file) throws IOException {
+        if (file == null || file.isEmpty()) {
+            return createPost(postDTO);
+        }
+        String key;
+        try (InputStream in = file.getInputStream()) {
+            key = fileStore.put(in, extension(file.getOriginalFilename()));
+        }
+        postDTO.setFile_key(key);
+        boolean created = false;
+        try {
+            created = createPost(postDTO);
+            return created;
+        } finally {
+            if (!created) {
+                deleteFile(key); // 게시글이 저장되지 않았으면 파일도 남기지 않음
+            }
+        }
     }
 
     @Override
     @Transactional
     public boolean remove(int post_id) {
-        return postMapper.delete(post_id) > 0;
+        PostDTO post = postMapper.getOneById(post_id);
+        boolean removed = postMapper.delete(post_id) > 0;
+        viewCountBuffer.remove(post_id);
+        if (removed) {
+            detailCache.remove(post_id);
+            TransactionHooks.afterCommit(() -> {
+                listCache.removed(post_id, post == null ? null : post.getCategory());
+                searchIndex.remove(post_id);
+                trendingPosts.remove(post_id);
+            });
+        }
+        if (removed && post != null && post.getFile_key() != null) {
+            // 롤백되면 게시글이 그대로 남으므로 파일은 커밋된 뒤에 지움
+            TransactionHooks.afterCommit(() -> deleteFile(post.getFile_key()));
+        }
+        return removed;
     }
 
+    // DB 에는 ViewCountBuffer 가 주기적으로 묶어서 반영
     @Override
     public boolean increaseViewCount(int post_id) {
-        return postMapper.increaseViewCount(post_id) > 0;
+        viewCountBuffer.increment(post_id);
+        trendingPosts.recordView(post_id);
+        return true;
+    }
+
+    // 색인에서 순위를 정하고, 현재 페이지 글만 DB 에서 요약으로 가져옴. cursor = 다음 페이지 시작 위치
+    @Override
+    public PostPage search(String keyword, String type, String cursor, int size) {
+        List<Integer> ranked = searchIndex.search(keyword, searchFields(type));
+        int from = Math.min(parseOffset(cursor), ranked.size());
+        int to = Math.min(from + size, ranked.size());
+        List<Integer> ids = ranked.subList(from, to);
+        List<PostSummary> items = new ArrayList<>();
+        if (!ids.isEmpty()) {
+            Map<Integer, PostSummary> byId = new HashMap<>();
+            for (PostSummary s : postMapper.getSummariesByIds(ids)) {
+                byId.put(s.getPost_id(), s);
+            }
+            for (Integer id : ids) {
+                PostSummary s = byId.get(id);
+                if (s != null) { // 색인 후 지워진 글은 건너뜀
+                    items.add(s);
+                }
+            }
+        }
+        String next = to < ranked.size() ? String.valueOf(to) : null;
+        return new PostPage(items, next, ranked.size());
+    }
+
+    private static Set<PostSearchIndex.Field> searchFields(String type) {
+        if ("title".equals(type)) {
+            return EnumSet.of(PostSearchIndex.Field.TITLE);
+        }
+        if ("content".equals(type)) {
+            return EnumSet.of(PostSearchIndex.Field.CONTENT);
+        }
+        return PostSearchIndex.allFields();
+    }
+
+    private static int parseOffset(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return 0;
+        }
+        try {
+            return Math.max(0, Integer.parseInt(cursor));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
     }
 
     @Override
@@ -91,14 +288,31 @@ public class PostServiceImpl implements PostService {
         return storedPassword != null && storedPassword.equals(password);
     }
 
+    // 파일 삭제 실패는 게시글 처리에 영향을 주지 않음 (남은 파일은 key 가 없어서 다시 쓰이지 않음)
+    private void deleteFile(String key) {
+        try {
+            fileStore.delete(key);
+        } catch (IOException e) {
+            logger.warn("첨부파일 삭제 실패: {}", key, e);
+        }
+    }
+
+    private static String extension(String fileName) {
+        if (fileName == null || fileName.lastIndexOf('.') < 0) {
+            return null;
+        }
+        return fileName.substring(fileName.lastIndexOf('.') + 1);
+    }
+
+    // 게시글 + 댓글은 캐시에서 (글/댓글/좋아요가 바뀌면 버전이 올라가서 다시 읽음)
     @Override
     public PostDTO readById(int post_id) {
-        PostDTO post = postMapper.getOneById(post_id);
-        if (post == null) {
+        PostDTO cached = detailCache.get(post_id);
+        if (cached == null) {
             throw new PostNotFoundException("게시글을 찾을 수 없습니다: " + post_id);
         }
-        List<CommentDTO> comments = commentMapper.getCommentsByPostId(post_id);
-        post.setComments(comments);
+        PostDTO post = cached.copy();
+        post.setView_count(post.getView_count() + (int) viewCountBuffer.pending(post_id)); // 아직 반영 안 된 조회수
         return post;
     }
 }
@@ -0,0 +1,11 @@
+package com.example.mung.service;
+
+import com.example.mung.domain.ReservationVO;
+
+public interface ReservationService {
+
+    ReservationVO readOne(int rv_id);
+    boolean register(ReservationVO vo); // 예약 (남은 객실이 없으면 예외)
+    boolean cancel(int rv_id);          // 예약 취소
+
+}
@@ -0,0 +1,97 @@
+package com.example.mung.service;
+
+import com.example.mung.domain.ReservationVO;
+import com.example.mung.domain.RoomDTO;
+import com.example.mung.index.AvailabilityIndex;
+import com.example.mung.mapper.ReservationMapper;
+import com.example.mung.mapper.RoomMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Service
+public class ReservationServiceImpl implements ReservationService {
+
+    private final ReservationMapper reservationMapper;
+    private final RoomMapper roomMapper;
+    private final AvailabilityIndex availabilityIndex;
+
+    @Autowired
+    public ReservationServiceImpl(ReservationMapper reservationMapper, RoomMapper roomMapper, AvailabilityIndex availabilityIndex) {
+        this.reservationMapper = reservationMapper;
+        this.roomMapper = roomMapper;
+        this.availabilityIndex = availabilityIndex;
+    }
+
+    @Override
+    public ReservationVO readOne(int rv_id) {
+        return reservationMapper.getOne(rv_id);
+    }
+
+    @Override
+    @Transactional
+    public boolean register(ReservationVO vo) {
+        LocalDate start = vo.getRv_start_date();
+        LocalDate end = vo.getRv_end_date();
+        if (start == null || end == null || !end.isAfter(start) || start.isBefore(LocalDate.now())) {
+            throw new IllegalArgumentException("예약 날짜를 확인하세요");
+        }
+        // 객실 행을 잠가서 같은 객실 예약은 DB 에서 줄을 세움. 숙소는 요청 값이 아니라 객실 기준
+        RoomDTO room = roomMapper.getOneForUpdate(vo.getRoom_id());
+        if (room == null) {
+            throw new IllegalArgumentException("없는 객실입니다");
+        }
+        vo.setAccom_id(room.getAccom_id());
+        // 인덱스(이 서버 기준)로 먼저 거르고, 최종 판단은 잠근 뒤 DB 의 겹치는 예약으로
+        // 커밋되면 확정, 롤백되거나 저장하지 못하면 인덱스에 잡았던 객실을 돌려놓는다
+        AvailabilityIndex.Hold hold = availabilityIndex.hold(vo.getRoom_id(), start, end);
+        if (hold == null) {
+            throw new IllegalArgumentException("예약 가능한 객실이 없습니다");
+        }
+        boolean inserted = false;
+        try {
+            if (isFull(room.getRoom_amount(), reservationMapper.getOverlapping(vo.getRoom_id(), start, end), start, end)) {
+                throw new IllegalArgumentException("예약 가능한 객실이 없습니다");
+            }
+            inserted = reservationMapper.insert(vo);
+        } finally {
+            if (!inserted) {
+                availabilityIndex.cancelHold(hold);
+            }
+        }
+        TransactionHooks.afterCompletion(() -> availabilityIndex.confirm(hold), () -> availabilityIndex.cancelHold(hold));
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public boolean cancel(int rv_id) {
+        ReservationVO vo = reservationMapper.getOne(rv_id);
+        if (vo == null || !reservationMapper.delete(rv_id)) {
+            return false;
+        }
+        // 취소는 커밋된 뒤에만 인덱스에 반영 (롤백되면 그대로)
+        long generation = availabilityIndex.generation();
+        TransactionHooks.afterCompletion(() -> availabilityIndex.releaseCommitted(generation, vo.getRoom_id(), vo.getRv_start_date(), vo.getRv_end_date()), () -> { });
+        return true;
+    }
+
+    // 숙박하는 날 중 하루라도 겹치는 예약 수가 객실 수에 찼는지
+    private static boolean isFull(int room_amount, List<ReservationVO> overlapping, LocalDate start, LocalDate end) {
+        for (LocalDate night = start; night.isBefore(end); night = night.plusDays(1)) {
+            int booked = 0;
+            for (ReservationVO rv : overlapping) {
+                if (!night.isBefore(rv.getRv_start_date()) && night.isBefore(rv.getRv_end_date())) {
+                    booked++;
+                }
+            }
+            if (booked >= room_amount) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
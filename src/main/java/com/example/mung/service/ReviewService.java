@@ -1,10 +1,12 @@
 package com.example.mung.service;
 
+import com.example.mung.domain.ReviewDTO;
 import com.example.mung.domain.ReviewVO;
 
 import java.util.List;
 
 public interface ReviewService {
     List<ReviewVO> getAllReviews();
+    boolean register(ReviewDTO dto); // 리뷰 등록
+    boolean remove(int review_id);   // 리뷰 삭제
 }
-
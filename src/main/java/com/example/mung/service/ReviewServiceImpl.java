@@ -1,10 +1,17 @@
 package com.example.mung.service;
 
+import com.example.mung.cache.AccomDetailCache;
+import com.example.mung.domain.ReservationVO;
+import com.example.mung.domain.ReviewDTO;
 import com.example.mung.domain.ReviewVO;
+import com.example.mung.index.AccomStatsStore;
+import com.example.mung.mapper.ReservationMapper;
 import com.example.mung.mapper.ReviewMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -13,9 +20,56 @@ public class ReviewServiceImpl implements ReviewService {
     @Autowired
     private ReviewMapper reviewMapper;
 
+    @Autowired
+    private ReservationMapper reservationMapper;
+
+    @Autowired
+    private AccomStatsStore accomStatsStore; // 숙소별 리뷰 통계
+
+    @Autowired
+    private AccomDetailCache accomDetailCache; // 숙소 상세 캐시 (리뷰 목록 포함)
+
     @Override
     public List<ReviewVO> getAllReviews() {
         return reviewMapper.getAllReviews();
     }
 
+    @Override
+    @Transactional
+    public boolean register(ReviewDTO dto) {
+        ReservationVO rv = reservationMapper.getOne(dto.getRv_id());
+        if (rv == null) {
+            throw new IllegalArgumentException("예약 내역이 없는 리뷰입니다");
+        }
+        if (dto.getCreated_at() == null) {
+            dto.setCreated_at(LocalDateTime.now());
+        }
+        boolean result = reviewMapper.insert(dto);
+        if (result) {
+            // 통계/캐시는 커밋된 뒤에 (롤백된 리뷰가 통계에 남지 않도록)
+            TransactionHooks.afterCommit(() -> {
+                accomStatsStore.addReview(rv.getAccom_id(), dto.getRating(), dto.getCreated_at());
+                accomDetailCache.invalidate(rv.getAccom_id());
+            });
+        }
+        return result;
+    }
+
+    @Override
+    @Transactional
+    public boolean remove(int review_id) {
+        ReviewDTO dto = reviewMapper.getOne(review_id);
+        if (dto == null || !reviewMapper.delete(review_id)) {
+            return false;
+        }
+        ReservationVO rv = reservationMapper.getOne(dto.getRv_id());
+        if (rv != null) {
+            TransactionHooks.afterCommit(() -> {
+                accomStatsStore.removeReview(rv.getAccom_id(), dto.getRating());
+                accomDetailCache.invalidate(rv.getAccom_id());
+            });
+        }
+        return true;
+    }
+
 }
@@ -1,8 +1,12 @@
 package com.example.mung.service;
 
+import com.example.mung.cache.AccomDetailCache;
 import com.example.mung.domain.AccomDTO;
 import com.example.mung.domain.RoomDTO;
 import com.example.mung.domain.RoomVO;
+import com.example.mung.index.AccomStatsStore;
+import com.example.mung.index.AvailabilityIndex;
+import com.example.mung.index.FacetIndex;
 import com.example.mung.mapper.RoomMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -14,6 +18,18 @@ public class RoomServiceimpl implements RoomService {
     @Autowired
    private RoomMapper roomDAO;
 
+    @Autowired
+    private AvailabilityIndex availabilityIndex;
+
+    @Autowired
+    private AccomStatsStore accomStatsStore; // 숙소 최저가 갱신용
+
+    @Autowired
+    private FacetIndex facetIndex; // 검색 필터 비트셋 갱신용
+
+    @Autowired
+    private AccomDetailCache accomDetailCache; // 숙소 상세 캐시 무효화용
+
     @Override
     public List<RoomDTO>findAll(){
         System.out.println("모든 숙소의 객실 출력!!!!");
@@ -43,21 +59,49 @@ public class RoomServiceimpl implements RoomService {
         return roomDAO.getOne(room_id);
     }
 
+    // 색인/캐시는 커밋된 뒤에 바꿈 (호출한 쪽 트랜잭션이 있으면 그 커밋 뒤, 없으면 바로)
     @Override  //숙소의 객실 등록
     public boolean register(RoomVO vo){
         System.out.println(vo.getRoom_name()+"의 객실 등록 성공!!");
-        return roomDAO.insert(vo);
+        boolean result = roomDAO.insert(vo);
+        if (result) {
+            TransactionHooks.afterCommit(() -> {
+                availabilityIndex.putRoom(vo.getRoom_id(), vo.getAccom_id(), vo.getRoom_amount(), vo.getCapacity_standard(), vo.getCapacity_max());
+                accomStatsStore.putRoom(vo.getRoom_id(), vo.getAccom_id(), vo.getRoom_price(), vo.getPet_kind());
+                facetIndex.putRoom(vo.getRoom_id(), vo.getAccom_id(), vo.getPet_kind(), vo.getRoom_price(), vo.getCapacity_standard(), vo.getCapacity_max());
+                accomDetailCache.invalidate(vo.getAccom_id());
+            });
+        }
+        return result;
     }
 
     @Override //등록된 객실 수정
     public boolean modify(RoomVO vo){
         System.out.println(vo.getRoom_name()+"의 객실이 수정되었습니다.");
-        return roomDAO.update(vo);
+        boolean result = roomDAO.update(vo);
+        if (result) {
+            TransactionHooks.afterCommit(() -> {
+                availabilityIndex.putRoom(vo.getRoom_id(), vo.getAccom_id(), vo.getRoom_amount(), vo.getCapacity_standard(), vo.getCapacity_max());
+                accomStatsStore.putRoom(vo.getRoom_id(), vo.getAccom_id(), vo.getRoom_price(), vo.getPet_kind());
+                facetIndex.putRoom(vo.getRoom_id(), vo.getAccom_id(), vo.getPet_kind(), vo.getRoom_price(), vo.getCapacity_standard(), vo.getCapacity_max());
+                accomDetailCache.invalidateRoom(vo.getRoom_id());
+            });
+        }
+        return result;
     }
 
     @Override  // 객실 삭제
     public boolean remove(int room_id) {
         System.out.println(room_id+"의 객실이 삭제되었습니다.");
-        return roomDAO.delete(room_id);
+        boolean result = roomDAO.delete(room_id);
+        if (result) {
+            TransactionHooks.afterCommit(() -> {
+                availabilityIndex.removeRoom(room_id);
+                accomStatsStore.removeRoom(room_id);
+                facetIndex.removeRoom(room_id);
+                accomDetailCache.invalidateRoom(room_id);
+            });
+        }
+        return result;
     }
 }
@@ -0,0 +1,45 @@
+package com.example.mung.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 메모리 캐시/색인 변경을 트랜잭션 결과에 맞춰 실행
+// 커밋 전에 바꾸면 다른 요청이 아직 바뀌기 전인 행을 다시 읽어 캐시하거나, 롤백된 변경이 메모리에만 남음
+// 트랜잭션 밖에서 호출되면 이미 커밋된 것으로 보고 바로 실행
+public final class TransactionHooks {
+
+    private TransactionHooks() {
+    }
+
+    // 커밋된 뒤에만 (롤백되면 아무것도 바뀌지 않았으므로 실행하지 않음)
+    public static void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    // 커밋되면 onCommit, 롤백되면 onRollback
+    public static void afterCompletion(Runnable onCommit, Runnable onRollback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            onCommit.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    onCommit.run();
+                } else {
+                    onRollback.run();
+                }
+            }
+        });
+    }
+}
@@ -14,18 +14,18 @@ public interface UserService {
     //회원 번호로 조회
     UserDTO read(int id);
 
+    //전체 프로필 + 반려견 목록 (개인정보 화면 등 필요한 곳에서만, 세션에는 SessionUser 만 있음)
+    UserVO readProfile(int user_id);
+
     //일반회원 등록
     boolean register(UserVO vo);
 
     //사업자회원 등록
     boolean register_b(UserVO vo);
 
-    //회원 수정
-    boolean modify(UserVO vo);
+    //회원 수정 (passwordChanged 가 true 일 때만 vo 의 비밀번호를 새로 해시해서 저장)
+    boolean modify(UserVO vo, boolean passwordChanged);
 
     //회원 삭제
     boolean remove(int id);
-
-    //펫 정보 수정
-    boolean modify_pet(UserVO vo);
 }
@@ -1,11 +1,13 @@
 package com.example.mung.service;
 
+import com.example.mung.auth.PasswordHasher;
 import com.example.mung.domain.LoginDTO;
 import com.example.mung.domain.UserDTO;
 import com.example.mung.domain.UserVO;
 import com.example.mung.mapper.UserMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -14,6 +16,12 @@ public class UserServiceImpl implements UserService{
     @Autowired
     private UserMapper mapper;
 
+    @Autowired
+    private PasswordHasher passwordHasher;
+
+    @Autowired
+    private PetService petService;
+
     @Override
     public List<UserVO> findAll() {
         System.out.println("Service단 : findAll 실행");
@@ -26,21 +34,39 @@ public class UserServiceImpl implements UserService{
         return mapper.getOne(id);
     }
 
+    @Override
+    public UserVO readProfile(int user_id) {
+        UserVO profile = mapper.getProfile(user_id);
+        if (profile != null) {
+            profile.setPets(petService.findByUser(user_id, profile.getPet_info()));
+            profile.setPet_info(null);
+        }
+        return profile;
+    }
+
     @Override
     public boolean register(UserVO vo) {
         System.out.println("Service단 : register 실행");
+        vo.setPassword(passwordHasher.hash(vo.getPassword()));
         return mapper.insert(vo);
     }
 
     @Override
     public boolean register_b(UserVO vo) {
+        vo.setPassword(passwordHasher.hash(vo.getPassword()));
         return mapper.insert_b(vo);
     }
 
     @Override
-    public boolean modify(UserVO vo) {
+    @Transactional
+    public boolean modify(UserVO vo, boolean passwordChanged) {
         System.out.println("Service단 : modify 실행");
-        return mapper.update(vo);
+        boolean updated = mapper.update(vo);
+        // 비밀번호는 바꾼다고 한 경우에만 새로 해시해서 따로 씀 (값 모양으로 해시인지 추측하지 않음)
+        if (updated && passwordChanged) {
+            updated = mapper.updatePassword(vo.getUser_id(), passwordHasher.hash(vo.getPassword())) > 0;
+        }
+        return updated;
     }
 
     @Override
@@ -48,10 +74,4 @@ public class UserServiceImpl implements UserService{
         System.out.println("Service단 : remove 실행");
         return mapper.delete(id);
     }
-
-    @Override
-    public boolean modify_pet(UserVO vo) {
-        System.out.println("Service단 : modify_pet 실행");
-        return mapper.updatePet_info(vo);
-    }
 }
@@ -0,0 +1,57 @@
+package com.example.mung.session;
+
+import com.example.mung.domain.SessionRow;
+import com.example.mung.mapper.SessionMapper;
+
+// user_session 테이블에 저장 (SessionMapper)
+public class JdbcSessionStore implements SessionStore {
+
+    private static final int DELETE_BATCH = 1000;
+
+    private final SessionMapper sessionMapper;
+
+    public JdbcSessionStore(SessionMapper sessionMapper) {
+        this.sessionMapper = sessionMapper;
+    }
+
+    @Override
+    public SessionRow load(String session_id) {
+        return sessionMapper.findById(session_id);
+    }
+
+    @Override
+    public void insert(SessionRow row) {
+        sessionMapper.insert(row);
+    }
+
+    @Override
+    public boolean update(SessionRow row, long expectedVersion) {
+        return sessionMapper.update(row, expectedVersion) > 0;
+    }
+
+    @Override
+    public void touch(String session_id, long lastAccessTime, long expiryTime) {
+        sessionMapper.touch(session_id, lastAccessTime, expiryTime);
+    }
+
+    @Override
+    public void changeId(String oldId, String newId) {
+        sessionMapper.changeId(oldId, newId);
+    }
+
+    @Override
+    public void delete(String session_id) {
+        sessionMapper.delete(session_id);
+    }
+
+    @Override
+    public int deleteExpired(long now) {
+        int total = 0;
+        int deleted;
+        do {
+            deleted = sessionMapper.deleteExpired(now, DELETE_BATCH);
+            total += deleted;
+        } while (deleted == DELETE_BATCH);
+        return total;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.mung.session;
+
+import com.example.mung.domain.SessionRow;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 서버 메모리에 저장 (서버 한 대일 때 / 개발용). 재시작하면 모두 로그아웃
+public class MemorySessionStore implements SessionStore {
+
+    private final Map<String, SessionRow> rows = new ConcurrentHashMap<>();
+
+    @Override
+    public SessionRow load(String session_id) {
+        return rows.get(session_id);
+    }
+
+    @Override
+    public void insert(SessionRow row) {
+        rows.put(row.getSession_id(), row);
+    }
+
+    @Override
+    public boolean update(SessionRow row, long expectedVersion) {
+        boolean[] updated = new boolean[1];
+        rows.computeIfPresent(row.getSession_id(), (id, old) -> {
+            if (old.getVersion() != expectedVersion) {
+                return old;
+            }
+            updated[0] = true;
+            return row;
+        });
+        return updated[0];
+    }
+
+    @Override
+    public void touch(String session_id, long lastAccessTime, long expiryTime) {
+        rows.computeIfPresent(session_id, (id, row) -> {
+            row.setLast_access_time(lastAccessTime);
+            row.setExpiry_time(expiryTime);
+            return row;
+        });
+    }
+
+    @Override
+    public void changeId(String oldId, String newId) {
+        SessionRow row = rows.remove(oldId);
+        if (row != null) {
+            row.setSession_id(newId);
+            rows.put(newId, row);
+        }
+    }
+
+    @Override
+    public void delete(String session_id) {
+        rows.remove(session_id);
+    }
+
+    @Override
+    public int deleteExpired(long now) {
+        int before = rows.size();
+        rows.values().removeIf(row -> row.getExpiry_time() < now);
+        return before - rows.size();
+    }
+
+    int size() {
+        return rows.size();
+    }
+}
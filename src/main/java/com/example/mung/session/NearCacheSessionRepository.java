@@ -0,0 +1,175 @@
+package com.example.mung.session;
+
+import com.example.mung.domain.SessionRow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.session.MapSession;
+import org.springframework.session.SessionRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Spring Session 저장소: SessionStore (DB 등) 앞에 서버별 짧은 캐시를 둠
+// - 읽기: 같은 세션의 연속 요청(페이지 + 이미지/ajax)은 cacheMillis 동안 저장소를 다시 읽지 않음
+//   다른 서버에서 바꾼 내용은 최대 cacheMillis 늦게 보임
+// - 쓰기: 요청마다 속성을 인코딩해서 마지막으로 읽은/쓴 바이트와 다를 때만 저장, 같으면 touchMillis 가 지났을 때 접근 시각만 갱신
+//   그래서 만료가 실제보다 최대 touchMillis 빨라질 수 있음
+// - 저장은 createSession() 으로 만든 세션만 INSERT, 나머지는 읽었을 때의 version 과 같을 때만 UPDATE
+//   0건이면 그 사이 로그아웃(삭제)됐거나 다른 요청/서버가 먼저 바꾼 것 -> 이 요청의 변경은 버리고 다시 만들지 않음
+//   (진행 중이던 게시글 조회 요청이 로그아웃한 세션을 되살리거나, 오래된 캐시로 다른 서버의 로그인을 덮어쓰지 않도록)
+// findById 는 매번 바이트에서 새로 만들기 때문에 같은 세션의 동시 요청이 속성 객체를 공유하지 않음
+public class NearCacheSessionRepository implements SessionRepository<StoredSession> {
+
+    private static final Logger logger = LoggerFactory.getLogger(NearCacheSessionRepository.class);
+
+    private final SessionStore store;
+    private final Duration maxInactive;
+    private final long cacheMillis;
+    private final long touchMillis;
+
+    // session_id -> 마지막으로 저장소에서 읽었거나 저장소에 쓴 상태
+    private final Map<String, Cached> cache = new ConcurrentHashMap<>();
+
+    public NearCacheSessionRepository(SessionStore store, Duration maxInactive, long cacheMillis, long touchMillis) {
+        this.store = store;
+        this.maxInactive = maxInactive;
+        this.cacheMillis = cacheMillis;
+        this.touchMillis = touchMillis;
+    }
+
+    @Override
+    public StoredSession createSession() {
+        StoredSession session = new StoredSession(new MapSession(), true, 0);
+        session.setMaxInactiveInterval(maxInactive);
+        return session;
+    }
+
+    @Override
+    public void save(StoredSession session) {
+        long now = System.currentTimeMillis();
+        String id = session.getId();
+        if (!session.isNew() && !id.equals(session.getOriginalId())) {
+            store.changeId(session.getOriginalId(), id);
+            Cached moved = cache.remove(session.getOriginalId());
+            if (moved != null) {
+                cache.put(id, moved);
+            }
+        }
+        session.setOriginalId(id);
+
+        Map<String, Object> attributes = new HashMap<>();
+        for (String name : session.getAttributeNames()) {
+            attributes.put(name, session.getAttribute(name));
+        }
+        byte[] encoded = SessionCodec.encode(attributes);
+        long lastAccess = session.getLastAccessedTime().toEpochMilli();
+        int maxInactiveSeconds = (int) session.getMaxInactiveInterval().getSeconds();
+
+        Cached cached = cache.get(id);
+        if (!session.isNew() && cached != null && cached.maxInactiveSeconds == maxInactiveSeconds && Arrays.equals(cached.attributes, encoded)) {
+            if (lastAccess - cached.lastAccess >= touchMillis) {
+                store.touch(id, lastAccess, expiry(lastAccess, maxInactiveSeconds));
+                cache.put(id, new Cached(cached.creationTime, lastAccess, maxInactiveSeconds, encoded, cached.version, now));
+            }
+            return;
+        }
+
+        SessionRow row = new SessionRow();
+        row.setSession_id(id);
+        row.setCreation_time(session.getCreationTime().toEpochMilli());
+        row.setLast_access_time(lastAccess);
+        row.setMax_inactive_interval(maxInactiveSeconds);
+        row.setExpiry_time(expiry(lastAccess, maxInactiveSeconds));
+        row.setAttributes(encoded);
+        if (session.isNew()) {
+            row.setVersion(0);
+            store.insert(row);
+        } else {
+            row.setVersion(session.getVersion() + 1);
+            if (!store.update(row, session.getVersion())) {
+                cache.remove(id);
+                logger.debug("세션 저장 건너뜀 (삭제되었거나 다른 요청이 먼저 변경) - {}", id);
+                return;
+            }
+        }
+        session.stored(row.getVersion());
+        cache.put(id, new Cached(row.getCreation_time(), lastAccess, maxInactiveSeconds, encoded, row.getVersion(), now));
+    }
+
+    @Override
+    public StoredSession findById(String id) {
+        long now = System.currentTimeMillis();
+        Cached cached = cache.get(id);
+        if (cached == null || now - cached.loadedAt > cacheMillis) {
+            SessionRow row = store.load(id);
+            if (row == null) {
+                cache.remove(id);
+                return null;
+            }
+            cached = new Cached(row.getCreation_time(), row.getLast_access_time(), row.getMax_inactive_interval(),
+                    row.getAttributes(), row.getVersion(), now);
+            cache.put(id, cached);
+        }
+        if (expiry(cached.lastAccess, cached.maxInactiveSeconds) <= now) {
+            deleteById(id);
+            return null;
+        }
+
+        MapSession session = new MapSession(id);
+        session.setCreationTime(Instant.ofEpochMilli(cached.creationTime));
+        session.setLastAccessedTime(Instant.ofEpochMilli(cached.lastAccess));
+        session.setMaxInactiveInterval(Duration.ofSeconds(cached.maxInactiveSeconds));
+        for (Map.Entry<String, Object> e : SessionCodec.decode(cached.attributes).entrySet()) {
+            session.setAttribute(e.getKey(), e.getValue());
+        }
+        return new StoredSession(session, false, cached.version);
+    }
+
+    @Override
+    public void deleteById(String id) {
+        cache.remove(id);
+        store.delete(id);
+    }
+
+    // 만료된 세션 정리 + 오래된 캐시 항목 정리 (다음 요청에서 다시 읽음)
+    @Scheduled(fixedDelayString = "${mung.session.cleanup-ms:60000}", initialDelayString = "${mung.session.cleanup-ms:60000}")
+    public void cleanup() {
+        long now = System.currentTimeMillis();
+        cache.values().removeIf(c -> now - c.loadedAt > cacheMillis);
+        int deleted = store.deleteExpired(now);
+        if (deleted > 0) {
+            logger.info("만료된 세션 {}개 삭제", deleted);
+        }
+    }
+
+    int cachedCount() {
+        return cache.size();
+    }
+
+    private static long expiry(long lastAccess, int maxInactiveSeconds) {
+        return maxInactiveSeconds < 0 ? Long.MAX_VALUE : lastAccess + maxInactiveSeconds * 1000L;
+    }
+
+    private static final class Cached {
+        final long creationTime;
+        final long lastAccess; // 저장소에 있는 접근 시각
+        final int maxInactiveSeconds;
+        final byte[] attributes;
+        final long version;
+        final long loadedAt;
+
+        Cached(long creationTime, long lastAccess, int maxInactiveSeconds, byte[] attributes, long version, long loadedAt) {
+            this.creationTime = creationTime;
+            this.lastAccess = lastAccess;
+            this.maxInactiveSeconds = maxInactiveSeconds;
+            this.attributes = attributes;
+            this.version = version;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.mung.session;
+
+import com.example.mung.auth.SessionUser;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 세션 속성 <-> 바이트
+// 자주 쓰는 값(로그인 사용자, 문자열/숫자)은 태그 + 필드만 써서 Java 직렬화의 클래스 설명이 붙지 않게 하고
+// 나머지(플래시 속성 등)만 Java 직렬화로 넣음. 이름 순서로 써서 같은 속성이면 항상 같은 바이트 (바뀌었는지 바이트로 비교)
+// Java 직렬화 값은 저장소의 바이트를 그대로 믿지 않고 허용한 클래스만 읽음
+public final class SessionCodec {
+
+    private static final int VERSION = 1;
+
+    private static final int JAVA = 0;
+    private static final int SESSION_USER = 1;
+    private static final int STRING = 2;
+    private static final int INT = 3;
+    private static final int LONG = 4;
+    private static final int BOOLEAN = 5;
+    private static final int OLD_VIEW_LOG = 6; // 예전 게시글 조회 기록 (지금은 세션에 두지 않음). 남아 있는 세션을 읽을 때 건너뜀
+
+    // 플래시 속성 (FlashMap 목록) 과 기본 컬렉션 / 값, 이 프로젝트의 클래스만. 깊이와 객체 수도 제한
+    private static final ObjectInputFilter JAVA_FILTER = ObjectInputFilter.Config.createFilter(
+            "maxdepth=20;maxrefs=10000;maxarray=100000;"
+                    + "java.lang.*;java.util.*;java.time.*;"
+                    + "org.springframework.web.servlet.FlashMap;org.springframework.util.LinkedMultiValueMap;"
+                    + "com.example.mung.**;!*");
+    private static final Object SKIP = new Object();
+
+    private SessionCodec() {
+    }
+
+    public static byte[] encode(Map<String, Object> attributes) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(VERSION);
+            Map<String, Object> sorted = new TreeMap<>(attributes);
+            out.writeShort(sorted.size());
+            for (Map.Entry<String, Object> e : sorted.entrySet()) {
+                out.writeUTF(e.getKey());
+                writeValue(out, e.getValue());
+            }
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static Map<String, Object> decode(byte[] data) {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        if (data == null || data.length == 0) {
+            return attributes;
+        }
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+            int version = in.readUnsignedByte();
+            if (version != VERSION) {
+                throw new IOException("알 수 없는 세션 형식: " + version);
+            }
+            int count = in.readUnsignedShort();
+            for (int i = 0; i < count; i++) {
+                String name = in.readUTF();
+                Object value = readValue(in);
+                if (value != SKIP) {
+                    attributes.put(name, value);
+                }
+            }
+            return attributes;
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalStateException("세션 속성을 읽지 못했습니다.", e);
+        }
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value instanceof SessionUser u) {
+            out.writeByte(SESSION_USER);
+            out.writeInt(u.getUser_id());
+            writeNullable(out, u.getUser_loginId());
+            writeNullable(out, u.getNickname());
+            out.writeByte(u.getRoleBits());
+        } else if (value instanceof String s) {
+            out.writeByte(STRING);
+            out.writeUTF(s);
+        } else if (value instanceof Integer n) {
+            out.writeByte(INT);
+            out.writeInt(n);
+        } else if (value instanceof Long n) {
+            out.writeByte(LONG);
+            out.writeLong(n);
+        } else if (value instanceof Boolean b) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean(b);
+        } else {
+            if (!(value instanceof Serializable)) {
+                throw new IllegalArgumentException("세션에 넣을 수 없는 값: " + value.getClass().getName());
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream oos = new ObjectOutputStream(bytes)) {
+                oos.writeObject(value);
+            }
+            out.writeByte(JAVA);
+            out.writeInt(bytes.size());
+            bytes.writeTo(out);
+        }
+    }
+
+    private static Object readValue(DataInputStream in) throws IOException, ClassNotFoundException {
+        int tag = in.readUnsignedByte();
+        switch (tag) {
+            case SESSION_USER: {
+                int user_id = in.readInt();
+                String loginId = readNullable(in);
+                String nickname = readNullable(in);
+                return new SessionUser(user_id, loginId, nickname, in.readUnsignedByte());
+            }
+            case STRING:
+                return in.readUTF();
+            case INT:
+                return in.readInt();
+            case LONG:
+                return in.readLong();
+            case BOOLEAN:
+                return in.readBoolean();
+            case OLD_VIEW_LOG: {
+                int size = in.readInt();
+                in.skipNBytes(size * (4L + 8L));
+                return SKIP;
+            }
+            case JAVA: {
+                byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+                    ois.setObjectInputFilter(JAVA_FILTER);
+                    return ois.readObject();
+                }
+            }
+            default:
+                throw new IOException("알 수 없는 세션 값 태그: " + tag);
+        }
+    }
+
+    private static void writeNullable(DataOutputStream out, String s) throws IOException {
+        out.writeBoolean(s != null);
+        if (s != null) {
+            out.writeUTF(s);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.mung.session;
+
+import com.example.mung.domain.SessionRow;
+
+// 세션을 실제로 저장하는 곳. NearCacheSessionRepository 가 이 앞에서 캐시 / 쓰기 줄이기를 맡음
+// mung.session.store 로 고름: jdbc (기본, 여러 서버가 공유) / memory (서버 한 대, 개발용)
+public interface SessionStore {
+
+    SessionRow load(String session_id);
+
+    // createSession() 으로 만든 세션의 첫 저장
+    void insert(SessionRow row);
+
+    // 저장소의 version 이 expectedVersion 일 때만 교체 (row 의 version 은 expectedVersion + 1)
+    // 없거나 (삭제됨) 버전이 다르면 false, 다시 추가하지 않음
+    boolean update(SessionRow row, long expectedVersion);
+
+    // 속성이 바뀌지 않았을 때 마지막 접근 시각만
+    void touch(String session_id, long lastAccessTime, long expiryTime);
+
+    void changeId(String oldId, String newId);
+
+    void delete(String session_id);
+
+    // 지운 수
+    int deleteExpired(long now);
+}
@@ -0,0 +1,106 @@
+package com.example.mung.session;
+
+import org.springframework.session.MapSession;
+import org.springframework.session.Session;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+// NearCacheSessionRepository 가 돌려주는 세션 (MapSession 은 final 이라 감쌈)
+// isNew: createSession() 으로 만들어서 아직 저장소에 없는 세션 -> 처음 저장만 INSERT
+// version: 이 세션을 읽었을 때 저장소의 버전 -> 이후 저장은 같은 버전일 때만 UPDATE (로그아웃/다른 서버의 변경을 덮어쓰지 않음)
+public final class StoredSession implements Session {
+
+    private final MapSession delegate;
+    private boolean isNew;
+    private long version;
+
+    StoredSession(MapSession delegate, boolean isNew, long version) {
+        this.delegate = delegate;
+        this.isNew = isNew;
+        this.version = version;
+    }
+
+    boolean isNew() {
+        return isNew;
+    }
+
+    long getVersion() {
+        return version;
+    }
+
+    // 저장소에 쓴 뒤 (INSERT 또는 UPDATE 성공)
+    void stored(long version) {
+        this.isNew = false;
+        this.version = version;
+    }
+
+    String getOriginalId() {
+        return delegate.getOriginalId();
+    }
+
+    void setOriginalId(String originalId) {
+        delegate.setOriginalId(originalId);
+    }
+
+    @Override
+    public String getId() {
+        return delegate.getId();
+    }
+
+    @Override
+    public String changeSessionId() {
+        return delegate.changeSessionId();
+    }
+
+    @Override
+    public <T> T getAttribute(String name) {
+        return delegate.getAttribute(name);
+    }
+
+    @Override
+    public Set<String> getAttributeNames() {
+        return delegate.getAttributeNames();
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        delegate.setAttribute(name, value);
+    }
+
+    @Override
+    public void removeAttribute(String name) {
+        delegate.removeAttribute(name);
+    }
+
+    @Override
+    public Instant getCreationTime() {
+        return delegate.getCreationTime();
+    }
+
+    @Override
+    public void setLastAccessedTime(Instant lastAccessedTime) {
+        delegate.setLastAccessedTime(lastAccessedTime);
+    }
+
+    @Override
+    public Instant getLastAccessedTime() {
+        return delegate.getLastAccessedTime();
+    }
+
+    @Override
+    public void setMaxInactiveInterval(Duration interval) {
+        delegate.setMaxInactiveInterval(interval);
+    }
+
+    @Override
+    public Duration getMaxInactiveInterval() {
+        return delegate.getMaxInactiveInterval();
+    }
+
+    @Override
+    public boolean isExpired() {
+        return delegate.isExpired();
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.mung.storage;
+
+// HTTP Range 헤더 (bytes=시작-끝) 한 구간. 여러 구간 요청은 지원하지 않고 전체를 보냄
+public final class ByteRange {
+
+    private final long start;
+    private final long end; // 포함
+
+    private ByteRange(long start, long end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    public long getStart() {
+        return start;
+    }
+
+    public long getEnd() {
+        return end;
+    }
+
+    public long length() {
+        return end - start + 1;
+    }
+
+    public String contentRange(long size) {
+        return "bytes " + start + "-" + end + "/" + size;
+    }
+
+    // 헤더가 없거나 해석할 수 없거나 여러 구간이면 null (= 전체 전송)
+    // 파일 범위를 벗어난 구간이면 IllegalArgumentException (416 응답)
+    public static ByteRange parse(String header, long size) {
+        if (header == null || !header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return null;
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            long start;
+            long end;
+            if (first.isEmpty()) { // bytes=-500 : 마지막 500바이트
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0) {
+                    throw new IllegalArgumentException("잘못된 범위: " + header);
+                }
+                start = Math.max(0, size - suffix);
+                end = size - 1;
+            } else {
+                start = Long.parseLong(first);
+                end = last.isEmpty() ? size - 1 : Math.min(Long.parseLong(last), size - 1);
+            }
+            if (start >= size || start > end) {
+                throw new IllegalArgumentException("잘못된 범위: " + header);
+            }
+            return new ByteRange(start, end);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
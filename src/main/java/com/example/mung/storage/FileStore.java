@@ -0,0 +1,18 @@
+package com.example.mung.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.SeekableByteChannel;
+
+// 첨부파일 저장소. DB 에는 put 이 돌려준 key 만 저장한다
+// 지금은 로컬 디스크(LocalFileStore)만 있고, 다른 저장소로 바꿀 때는 이 인터페이스를 구현
+public interface FileStore {
+
+    // 파일을 저장하고 key 를 돌려줌. extension 은 key 끝에 붙어서 content type 판단에 쓰임
+    String put(InputStream in, String extension) throws IOException;
+
+    // 없는 key 면 null. 로컬 저장소는 FileChannel 을 돌려줘서 transferTo 로 바로 보낼 수 있음
+    SeekableByteChannel open(String key) throws IOException;
+
+    boolean delete(String key) throws IOException;
+}
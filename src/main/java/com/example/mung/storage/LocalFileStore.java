@@ -0,0 +1,81 @@
+package com.example.mung.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+// 로컬 디스크 저장소. key = "앞 2글자/uuid.확장자" (폴더 하나에 파일이 몰리지 않도록 나눔)
+@Component
+public class LocalFileStore implements FileStore {
+
+    private static final Pattern KEY = Pattern.compile("[0-9a-f]{2}/[0-9a-f]{32}(\\.[a-z0-9]{1,8})?");
+    private static final Pattern EXTENSION = Pattern.compile("[a-z0-9]{1,8}");
+
+    private final Path root;
+
+    public LocalFileStore(@Value("${mung.storage.dir:${user.home}/mung-files}") String root) {
+        this.root = Paths.get(root).toAbsolutePath();
+    }
+
+    @Override
+    public String put(InputStream in, String extension) throws IOException {
+        String id = UUID.randomUUID().toString().replace("-", "");
+        String ext = normalizeExtension(extension);
+        String key = id.substring(0, 2) + "/" + id + (ext == null ? "" : "." + ext);
+        Path target = root.resolve(key);
+        Files.createDirectories(target.getParent());
+        // 임시 파일에 다 쓴 뒤 이름을 바꿔서, 쓰는 도중인 파일이 읽히지 않도록 함
+        Path tmp = Files.createTempFile(target.getParent(), "tmp-", ".part");
+        try {
+            Files.copy(in, tmp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        return key;
+    }
+
+    @Override
+    public SeekableByteChannel open(String key) throws IOException {
+        if (!isValidKey(key)) {
+            return null;
+        }
+        try {
+            return FileChannel.open(root.resolve(key), StandardOpenOption.READ);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public boolean delete(String key) throws IOException {
+        return isValidKey(key) && Files.deleteIfExists(root.resolve(key));
+    }
+
+    // key 형식이 아니면 (../ 등) 디스크에 접근하지 않음
+    static boolean isValidKey(String key) {
+        return key != null && KEY.matcher(key).matches();
+    }
+
+    // "JPG" -> "jpg", 이상한 값은 버림
+    static String normalizeExtension(String extension) {
+        if (extension == null) {
+            return null;
+        }
+        String ext = extension.toLowerCase(Locale.ROOT);
+        return EXTENSION.matcher(ext).matches() ? ext : null;
+    }
+}
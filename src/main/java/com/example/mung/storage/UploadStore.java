@@ -0,0 +1,113 @@
+package com.example.mung.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+// 게시글 본문에 넣는 이미지 저장소 (/uploadImage)
+// 파일 이름이 내용의 SHA-256 이라서 같은 이미지를 여러 번 올려도 한 번만 저장되고 같은 주소를 돌려줌
+// 경로 = 해시 앞 2글자/다음 2글자/해시.확장자 (폴더 하나에 파일이 몰리지 않도록 65536개 폴더로 나눔)
+@Component
+public class UploadStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(UploadStore.class);
+
+    public static final String URL_PREFIX = "/uploads/";
+    private static final int HEADER_SIZE = 12;
+
+    private final Path root;
+
+    public UploadStore(@Value("${mung.upload.dir:${user.home}/mung-uploads}") String root) {
+        this.root = Paths.get(root).toAbsolutePath();
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    // 이미지를 저장하고 주소("/uploads/ab/cd/해시.jpg")를 돌려줌. 이미 있는 내용이면 기존 주소
+    // 이미지가 아니면 IllegalArgumentException (확장자가 아니라 파일 앞부분으로 판단)
+    public String put(InputStream in) throws IOException {
+        Files.createDirectories(root);
+        // 끝까지 읽어야 해시를 알 수 있으므로 일단 임시 파일에 쓰면서 해시 계산
+        Path tmp = Files.createTempFile(root, "tmp-", ".part");
+        try {
+            MessageDigest digest = newDigest();
+            byte[] header = new byte[HEADER_SIZE];
+            int headerLength = 0;
+            byte[] buf = new byte[64 * 1024];
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                int n;
+                while ((n = in.read(buf)) > 0) {
+                    if (headerLength < HEADER_SIZE) {
+                        int copy = Math.min(n, HEADER_SIZE - headerLength);
+                        System.arraycopy(buf, 0, header, headerLength, copy);
+                        headerLength += copy;
+                    }
+                    digest.update(buf, 0, n);
+                    out.write(buf, 0, n);
+                }
+            }
+            String ext = imageExtension(header, headerLength);
+            if (ext == null) {
+                throw new IllegalArgumentException("이미지 파일만 올릴 수 있습니다.");
+            }
+            String key = key(HexFormat.of().formatHex(digest.digest()), ext);
+            Path target = root.resolve(key);
+            if (Files.exists(target)) {
+                return URL_PREFIX + key; // 같은 내용이 이미 있음
+            }
+            Files.createDirectories(target.getParent());
+            // 같은 이미지가 동시에 올라와도 내용이 같으므로 누가 이름을 바꾸든 결과는 같음
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            logger.debug("업로드 이미지 저장 {}", key);
+            return URL_PREFIX + key;
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    static String key(String hash, String ext) {
+        return hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash + "." + ext;
+    }
+
+    // 파일 시그니처로 형식 판단. 이미지가 아니면 null
+    static String imageExtension(byte[] h, int length) {
+        if (length >= 3 && (h[0] & 0xff) == 0xff && (h[1] & 0xff) == 0xd8 && (h[2] & 0xff) == 0xff) {
+            return "jpg";
+        }
+        if (length >= 8 && (h[0] & 0xff) == 0x89 && h[1] == 'P' && h[2] == 'N' && h[3] == 'G'
+                && h[4] == '\r' && h[5] == '\n' && h[6] == 0x1a && h[7] == '\n') {
+            return "png";
+        }
+        if (length >= 6 && h[0] == 'G' && h[1] == 'I' && h[2] == 'F' && h[3] == '8'
+                && (h[4] == '7' || h[4] == '9') && h[5] == 'a') {
+            return "gif";
+        }
+        if (length >= 12 && h[0] == 'R' && h[1] == 'I' && h[2] == 'F' && h[3] == 'F'
+                && h[8] == 'W' && h[9] == 'E' && h[10] == 'B' && h[11] == 'P') {
+            return "webp";
+        }
+        return null;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e); // 모든 JVM 에 있는 알고리즘
+        }
+    }
+}
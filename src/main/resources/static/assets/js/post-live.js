@@ -0,0 +1,97 @@
+// 게시글 상세 실시간 갱신: <div id="comment-list" data-live-post-id="..." data-sort="new|best" data-login-user-id="...">
+// /ws 에 STOMP 1.2 로 접속해서 /topic/posts/{id} 를 구독하고, 새 댓글과 좋아요/싫어요 수를 화면에 반영함
+// 서버가 느린 연결을 끊거나 네트워크가 끊기면 잠시 뒤 다시 접속 (그 사이 변경은 새로고침해야 보임)
+(function () {
+    var RECONNECT_MS = 5000;
+
+    function frame(command, headers) {
+        var lines = [command];
+        Object.keys(headers).forEach(function (k) {
+            lines.push(k + ':' + headers[k]);
+        });
+        return lines.join('\n') + '\n\n\0';
+    }
+
+    // "MESSAGE\n헤더...\n\n본문\0" -> {command, body}. 하트비트(빈 줄)는 null
+    function parse(data) {
+        var text = data.replace(/^\n+/, '');
+        if (text === '') {
+            return null;
+        }
+        var split = text.indexOf('\n\n');
+        var end = text.lastIndexOf('\0');
+        return {
+            command: text.substring(0, text.indexOf('\n')),
+            body: split < 0 ? '' : text.substring(split + 2, end < 0 ? text.length : end)
+        };
+    }
+
+    function apply(list, update) {
+        var postId = list.dataset.livePostId;
+        var loginUserId = Number(list.dataset.loginUserId) || 0;
+        var added = 0;
+        (update.comments || []).forEach(function (comment) {
+            if (document.getElementById('like-count-' + comment.comment_id)) {
+                return; // 이미 화면에 있음 (직접 작성하고 다시 읽은 경우)
+            }
+            added++;
+            // 최신순일 때만 맨 위에 끼움 (추천순은 위치를 알 수 없으므로 댓글 수만)
+            if (list.dataset.sort === 'new' && typeof renderComment === 'function') {
+                list.insertBefore(renderComment(comment, postId, loginUserId), list.firstChild);
+            }
+        });
+        (update.votes || []).forEach(function (counts) {
+            var like = document.getElementById('like-count-' + counts.comment_id);
+            var dislike = document.getElementById('dislike-count-' + counts.comment_id);
+            if (like && dislike) {
+                like.innerText = counts.likeCount;
+                dislike.innerText = counts.dislikeCount;
+            }
+        });
+        var count = document.getElementById('comment-count');
+        if (count && added > 0) {
+            count.innerText = (Number(count.innerText) || 0) + added;
+        }
+        if (update.more && !document.getElementById('comment-live-more')) {
+            var notice = document.createElement('a');
+            notice.id = 'comment-live-more';
+            notice.href = location.pathname + location.search;
+            notice.textContent = '새 댓글이 더 있습니다. 새로고침';
+            list.parentNode.insertBefore(notice, list);
+        }
+    }
+
+    function connect(list) {
+        var scheme = location.protocol === 'https:' ? 'wss://' : 'ws://';
+        var socket = new WebSocket(scheme + location.host + '/ws', ['v12.stomp']);
+        socket.onopen = function () {
+            socket.send(frame('CONNECT', {'accept-version': '1.2', 'host': location.hostname, 'heart-beat': '0,0'}));
+        };
+        socket.onmessage = function (event) {
+            var f = parse(event.data);
+            if (!f) {
+                return;
+            }
+            if (f.command === 'CONNECTED') {
+                socket.send(frame('SUBSCRIBE', {'id': 'post-' + list.dataset.livePostId,
+                    'destination': '/topic/posts/' + list.dataset.livePostId}));
+            } else if (f.command === 'MESSAGE') {
+                try {
+                    apply(list, JSON.parse(f.body));
+                } catch (e) {
+                    console.error('Error:', e);
+                }
+            }
+        };
+        socket.onclose = function () {
+            setTimeout(function () { connect(list); }, RECONNECT_MS);
+        };
+    }
+
+    document.addEventListener('DOMContentLoaded', function () {
+        var list = document.getElementById('comment-list');
+        if (list && list.dataset.livePostId && 'WebSocket' in window) {
+            connect(list);
+        }
+    });
+})();
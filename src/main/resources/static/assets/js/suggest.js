@@ -0,0 +1,41 @@
+// 검색창 자동완성: <input data-suggest="posts|accoms"> 에 datalist 를 붙여서 /suggest/{종류}?q= 결과를 보여줌
+(function () {
+    function bind(input) {
+        var list = document.createElement('datalist');
+        list.id = 'suggest-' + Math.random().toString(36).slice(2);
+        input.setAttribute('list', list.id);
+        input.setAttribute('autocomplete', 'off');
+        input.parentNode.appendChild(list);
+
+        var timer = null;
+        var last = '';
+        input.addEventListener('input', function () {
+            clearTimeout(timer);
+            timer = setTimeout(function () {
+                var q = input.value.trim();
+                if (q === '' || q === last) {
+                    return;
+                }
+                last = q;
+                fetch('/suggest/' + input.dataset.suggest + '?q=' + encodeURIComponent(q))
+                    .then(function (res) { return res.ok ? res.json() : []; })
+                    .then(function (items) {
+                        if (input.value.trim() !== q) {
+                            return; // 그 사이에 더 입력함
+                        }
+                        list.innerHTML = '';
+                        items.forEach(function (item) {
+                            var option = document.createElement('option');
+                            option.value = item.text;
+                            list.appendChild(option);
+                        });
+                    })
+                    .catch(function () { /* 자동완성 실패는 무시 */ });
+            }, 150);
+        });
+    }
+
+    document.addEventListener('DOMContentLoaded', function () {
+        document.querySelectorAll('input[data-suggest]').forEach(bind);
+    });
+})();
@@ -0,0 +1,88 @@
+package com.example.mung.auth;
+
+import com.example.mung.exception.PasswordHashingBusyException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PasswordHasherTest {
+
+    @Test // 같은 비밀번호도 salt 가 달라서 해시가 다름, 맞는 비밀번호만 통과
+    public void testHashAndMatch() {
+        PasswordHasher hasher = new PasswordHasher(1000, 2, 8, 5000);
+        String first = hasher.hash("mung1234");
+        String second = hasher.hash("mung1234");
+        assertNotEquals(first, second);
+        assertTrue(first.startsWith("pbkdf2$1000$"));
+        assertTrue(hasher.matches("mung1234", first));
+        assertTrue(hasher.matches("mung1234", second));
+        assertFalse(hasher.matches("mung12345", first));
+        assertFalse(hasher.needsRehash(first));
+        hasher.shutdown();
+    }
+
+    @Test // 없는 아이디용 확인도 지금 cost 로 해시를 한 번 계산함
+    public void testMatchesDummy() {
+        PasswordHasher hasher = new PasswordHasher(1000, 1, 8, 5000);
+        hasher.matchesDummy("mung1234");
+        hasher.matchesDummy("");
+        assertEquals(2, hasher.hashedCount());
+        hasher.shutdown();
+    }
+
+    @Test // 예전 평문 행은 평문으로 비교하고 다시 저장 대상, cost 를 올리면 기존 해시도 다시 저장 대상
+    public void testLegacyAndRehash() {
+        PasswordHasher hasher = new PasswordHasher(1000, 1, 8, 5000);
+        assertTrue(hasher.matches("12345", "12345"));
+        assertFalse(hasher.matches("1234", "12345"));
+        assertTrue(hasher.needsRehash("12345"));
+
+        String old = hasher.hash("12345");
+        PasswordHasher stronger = new PasswordHasher(2000, 1, 8, 5000);
+        assertTrue(stronger.matches("12345", old)); // 저장된 반복 횟수로 확인
+        assertTrue(stronger.needsRehash(old));
+        hasher.shutdown();
+        stronger.shutdown();
+    }
+
+    @Test // 형식이 깨진 해시는 예외 없이 맞지 않음으로 처리하고 계산도 하지 않음
+    public void testMalformedHash() {
+        PasswordHasher hasher = new PasswordHasher(1000, 1, 8, 5000);
+        for (String stored : List.of("pbkdf2$", "pbkdf2$abc$AAAA$AAAA", "pbkdf2$1000$@@@$AAAA", "pbkdf2$1000$AAAA",
+                "pbkdf2$-1$AAAA$AAAA", "pbkdf2$1000$$AAAA")) {
+            assertFalse(hasher.matches("mung1234", stored), stored);
+            assertFalse(hasher.needsRehash(stored), stored);
+        }
+        assertEquals(0, hasher.hashedCount());
+        hasher.shutdown();
+    }
+
+    @Test // 작업 스레드 1개 + 대기열 1개가 차 있으면 기다리지 않고 거절
+    public void testRejectWhenBusy() throws InterruptedException {
+        PasswordHasher hasher = new PasswordHasher(400000, 1, 1, 60000);
+        AtomicInteger busy = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread t = new Thread(() -> {
+                try {
+                    hasher.hash("password");
+                } catch (PasswordHashingBusyException e) {
+                    busy.incrementAndGet();
+                }
+            });
+            threads.add(t);
+            t.start();
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+        assertEquals(2, busy.get());
+        assertEquals(2, hasher.hashedCount());
+        assertEquals(2, hasher.rejectedCount());
+        hasher.shutdown();
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.mung.cache;
+
+import com.example.mung.domain.AccomDTO;
+import com.example.mung.domain.AccomDetail;
+import com.example.mung.domain.RoomDTO;
+import com.example.mung.mapper.AccomMapper;
+import com.example.mung.mapper.RoomMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+public class AccomDetailCacheTest {
+
+    @Mock
+    private AccomMapper accomMapper;
+    @Mock
+    private RoomMapper roomMapper;
+    private AccomDetailCache cache;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        // 99 번은 없는 숙소, 리뷰는 없음 (기본값 빈 리스트)
+        when(accomMapper.getOneByUser(anyInt())).thenAnswer(inv -> {
+            int accom_id = inv.getArgument(0);
+            if (accom_id == 99) {
+                return null;
+            }
+            AccomDTO dto = new AccomDTO();
+            dto.setAccom_id(accom_id);
+            dto.setAccom_images_url("a.jpg,b.jpg");
+            dto.setAccom_amenities("주차장,스파");
+            return dto;
+        });
+        when(roomMapper.getListByAccom_id(anyInt())).thenAnswer(inv -> {
+            RoomDTO room = new RoomDTO();
+            room.setRoom_id((Integer) inv.getArgument(0) * 10);
+            room.setAccom_id(inv.getArgument(0));
+            room.setRoom_images_url("r1.jpg,r2.jpg");
+            return List.of(room);
+        });
+        cache = new AccomDetailCache(accomMapper, roomMapper, 2, 300, 2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        cache.shutdown();
+    }
+
+    @Test // 숙소+리뷰+객실을 묶어서 돌려주고 두 번째부터는 캐시
+    public void testLoadOnce() {
+        AccomDetail detail = cache.get(1);
+        assertEquals(List.of("a.jpg", "b.jpg"), detail.getImageUrls());
+        assertEquals(List.of("주차장", "스파"), detail.getAmenities());
+        assertEquals(List.of("r1.jpg", "r2.jpg"), detail.getRoomImageUrls());
+        assertSame(detail, cache.get(1));
+        verify(accomMapper, times(1)).getOneByUser(anyInt());
+        verify(roomMapper, times(1)).getListByAccom_id(anyInt());
+    }
+
+    @Test // 없는 숙소는 null
+    public void testMissing() {
+        assertNull(cache.get(99));
+    }
+
+    @Test // 숙소 단위 / 객실 단위 무효화
+    public void testInvalidate() {
+        cache.get(1);
+        cache.get(2);
+        cache.invalidate(1);
+        cache.get(1);
+        verify(accomMapper, times(3)).getOneByUser(anyInt());
+        cache.invalidateRoom(20); // 2번 숙소의 객실
+        assertEquals(1, cache.size());
+        cache.get(2);
+        verify(accomMapper, times(4)).getOneByUser(anyInt());
+    }
+
+    @Test // 최대 개수를 넘으면 오래 안 쓴 숙소부터 제거
+    public void testEviction() {
+        cache.get(1);
+        cache.get(2);
+        cache.get(1);
+        cache.get(3);
+        assertEquals(2, cache.size());
+        cache.get(1);
+        verify(accomMapper, times(3)).getOneByUser(anyInt());
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.mung.cache;
+
+import com.example.mung.domain.CommentDTO;
+import com.example.mung.domain.PostDTO;
+import com.example.mung.mapper.CommentMapper;
+import com.example.mung.mapper.PostMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+public class PostDetailCacheTest {
+
+    @Mock
+    private PostMapper postMapper;
+    @Mock
+    private CommentMapper commentMapper;
+
+    private final AtomicInteger postCalls = new AtomicInteger();
+    private volatile CountDownLatch slowLoad;
+    private PostDetailCache cache;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        // 99 번은 없는 글, 제목에 몇 번째 읽은 것인지 넣음. slowLoad 가 있으면 풀릴 때까지 기다림
+        when(postMapper.getOneById(anyInt())).thenAnswer(inv -> {
+            int calls = postCalls.incrementAndGet();
+            if (slowLoad != null) {
+                slowLoad.await();
+            }
+            int post_id = inv.getArgument(0);
+            if (post_id == 99) {
+                return null;
+            }
+            PostDTO post = new PostDTO();
+            post.setPost_id(post_id);
+            post.setTitle("제목 " + calls);
+            return post;
+        });
+        when(commentMapper.getCommentPage(anyInt(), anyBoolean(), any(), anyInt())).thenAnswer(inv -> {
+            CommentDTO comment = new CommentDTO();
+            comment.setComment_id((Integer) inv.getArgument(0) * 10);
+            comment.setPost_id(inv.getArgument(0));
+            return List.of(comment);
+        });
+        when(commentMapper.countByPostId(anyInt())).thenReturn(1);
+        cache = new PostDetailCache(postMapper, commentMapper, 100, 300, 20);
+    }
+
+    @Test // 게시글 + 댓글을 한 번 읽고 그 뒤로는 캐시
+    public void testLoadOnce() {
+        PostDTO post = cache.get(1);
+        assertEquals(1, post.getComments().size());
+        assertEquals(1, post.getComment_count());
+        assertNull(post.getCommentCursor());
+        assertSame(post, cache.get(1));
+        assertEquals(1, postCalls.get());
+        verify(commentMapper, times(1)).getCommentPage(anyInt(), anyBoolean(), any(), anyInt());
+        assertNull(cache.get(99));
+    }
+
+    @Test // 글 수정 / 댓글 변경 시 버전이 올라가서 다시 읽음
+    public void testBump() {
+        PostDTO first = cache.get(1);
+        cache.get(2);
+
+        cache.bump(1);
+        PostDTO second = cache.get(1);
+        assertNotSame(first, second);
+        assertEquals(3, postCalls.get());
+
+        cache.bumpForComment(20); // 2번 글의 댓글
+        cache.get(2);
+        assertEquals(4, postCalls.get());
+        cache.bumpForComment(12345); // 캐시에 없는 댓글은 아무 글도 안 건드림
+        cache.get(1);
+        cache.get(2);
+        assertEquals(4, postCalls.get());
+    }
+
+    @Test // 처음 요청이 몰려도 DB 는 한 번
+    public void testSingleFlight() throws InterruptedException {
+        slowLoad = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        List<PostDTO> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Thread t = new Thread(() -> {
+                PostDTO post = cache.get(1);
+                synchronized (results) {
+                    results.add(post);
+                }
+            });
+            threads.add(t);
+            t.start();
+        }
+        Thread.sleep(100);
+        slowLoad.countDown();
+        for (Thread t : threads) {
+            t.join();
+        }
+        assertEquals(1, postCalls.get());
+        assertEquals(8, results.size());
+        for (PostDTO post : results) {
+            assertSame(results.get(0), post);
+        }
+    }
+
+    @Test // 로딩 중에 버전이 오르면 그 결과는 다음 요청에 쓰이지 않음
+    public void testBumpDuringLoad() throws InterruptedException {
+        slowLoad = new CountDownLatch(1);
+        Thread t = new Thread(() -> cache.get(1));
+        t.start();
+        Thread.sleep(100);
+        cache.bump(1);
+        slowLoad.countDown();
+        t.join();
+        slowLoad = null;
+
+        cache.get(1);
+        assertEquals(2, postCalls.get());
+    }
+
+    @Test // 트랜잭션 안의 bump 는 커밋 뒤에 반영 (커밋 전 행이 새 버전으로 캐시되지 않음), 롤백되면 그대로
+    public void testBumpAfterCommit() {
+        PostDTO first = cache.get(1);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.bump(1);
+            assertSame(first, cache.get(1)); // 아직 커밋 전
+            for (TransactionSynchronization s : TransactionSynchronizationManager.getSynchronizations()) {
+                s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+            }
+        } finally {
+            TransactionSynchronizationManager.clear();
+        }
+        assertSame(first, cache.get(1));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.bump(1);
+            for (TransactionSynchronization s : TransactionSynchronizationManager.getSynchronizations()) {
+                s.afterCommit();
+            }
+        } finally {
+            TransactionSynchronizationManager.clear();
+        }
+        assertNotSame(first, cache.get(1));
+        assertEquals(2, postCalls.get());
+    }
+}
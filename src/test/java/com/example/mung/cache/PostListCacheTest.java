@@ -0,0 +1,133 @@
+package com.example.mung.cache;
+
+import com.example.mung.domain.PostDTO;
+import com.example.mung.domain.PostPage;
+import com.example.mung.domain.PostSummary;
+import com.example.mung.mapper.PostMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+public class PostListCacheTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 10, 1, 0, 0);
+
+    private final List<PostSummary> table = new ArrayList<>();
+    @Mock
+    private PostMapper postMapper;
+    private PostListCache cache;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        // 게시글 1~30, 홀수는 rec / 짝수는 general, id 가 클수록 최신
+        for (int i = 1; i <= 30; i++) {
+            table.add(post(i, i % 2 == 1 ? PostDTO.Category.rec : PostDTO.Category.general));
+        }
+        // getSummaryPage / countPosts 를 메모리 목록으로 흉내
+        when(postMapper.getSummaryPage(any(), any(), anyInt())).thenAnswer(inv -> {
+            List<PostSummary> rows = rows(inv.getArgument(0));
+            rows.sort(Comparator.comparing(PostSummary::getPost_id).reversed());
+            return new ArrayList<>(rows.subList(0, Math.min((Integer) inv.getArgument(2), rows.size())));
+        });
+        when(postMapper.countPosts(any())).thenAnswer(inv -> rows(inv.getArgument(0)).size());
+        cache = new PostListCache(postMapper, 10, 60);
+    }
+
+    @Test // 앞쪽 페이지는 처음 한 번만 읽고 그 뒤로는 메모리에서
+    public void testFirstPagesFromMemory() {
+        PostPage first = cache.page(null, null, 4);
+        assertEquals(List.of(30, 29, 28, 27), ids(first));
+        assertEquals(30, first.getTotal());
+        clearInvocations(postMapper);
+
+        PostPage second = cache.page(null, first.getNextCursor(), 4);
+        assertEquals(List.of(26, 25, 24, 23), ids(second));
+        verifyNoInteractions(postMapper);
+
+        PostPage rec = cache.page("rec", null, 3);
+        assertEquals(List.of(29, 27, 25), ids(rec));
+        assertEquals(15, rec.getTotal());
+    }
+
+    @Test // 캐시 범위를 넘으면 null (keyset 쿼리로)
+    public void testBeyondCache() {
+        PostPage page = cache.page(null, null, 4);
+        page = cache.page(null, page.getNextCursor(), 4);
+        assertNull(cache.page(null, page.getNextCursor(), 4)); // 9~12번째는 10개를 넘음
+        assertNull(cache.page("nope", null, 4));
+        assertEquals(-1, cache.count("nope"));
+    }
+
+    @Test // 글이 적으면 마지막 페이지까지 메모리에서
+    public void testCompleteList() {
+        table.removeIf(p -> p.getPost_id() > 5);
+        PostPage page = cache.page("general", null, 10);
+        assertEquals(List.of(4, 2), ids(page));
+        assertNull(page.getNextCursor());
+    }
+
+    @Test // 작성/삭제 반영
+    public void testAddAndRemove() {
+        cache.page(null, null, 4);
+        cache.page("rec", null, 4);
+        clearInvocations(postMapper);
+
+        PostSummary added = post(31, PostDTO.Category.rec);
+        table.add(added);
+        cache.added(added);
+        assertEquals(List.of(31, 30), ids(cache.page(null, null, 2)));
+        assertEquals(List.of(31, 29), ids(cache.page("rec", null, 2)));
+        assertEquals(31, cache.count(null));
+        assertEquals(16, cache.count("rec"));
+        verifyNoInteractions(postMapper);
+
+        table.removeIf(p -> p.getPost_id() == 31);
+        cache.removed(31, PostDTO.Category.rec);
+        assertEquals(List.of(30, 29), ids(cache.page(null, null, 2)));
+        assertEquals(30, cache.count(null));
+        // 삭제로 최신 10개가 모자라서 한 번 다시 채움
+        verify(postMapper).getSummaryPage(isNull(), isNull(), anyInt());
+        verify(postMapper).countPosts(isNull());
+        verifyNoMoreInteractions(postMapper);
+    }
+
+    private List<PostSummary> rows(String category) {
+        List<PostSummary> rows = new ArrayList<>();
+        for (PostSummary p : table) {
+            if (category == null || p.getCategory().name().equals(category)) {
+                rows.add(p);
+            }
+        }
+        return rows;
+    }
+
+    private static PostSummary post(int id, PostDTO.Category category) {
+        PostSummary p = new PostSummary();
+        p.setPost_id(id);
+        p.setTitle("글 " + id);
+        p.setCategory(category);
+        p.setCreated_at(T0.plusMinutes(id));
+        return p;
+    }
+
+    private static List<Integer> ids(PostPage page) {
+        List<Integer> ids = new ArrayList<>();
+        for (PostSummary p : page.getItems()) {
+            ids.add(p.getPost_id());
+        }
+        return ids;
+    }
+}
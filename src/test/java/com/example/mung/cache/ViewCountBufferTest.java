@@ -0,0 +1,89 @@
+package com.example.mung.cache;
+
+import com.example.mung.mapper.PostMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.invocation.InvocationOnMock;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+public class ViewCountBufferTest {
+
+    private static final long MINUTE = 60 * 1000;
+
+    private final List<Map<Integer, Long>> writes = new ArrayList<>();
+    @Mock
+    private PostMapper postMapper;
+    private ViewCountBuffer buffer;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        doAnswer(this::record).when(postMapper).addViewCounts(anyMap());
+        buffer = new ViewCountBuffer(postMapper, 30, 3);
+    }
+
+    @Test // 여러 번 본 글도 UPDATE 는 한 번에
+    public void testFlushInOneBatch() {
+        for (int i = 0; i < 5; i++) {
+            buffer.increment(1);
+        }
+        buffer.increment(2);
+        assertEquals(5, buffer.pending(1));
+
+        buffer.flush();
+        assertEquals(1, writes.size());
+        assertEquals(Map.of(1, 5L, 2, 1L), writes.get(0));
+        assertEquals(0, buffer.pending(1));
+
+        buffer.flush(); // 새로 쌓인 게 없으면 DB 에 가지 않음
+        verify(postMapper, times(1)).addViewCounts(anyMap());
+        assertEquals(0, buffer.size()); // 반영한 항목은 남기지 않음
+    }
+
+    @Test // 실패하면 남겨 두었다가 다음에 반영
+    public void testFailedFlushKeepsCounts() {
+        doThrow(new IllegalStateException("db down")).doAnswer(this::record).when(postMapper).addViewCounts(anyMap());
+        buffer.increment(1);
+        buffer.flush();
+        assertEquals(1, buffer.pending(1));
+
+        buffer.increment(1);
+        buffer.flush();
+        assertEquals(Map.of(1, 2L), writes.get(0));
+    }
+
+    @Test // 같은 사람은 window 안에서 한 번만
+    public void testFirstView() {
+        assertTrue(buffer.firstView("s:a", 1, 0));
+        assertFalse(buffer.firstView("s:a", 1, 10 * MINUTE));
+        assertTrue(buffer.firstView("ip:1.2.3.4", 1, 10 * MINUTE));
+        assertTrue(buffer.firstView("s:a", 2, 10 * MINUTE));
+        assertTrue(buffer.firstView("s:a", 1, 30 * MINUTE));
+    }
+
+    @Test // 기록 수 한도를 넘으면 오래된 것부터 잊음
+    public void testFirstViewBounded() {
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.firstView("s:a", i, 0));
+        }
+        assertTrue(buffer.firstView("s:a", 0, 1)); // 한도 3 이라 0 번 기록은 밀려남
+        assertFalse(buffer.firstView("s:a", 3, 1));
+    }
+
+    // 넘어온 묶음을 복사해서 기록 (반영 뒤 버퍼가 같은 맵을 다시 쓰더라도 그때 값으로 비교)
+    private Object record(InvocationOnMock inv) {
+        Map<Integer, Long> counts = inv.getArgument(0);
+        writes.add(new HashMap<>(counts));
+        return counts.size();
+    }
+}
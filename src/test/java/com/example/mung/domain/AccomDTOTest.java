@@ -0,0 +1,40 @@
+package com.example.mung.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AccomDTOTest {
+
+    @Test // 값을 넣을 때 한 번 나눠 두고 같은 리스트를 계속 돌려줌
+    public void testImagesSplitOnce() {
+        AccomDTO dto = new AccomDTO();
+        dto.setAccom_images_url("a.jpg, b.jpg,");
+        assertEquals(List.of("a.jpg", "b.jpg"), dto.getAccomImagesUrl());
+        assertSame(dto.getAccomImagesUrl(), dto.getAccomImagesUrl());
+        assertThrows(UnsupportedOperationException.class, () -> dto.getAccomImagesUrl().add("c.jpg"));
+    }
+
+    @Test // 값이 없으면 빈 리스트
+    public void testEmpty() {
+        AccomDTO dto = new AccomDTO();
+        assertTrue(dto.getAccomImagesUrl().isEmpty());
+        assertTrue(dto.getAccomAmenities().isEmpty());
+    }
+
+    @Test // 생성자로 만들어도 편의시설 목록이 같은 기준으로 나뉨
+    public void testConstructor() {
+        AccomDTO dto = new AccomDTO(1, 2, "멍숙소", "제주", null, null, null, "a.jpg", "주차장, 스파,",
+                0, null, 0, 0, 0, null, null, null, null);
+        assertEquals(List.of("주차장", "스파"), dto.getAccomAmenities());
+        assertEquals(List.of("a.jpg"), dto.getAccomImagesUrl());
+    }
+
+    @Test // 체크박스 값 저장용 문자열
+    public void testJoin() {
+        assertEquals("주차장,WI-FI", CommaList.join(List.of("주차장", " WI-FI ", "")));
+        assertNull(CommaList.join(null));
+    }
+}
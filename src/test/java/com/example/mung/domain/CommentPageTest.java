@@ -0,0 +1,55 @@
+package com.example.mung.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CommentPageTest {
+
+    @Test // 투표가 적으면 비율이 높아도 낮게, 많으면 비율에 가깝게
+    public void testWilsonScore() {
+        assertEquals(0.0, CommentDTO.wilsonScore(0, 0));
+        assertTrue(CommentDTO.wilsonScore(1, 0) < CommentDTO.wilsonScore(90, 10));
+        assertTrue(CommentDTO.wilsonScore(90, 10) < 0.9);
+        assertTrue(CommentDTO.wilsonScore(900, 100) > CommentDTO.wilsonScore(90, 10));
+        assertTrue(CommentDTO.wilsonScore(5, 5) > CommentDTO.wilsonScore(0, 5));
+    }
+
+    @Test
+    public void testCursor() {
+        CommentCursor newest = CommentCursor.parse(CommentCursor.NEWEST, "123");
+        assertFalse(newest.isBest());
+        assertEquals(123, newest.getComment_id());
+        assertEquals("123", newest.toString());
+
+        double score = CommentDTO.wilsonScore(7, 2);
+        CommentCursor best = CommentCursor.parse(CommentCursor.BEST, new CommentCursor(true, score, 45).toString());
+        assertTrue(best.isBest());
+        assertEquals(score, best.getScore()); // 문자열로 바꿨다가 읽어도 같은 값 (keyset 비교용)
+        assertEquals(45, best.getComment_id());
+
+        assertNull(CommentCursor.parse(CommentCursor.BEST, "123")); // 정렬과 안 맞는 커서는 첫 페이지
+        assertNull(CommentCursor.parse(CommentCursor.NEWEST, "abc"));
+        assertEquals(CommentCursor.NEWEST, CommentCursor.sort("oldest"));
+    }
+
+    @Test // size + 1 개를 읽었으면 다음 커서는 size 번째 댓글
+    public void testPage() {
+        List<CommentDTO> rows = new ArrayList<>();
+        for (int id = 30; id > 19; id--) {
+            CommentDTO c = new CommentDTO();
+            c.setComment_id(id);
+            rows.add(c);
+        }
+        CommentPage page = CommentPage.of(CommentCursor.NEWEST, rows, 10, 30);
+        assertEquals(10, page.getItems().size());
+        assertEquals("21", page.getNextCursor());
+
+        CommentPage last = CommentPage.of(CommentCursor.NEWEST, rows.subList(0, 5), 10, 30);
+        assertEquals(5, last.getItems().size());
+        assertNull(last.getNextCursor());
+    }
+}
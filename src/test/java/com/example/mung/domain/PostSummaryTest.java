@@ -0,0 +1,50 @@
+package com.example.mung.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PostSummaryTest {
+
+    @Test
+    public void snippetDropsTagsAndWhitespace() {
+        String content = "<p>산책   코스</p><img src=\"/uploads/ab/cd/x.png\" alt=\"Uploaded Image\" />&nbsp;추천";
+        assertEquals("산책 코스 추천", PostSummary.snippet(content));
+        assertEquals("", PostSummary.snippet(null));
+    }
+
+    @Test
+    public void snippetIgnoresTagCutInHalf() {
+        // DB 에서 앞부분만 잘라 와서 태그가 닫히지 않은 경우
+        assertEquals("본문", PostSummary.snippet("본문<img src=\"/uploa"));
+    }
+
+    @Test
+    public void snippetIsShortened() {
+        String snippet = PostSummary.snippet("가".repeat(300));
+        assertEquals(PostSummary.SNIPPET_LENGTH + 1, snippet.length());
+        assertTrue(snippet.endsWith("…"));
+    }
+
+    @Test
+    public void cursorRoundTrip() {
+        PostSummary post = new PostSummary();
+        post.setPost_id(15);
+        post.setCreated_at(LocalDateTime.of(2024, 10, 1, 12, 30, 5, 123000000));
+
+        PostCursor cursor = PostCursor.parse(PostCursor.of(post).toString());
+        assertEquals(15, cursor.getPost_id());
+        assertEquals(post.getCreated_at(), cursor.getCreated_at());
+    }
+
+    @Test
+    public void badCursorMeansFirstPage() {
+        assertNull(PostCursor.parse(null));
+        assertNull(PostCursor.parse(""));
+        assertNull(PostCursor.parse("abc"));
+        assertNull(PostCursor.parse("2024-13-01T00:00_1"));
+        assertNull(PostCursor.parse("2024-10-01T00:00_x"));
+    }
+}
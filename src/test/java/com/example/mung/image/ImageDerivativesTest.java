@@ -0,0 +1,112 @@
+package com.example.mung.image;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ImageDerivativesTest {
+
+    private Path dir;
+    private final Map<String, byte[]> files = new HashMap<>();
+    private ImageDerivatives images;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        dir = Files.createTempDirectory("mung-images-test");
+        files.put("/images/big.jpg", image(2000, 1000, "jpg"));
+        files.put("/images/small.png", image(100, 50, "png"));
+        images = new ImageDerivatives(dir, files::get);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        try (Stream<Path> walk = Files.walk(dir)) {
+            walk.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    @Test // 크기별 주소는 내용 해시 기반, 외부 url / 없는 파일은 그대로
+    public void testUrl() {
+        String card = images.url("/images/big.jpg", "card");
+        assertTrue(card.matches("/img/card/[A-Za-z0-9_-]+/[0-9a-f]{16}\\.jpg"), card);
+        assertEquals(card.replace("/card/", "/thumb/"), images.url("images/big.jpg", "THUMB"));
+        assertEquals("https://example.com/a.jpg", images.url("https://example.com/a.jpg", "card"));
+        assertEquals("/images/none.jpg", images.url("/images/none.jpg", "card"));
+        assertEquals("/images/big.jpg", images.url("/images/big.jpg", "huge"));
+    }
+
+    @Test // 처음 요청 시 줄여서 만들고, 원본보다 크게 만들지 않음
+    public void testResolve() throws IOException {
+        String card = images.url("/images/big.jpg", "card");
+        Path file = resolve(images, card);
+        BufferedImage resized = ImageIO.read(file.toFile());
+        assertEquals(480, resized.getWidth());
+        assertEquals(240, resized.getHeight());
+        assertTrue(Files.size(file) < files.get("/images/big.jpg").length);
+
+        String small = images.url("/images/small.png", "full");
+        Path smallFile = resolve(images, small);
+        assertArrayEquals(files.get("/images/small.png"), Files.readAllBytes(smallFile));
+    }
+
+    @Test // 재기동 후 / 다른 서버에서도 주소만으로 원본을 찾아 사본을 만듦
+    public void testResolveOnOtherNode() throws IOException {
+        String card = images.url("/images/big.jpg", "card");
+        Path otherDir = Files.createTempDirectory("mung-images-other");
+        try {
+            ImageDerivatives other = new ImageDerivatives(otherDir, files::get);
+            Path file = resolve(other, card);
+            assertNotNull(file);
+            assertEquals(480, ImageIO.read(file.toFile()).getWidth());
+        } finally {
+            try (Stream<Path> walk = Files.walk(otherDir)) {
+                walk.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+            }
+        }
+    }
+
+    @Test // 모르는 이름 / 잘못된 이름 / 원본과 해시가 다른 주소 / 원본이 바뀐 주소
+    public void testResolveUnknown() throws IOException {
+        String card = images.url("/images/big.jpg", "card");
+        String[] parts = card.split("/"); // "", img, card, 원본키, 파일
+        String smallKey = images.url("/images/small.png", "card").split("/")[3];
+        assertNull(images.resolve("card", parts[3], "0123456789abcdef.jpg"));
+        assertNull(images.resolve("card", smallKey, parts[4]));
+        assertNull(images.resolve("card", parts[3], "../../etc/passwd"));
+        assertNull(images.resolve("card", "Li4vZXRjL3Bhc3N3ZA", parts[4])); // "../etc/passwd"
+        assertNull(images.resolve("huge", parts[3], parts[4]));
+
+        files.put("/images/big.jpg", image(100, 100, "jpg"));
+        assertNull(new ImageDerivatives(dir, files::get).resolve("card", parts[3], parts[4]));
+    }
+
+    private static Path resolve(ImageDerivatives images, String url) throws IOException {
+        String[] parts = url.split("/");
+        return images.resolve(parts[2], parts[3], parts[4]);
+    }
+
+    private static byte[] image(int width, int height, String format) throws IOException {
+        BufferedImage img = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                img.setRGB(x, y, (x * 7 + y * 13) & 0xffffff);
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(img, format, out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.mung.index;
+
+import com.example.mung.domain.AccomDTO;
+import com.example.mung.domain.AccomVO;
+import com.example.mung.mapper.AccomMapper;
+import com.example.mung.mapper.ReviewMapper;
+import com.example.mung.mapper.RoomMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class AccomStatsStoreTest {
+
+    private AccomStatsStore store;
+
+    @BeforeEach
+    public void setup() {
+        store = new AccomStatsStore(null, null, null, 5);
+        store.putAccom(accom(1, "언덕위"));
+        store.putAccom(accom(2, "바다앞"));
+        store.putAccom(accom(3, "숲속"));
+    }
+
+    private AccomVO accom(int id, String name) {
+        AccomVO vo = new AccomVO();
+        vo.setAccom_id(id);
+        vo.setAccom_name(name);
+        vo.setAccom_location("강원도");
+        vo.setAccom_images_url("images/a.jpg,images/b.jpg");
+        return vo;
+    }
+
+    @Test // 리뷰가 하나뿐인 5점 숙소보다 리뷰 많은 4.8점 숙소가 위에 있어야 함
+    public void testBayesianRanking() {
+        store.addReview(1, 5, LocalDateTime.now());
+        for (int i = 0; i < 20; i++) {
+            store.addReview(2, i % 5 == 0 ? 4 : 5, LocalDateTime.now());
+        }
+        List<AccomStats> top = store.top(3);
+        assertEquals(2, top.get(0).getAccom_id());
+        assertEquals(1, top.get(1).getAccom_id());
+        assertEquals(3, top.get(2).getAccom_id());
+        assertEquals(20, top.get(0).getReview_count());
+    }
+
+    @Test // DB 를 읽는 동안 들어온 리뷰/객실 변경이 새 맵으로 바꿀 때 사라지지 않음
+    public void testChangesDuringRebuild() {
+        AccomMapper accomMapper = mock(AccomMapper.class);
+        RoomMapper roomMapper = mock(RoomMapper.class);
+        ReviewMapper reviewMapper = mock(ReviewMapper.class);
+        AccomStatsStore rebuilt = new AccomStatsStore(accomMapper, roomMapper, reviewMapper, 5);
+        AccomDTO a = new AccomDTO();
+        a.setAccom_id(1);
+        a.setAccom_name("언덕위");
+        when(accomMapper.getList()).thenReturn(List.of(a));
+        when(roomMapper.getList()).thenAnswer(inv -> {
+            rebuilt.addReview(1, 5, LocalDateTime.now()); // 리뷰는 이미 읽음 -> 새 맵에 다시 적용되어야 함
+            rebuilt.putRoom(10, 1, 70000, "소형견");      // 객실도 읽기 전에 반영됐다고 가정
+            return List.of();
+        });
+        rebuilt.putAccom(accom(1, "언덕위"));
+        rebuilt.rebuild();
+        assertEquals(1, rebuilt.get(1).getReview_count());
+        assertEquals(70000, rebuilt.get(1).getMin_price());
+
+        rebuilt.addReview(1, 4, LocalDateTime.now()); // rebuild 가 끝난 뒤에는 기록하지 않음
+        assertEquals(2, rebuilt.get(1).getReview_count());
+    }
+
+    @Test // 요청한 개수만큼만 반환
+    public void testTopN() {
+        assertEquals(2, store.top(2).size());
+        assertEquals(3, store.top(10).size());
+    }
+
+    @Test // 객실 추가/수정/삭제에 따라 최저가 갱신
+    public void testMinPrice() {
+        store.putRoom(10, 1, 80000, "소형견");
+        store.putRoom(11, 1, 50000, "중형견");
+        assertEquals(50000, store.get(1).getMin_price());
+        assertEquals("중형견", store.get(1).getPet_kind());
+        store.putRoom(11, 0, 90000, "중형견"); // 수정 시 accom_id 없음
+        assertEquals(80000, store.get(1).getMin_price());
+        store.removeRoom(10);
+        assertEquals(90000, store.get(1).getMin_price());
+        store.removeRoom(11);
+        assertEquals(0, store.get(1).getMin_price());
+    }
+
+    @Test // 리뷰 삭제 / 숙소 삭제
+    public void testRemove() {
+        store.addReview(3, 5, LocalDateTime.now());
+        assertEquals(3, store.top(1).get(0).getAccom_id());
+        store.removeReview(3, 5);
+        assertEquals(0, store.get(3).getReview_count());
+        store.removeAccom(3);
+        assertNull(store.get(3));
+        assertEquals(2, store.top(10).size());
+    }
+
+    @Test // 커서 다음 순위부터 이어서 순회
+    public void testRankingAfterCursor() {
+        store.addReview(2, 5, LocalDateTime.now());
+        store.addReview(3, 1, LocalDateTime.now());
+        List<Integer> order = new ArrayList<>();
+        for (AccomStats s : store.ranking()) {
+            order.add(s.getAccom_id());
+        }
+        assertEquals(List.of(2, 1, 3), order);
+
+        String cursor = AccomStatsStore.cursorOf(store.get(2));
+        List<Integer> rest = new ArrayList<>();
+        for (AccomStats s : store.rankingAfter(cursor)) {
+            rest.add(s.getAccom_id());
+        }
+        assertEquals(List.of(1, 3), rest);
+        // 잘못된 커서는 처음부터
+        assertEquals(3, store.top(10).size());
+        assertTrue(store.rankingAfter("abc").iterator().hasNext());
+    }
+
+    @Test // 후보가 정해진 경우 후보만 순위대로, 커서 다음부터
+    public void testRankingAfterCursorWithinCandidates() {
+        store.addReview(2, 5, LocalDateTime.now());
+        store.addReview(3, 1, LocalDateTime.now());
+        List<AccomStats> page = store.rankingAfter(null, List.of(3, 2));
+        assertEquals(2, page.size());
+        assertEquals(2, page.get(0).getAccom_id());
+        assertEquals(3, page.get(1).getAccom_id());
+        List<AccomStats> next = store.rankingAfter(AccomStatsStore.cursorOf(page.get(0)), List.of(3, 2, 99));
+        assertEquals(1, next.size());
+        assertEquals(3, next.get(0).getAccom_id());
+    }
+}
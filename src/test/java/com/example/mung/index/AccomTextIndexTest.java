@@ -0,0 +1,57 @@
+package com.example.mung.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AccomTextIndexTest {
+
+    private AccomTextIndex index;
+
+    @BeforeEach
+    public void setup() {
+        // DB 없이 색인만 검증 (rebuild 는 호출하지 않음)
+        index = new AccomTextIndex(null);
+        index.put(1, "언덕위 펜션", "강원도 속초시");
+        index.put(2, "바다앞 풀빌라", "강원도 강릉시");
+        index.put(3, "숲속 캠핑", "경기도 가평군");
+    }
+
+    @Test // 지역 일부만 입력해도 검색됨 (LIKE '%속초%' 와 같은 결과)
+    public void testPartialMatch() {
+        assertEquals(Set.of(1), index.search("속초"));
+        assertEquals(Set.of(1, 2), index.search("강원"));
+        assertEquals(Set.of(2), index.search("풀빌라"));
+    }
+
+    @Test // 여러 단어는 모두 포함된 숙소만
+    public void testMultiWord() {
+        assertEquals(Set.of(2), index.search("강원도 바다"));
+        assertTrue(index.search("강원도 캠핑").isEmpty());
+    }
+
+    @Test // 1글자 검색
+    public void testSingleChar() {
+        assertEquals(Set.of(1, 2), index.search("강"));
+    }
+
+    @Test // 2-gram 은 모두 있지만 연속되지 않으면 매칭되지 않음
+    public void testNonAdjacentBigrams() {
+        index.put(4, "도강 원도", "서울");
+        assertEquals(Set.of(4), index.search("도강"));
+        assertFalse(index.search("강원도").contains(4));
+    }
+
+    @Test // 수정/삭제 시 이전 term 제거
+    public void testPutAndRemove() {
+        index.put(1, "언덕위 펜션", "제주도 서귀포시");
+        assertTrue(index.search("속초").isEmpty());
+        assertEquals(Set.of(1), index.search("서귀포"));
+        index.remove(1);
+        assertTrue(index.search("서귀포").isEmpty());
+        assertEquals(2, index.size());
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.mung.index;
+
+import com.example.mung.domain.ReservationVO;
+import com.example.mung.domain.RoomDTO;
+import com.example.mung.mapper.ReservationMapper;
+import com.example.mung.mapper.RoomMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class AvailabilityIndexTest {
+
+    private AvailabilityIndex index;
+    private final LocalDate day = LocalDate.of(2025, 5, 3);
+
+    @BeforeEach
+    public void setup() {
+        // DB 없이 인덱스만 검증 (rebuild 는 호출하지 않음)
+        index = new AvailabilityIndex(null, null);
+        index.putRoom(1, 10, 2, 2, 4); // 10번 숙소의 1번 객실, 2실
+        index.putRoom(2, 10, 1, 1, 2); // 10번 숙소의 2번 객실, 1실
+    }
+
+    @Test // 객실 수만큼만 예약되고 그 이후엔 막힘
+    public void testBookUntilFull() {
+        assertTrue(index.tryBook(1, day, day.plusDays(2)));
+        assertTrue(index.tryBook(1, day.plusDays(1), day.plusDays(3)));
+        assertEquals(0, index.remaining(1, day.plusDays(1)));
+        assertFalse(index.tryBook(1, day, day.plusDays(2)));
+        assertTrue(index.isAvailable(1, day, day.plusDays(1)));
+        assertFalse(index.isAvailable(1, day, day.plusDays(3)));
+    }
+
+    @Test // 체크아웃 날짜는 숙박일이 아님
+    public void testCheckoutNightIsFree() {
+        assertTrue(index.tryBook(2, day, day.plusDays(1)));
+        assertFalse(index.isAvailable(2, day, day.plusDays(1)));
+        assertTrue(index.isAvailable(2, day.plusDays(1), day.plusDays(2)));
+    }
+
+    @Test // 취소하면 다시 예약 가능
+    public void testRelease() {
+        assertTrue(index.tryBook(2, day, day.plusDays(2)));
+        index.release(2, day, day.plusDays(2));
+        assertEquals(1, index.remaining(2, day));
+        assertTrue(index.isAvailable(2, day, day.plusDays(2)));
+    }
+
+    @Test // 인원 수와 날짜 모두 맞는 객실만 반환
+    public void testAvailableRoomIds() {
+        assertEquals(2, index.availableRoomIds(10, 2, day, day.plusDays(1)).size());
+        assertEquals(1, index.availableRoomIds(10, 3, day, day.plusDays(1)).size());
+        index.tryBook(2, day, day.plusDays(1));
+        assertEquals(1, index.availableRoomIds(10, 2, day, day.plusDays(1)).size());
+        assertFalse(index.hasAvailableRoom(10, 5, day, day.plusDays(1)));
+    }
+
+    @Test // 객실/숙소 삭제 시 인덱스에서도 제거
+    public void testRemove() {
+        index.removeRoom(1);
+        assertFalse(index.isAvailable(1, day, day.plusDays(1)));
+        index.removeAccom(10);
+        assertFalse(index.hasAvailableRoom(10, 2, day, day.plusDays(1)));
+    }
+
+    @Test // rebuild 가 DB 를 읽는 동안 들어온 예약은 기다렸다가 새 달력에 반영 (사라지지 않음)
+    public void testBookDuringRebuild() throws InterruptedException {
+        List<ReservationVO> reservations = new ArrayList<>();
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        AtomicReference<CountDownLatch> slow = new AtomicReference<>();
+        AvailabilityIndex db = dbIndex(reservations, () -> {
+            if (slow.get() != null) {
+                reading.countDown();
+                finish.await();
+            }
+        });
+        LocalDate night = LocalDate.now().plusDays(10);
+        db.rebuild();
+
+        slow.set(finish);
+        Thread rebuild = new Thread(db::rebuild);
+        rebuild.start();
+        reading.await();
+        AtomicReference<AvailabilityIndex.Hold> booked = new AtomicReference<>();
+        Thread book = new Thread(() -> booked.set(db.hold(1, night, night.plusDays(1))));
+        book.start();
+        Thread.sleep(100);
+        assertTrue(book.isAlive()); // rebuild 가 끝날 때까지 기다림
+        finish.countDown();
+        rebuild.join();
+        book.join();
+
+        assertNotNull(booked.get());
+        assertEquals(0, db.remaining(1, night));
+        assertNull(db.hold(1, night, night.plusDays(1)));
+    }
+
+    @Test // 커밋 전 예약은 rebuild 뒤에도 남고, 롤백되면 새 달력에서 돌려놓음. 커밋된 예약은 두 번 세지 않음
+    public void testHoldAcrossRebuild() throws InterruptedException {
+        List<ReservationVO> reservations = new ArrayList<>();
+        AvailabilityIndex db = dbIndex(reservations, () -> { });
+        LocalDate night = LocalDate.now().plusDays(10);
+        db.rebuild();
+
+        AvailabilityIndex.Hold pending = db.hold(1, night, night.plusDays(1));
+        db.rebuild();
+        assertEquals(0, db.remaining(1, night));
+        db.cancelHold(pending);
+        assertEquals(1, db.remaining(1, night));
+
+        AvailabilityIndex.Hold committed = db.hold(1, night, night.plusDays(1));
+        reservations.add(reservation(1, night));
+        db.confirm(committed);
+        db.rebuild();
+        assertEquals(0, db.remaining(1, night));
+
+        // 취소 커밋 전후로 rebuild 가 있었으면 돌려놓지 않음 (rebuild 가 이미 DB 기준으로 맞춤)
+        long generation = db.generation();
+        reservations.clear();
+        db.rebuild();
+        db.releaseCommitted(generation, 1, night, night.plusDays(1));
+        assertEquals(1, db.remaining(1, night));
+    }
+
+    private AvailabilityIndex dbIndex(List<ReservationVO> reservations, Blocking onRead) {
+        RoomDTO room = new RoomDTO();
+        room.setRoom_id(1);
+        room.setAccom_id(10);
+        room.setRoom_amount(1);
+        room.setCapacity_standard(1);
+        room.setCapacity_max(2);
+        RoomMapper roomMapper = mock(RoomMapper.class);
+        when(roomMapper.getList()).thenReturn(List.of(room));
+        // 예약을 읽을 때마다 onRead 를 거침 (rebuild 도중에 끼어드는 요청 흉내)
+        Answer<List<ReservationVO>> read = inv -> {
+            onRead.run();
+            return List.copyOf(reservations);
+        };
+        ReservationMapper reservationMapper = mock(ReservationMapper.class);
+        when(reservationMapper.getListFrom(any())).thenAnswer(read);
+        when(reservationMapper.getListByRoom_id(anyInt(), any())).thenAnswer(read);
+        return new AvailabilityIndex(roomMapper, reservationMapper);
+    }
+
+    private static ReservationVO reservation(int room_id, LocalDate night) {
+        ReservationVO vo = new ReservationVO();
+        vo.setRoom_id(room_id);
+        vo.setRv_start_date(night);
+        vo.setRv_end_date(night.plusDays(1));
+        return vo;
+    }
+
+    private interface Blocking {
+        void run() throws InterruptedException;
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.mung.index;
+
+import com.example.mung.domain.AccomFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FacetIndexTest {
+
+    private FacetIndex index;
+
+    @BeforeEach
+    public void setup() {
+        // DB 없이 색인만 검증 (rebuild 는 호출하지 않음)
+        index = new FacetIndex(null, null, new int[]{50000, 100000, 200000});
+        index.putAccom(1, "주차장,WI-FI,멍수영장");
+        index.putAccom(2, "주차장, 스파");
+        index.putAccom(3, "WI-FI");
+        index.putRoom(10, 1, "소형견", 40000, 2, 4);
+        index.putRoom(11, 1, "대형견", 150000, 2, 6);
+        index.putRoom(20, 2, "대형견", 80000, 2, 2);
+        index.putRoom(30, 3, "중형견", 60000, 1, 3);
+    }
+
+    @Test // 가격대 이름
+    public void testPriceLabel() {
+        assertEquals("~50000", index.priceLabel(40000));
+        assertEquals("50000~100000", index.priceLabel(50000));
+        assertEquals("200000~", index.priceLabel(300000));
+    }
+
+    @Test // 객실 조건은 같은 객실이 모두 만족해야 함
+    public void testRoomConditionsOnSameRoom() {
+        // 1번 숙소에 대형견 객실과 5만원 미만 객실은 있지만 둘 다인 객실은 없음
+        FacetResult r = index.filter(null, 2, new AccomFilter("대형견", "~50000", null));
+        assertEquals(0, r.size());
+        r = index.filter(null, 2, new AccomFilter("대형견", null, null));
+        assertEquals(List.of(1, 2), r.accomIds());
+        assertTrue(r.containsRoom(11));
+        assertFalse(r.containsRoom(10));
+    }
+
+    @Test // 인원 / 편의시설 / 검색어 후보
+    public void testCapacityAmenityCandidates() {
+        assertEquals(List.of(1), index.filter(null, 5, null).accomIds());
+        assertEquals(List.of(1, 2), index.filter(null, 2, new AccomFilter(null, null, List.of("주차장"))).accomIds());
+        assertEquals(List.of(1), index.filter(null, 2, new AccomFilter(null, null, List.of("주차장", "WI-FI"))).accomIds());
+        assertEquals(List.of(3), index.filter(Set.of(2, 3), 2, new AccomFilter(null, null, List.of("WI-FI"))).accomIds());
+    }
+
+    @Test // 필터 값별 숙소 수: 반려견은 자기 선택을 뺀 기준, 편의시설은 현재 결과 기준
+    public void testCounts() {
+        FacetResult r = index.filter(null, 2, new AccomFilter("대형견", null, null));
+        assertEquals(2, r.getCounts().get(FacetIndex.PET_KIND).get("대형견"));
+        assertEquals(1, r.getCounts().get(FacetIndex.PET_KIND).get("중형견"));
+        assertEquals(1, r.getCounts().get(FacetIndex.PRICE).get("100000~200000"));
+        assertEquals(0, r.getCounts().get(FacetIndex.PRICE).get("200000~"));
+        assertEquals(2, r.getCounts().get(FacetIndex.AMENITY).get("주차장"));
+        assertEquals(1, r.getCounts().get(FacetIndex.AMENITY).get("WI-FI"));
+    }
+
+    @Test // 수정/삭제 반영
+    public void testUpdateAndRemove() {
+        index.putRoom(20, 0, "소형견", 80000, 2, 2); // 수정 시 accom_id 없음
+        assertEquals(List.of(1), index.filter(null, 2, new AccomFilter("대형견", null, null)).accomIds());
+        assertEquals(List.of(1, 2), index.filter(null, 2, new AccomFilter("소형견", null, null)).accomIds());
+        index.putAccom(2, "WI-FI");
+        assertEquals(List.of(1), index.filter(null, 2, new AccomFilter(null, null, List.of("주차장"))).accomIds());
+        index.removeAccom(1);
+        assertEquals(List.of(2), index.filter(null, 2, new AccomFilter("소형견", null, null)).accomIds());
+        assertFalse(index.filter(null, 2, null).getCounts().get(FacetIndex.AMENITY).containsKey("멍수영장"));
+        index.removeRoom(30);
+        assertEquals(List.of(2), index.filter(null, 0, null).accomIds());
+    }
+}
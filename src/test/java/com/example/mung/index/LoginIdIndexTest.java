@@ -0,0 +1,133 @@
+package com.example.mung.index;
+
+import com.example.mung.mapper.LoginMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class LoginIdIndexTest {
+
+    // user 테이블의 user_loginId (대소문자 구분 없이 비교하는 건 index 쪽 책임)
+    private final TreeSet<String> ids = new TreeSet<>();
+    private final List<String> byUserId = new ArrayList<>(); // user_id - 1 -> user_loginId
+    @Mock
+    private LoginMapper mapper;
+    private LoginIdIndex index;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        when(mapper.countLoginIds()).thenAnswer(inv -> (long) ids.size());
+        when(mapper.getLoginIdsAfter(anyString(), anyInt())).thenAnswer(inv -> {
+            List<String> page = new ArrayList<>();
+            for (String id : ids.tailSet(inv.getArgument(0), false)) {
+                if (page.size() == (Integer) inv.getArgument(1)) {
+                    break;
+                }
+                page.add(id);
+            }
+            return page;
+        });
+        when(mapper.maxUserId()).thenAnswer(inv -> (long) byUserId.size());
+        when(mapper.getLoginIdsBetween(anyLong(), anyLong())).thenAnswer(inv ->
+                new ArrayList<>(byUserId.subList((int) (long) inv.getArgument(0), (int) (long) inv.getArgument(1))));
+        when(mapper.loginByIdCheck(anyString())).thenAnswer(inv ->
+                ids.stream().anyMatch(id -> id.equalsIgnoreCase(inv.getArgument(0))));
+        for (int i = 0; i < 12000; i++) {
+            join("user" + i);
+        }
+        index = new LoginIdIndex(mapper, 1000, 0.01, 100, 1000);
+        index.rebuild();
+    }
+
+    @Test // 있는 아이디는 항상 있다고, 없는 아이디는 대부분 DB 를 보지 않고 없다고 답함
+    public void testExists() {
+        for (int i = 0; i < 12000; i += 37) {
+            assertTrue(index.exists("user" + i));
+        }
+        clearInvocations(mapper);
+        int misses = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (!index.exists("new" + i)) {
+                misses++;
+            }
+        }
+        assertEquals(10000, misses);
+        verify(mapper, atMost(299)).loginByIdCheck(anyString()); // 오탐으로 DB 확인. 1% 근처
+        assertTrue(index.exists(" USER5 ")); // MySQL 처럼 대소문자 / 앞뒤 공백 무시
+        assertFalse(index.exists(""));
+    }
+
+    @Test // DB 확인 결과는 캐시, 가입하면 바로 반영
+    public void testAddAndCache() {
+        index.exists("user1");
+        index.exists("user1");
+        verify(mapper, times(1)).loginByIdCheck(anyString());
+
+        join("mungmung");
+        index.add("mungmung");
+        assertTrue(index.exists("mungmung"));
+    }
+
+    @Test // 다른 서버에서 가입한 아이디 (이 서버의 filter 에는 add 되지 않음) 도 있다고 답함
+    public void testJoinedOnOtherServer() {
+        long now = System.currentTimeMillis();
+        assertFalse(index.exists("other", now));
+        join("other");
+        assertTrue(index.exists("other", now + 1000));
+        assertTrue(index.exists("OTHER", now + 1000));
+
+        clearInvocations(mapper);
+        assertFalse(index.exists("nobody", now + 2000)); // 새 회원이 없으면 다시 DB 로 아이디를 찾지 않음
+        verify(mapper, never()).loginByIdCheck(anyString());
+    }
+
+    @Test // 없는 아이디가 계속 와도 max(user_id) 는 간격마다 한 번만 확인
+    public void testWatermarkCheckThrottled() {
+        long now = System.currentTimeMillis();
+        clearInvocations(mapper);
+        for (int i = 0; i < 100; i++) {
+            assertFalse(index.exists("new" + i, now + i));
+        }
+        verify(mapper, times(1)).maxUserId();
+
+        join("other"); // 간격 안에서는 아직 모름 (가입은 unique key 가 막음)
+        assertFalse(index.exists("other", now + 500));
+        assertTrue(index.exists("other", now + 1000));
+        verify(mapper, times(2)).maxUserId();
+    }
+
+    // 다른 서버에서 가입한 것처럼 DB 에만 추가
+    private void join(String user_loginId) {
+        ids.add(user_loginId);
+        byUserId.add(user_loginId);
+    }
+
+    @Test
+    public void testBloomFilter() {
+        BloomFilter filter = new BloomFilter(1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            filter.put("id" + i);
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(filter.mightContain("id" + i));
+            if (filter.mightContain("other" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 40, "오탐 " + falsePositives);
+        assertEquals(7, filter.hashCount());
+    }
+}
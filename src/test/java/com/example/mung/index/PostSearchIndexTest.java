@@ -0,0 +1,77 @@
+package com.example.mung.index;
+
+import com.example.mung.domain.PostDTO;
+import com.example.mung.mapper.PostMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+public class PostSearchIndexTest {
+
+    @Mock
+    private PostMapper postMapper;
+    private PostSearchIndex index;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        List<PostDTO> posts = List.of(
+                post(1, "강아지 산책 코스 추천", "<p>한강 공원 산책로가 좋아요</p>"),
+                post(2, "자유 게시판 인사", "우리 강아지는 산책을 좋아합니다. 산책 산책 산책"),
+                post(3, "제주 여행 후기", "<img src=\"/uploads/ab/cd/x.png\"/>바다가 예뻤어요"));
+        when(postMapper.getList()).thenReturn(posts);
+        index = new PostSearchIndex(postMapper);
+        index.rebuild();
+    }
+
+    @Test // 제목에 있는 글이 본문에만 있는 글보다 위
+    public void testTitleRanksFirst() {
+        assertEquals(List.of(1, 2), index.search("산책", PostSearchIndex.allFields()));
+    }
+
+    @Test // 필드 선택
+    public void testFields() {
+        assertEquals(List.of(1), index.search("산책", EnumSet.of(PostSearchIndex.Field.TITLE)));
+        assertEquals(List.of(2, 1), index.search("산책", EnumSet.of(PostSearchIndex.Field.CONTENT)));
+    }
+
+    @Test // 모든 단어가 있어야 하고, 단어는 제목/본문 어디에 있어도 됨
+    public void testAllWords() {
+        assertEquals(List.of(1), index.search("강아지 한강", PostSearchIndex.allFields()));
+        assertTrue(index.search("강아지 제주", PostSearchIndex.allFields()).isEmpty());
+    }
+
+    @Test // 본문 html 태그는 색인하지 않음
+    public void testTagsNotIndexed() {
+        assertTrue(index.search("uploads", PostSearchIndex.allFields()).isEmpty());
+        assertEquals(List.of(3), index.search("바다", PostSearchIndex.allFields()));
+    }
+
+    @Test // 작성/수정/삭제 반영
+    public void testUpdate() {
+        index.put(4, "바다 산책", "");
+        assertEquals(List.of(4, 3), index.search("바다", PostSearchIndex.allFields()));
+
+        index.put(3, "제주 여행 후기", "한라산");
+        assertEquals(List.of(4), index.search("바다", PostSearchIndex.allFields()));
+
+        index.remove(4);
+        assertTrue(index.search("바다", PostSearchIndex.allFields()).isEmpty());
+        assertEquals(3, index.size());
+    }
+
+    private static PostDTO post(int id, String title, String content) {
+        PostDTO p = new PostDTO();
+        p.setPost_id(id);
+        p.setTitle(title);
+        p.setContent(content);
+        return p;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.mung.index;
+
+import com.example.mung.domain.Suggestion;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SuggestTrieTest {
+
+    private static final long BUDGET = 1024 * 1024;
+
+    @Test // 인기순
+    public void testPopularFirst() {
+        SuggestTrie trie = SuggestTrie.build(List.of(
+                item("강아지 산책 코스", 10),
+                item("강아지 간식 추천", 50),
+                item("강릉 여행", 30)), BUDGET, 10);
+
+        assertEquals(List.of("강아지 간식 추천", "강릉 여행", "강아지 산책 코스"), texts(trie.suggest("강", 10)));
+        assertEquals(List.of("강아지 간식 추천", "강아지 산책 코스"), texts(trie.suggest("강아", 10)));
+        assertEquals(List.of("강아지 간식 추천"), texts(trie.suggest("강아", 1)));
+        assertTrue(trie.suggest("고양이", 10).isEmpty());
+        assertTrue(trie.suggest("  ", 10).isEmpty());
+    }
+
+    @Test // 중간 단어로도 찾고, 대소문자/공백 차이는 무시
+    public void testWordStartsAndNormalize() {
+        SuggestTrie trie = SuggestTrie.build(List.of(item("강원도  속초시", 1), item("Pet Hotel", 2)), BUDGET, 10);
+        assertEquals(List.of("강원도  속초시"), texts(trie.suggest("속초", 10)));
+        assertEquals(List.of("강원도  속초시"), texts(trie.suggest("강원도 속", 10)));
+        assertEquals(List.of("Pet Hotel"), texts(trie.suggest("HOT", 10)));
+    }
+
+    @Test // 예산을 넘으면 덜 인기 있는 항목부터 빠짐
+    public void testBudget() {
+        List<Suggestion> items = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            items.add(item("게시글 제목 " + i, i));
+        }
+        SuggestTrie small = SuggestTrie.build(items, 20 * 1024, 10);
+        assertTrue(small.size() < 1000);
+        assertTrue(small.estimatedBytes() <= 20 * 1024);
+        // 남은 건 인기 있는 쪽
+        assertEquals("게시글 제목 999", small.suggest("게시글", 1).get(0).getText());
+
+        SuggestTrie full = SuggestTrie.build(items, BUDGET, 10);
+        assertEquals(1000, full.size());
+    }
+
+    @Test // 예산에는 노드뿐 아니라 항목 객체와 문자열 크기도 들어감
+    public void testBudgetCountsItems() {
+        String title = "강아지 " + "산".repeat(500);
+        SuggestTrie trie = SuggestTrie.build(List.of(item(title, 1)), BUDGET, 10);
+        assertTrue(trie.estimatedBytes() >= SuggestTrie.SUGGESTION_BYTES + SuggestTrie.STRING_BYTES + 2L * title.length());
+    }
+
+    @Test
+    public void testRegions() {
+        assertEquals(List.of("강원도", "강원도 속초시"), SuggestIndex.regions(" 강원도 속초시 조양동"));
+        assertTrue(SuggestIndex.regions(null).isEmpty());
+    }
+
+    private static Suggestion item(String text, long popularity) {
+        return new Suggestion(text, Suggestion.POST, 0, popularity);
+    }
+
+    private static List<String> texts(List<Suggestion> list) {
+        List<String> texts = new ArrayList<>();
+        for (Suggestion s : list) {
+            texts.add(s.getText());
+        }
+        return texts;
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.mung.index;
+
+import com.example.mung.domain.PostDTO;
+import com.example.mung.domain.PostEngagement;
+import com.example.mung.domain.PostSummary;
+import com.example.mung.mapper.PostMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+public class TrendingPostsTest {
+
+    private static final long HOUR = 60 * 60 * 1000;
+
+    private final List<PostEngagement> seed = new ArrayList<>();
+    private final Set<Integer> deleted = new HashSet<>();
+    private final Map<Integer, PostDTO.Category> categories = new HashMap<>(); // 없으면 general
+    @Mock
+    private PostMapper postMapper;
+    private TrendingPosts trending;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        // getEngagementSince 는 seed 목록, getSummariesByIds / getCategoriesByIds 는 지워지지 않은 id 의 요약
+        when(postMapper.getEngagementSince(any())).thenReturn(seed);
+        when(postMapper.getSummariesByIds(anyList())).thenAnswer(inv -> summaries(inv.getArgument(0)));
+        when(postMapper.getCategoriesByIds(anyList())).thenAnswer(inv -> summaries(inv.getArgument(0)));
+        trending = new TrendingPosts(postMapper, 3, 24, 14);
+    }
+
+    @Test // 반응이 많은 순, 댓글/좋아요는 조회보다 무거움
+    public void testRanking() {
+        long now = trending.origin();
+        for (int i = 0; i < 4; i++) {
+            trending.recordView(1);
+        }
+        trending.recordComment(2);
+        trending.recordLike(3);
+        trending.recordView(4);
+        trending.refresh(now);
+        assertEquals(List.of(2, 1, 3), ids(trending.top())); // 최대 3개
+        assertEquals(5, trending.score(2, now), 1e-9);
+    }
+
+    @Test // 반감기가 지나면 점수가 반, 최근 반응이 오래된 많은 반응을 이김
+    public void testDecay() {
+        long start = trending.origin();
+        for (int i = 0; i < 10; i++) {
+            trending.recordView(1);
+        }
+        trending.refresh(start);
+        assertEquals(5, trending.score(1, start + 24 * HOUR), 1e-9);
+
+        for (int i = 0; i < 3; i++) {
+            trending.recordView(2);
+        }
+        trending.refresh(start + 48 * HOUR); // 1번은 2.5 까지 줄어듦
+        assertEquals(List.of(2, 1), ids(trending.top()));
+
+        // 충분히 오래 지나면 후보에서 빠짐
+        trending.refresh(start + 24 * 30 * HOUR);
+        assertTrue(trending.top().isEmpty());
+        assertEquals(0.0, trending.score(1, start + 24 * 30 * HOUR));
+    }
+
+    @Test // 시작할 때 최근 글의 누적 반응을 작성 시각 기준으로 읽음
+    public void testSeed() {
+        LocalDateTime now = LocalDateTime.now();
+        seed.add(engagement(1, now.minusDays(2), 100, 0, 0)); // 100 -> 25
+        seed.add(engagement(2, now.minusHours(1), 10, 2, 1)); // 23 -> 약 22
+        seed.add(engagement(3, now, 0, 0, 0)); // 반응 없음
+        trending.seed();
+        assertEquals(List.of(1, 2), ids(trending.top()));
+    }
+
+    @Test // 삭제된 글은 바로 빠지고, DB 에 없는 글은 다음 계산 때 빠짐
+    public void testRemove() {
+        long now = trending.origin();
+        trending.recordView(1);
+        trending.recordView(2);
+        trending.recordView(3);
+        trending.refresh(now);
+        trending.remove(2);
+        assertEquals(2, trending.top().size());
+        assertFalse(ids(trending.top()).contains(2));
+
+        deleted.add(3);
+        trending.refresh(now);
+        assertEquals(List.of(1), ids(trending.top()));
+    }
+
+    @Test // 카테고리별 순위는 전체 상위에 밀린 글로도 size 개까지 채움
+    public void testCategoryTop() {
+        long now = trending.origin();
+        categories.put(5, PostDTO.Category.travel);
+        categories.put(6, PostDTO.Category.travel);
+        for (int id = 1; id <= 4; id++) {
+            trending.recordComment(id);
+        }
+        trending.recordView(5);
+        trending.recordView(6);
+        trending.recordView(6);
+        trending.refresh(now);
+        assertEquals(3, trending.top().size());
+        assertEquals(List.of(6, 5), ids(trending.top("travel")));
+        assertEquals(3, trending.top("general").size());
+        assertTrue(trending.top("rec").isEmpty());
+        assertTrue(trending.top("nope").isEmpty());
+        assertEquals(trending.top(), trending.top(null));
+
+        trending.remove(6);
+        assertEquals(List.of(5), ids(trending.top("travel")));
+
+        // 글 수정으로 카테고리가 바뀌면 다음 계산 때 옮겨감
+        categories.put(5, PostDTO.Category.rec);
+        trending.refresh(now);
+        assertTrue(trending.top("travel").isEmpty());
+        trending.refresh(now);
+        assertEquals(List.of(5), ids(trending.top("rec")));
+    }
+
+    private List<PostSummary> summaries(List<Integer> ids) {
+        List<PostSummary> rows = new ArrayList<>();
+        for (Integer id : ids) {
+            if (!deleted.contains(id)) {
+                PostSummary s = new PostSummary();
+                s.setPost_id(id);
+                s.setCategory(categories.getOrDefault(id, PostDTO.Category.general));
+                rows.add(s);
+            }
+        }
+        return rows;
+    }
+
+    private static PostEngagement engagement(int id, LocalDateTime createdAt, int views, int comments, int likes) {
+        PostEngagement e = new PostEngagement();
+        e.setPost_id(id);
+        e.setCreated_at(createdAt);
+        e.setView_count(views);
+        e.setComment_count(comments);
+        e.setLike_count(likes);
+        return e;
+    }
+
+    private static List<Integer> ids(List<PostSummary> posts) {
+        List<Integer> ids = new ArrayList<>();
+        for (PostSummary p : posts) {
+            ids.add(p.getPost_id());
+        }
+        return ids;
+    }
+}
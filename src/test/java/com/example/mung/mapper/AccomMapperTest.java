@@ -22,11 +22,6 @@
 //    }
 //
 //    @Test
-//    public void testGetOnetByLocation(){
-//        accomDAO.getListByLocation("강원",2).stream().forEach(System.out::println);
-//    }
-//
-//    @Test
 //    public void testGetOneByUserAndAccom_name(){
 //        AccomVO vo = new AccomVO();
 //        vo.setUser_id(1);
@@ -34,11 +29,6 @@
 //        accomDAO.getoneByUserAndAccom_name(vo).stream().forEach(System.out::println);
 //    }
 //    @Test
-//    public void testGetListByRating(){
-//        accomDAO.getListByRating().stream().forEach(System.out::println);
-//    }
-//
-//    @Test
 //    public void testInsert(){
 //        AccomVO vo = new AccomVO();
 //        vo.setUser_id(1);
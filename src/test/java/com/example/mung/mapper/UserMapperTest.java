@@ -2,7 +2,6 @@ package com.example.mung.mapper;
 
 import com.example.mung.domain.UserDTO;
 import com.example.mung.domain.UserVO;
-import com.example.mung.domain.transfer.PetInfo;
 import com.example.mung.domain.transfer.Role;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,8 +18,6 @@ public class UserMapperTest {
     public void getListTest() {
         //mapper.getList().stream().forEach(System.out :: println);
         List<UserVO> list = mapper.getList();
-        list.stream().map(UserVO::getPet_infoToString).forEach(System.out::println);
-        list.stream().map(UserVO::getPet_infoList).forEach(System.out::println);
         list.stream().forEach(System.out::println);
         System.out.println("getList 완료!!!");
     }
@@ -49,8 +46,6 @@ public class UserMapperTest {
         Role role = new Role(str);
         vo.setRole(role);
         vo.setProfile_image_url("/bbangbbang.png");
-        PetInfo petInfo = new PetInfo("뽀삐", "샤모에드", "2", "15kg");
-        vo.setPet_inform(petInfo);
         boolean result = mapper.insert(vo);
         System.out.println("등록 완료 : " + result);
         System.out.println("insertTest 완료!!");
@@ -72,8 +67,6 @@ public class UserMapperTest {
         Role role = new Role(str);
         vo.setRole(role);
         vo.setProfile_image_url("/okji.png");
-        PetInfo petInfo = new PetInfo("빵빵이", "요크셔테리어", "3", "4kg");
-        vo.setPet_inform(petInfo);
         boolean result = mapper.update(vo);
         System.out.println("update 완료!!! result :" + result);
     }
@@ -0,0 +1,81 @@
+package com.example.mung.push;
+
+import com.example.mung.domain.CommentDTO;
+import com.example.mung.domain.PostUpdate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+
+public class PostUpdatesTest {
+
+    // 보낸 (토픽, 메시지)
+    private final List<String> topics = new ArrayList<>();
+    private final List<PostUpdate> sent = new ArrayList<>();
+    @Mock
+    private SimpMessageSendingOperations messaging;
+    private PostUpdates updates;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        doAnswer(inv -> {
+            topics.add(inv.getArgument(0));
+            sent.add(inv.getArgument(1));
+            return null;
+        }).when(messaging).convertAndSend(anyString(), any(Object.class));
+        updates = new PostUpdates(messaging);
+    }
+
+    @Test // 한 주기 동안의 변경은 게시글마다 메시지 한 건, 같은 댓글의 투표는 마지막 값만
+    public void testCoalesce() {
+        updates.commentAdded(comment(1, 10));
+        updates.commentAdded(comment(1, 11));
+        updates.votesChanged(1, 10, 1, 0);
+        updates.votesChanged(1, 10, 2, 1);
+        updates.votesChanged(2, 20, 0, 1);
+        updates.flush();
+
+        assertEquals(List.of("/topic/posts/1", "/topic/posts/2"), topics.stream().sorted().toList());
+        PostUpdate first = sent.get(topics.indexOf("/topic/posts/1"));
+        assertEquals(2, first.getComments().size());
+        assertEquals(11, first.getComments().get(1).getComment_id());
+        assertEquals(1, first.getVotes().size());
+        assertEquals(2, first.getVotes().get(0).getLikeCount());
+        assertEquals(1, first.getVotes().get(0).getDislikeCount());
+        assertFalse(first.isMore());
+
+        // 보낸 변경은 다시 보내지 않음
+        assertEquals(0, updates.pendingPosts());
+        updates.flush();
+        assertEquals(2, sent.size());
+    }
+
+    @Test // 새 댓글이 너무 많으면 일부만 보내고 more 표시
+    public void testMore() {
+        for (int i = 0; i < PostUpdates.MAX_COMMENTS + 5; i++) {
+            updates.commentAdded(comment(3, i));
+        }
+        updates.flush();
+        assertEquals(1, sent.size());
+        assertEquals(PostUpdates.MAX_COMMENTS, sent.get(0).getComments().size());
+        assertTrue(sent.get(0).isMore());
+    }
+
+    private static CommentDTO comment(int post_id, int comment_id) {
+        CommentDTO c = new CommentDTO();
+        c.setPost_id(post_id);
+        c.setComment_id(comment_id);
+        c.setContent("댓글 " + comment_id);
+        return c;
+    }
+}
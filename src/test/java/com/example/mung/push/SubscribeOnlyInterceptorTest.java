@@ -0,0 +1,50 @@
+package com.example.mung.push;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SubscribeOnlyInterceptorTest {
+
+    private final SubscribeOnlyInterceptor interceptor = new SubscribeOnlyInterceptor();
+
+    @Test // 접속 / 게시글 토픽 구독 / 해제 / 종료는 통과
+    public void testAllowSubscribe() {
+        for (SimpMessageType type : new SimpMessageType[]{SimpMessageType.CONNECT, SimpMessageType.SUBSCRIBE,
+                SimpMessageType.UNSUBSCRIBE, SimpMessageType.DISCONNECT}) {
+            Message<?> message = message(type, "/topic/posts/1");
+            assertSame(message, interceptor.preSend(message, null));
+        }
+    }
+
+    @Test // SEND 는 게시글 토픽이든 /app 이든 거절
+    public void testRejectSend() {
+        assertThrows(MessageDeliveryException.class,
+                () -> interceptor.preSend(message(SimpMessageType.MESSAGE, "/topic/posts/1"), null));
+        assertThrows(MessageDeliveryException.class,
+                () -> interceptor.preSend(message(SimpMessageType.MESSAGE, "/app/anything"), null));
+        assertThrows(MessageDeliveryException.class,
+                () -> interceptor.preSend(message(SimpMessageType.OTHER, null), null));
+    }
+
+    @Test // 게시글 토픽이 아닌 곳은 구독 불가
+    public void testRejectOtherSubscription() {
+        assertThrows(MessageDeliveryException.class,
+                () -> interceptor.preSend(message(SimpMessageType.SUBSCRIBE, "/app/posts/1"), null));
+        assertThrows(MessageDeliveryException.class,
+                () -> interceptor.preSend(message(SimpMessageType.SUBSCRIBE, null), null));
+    }
+
+    private static Message<?> message(SimpMessageType type, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        if (destination != null) {
+            accessor.setDestination(destination);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
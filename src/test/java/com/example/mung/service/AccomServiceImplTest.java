@@ -17,15 +17,6 @@ public class AccomServiceImplTest  {
 
     }
 
-    @Test
-    public void testGetListByLocation() {
-
-
-        service.readByLocation("강원",2).stream().forEach(System.out::println);
-
-
-    }
-
     @Test
     public void testInsert(){
         AccomVO vo = new AccomVO();
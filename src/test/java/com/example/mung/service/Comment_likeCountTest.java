@@ -0,0 +1,193 @@
+package com.example.mung.service;
+
+import com.example.mung.cache.CommentVoteBatcher;
+import com.example.mung.cache.PostDetailCache;
+import com.example.mung.domain.CommentDTO;
+import com.example.mung.domain.Comment_likeDTO;
+import com.example.mung.domain.VoteResult;
+import com.example.mung.index.TrendingPosts;
+import com.example.mung.mapper.CommentMapper;
+import com.example.mung.mapper.Comment_likeMapper;
+import com.example.mung.mapper.PostMapper;
+import com.example.mung.push.PostUpdates;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+public class Comment_likeCountTest {
+
+    private static final int COMMENT = 7;
+
+    // user_id -> 투표, comment 의 like_count / dislike_count
+    private final Map<Integer, Comment_likeDTO.Type> votes = new HashMap<>();
+    private final int[] counts = new int[2];
+    private volatile double bestScore;
+    private Comment_likeService service;
+    private CommentVoteBatcher batcher;
+
+    @Mock
+    private Comment_likeMapper likeMapper;
+    @Mock
+    private CommentMapper commentMapper;
+    @Mock
+    private PostMapper postMapper;
+    @Mock
+    private PlatformTransactionManager txManager;
+    @Mock
+    private SimpMessageSendingOperations messaging;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        // comment_like 테이블과 comment 의 카운터 컬럼을 메모리로 흉내
+        when(likeMapper.applyVoteToCounts(any())).thenAnswer(inv -> {
+            Comment_likeDTO dto = inv.getArgument(0);
+            Comment_likeDTO.Type old = votes.get(dto.getUser_id());
+            if (old == dto.getType()) {
+                return 0;
+            }
+            add(dto.getType(), 1);
+            if (old != null) {
+                add(old, -1);
+            }
+            return 1;
+        });
+        when(likeMapper.upsertVote(any())).thenAnswer(inv -> {
+            Comment_likeDTO dto = inv.getArgument(0);
+            votes.put(dto.getUser_id(), dto.getType());
+            return 1;
+        });
+        when(likeMapper.getCounts(anyInt())).thenAnswer(inv -> counts());
+        when(likeMapper.getCountsForUpdate(any())).thenAnswer(inv -> List.of(counts()));
+        when(likeMapper.updateBestScores(anyMap())).thenAnswer(inv -> {
+            Map<Integer, Double> scores = inv.getArgument(0);
+            bestScore = scores.get(COMMENT);
+            return 1;
+        });
+        when(likeMapper.findVotesForUpdate(any())).thenAnswer(inv -> {
+            List<Comment_likeDTO> rows = new ArrayList<>();
+            for (Comment_likeDTO v : inv.<Collection<Comment_likeDTO>>getArgument(0)) {
+                if (votes.containsKey(v.getUser_id())) {
+                    rows.add(vote(v.getUser_id(), votes.get(v.getUser_id())));
+                }
+            }
+            return rows;
+        });
+        when(likeMapper.upsertVotes(any())).thenAnswer(inv -> {
+            for (Comment_likeDTO v : inv.<Collection<Comment_likeDTO>>getArgument(0)) {
+                votes.put(v.getUser_id(), v.getType());
+            }
+            return 1;
+        });
+        when(likeMapper.addCounts(any())).thenAnswer(inv -> {
+            for (Comment_likeDTO d : inv.<Collection<Comment_likeDTO>>getArgument(0)) {
+                counts[0] += d.getLikeCount();
+                counts[1] += d.getDislikeCount();
+            }
+            return 1;
+        });
+        when(commentMapper.findPostId(anyInt())).thenReturn(1);
+        // 트랜잭션은 아무것도 하지 않음
+        when(txManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        TransactionTemplate tx = new TransactionTemplate(txManager);
+        batcher = new CommentVoteBatcher(likeMapper, tx, true, 200, 100);
+        service = new Comment_likeServiceImpl(likeMapper, commentMapper,
+                new PostDetailCache(postMapper, commentMapper, 10, 60, 20), new TrendingPosts(postMapper, 10, 24, 14),
+                new CommentVoteBatcher(likeMapper, tx, false, 0, 0), tx, new PostUpdates(messaging));
+    }
+
+    @Test // 새 투표 / 바꾼 투표 / 같은 투표 다시 누름
+    public void testCounters() {
+        assertEquals(Map.of("likeCount", 1, "dislikeCount", 0), service.likeOrDislike(vote(1, Comment_likeDTO.Type.LIKE)));
+        assertEquals(Map.of("likeCount", 1, "dislikeCount", 1), service.likeOrDislike(vote(2, Comment_likeDTO.Type.DISLIKE)));
+        assertEquals(Map.of("likeCount", 2, "dislikeCount", 0), service.likeOrDislike(vote(2, Comment_likeDTO.Type.LIKE)));
+        assertEquals(Map.of("likeCount", 2, "dislikeCount", 0), service.likeOrDislike(vote(1, Comment_likeDTO.Type.LIKE)));
+        assertEquals(Map.of("likeCount", 1, "dislikeCount", 1), service.likeOrDislike(vote(1, Comment_likeDTO.Type.DISLIKE)));
+        assertEquals(CommentDTO.wilsonScore(1, 1), bestScore); // 추천순 점수도 같이 저장
+    }
+
+    @Test // 묶음 처리: 동시에 들어온 투표를 한 번에 저장, 같은 사람이 연달아 누른 건 마지막 것만
+    public void testBatch() throws InterruptedException {
+        batcher.start();
+        List<Thread> threads = new ArrayList<>();
+        for (int user = 1; user <= 5; user++) {
+            Comment_likeDTO.Type type = user <= 3 ? Comment_likeDTO.Type.LIKE : Comment_likeDTO.Type.DISLIKE;
+            int user_id = user;
+            threads.add(new Thread(() -> batcher.vote(vote(user_id, type))));
+        }
+        threads.add(new Thread(() -> batcher.vote(vote(1, Comment_likeDTO.Type.LIKE)))); // 중복 클릭
+        for (Thread t : threads) {
+            t.start();
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+        assertEquals(3, counts[0]);
+        assertEquals(2, counts[1]);
+        verify(likeMapper, times(1)).upsertVotes(any());
+        assertEquals(CommentDTO.wilsonScore(3, 2), bestScore);
+
+        // 바꾼 투표는 카운터를 옮기고, 같은 투표는 아무것도 쓰지 않음
+        VoteResult switched = batcher.vote(vote(4, Comment_likeDTO.Type.LIKE));
+        assertTrue(switched.isChanged());
+        assertEquals(4, switched.getLikeCount());
+        assertEquals(1, switched.getDislikeCount());
+        assertFalse(batcher.vote(vote(4, Comment_likeDTO.Type.LIKE)).isChanged());
+        verify(likeMapper, times(2)).upsertVotes(any());
+        batcher.shutdown();
+    }
+
+    @Test // 범위마다 트랜잭션 하나: 카운터를 맞춘 뒤 lock 을 잡고 읽은 카운터로 점수를 씀
+    public void testReconcileInTransaction() {
+        when(likeMapper.getMaxCommentId()).thenReturn(1500);
+        when(likeMapper.reconcileCounts(anyInt(), anyInt())).thenReturn(1);
+        CommentDTO stale = new CommentDTO();
+        stale.setComment_id(COMMENT);
+        stale.setLikeCount(3);
+        stale.setDislikeCount(1);
+        when(commentMapper.getScoresInRangeForUpdate(1, 1000)).thenReturn(List.of(stale));
+
+        assertEquals(2, service.reconcileCounts());
+        assertEquals(CommentDTO.wilsonScore(3, 1), bestScore);
+        verify(txManager, times(2)).getTransaction(any());
+        verify(txManager, times(2)).commit(any());
+        verify(likeMapper, times(1)).updateBestScores(anyMap()); // 두 번째 범위는 고칠 점수가 없음
+    }
+
+    private void add(Comment_likeDTO.Type type, int n) {
+        counts[type == Comment_likeDTO.Type.LIKE ? 0 : 1] += n;
+    }
+
+    private Comment_likeDTO counts() {
+        Comment_likeDTO dto = new Comment_likeDTO();
+        dto.setComment_id(COMMENT);
+        dto.setLikeCount(counts[0]);
+        dto.setDislikeCount(counts[1]);
+        return dto;
+    }
+
+    private static Comment_likeDTO vote(int user_id, Comment_likeDTO.Type type) {
+        Comment_likeDTO dto = new Comment_likeDTO();
+        dto.setComment_id(COMMENT);
+        dto.setUser_id(user_id);
+        dto.setType(type);
+        return dto;
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.mung.service;
+
+import com.example.mung.domain.Pet;
+import com.example.mung.domain.transfer.PetInfo;
+import com.example.mung.mapper.PetMapper;
+import com.example.mung.mapper.UserMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+
+public class PetServiceImplTest {
+
+    private final List<Pet> rows = new ArrayList<>(); // pet 테이블
+    private final Map<Integer, String> petInfo = new HashMap<>(); // user.pet_info
+    @Mock
+    private PetMapper petMapper;
+    @Mock
+    private UserMapper userMapper;
+    private PetService service;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        // pet 테이블을 메모리 목록으로 흉내
+        when(petMapper.findByUserId(anyInt())).thenAnswer(inv -> ofUser(inv.getArgument(0)));
+        when(petMapper.countByUserId(anyInt())).thenAnswer(inv -> ofUser(inv.getArgument(0)).size());
+        when(petMapper.insert(any())).thenAnswer(inv -> {
+            Pet p = inv.getArgument(0);
+            rows.add(new Pet(rows.size() + 1, p.getUser_id(), p.getName(), p.getType(), p.getAge(), p.getWeight(), p.getSize()));
+            return 1;
+        });
+        when(petMapper.update(any())).thenAnswer(inv -> {
+            Pet p = inv.getArgument(0);
+            for (int i = 0; i < rows.size(); i++) {
+                if (rows.get(i).getPet_id() == p.getPet_id() && rows.get(i).getUser_id() == p.getUser_id()) {
+                    rows.set(i, p);
+                    return 1;
+                }
+            }
+            return 0;
+        });
+        when(petMapper.delete(anyInt(), anyInt())).thenAnswer(inv -> {
+            int pet_id = inv.getArgument(0);
+            int user_id = inv.getArgument(1);
+            return rows.removeIf(p -> p.getPet_id() == pet_id && p.getUser_id() == user_id) ? 1 : 0;
+        });
+        // clearPet_info: 읽은 값과 같을 때만 비움
+        when(userMapper.clearPet_info(anyInt(), any())).thenAnswer(inv -> {
+            int user_id = inv.getArgument(0);
+            if (petInfo.get(user_id) == null || !Objects.equals(petInfo.get(user_id), inv.getArgument(1))) {
+                return 0;
+            }
+            petInfo.remove(user_id);
+            return 1;
+        });
+        service = new PetServiceImpl(petMapper, userMapper, 2);
+    }
+
+    @Test // 화면 입력은 한 번 숫자로 읽고 크기는 몸무게로
+    public void testParse() {
+        Pet pet = Pet.of(0, 1, new PetInfo(" 뽀삐 ", "사모예드", "2살", "15.5kg"));
+        assertEquals("뽀삐", pet.getName());
+        assertEquals(2, pet.getAge());
+        assertEquals(15.5, pet.getWeight());
+        assertEquals(Pet.Size.MEDIUM, pet.getSize());
+        assertEquals("중형견", pet.getSizeLabel());
+        assertEquals(Pet.Size.SMALL, Pet.Size.of(4.0));
+        assertEquals(Pet.Size.LARGE, Pet.Size.of(25.0));
+        assertNull(Pet.of(0, 1, new PetInfo("", "인간", "100", "80kg")));
+        assertNull(Pet.of(0, 1, new PetInfo("빵빵이", "", "", "")).getSize());
+    }
+
+    @Test // 예전 JSON 은 처음 한 번만 옮기고 지움. 같은 값을 동시에 읽은 두 번째 요청은 추가하지 않음
+    public void testMigrateLegacy() {
+        String json = "{\"이름\":\"빵빵이\",\"종\":\"요크셔테리어\",\"나이\":\"3\",\"무게\":\"4kg\"}";
+        petInfo.put(1, json);
+        List<Pet> pets = service.findByUser(1, json);
+        assertEquals(1, pets.size());
+        assertEquals("요크셔테리어", pets.get(0).getType());
+        assertEquals(Pet.Size.SMALL, pets.get(0).getSize());
+        assertNull(petInfo.get(1));
+
+        assertEquals(pets, service.findByUser(1, json)); // 비우기 전에 읽은 요청
+        assertEquals(pets, service.findByUser(1, null));
+        assertEquals(1, rows.size());
+    }
+
+    @Test // 옮길 수 없는 값(깨진 JSON, 이름 없음)은 지우지 않음
+    public void testKeepUnparseableLegacy() {
+        petInfo.put(2, "{이름");
+        assertTrue(service.findByUser(2, "{이름").isEmpty());
+        assertEquals("{이름", petInfo.get(2));
+
+        String noName = "{\"이름\":\"\",\"종\":\"인간\",\"나이\":\"100\",\"무게\":\"80kg\"}";
+        petInfo.put(3, noName);
+        assertTrue(service.findByUser(3, noName).isEmpty());
+        assertEquals(noName, petInfo.get(3));
+        assertTrue(rows.isEmpty());
+    }
+
+    @Test // 여러 마리 추가 / 수정 / 삭제, 한도와 다른 회원 반려견
+    public void testSave() {
+        assertTrue(service.save(1, 0, new PetInfo("뽀삐", "사모예드", "2", "15")));
+        assertTrue(service.save(1, 0, new PetInfo("초코", "래브라도", "5", "30")));
+        assertFalse(service.save(1, 0, new PetInfo("콩이", "푸들", "1", "3")));
+        assertEquals(2, service.findByUser(1, null).size());
+
+        assertTrue(service.save(1, 1, new PetInfo("뽀삐", "사모예드", "3", "9")));
+        assertEquals(Pet.Size.SMALL, service.findByUser(1, null).get(0).getSize());
+        assertFalse(service.save(2, 1, new PetInfo("남의개", "", "", "")));
+        assertFalse(service.remove(2, 2));
+        assertTrue(service.remove(1, 2));
+        assertEquals(1, service.findByUser(1, null).size());
+    }
+
+    private List<Pet> ofUser(int user_id) {
+        return rows.stream().filter(p -> p.getUser_id() == user_id).toList();
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.mung.service;
+
+import com.example.mung.cache.PostDetailCache;
+import com.example.mung.cache.PostListCache;
+import com.example.mung.cache.ViewCountBuffer;
+import com.example.mung.domain.PostDTO;
+import com.example.mung.index.PostSearchIndex;
+import com.example.mung.index.TrendingPosts;
+import com.example.mung.mapper.CommentMapper;
+import com.example.mung.mapper.PostMapper;
+import com.example.mung.storage.FileStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class PostServiceImplTest {
+
+    @Mock
+    private PostMapper postMapper;
+    @Mock
+    private CommentMapper commentMapper;
+    @Mock
+    private FileStore fileStore;
+    @Mock
+    private MultipartFile file;
+
+    private PostSearchIndex searchIndex;
+    private PostService service;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        MockitoAnnotations.openMocks(this);
+        searchIndex = new PostSearchIndex(postMapper);
+        service = new PostServiceImpl(postMapper, fileStore, new ViewCountBuffer(postMapper, 30, 100),
+                searchIndex, new PostListCache(postMapper, 100, 60),
+                new PostDetailCache(postMapper, commentMapper, 100, 300, 20), new TrendingPosts(postMapper, 50, 24, 14));
+        when(postMapper.getOneById(1)).thenReturn(post("old-key"));
+        when(postMapper.update(any())).thenReturn(1);
+        when(postMapper.updateFileKey(anyInt(), any())).thenReturn(1);
+        when(postMapper.delete(1)).thenReturn(1);
+        when(postMapper.insertPost(any())).thenReturn(1);
+        when(file.getInputStream()).thenReturn(new ByteArrayInputStream(new byte[]{1}));
+        when(file.getOriginalFilename()).thenReturn("a.png");
+        when(fileStore.put(any(), anyString())).thenReturn("new-key");
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    public void clear() {
+        TransactionSynchronizationManager.clear();
+    }
+
+    @Test // 글만 고치면 첨부파일은 건드리지 않음
+    public void testModifyKeepsFile() throws Exception {
+        when(file.isEmpty()).thenReturn(true);
+        assertTrue(service.modify(post(null), file, false));
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        verify(postMapper, never()).updateFileKey(anyInt(), any());
+        verify(fileStore, never()).delete(any());
+    }
+
+    @Test // 새 파일로 바꾸면 예전 파일은 커밋된 뒤에 지움
+    public void testReplaceFile() throws Exception {
+        assertTrue(service.modify(post(null), file, false));
+        verify(postMapper).updateFileKey(1, "new-key");
+        verify(fileStore, never()).delete(any());
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        verify(fileStore).delete("old-key");
+        verify(fileStore, never()).delete("new-key");
+    }
+
+    @Test // 롤백되면 새로 저장한 파일을 지우고 예전 파일은 남김
+    public void testReplaceFileRollback() throws Exception {
+        assertTrue(service.modify(post(null), file, false));
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        verify(fileStore).delete("new-key");
+        verify(fileStore, never()).delete("old-key");
+    }
+
+    @Test // 첨부파일 삭제만 체크
+    public void testDeleteFile() throws Exception {
+        when(file.isEmpty()).thenReturn(true);
+        assertTrue(service.modify(post(null), file, true));
+        verify(postMapper).updateFileKey(1, null);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        verify(fileStore).delete("old-key");
+    }
+
+    @Test // 게시글 삭제 시 첨부파일은 커밋된 뒤에 지움
+    public void testRemoveDeletesFileAfterCommit() throws Exception {
+        assertTrue(service.remove(1));
+        verify(fileStore, never()).delete(any());
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        verify(fileStore).delete("old-key");
+    }
+
+    @Test // 새 글은 커밋된 뒤에 검색 색인에 들어감
+    public void testCreateIndexedAfterCommit() {
+        PostDTO post = post(null);
+        post.setTitle("산책코스");
+        assertTrue(service.createPost(post));
+        assertTrue(searchIndex.search("산책코스", PostSearchIndex.allFields()).isEmpty());
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        assertEquals(1, searchIndex.search("산책코스", PostSearchIndex.allFields()).size());
+    }
+
+    @Test // 롤백된 수정은 검색 색인에 남지 않음
+    public void testModifyRollbackNotIndexed() {
+        PostDTO post = post(null);
+        post.setTitle("산책코스");
+        assertTrue(service.modify(post));
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertTrue(searchIndex.search("산책코스", PostSearchIndex.allFields()).isEmpty());
+    }
+
+    private void complete(int status) {
+        for (TransactionSynchronization s : TransactionSynchronizationManager.getSynchronizations()) {
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                s.afterCommit();
+            }
+            s.afterCompletion(status);
+        }
+        TransactionSynchronizationManager.clear();
+    }
+
+    private static PostDTO post(String file_key) {
+        PostDTO post = new PostDTO();
+        post.setPost_id(1);
+        post.setTitle("제목");
+        post.setContent("내용");
+        post.setCategory(PostDTO.Category.general);
+        post.setFile_key(file_key);
+        return post;
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.mung.service;
+
+import com.example.mung.domain.ReservationVO;
+import com.example.mung.domain.RoomDTO;
+import com.example.mung.index.AvailabilityIndex;
+import com.example.mung.mapper.ReservationMapper;
+import com.example.mung.mapper.RoomMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+
+public class ReservationServiceImplTest {
+
+    private final LocalDate day = LocalDate.now().plusDays(30);
+    private final List<ReservationVO> otherNode = new ArrayList<>(); // 다른 서버가 넣은 예약 (이 서버 인덱스에는 없음)
+    @Mock
+    private ReservationMapper mapper;
+    @Mock
+    private RoomMapper roomMapper;
+    private AvailabilityIndex index;
+    private ReservationService service;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        index = new AvailabilityIndex(null, null);
+        index.putRoom(1, 10, 1, 1, 2); // 1실
+        // 저장/삭제는 항상 성공, 조회는 1번 객실 예약, 겹치는 예약은 다른 서버가 넣은 것
+        when(mapper.getOne(anyInt())).thenAnswer(inv -> reservation());
+        when(mapper.getOverlapping(anyInt(), any(), any())).thenReturn(otherNode);
+        when(mapper.insert(any())).thenReturn(true);
+        when(mapper.delete(anyInt())).thenReturn(true);
+        // 1번 객실만 있고 10번 숙소 소속
+        RoomDTO room = new RoomDTO();
+        room.setRoom_id(1);
+        room.setAccom_id(10);
+        room.setRoom_amount(1);
+        when(roomMapper.getOneForUpdate(1)).thenReturn(room);
+        service = new ReservationServiceImpl(mapper, roomMapper, index);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    public void clear() {
+        TransactionSynchronizationManager.clear();
+    }
+
+    @Test // 예약 트랜잭션이 롤백되면 잡았던 객실을 돌려놓음
+    public void testRegisterRollback() {
+        assertTrue(service.register(reservation()));
+        assertEquals(0, index.remaining(1, day)); // 커밋 전에도 다른 예약은 막힘
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertEquals(1, index.remaining(1, day));
+    }
+
+    @Test // 취소는 커밋된 뒤에만 반영
+    public void testCancelAfterCommit() {
+        assertTrue(service.register(reservation()));
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        TransactionSynchronizationManager.initSynchronization();
+        assertTrue(service.cancel(5));
+        assertEquals(0, index.remaining(1, day));
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertEquals(0, index.remaining(1, day));
+
+        TransactionSynchronizationManager.initSynchronization();
+        assertTrue(service.cancel(5));
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        assertEquals(1, index.remaining(1, day));
+    }
+
+    @Test // 숙소는 요청 값이 아니라 객실에서 가져옴
+    public void testAccomFromRoom() {
+        ReservationVO vo = reservation();
+        vo.setAccom_id(99);
+        assertTrue(service.register(vo));
+        assertEquals(10, vo.getAccom_id());
+    }
+
+    @Test // 이 서버 인덱스는 비어 있어도 DB 에 겹치는 예약이 있으면 거절하고 인덱스도 돌려놓음
+    public void testFullInDb() {
+        otherNode.add(reservation());
+        assertThrows(IllegalArgumentException.class, () -> service.register(reservation()));
+        assertEquals(1, index.remaining(1, day));
+    }
+
+    @Test // 체크아웃이 체크인보다 앞이거나 같은 날, 지난 날짜, 없는 객실은 거절
+    public void testInvalidRequest() {
+        ReservationVO inverted = reservation();
+        inverted.setRv_end_date(day.minusDays(1));
+        assertThrows(IllegalArgumentException.class, () -> service.register(inverted));
+        ReservationVO sameDay = reservation();
+        sameDay.setRv_end_date(day);
+        assertThrows(IllegalArgumentException.class, () -> service.register(sameDay));
+        ReservationVO past = reservation();
+        past.setRv_start_date(LocalDate.now().minusDays(2));
+        past.setRv_end_date(LocalDate.now().minusDays(1));
+        assertThrows(IllegalArgumentException.class, () -> service.register(past));
+        ReservationVO noRoom = reservation();
+        noRoom.setRoom_id(2);
+        assertThrows(IllegalArgumentException.class, () -> service.register(noRoom));
+        assertEquals(1, index.remaining(1, day));
+    }
+
+    private void complete(int status) {
+        for (TransactionSynchronization s : TransactionSynchronizationManager.getSynchronizations()) {
+            s.afterCompletion(status);
+        }
+        TransactionSynchronizationManager.clear();
+    }
+
+    private ReservationVO reservation() {
+        ReservationVO vo = new ReservationVO();
+        vo.setRv_id(5);
+        vo.setRoom_id(1);
+        vo.setRv_start_date(day);
+        vo.setRv_end_date(day.plusDays(1));
+        return vo;
+    }
+}
@@ -2,7 +2,6 @@ package com.example.mung.service;
 
 import com.example.mung.domain.LoginDTO;
 import com.example.mung.domain.UserVO;
-import com.example.mung.domain.transfer.PetInfo;
 import com.example.mung.domain.transfer.Role;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -39,7 +38,6 @@ public class UserServiceImplTest {
         vo.setNickname("manager");
         vo.setRole(new Role(new String[]{"USER,HOST"}));
         vo.setUser_phone("010-0000-1234");
-        vo.setPet_inform(new PetInfo("", "인간", "100", "80kg"));
         boolean result = service.register(vo);
         System.out.println("서비스단 등록 성공 : " + result);
     }
@@ -58,7 +56,6 @@ public class UserServiceImplTest {
         vo.setNickname("manager");
         vo.setRole(new Role(new String[]{"HOST,ADMIN"}));
         vo.setUser_phone("010-0000-1232");
-        vo.setPet_inform(new PetInfo("안젤라", "인간", "101", "81kg"));
         boolean result = service.modify(vo);
         System.out.println("서비스단 수정 성공 : " + result);
 
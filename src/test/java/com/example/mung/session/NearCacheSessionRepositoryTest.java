@@ -0,0 +1,196 @@
+package com.example.mung.session;
+
+import com.example.mung.auth.SessionUser;
+import com.example.mung.domain.SessionRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NearCacheSessionRepositoryTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final AtomicInteger saves = new AtomicInteger();
+    private final AtomicInteger touches = new AtomicInteger();
+    private MemorySessionStore store;
+    private NearCacheSessionRepository repository;
+
+    @BeforeEach
+    public void setup() {
+        // 저장소 호출 횟수를 세는 메모리 저장소
+        store = new MemorySessionStore() {
+            @Override
+            public SessionRow load(String session_id) {
+                loads.incrementAndGet();
+                return super.load(session_id);
+            }
+
+            @Override
+            public void insert(SessionRow row) {
+                saves.incrementAndGet();
+                super.insert(row);
+            }
+
+            @Override
+            public boolean update(SessionRow row, long expectedVersion) {
+                saves.incrementAndGet();
+                return super.update(row, expectedVersion);
+            }
+
+            @Override
+            public void touch(String session_id, long lastAccessTime, long expiryTime) {
+                touches.incrementAndGet();
+                super.touch(session_id, lastAccessTime, expiryTime);
+            }
+        };
+        repository = new NearCacheSessionRepository(store, Duration.ofMinutes(30), 60000, 60000);
+    }
+
+    @Test // 저장한 속성을 그대로 읽고, 읽을 때마다 새 객체
+    @SuppressWarnings("unchecked")
+    public void testRoundTrip() {
+        StoredSession session = repository.createSession();
+        session.setAttribute(SessionUser.ATTRIBUTE, new SessionUser(7, "mung", "멍멍이", SessionUser.ROLE_USER | SessionUser.ROLE_HOST));
+        Map<String, Integer> draft = new LinkedHashMap<>(); // Java 직렬화로 들어가는 값
+        draft.put("c", 1000);
+        draft.put("a", 2000);
+        session.setAttribute("draft", draft);
+        session.setAttribute("message", "안녕");
+        repository.save(session);
+
+        StoredSession loaded = repository.findById(session.getId());
+        SessionUser user = loaded.getAttribute(SessionUser.ATTRIBUTE);
+        assertEquals(7, user.getUser_id());
+        assertEquals("멍멍이", user.getNickname());
+        assertEquals(List.of("USER", "HOST"), user.getRoles());
+        assertTrue(user.hasRole("HOST"));
+        assertFalse(user.hasRole("ADMIN"));
+        assertEquals(List.of("c", "a"), List.copyOf(((Map<String, Integer>) loaded.getAttribute("draft")).keySet()));
+        assertEquals("안녕", loaded.getAttribute("message"));
+        assertNotSame(loaded.getAttribute("draft"), repository.findById(session.getId()).getAttribute("draft"));
+        assertEquals(1, saves.get());
+        assertEquals(0, loads.get()); // 방금 쓴 세션은 캐시에서 읽음
+    }
+
+    @Test // 속성이 그대로면 쓰지 않고, 접근 시각은 touch 간격마다만. 속성 객체를 직접 바꾼 것도 감지
+    @SuppressWarnings("unchecked")
+    public void testWriteOnlyOnChange() {
+        StoredSession session = repository.createSession();
+        session.setAttribute("draft", new LinkedHashMap<String, Integer>());
+        repository.save(session);
+        assertEquals(1, saves.get());
+
+        StoredSession next = repository.findById(session.getId());
+        next.setLastAccessedTime(next.getLastAccessedTime().plusSeconds(10));
+        repository.save(next);
+        assertEquals(1, saves.get());
+        assertEquals(0, touches.get());
+
+        next = repository.findById(session.getId());
+        next.setLastAccessedTime(next.getLastAccessedTime().plusSeconds(120));
+        repository.save(next);
+        assertEquals(1, saves.get());
+        assertEquals(1, touches.get());
+
+        next = repository.findById(session.getId());
+        ((Map<String, Integer>) next.getAttribute("draft")).put("e", 1);
+        repository.save(next);
+        assertEquals(2, saves.get());
+    }
+
+    @Test // 세션 ID 변경, 만료, 삭제
+    public void testChangeIdExpireDelete() {
+        StoredSession session = repository.createSession();
+        session.setAttribute("message", "a");
+        repository.save(session);
+        String oldId = session.getId();
+        session.changeSessionId();
+        repository.save(session);
+        assertNull(repository.findById(oldId));
+        assertEquals("a", repository.findById(session.getId()).getAttribute("message"));
+
+        StoredSession old = repository.createSession();
+        old.setLastAccessedTime(Instant.now().minus(Duration.ofMinutes(31)));
+        repository.save(old);
+        assertNull(repository.findById(old.getId()));
+        assertEquals(1, store.size());
+
+        repository.deleteById(session.getId());
+        assertNull(repository.findById(session.getId()));
+        assertEquals(0, store.size());
+    }
+
+    @Test // 다른 서버가 쓴 내용은 캐시 시간이 지나면 다시 읽음
+    public void testNearCacheExpires() throws InterruptedException {
+        NearCacheSessionRepository shortCache = new NearCacheSessionRepository(store, Duration.ofMinutes(30), 300, 60000);
+        NearCacheSessionRepository otherNode = new NearCacheSessionRepository(store, Duration.ofMinutes(30), 300, 60000);
+        StoredSession session = shortCache.createSession();
+        session.setAttribute("message", "a");
+        shortCache.save(session);
+
+        StoredSession other = otherNode.findById(session.getId());
+        other.setAttribute("message", "b");
+        otherNode.save(other);
+
+        assertEquals("a", shortCache.findById(session.getId()).getAttribute("message"));
+        Thread.sleep(400);
+        assertEquals("b", shortCache.findById(session.getId()).getAttribute("message"));
+    }
+
+    @Test // 로그아웃(삭제) 뒤에 끝난 요청이 세션을 되살리지 않음
+    public void testNoResurrectAfterDelete() {
+        StoredSession session = repository.createSession();
+        session.setAttribute(SessionUser.ATTRIBUTE, new SessionUser(7, "mung", "멍멍이", SessionUser.ROLE_USER));
+        repository.save(session);
+
+        StoredSession inFlight = repository.findById(session.getId()); // 게시글 조회 요청
+        repository.deleteById(session.getId()); // 같은 사용자의 로그아웃 요청
+        inFlight.setAttribute("viewedPosts", "1,2,3");
+        repository.save(inFlight);
+
+        assertNull(repository.findById(session.getId()));
+        assertEquals(0, store.size());
+    }
+
+    @Test // 오래된 캐시를 가진 서버가 다른 서버의 로그인을 덮어쓰지 않음
+    public void testStaleVersionIsNotWritten() {
+        NearCacheSessionRepository otherNode = new NearCacheSessionRepository(store, Duration.ofMinutes(30), 60000, 60000);
+        StoredSession session = repository.createSession();
+        session.setAttribute("message", "a");
+        repository.save(session);
+
+        StoredSession stale = repository.findById(session.getId());
+        StoredSession login = otherNode.findById(session.getId());
+        login.setAttribute(SessionUser.ATTRIBUTE, new SessionUser(7, "mung", "멍멍이", SessionUser.ROLE_USER));
+        otherNode.save(login);
+
+        stale.setAttribute("viewedPosts", "1");
+        repository.save(stale);
+        StoredSession loaded = repository.findById(session.getId());
+        assertNotNull(loaded.getAttribute(SessionUser.ATTRIBUTE));
+        assertNull(loaded.getAttribute("viewedPosts"));
+        assertEquals(1, store.load(session.getId()).getVersion());
+    }
+
+    @Test // 로그인 사용자는 Java 직렬화보다 훨씬 작게
+    public void testCompactEncoding() throws IOException {
+        SessionUser user = new SessionUser(12345, "mungmung", "멍멍이", SessionUser.ROLE_USER);
+        byte[] compact = SessionCodec.encode(Map.of(SessionUser.ATTRIBUTE, user));
+        ByteArrayOutputStream java = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(java)) {
+            out.writeObject(user);
+        }
+        assertTrue(compact.length * 3 < java.size(), compact.length + " / " + java.size());
+        assertEquals(SessionUser.ROLE_USER | SessionUser.ROLE_ADMIN, SessionUser.roleBits("USER, ADMIN"));
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.mung.session;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SessionCodecTest {
+
+    @Test // Java 직렬화 값은 허용한 클래스만 읽음
+    public void testJavaFilter() {
+        List<String> allowed = new ArrayList<>(List.of("a", "b"));
+        assertEquals(allowed, SessionCodec.decode(SessionCodec.encode(Map.of("list", allowed))).get("list"));
+
+        byte[] data = SessionCodec.encode(Map.of("uri", URI.create("http://example.com")));
+        assertThrows(IllegalStateException.class, () -> SessionCodec.decode(data));
+    }
+
+    @Test // 예전 조회 기록 (태그 6) 이 남은 세션은 그 속성만 빼고 읽음
+    public void testSkipOldViewLog() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(1);
+        out.writeShort(2);
+        out.writeUTF("message");
+        out.writeByte(2);
+        out.writeUTF("안녕");
+        out.writeUTF("viewLog");
+        out.writeByte(6);
+        out.writeInt(2);
+        out.writeInt(3);
+        out.writeLong(1000L);
+        out.writeInt(1);
+        out.writeLong(2000L);
+        out.flush();
+
+        assertEquals(Map.of("message", "안녕"), SessionCodec.decode(bytes.toByteArray()));
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.mung.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LocalFileStoreTest {
+
+    private Path dir;
+    private LocalFileStore store;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        dir = Files.createTempDirectory("mung-files-test");
+        store = new LocalFileStore(dir.toString());
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        try (Stream<Path> walk = Files.walk(dir)) {
+            walk.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    @Test
+    public void putAndOpen() throws IOException {
+        byte[] data = "hello mung".getBytes(StandardCharsets.UTF_8);
+        String key = store.put(new ByteArrayInputStream(data), "JPG");
+
+        assertTrue(LocalFileStore.isValidKey(key));
+        assertTrue(key.endsWith(".jpg"));
+        try (SeekableByteChannel ch = store.open(key)) {
+            assertEquals(data.length, ch.size());
+            ByteBuffer buf = ByteBuffer.allocate(data.length);
+            ch.read(buf);
+            assertArrayEquals(data, buf.array());
+        }
+    }
+
+    @Test
+    public void strangeExtensionIsDropped() throws IOException {
+        String key = store.put(new ByteArrayInputStream(new byte[1]), "../evil");
+        assertFalse(key.contains("."));
+    }
+
+    @Test
+    public void invalidKeyNeverTouchesDisk() throws IOException {
+        assertNull(store.open("../secret.txt"));
+        assertNull(store.open("ab/" + "0".repeat(32) + ".jpg"));
+        assertFalse(store.delete("../secret.txt"));
+    }
+
+    @Test
+    public void delete() throws IOException {
+        String key = store.put(new ByteArrayInputStream(new byte[10]), "png");
+        assertTrue(store.delete(key));
+        assertNull(store.open(key));
+        assertFalse(store.delete(key));
+    }
+
+    @Test
+    public void byteRange() {
+        assertNull(ByteRange.parse(null, 100));
+        assertNull(ByteRange.parse("bytes=0-1,5-6", 100));
+
+        ByteRange r = ByteRange.parse("bytes=10-19", 100);
+        assertEquals(10, r.getStart());
+        assertEquals(10, r.length());
+        assertEquals("bytes 10-19/100", r.contentRange(100));
+
+        assertEquals(99, ByteRange.parse("bytes=50-", 100).getEnd());
+        assertEquals(90, ByteRange.parse("bytes=-10", 100).getStart());
+        assertEquals(99, ByteRange.parse("bytes=0-500", 100).getEnd());
+        assertThrows(IllegalArgumentException.class, () -> ByteRange.parse("bytes=100-", 100));
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.mung.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UploadStoreTest {
+
+    private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n', 0, 0, 0, 13, 1, 2, 3};
+
+    private Path dir;
+    private UploadStore store;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        dir = Files.createTempDirectory("mung-uploads-test");
+        store = new UploadStore(dir.toString());
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        try (Stream<Path> walk = Files.walk(dir)) {
+            walk.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    @Test
+    public void sameContentIsStoredOnce() throws IOException {
+        String first = store.put(new ByteArrayInputStream(PNG));
+        String second = store.put(new ByteArrayInputStream(PNG.clone()));
+
+        assertEquals(first, second);
+        assertTrue(first.matches("/uploads/[0-9a-f]{2}/[0-9a-f]{2}/[0-9a-f]{64}\\.png"));
+        Path stored = dir.resolve(first.substring(UploadStore.URL_PREFIX.length()));
+        assertArrayEquals(PNG, Files.readAllBytes(stored));
+        assertEquals(1, countFiles()); // 임시 파일도 남지 않음
+    }
+
+    @Test
+    public void differentContentGetsDifferentPath() throws IOException {
+        byte[] other = PNG.clone();
+        other[other.length - 1] = 9;
+        assertNotEquals(store.put(new ByteArrayInputStream(PNG)), store.put(new ByteArrayInputStream(other)));
+        assertEquals(2, countFiles());
+    }
+
+    @Test
+    public void nonImageIsRejected() throws IOException {
+        byte[] html = "<html><script>alert(1)</script></html>".getBytes();
+        assertThrows(IllegalArgumentException.class, () -> store.put(new ByteArrayInputStream(html)));
+        assertEquals(0, countFiles());
+    }
+
+    @Test
+    public void imageExtension() {
+        byte[] jpg = {(byte) 0xff, (byte) 0xd8, (byte) 0xff, (byte) 0xe0};
+        byte[] gif = {'G', 'I', 'F', '8', '9', 'a'};
+        byte[] webp = {'R', 'I', 'F', 'F', 0, 0, 0, 0, 'W', 'E', 'B', 'P'};
+        assertEquals("jpg", UploadStore.imageExtension(jpg, jpg.length));
+        assertEquals("png", UploadStore.imageExtension(PNG, 12));
+        assertEquals("gif", UploadStore.imageExtension(gif, gif.length));
+        assertEquals("webp", UploadStore.imageExtension(webp, webp.length));
+        assertNull(UploadStore.imageExtension(jpg, 2));
+    }
+
+    private long countFiles() throws IOException {
+        try (Stream<Path> walk = Files.walk(dir)) {
+            return walk.filter(Files::isRegularFile).count();
+        }
+    }
+}